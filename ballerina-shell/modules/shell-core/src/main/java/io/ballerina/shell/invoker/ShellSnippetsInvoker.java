@@ -95,6 +95,18 @@ public abstract class ShellSnippetsInvoker extends DiagnosticReporter {
      * of the generated classes.
      */
     private final Scheduler scheduler;
+    /**
+     * Factory used to create templates.
+     * Compiled templates are cached by the factory.
+     */
+    private final MustacheFactory mustacheFactory;
+    /**
+     * Project used for offline compilations.
+     * Only the content of its document is changed for each compilation so that the
+     * compiler context and the lang library symbols are loaded only once.
+     * The whole generated module is still compiled again for each snippet.
+     */
+    private Project offlineProject;
     /**
      * File object that is used to create projects and write.
      * Depending on USE_TEMP_FILE flag, this may be either a file in cwd
@@ -104,6 +116,7 @@ public abstract class ShellSnippetsInvoker extends DiagnosticReporter {
 
     protected ShellSnippetsInvoker() {
         this.scheduler = new Scheduler(false);
+        this.mustacheFactory = new DefaultMustacheFactory();
     }
 
     /**
@@ -171,8 +184,7 @@ public abstract class ShellSnippetsInvoker extends DiagnosticReporter {
      * @return Created template
      */
     protected Mustache getTemplate(String templateName) {
-        MustacheFactory mf = new DefaultMustacheFactory();
-        return mf.compile(templateName);
+        return mustacheFactory.compile(templateName);
     }
 
     /* Project creation methods */
@@ -198,6 +210,7 @@ public abstract class ShellSnippetsInvoker extends DiagnosticReporter {
 
     /**
      * Get the project with the context data.
+     * Offline projects are created by updating the previous offline project.
      *
      * @param source    Source to use for generating project.
      * @param isOffline Whether to use offline flag for build options.
@@ -207,8 +220,19 @@ public abstract class ShellSnippetsInvoker extends DiagnosticReporter {
     protected Project getProject(String source, boolean isOffline) throws InvokerException {
         try {
             File mainBal = writeToFile(source);
+            if (isOffline && offlineProject != null) {
+                Module module = offlineProject.currentPackage().getDefaultModule();
+                Document document = module.document(module.documentIds().iterator().next());
+                document.modify().withContent(source).apply();
+                return offlineProject;
+            }
+
             BuildOptions buildOptions = new BuildOptionsBuilder().offline(isOffline).build();
-            return SingleFileProject.load(mainBal.toPath(), buildOptions);
+            Project project = SingleFileProject.load(mainBal.toPath(), buildOptions);
+            if (isOffline) {
+                offlineProject = project;
+            }
+            return project;
         } catch (IOException e) {
             addErrorDiagnostic("File writing failed: " + e.getMessage());
             throw new InvokerException(e);
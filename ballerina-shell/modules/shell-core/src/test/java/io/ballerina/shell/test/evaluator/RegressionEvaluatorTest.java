@@ -33,6 +33,7 @@ public class RegressionEvaluatorTest extends AbstractEvaluatorTest {
     private static final String PANIC_SAVE_STATE_TESTCASE = "testcases/evaluator/regression.panic.save.state.json";
     private static final String QUALIFIERS_TESTCASE = "testcases/evaluator/regression.qualifiers.json";
     private static final String IMPORT_CYCLIC_TYPE_TESTCASE = "testcases/evaluator/regression.cyclic.type.json";
+    private static final String REUSED_PROJECT_TESTCASE = "testcases/evaluator/regression.reused.project.json";
 
     @Test
     public void testEvaluateFunctionName() throws BallerinaShellException {
@@ -69,4 +70,10 @@ public class RegressionEvaluatorTest extends AbstractEvaluatorTest {
         // Cyclic types use.
         testEvaluate(IMPORT_CYCLIC_TYPE_TESTCASE);
     }
+
+    @Test
+    public void testEvaluateReusedProject() throws BallerinaShellException {
+        // Snippets compiled with the same project give the same results.
+        testEvaluate(REUSED_PROJECT_TESTCASE);
+    }
 }
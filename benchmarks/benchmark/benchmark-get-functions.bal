@@ -1,6 +1,7 @@
 import benchmarksprintf;
 import benchmarktypes;
 import benchmarkio;
+import benchmarkcrypto;
 import ballerina/io;
 
 map<function()> functions;
@@ -17,6 +18,7 @@ function addFunctions() {
     addSprintfFunctions();
     addIoFunctions();
     addStringFunctions();
+    addCryptoFunctions();
 }
 
 function addJSONFunctions() {
@@ -105,6 +107,9 @@ function addTimeFunctions() {
 function addSprintfFunctions() {
     functions["benchmarkSprintfWithFloat"] = benchmarksprintf:benchmarkSprintfWithFloat;
     functions["benchmarkSprintfWithString"] = benchmarksprintf:benchmarkSprintfWithString;
+    functions["benchmarkSprintfWithInt"] = benchmarksprintf:benchmarkSprintfWithInt;
+    functions["benchmarkSprintfWithPaddedString"] = benchmarksprintf:benchmarkSprintfWithPaddedString;
+    functions["benchmarkSprintfWithMixedArgs"] = benchmarksprintf:benchmarkSprintfWithMixedArgs;
 }
 
 function addIoFunctions() {
@@ -115,6 +120,14 @@ function addIoFunctions() {
     functions["benchmarkWriteBytes"] = benchmarkio:benchmarkWriteBytes;
 }
 
+function addCryptoFunctions() {
+    functions["benchmarkHashSha256"] = benchmarkcrypto:benchmarkHashSha256;
+    functions["benchmarkHmacSha256"] = benchmarkcrypto:benchmarkHmacSha256;
+    functions["benchmarkHasherSha256"] = benchmarkcrypto:benchmarkHasherSha256;
+    functions["benchmarkHmacHasherSha256"] = benchmarkcrypto:benchmarkHmacHasherSha256;
+    functions["benchmarkEncryptAesCbc"] = benchmarkcrypto:benchmarkEncryptAesCbc;
+}
+
 function addStringFunctions() {
     functions["benchmarkStringContains"] = benchmarktypes:benchmarkStringContains;
     functions["benchmarkStringEqualsIgnoreCase"] = benchmarktypes:benchmarkStringEqualsIgnoreCase;
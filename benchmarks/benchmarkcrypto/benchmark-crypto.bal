@@ -0,0 +1,32 @@
+import ballerina/crypto;
+
+byte[] payload = "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9.eyJzdWIiOiJiYWxsZXJpbmEiLCJpYXQiOjE1MTYyMzkwMjJ9".toBytes();
+byte[] hmacKey = "ballerina-benchmark-secret".toBytes();
+byte[] aesKey = "0123456789abcdef".toBytes();
+byte[] aesIv = "fedcba9876543210".toBytes();
+
+public function benchmarkHashSha256() {
+    byte[] hash = crypto:hashSha256(payload);
+}
+
+public function benchmarkHmacSha256() {
+    byte[] hmac = crypto:hmacSha256(payload, hmacKey);
+}
+
+public function benchmarkHasherSha256() {
+    crypto:Hasher hasher = new(crypto:SHA256);
+    hasher.update(payload);
+    hasher.update(payload);
+    byte[] hash = hasher.digest();
+}
+
+public function benchmarkHmacHasherSha256() {
+    crypto:Hasher hasher = new(crypto:SHA256, hmacKey);
+    hasher.update(payload);
+    hasher.update(payload);
+    byte[] hmac = hasher.digest();
+}
+
+public function benchmarkEncryptAesCbc() {
+    byte[]|crypto:Error cipherText = crypto:encryptAesCbc(payload, aesKey, aesIv);
+}
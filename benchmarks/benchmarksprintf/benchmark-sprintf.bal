@@ -8,3 +8,15 @@ public function benchmarkSprintfWithString() {
     string number = io:sprintf("%s is awesome!", "Ballerina");
 }
 
+
+public function benchmarkSprintfWithInt() {
+    string number = io:sprintf("Request %d of %d", 42, 100);
+}
+
+public function benchmarkSprintfWithPaddedString() {
+    string name = io:sprintf("%15s|%8s", "Ballerina", "lang");
+}
+
+public function benchmarkSprintfWithMixedArgs() {
+    string message = io:sprintf("%s processed %d records in %.3f seconds (%s)", "Worker", 1024, 1.254, true);
+}
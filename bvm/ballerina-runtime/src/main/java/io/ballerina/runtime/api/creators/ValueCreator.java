@@ -52,6 +52,7 @@ import io.ballerina.runtime.internal.values.FPValue;
 import io.ballerina.runtime.internal.values.HandleValue;
 import io.ballerina.runtime.internal.values.MapValueImpl;
 import io.ballerina.runtime.internal.values.MappingInitialValueEntry;
+import io.ballerina.runtime.internal.values.PrimitiveMapValue;
 import io.ballerina.runtime.internal.values.StreamValue;
 import io.ballerina.runtime.internal.values.StreamingJsonValue;
 import io.ballerina.runtime.internal.values.TableValueImpl;
@@ -649,7 +650,7 @@ public class ValueCreator {
      * @return map value
      */
     public static BMap<BString, Object> createMapValue(Type mapType) {
-        return new MapValueImpl<>(mapType);
+        return PrimitiveMapValue.create(mapType);
     }
 
     /**
@@ -660,7 +661,7 @@ public class ValueCreator {
      * @return map value
      */
     public static BMap<BString, Object> createMapValue(Type mapType, BMapInitialValueEntry[] keyValues) {
-        return new MapValueImpl<>(mapType, keyValues);
+        return PrimitiveMapValue.create(mapType, keyValues);
     }
 
     /**
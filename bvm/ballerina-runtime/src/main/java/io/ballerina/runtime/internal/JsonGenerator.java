@@ -248,6 +248,11 @@ public class JsonGenerator {
         this.writer.write(value.toString());
     }
 
+    public void writeNumber(DecimalValue value) throws IOException {
+        this.processValueInit();
+        this.writer.write(value.toDecimalString());
+    }
+
     public void writeBoolean(boolean value) throws IOException {
         this.processValueInit();
         this.writer.write(Boolean.toString(value));
@@ -299,7 +304,7 @@ public class JsonGenerator {
                 this.writeNumber(((Number) json).doubleValue());
                 break;
             case TypeTags.DECIMAL_TAG:
-                this.writeNumber(((DecimalValue) json).value());
+                this.writeNumber((DecimalValue) json);
                 break;
             case TypeTags.INT_TAG:
                 this.writeNumber(((Number) json).longValue());
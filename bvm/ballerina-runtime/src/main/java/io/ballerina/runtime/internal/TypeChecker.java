@@ -415,7 +415,7 @@ public class TypeChecker {
      */
     public static boolean checkDecimalEqual(DecimalValue lhsValue, DecimalValue rhsValue) {
         return isDecimalRealNumber(lhsValue) && isDecimalRealNumber(rhsValue) &&
-               lhsValue.decimalValue().compareTo(rhsValue.decimalValue()) == 0;
+               lhsValue.compareValue(rhsValue) == 0;
     }
 
     /**
@@ -454,7 +454,7 @@ public class TypeChecker {
             case ZERO:
             case OTHER:
                 return rhsValue.valueKind == DecimalValueKind.NEGATIVE_INFINITY || (isDecimalRealNumber(rhsValue) &&
-                        lhsValue.decimalValue().compareTo(rhsValue.decimalValue()) > 0);
+                        lhsValue.compareValue(rhsValue) > 0);
             default:
                 return false;
         }
@@ -470,7 +470,7 @@ public class TypeChecker {
     public static boolean checkDecimalGreaterThanOrEqual(DecimalValue lhsValue, DecimalValue rhsValue) {
         return checkDecimalGreaterThan(lhsValue, rhsValue) ||
                (isDecimalRealNumber(lhsValue) && isDecimalRealNumber(rhsValue) &&
-                lhsValue.decimalValue().compareTo(rhsValue.decimalValue()) == 0);
+                lhsValue.compareValue(rhsValue) == 0);
     }
 
     /**
@@ -43,6 +43,7 @@ import static io.ballerina.runtime.internal.configurable.providers.toml.ConfigTo
  */
 public class ConfigSecurityUtils {
 
+    private static final String ENCRYPTED_FIELD_PREFIX = "@encrypted:{";
     private static final Pattern encryptedFieldPattern = Pattern.compile("^@encrypted:\\{(.*)\\}$");
 
     private static AESCipherTool cipherTool = null;
@@ -66,6 +67,10 @@ public class ConfigSecurityUtils {
     }
 
     public static void handleEncryptedValues(String variableName, String value) {
+        // Every string configurable goes through here, and most of them are plain values.
+        if (!value.startsWith(ENCRYPTED_FIELD_PREFIX)) {
+            return;
+        }
         Matcher encryptedStringMatcher = encryptedFieldPattern.matcher(value);
         if (!encryptedStringMatcher.find()) {
             return;
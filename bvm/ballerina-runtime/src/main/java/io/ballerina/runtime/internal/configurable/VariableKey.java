@@ -33,23 +33,28 @@ public class VariableKey {
     public final String variable;
     public final Type type;
     boolean isRequired;
+    // Keys are looked up once per configurable at startup and again on every read of ConfigMap.
+    private final int hashCode;
 
     public VariableKey(String org, String module, String version, String variable) {
         this.module = new Module(org, module, version);
         this.variable = variable;
         this.type = null;
+        this.hashCode = Objects.hash(this.module, this.variable);
     }
 
     public VariableKey(Module module, String variable) {
         this.module = module;
         this.variable = variable;
         this.type = null;
+        this.hashCode = Objects.hash(this.module, this.variable);
     }
 
     public VariableKey(String org, String module, String version, String variable, Type type) {
         this.module = new Module(org, module, version);
         this.variable = variable;
         this.type = type;
+        this.hashCode = Objects.hash(this.module, this.variable);
     }
 
     public VariableKey(Module module, String variable, Type type, boolean isRequired) {
@@ -57,6 +62,7 @@ public class VariableKey {
         this.variable = variable;
         this.type = type;
         this.isRequired = isRequired;
+        this.hashCode = Objects.hash(this.module, this.variable);
     }
 
     public boolean isRequired() {
@@ -82,6 +88,6 @@ public class VariableKey {
 
     @Override
     public int hashCode() {
-        return Objects.hash(module, variable);
+        return hashCode;
     }
 }
@@ -92,7 +92,9 @@ import static io.ballerina.runtime.internal.util.RuntimeUtils.isByteLiteral;
 public class ConfigTomlProvider implements ConfigProvider {
 
     private final Set<String> requiredModules;
-    Map<Module, TomlTableNode> moduleTomlNodeMap = new HashMap<>();
+    // Flat index of the TOML node given for each configurable variable, which is built in a single pass over the
+    // modules, so that resolving a variable is a single lookup instead of a walk down the module tables.
+    Map<VariableKey, TomlNode> configValueNodes = new HashMap<>();
 
     TomlTableNode tomlNode;
 
@@ -111,15 +113,22 @@ public class ConfigTomlProvider implements ConfigProvider {
         for (Map.Entry<Module, VariableKey[]> moduleEntry : configVarMap.entrySet()) {
             Module module = moduleEntry.getKey();
             TomlTableNode moduleNode = retrieveModuleNode(tomlNode, module, requiredModules.contains(module.getName()));
-            if (moduleNode != null) {
-                moduleTomlNodeMap.put(module, moduleNode);
+            if (moduleNode == null) {
+                continue;
+            }
+            Map<String, TopLevelNode> moduleEntries = moduleNode.entries();
+            for (VariableKey key : moduleEntry.getValue()) {
+                TomlNode valueNode = moduleEntries.get(key.variable);
+                if (valueNode != null) {
+                    configValueNodes.put(key, valueNode);
+                }
             }
         }
     }
 
     @Override
     public boolean hasConfigs() {
-        return (tomlNode != null && !tomlNode.entries().isEmpty() && !moduleTomlNodeMap.isEmpty());
+        return (tomlNode != null && !tomlNode.entries().isEmpty() && !configValueNodes.isEmpty());
     }
 
     @Override
@@ -182,9 +191,8 @@ public class ConfigTomlProvider implements ConfigProvider {
     @Override
     public Optional<BArray> getAsArrayAndMark(Module module, VariableKey key) {
         Type effectiveType = ((IntersectionType) key.type).getEffectiveType();
-        TomlTableNode moduleNode = moduleTomlNodeMap.get(module);
-        if (moduleNode != null && moduleNode.entries().containsKey(key.variable)) {
-            TomlNode tomlValue = moduleNode.entries().get(key.variable);
+        TomlNode tomlValue = configValueNodes.get(key);
+        if (tomlValue != null) {
             return Optional.of(retrieveArrayValues(tomlValue, key.module.getName() + ":" + key.variable,
                                                    (ArrayType) effectiveType));
         }
@@ -193,9 +201,8 @@ public class ConfigTomlProvider implements ConfigProvider {
 
     @Override
     public Optional<BMap<BString, Object>> getAsRecordAndMark(Module module, VariableKey key) {
-        TomlTableNode moduleNode = moduleTomlNodeMap.get(module);
-        if (moduleNode != null && moduleNode.entries().containsKey(key.variable)) {
-            TomlNode tomlValue = moduleNode.entries().get(key.variable);
+        TomlNode tomlValue = configValueNodes.get(key);
+        if (tomlValue != null) {
             return Optional.of(retrieveRecordValues(tomlValue, key.module.getName() + ":" + key.variable, key.type));
         }
         return Optional.empty();
@@ -204,9 +211,8 @@ public class ConfigTomlProvider implements ConfigProvider {
     @Override
     public Optional<BTable<BString, Object>> getAsTableAndMark(Module module, VariableKey key) {
         Type effectiveType = ((BIntersectionType) key.type).getConstituentTypes().get(0);
-        TomlTableNode moduleNode = moduleTomlNodeMap.get(module);
-        if (moduleNode != null && moduleNode.entries().containsKey(key.variable)) {
-            TomlNode tomlValue = moduleNode.entries().get(key.variable);
+        TomlNode tomlValue = configValueNodes.get(key);
+        if (tomlValue != null) {
             return Optional.of(retrieveTableValues(tomlValue, key.module.getName() + ":" + key.variable,
                                                    (TableType) effectiveType));
         }
@@ -214,14 +220,12 @@ public class ConfigTomlProvider implements ConfigProvider {
     }
 
     private Object getPrimitiveTomlValue(Module module, VariableKey key) {
-        String variableName = key.variable;
-        TomlTableNode moduleNode = moduleTomlNodeMap.get(module);
-        if (moduleNode != null && moduleNode.entries().containsKey(variableName)) {
-            TomlNode tomlValue = moduleNode.entries().get(variableName);
-            tomlValue = getTomlNode(tomlValue, key.module.getName() + ":" + key.variable, key.type);
-            return ((TomlBasicValueNode<?>) tomlValue).getValue();
-        }
-        return null;
+        TomlNode tomlValue = configValueNodes.get(key);
+        if (tomlValue == null) {
+            return null;
+        }
+        tomlValue = getTomlNode(tomlValue, key.module.getName() + ":" + key.variable, key.type);
+        return ((TomlBasicValueNode<?>) tomlValue).getValue();
     }
 
     private int validateAndGetByteValue(Object tomlValue, String variableName) {
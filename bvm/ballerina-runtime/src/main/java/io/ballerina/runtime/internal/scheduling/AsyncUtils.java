@@ -19,13 +19,13 @@
 package io.ballerina.runtime.internal.scheduling;
 
 import io.ballerina.runtime.api.async.StrandMetadata;
+import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BFunctionPointer;
 import io.ballerina.runtime.internal.types.BFunctionType;
 import io.ballerina.runtime.internal.values.FutureValue;
 
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -100,9 +100,12 @@ public class AsyncUtils {
     }
 
     /**
-     * Invoke Function Pointer asynchronously given number of times. This will schedule the function and block the
-     * strand. This method can be used with collection of data where we need to invoke the function pointer for each
-     * item of the collection.
+     * Invoke Function Pointer asynchronously given number of times. This method can be used with collection of data
+     * where we need to invoke the function pointer for each item of the collection.
+     * <p>
+     * Each invocation runs in a new strand, on the current thread. The strand is scheduled and the current strand is
+     * blocked only if the function yields, in which case the remaining invocations are continued once the strand
+     * completes. Hence functions which do not yield are invoked without going through the scheduler.
      *
      * @param func                 Function Pointer to be invoked.
      * @param strandName           Name for newly creating strand which is used to execute the function pointer. This is
@@ -125,36 +128,89 @@ public class AsyncUtils {
         if (noOfIterations <= 0) {
             return;
         }
-        Strand strand = Scheduler.getStrand();
-        blockStrand(strand);
-        AtomicInteger callCount = new AtomicInteger(0);
-        scheduleNextFunction(func, strand, strandName, metadata, noOfIterations, callCount, argsSupplier,
-                             futureResultConsumer, returnValueSupplier, scheduler);
+        IterativeInvocation invocation = new IterativeInvocation(func, Scheduler.getStrand(), strandName, metadata,
+                                                                 noOfIterations, argsSupplier, futureResultConsumer,
+                                                                 returnValueSupplier, scheduler);
+        invocation.invokeRemaining();
     }
 
-    private static void scheduleNextFunction(BFunctionPointer<?, ?> func, Strand strand, String strandName,
-                                             StrandMetadata metadata, int noOfIterations,
-                                             AtomicInteger callCount, Supplier<Object[]> argsSupplier,
-                                             Consumer<Object> futureResultConsumer,
-                                             Supplier<Object> returnValueSupplier, Scheduler scheduler) {
-        AsyncFunctionCallback callback = new AsyncFunctionCallback() {
-            @Override
-            public void notifySuccess(Object result) {
-                futureResultConsumer.accept(getFutureResult());
-                if (callCount.incrementAndGet() != noOfIterations) {
-                    scheduleNextFunction(func, strand, strandName, metadata, noOfIterations, callCount, argsSupplier,
-                                         futureResultConsumer, returnValueSupplier, scheduler);
-                } else {
-                    setReturnValues(returnValueSupplier.get());
+    /**
+     * Invokes a function pointer given number of times, one invocation after the other.
+     */
+    private static class IterativeInvocation extends AsyncFunctionCallback {
+
+        private final BFunctionPointer<?, ?> func;
+        private final Strand parent;
+        private final String strandName;
+        private final StrandMetadata metadata;
+        private final int noOfIterations;
+        private final Supplier<Object[]> argsSupplier;
+        private final Consumer<Object> futureResultConsumer;
+        private final Supplier<Object> returnValueSupplier;
+        private final Scheduler scheduler;
+        private int callCount = 0;
+        private boolean parentBlocked = false;
+
+        IterativeInvocation(BFunctionPointer<?, ?> func, Strand parent, String strandName, StrandMetadata metadata,
+                            int noOfIterations, Supplier<Object[]> argsSupplier,
+                            Consumer<Object> futureResultConsumer, Supplier<Object> returnValueSupplier,
+                            Scheduler scheduler) {
+            this.func = func;
+            this.parent = parent;
+            this.strandName = strandName;
+            this.metadata = metadata;
+            this.noOfIterations = noOfIterations;
+            this.argsSupplier = argsSupplier;
+            this.futureResultConsumer = futureResultConsumer;
+            this.returnValueSupplier = returnValueSupplier;
+            this.scheduler = scheduler;
+            setStrand(parent);
+        }
+
+        void invokeRemaining() {
+            while (callCount < noOfIterations) {
+                FutureValue future = scheduler.createFuture(parent, null, null,
+                                                            ((BFunctionType) func.getType()).retType, strandName,
+                                                            metadata);
+                boolean completed = scheduler.executeLocal(argsSupplier.get(), func, parent, future, () -> {
+                    // The parent needs to be blocked before the strand can be completed by the scheduler.
+                    blockStrand(parent);
+                    parentBlocked = true;
+                    setFuture(future);
+                    future.callback = this;
+                });
+                if (!completed) {
+                    // Remaining invocations are continued by the callback.
+                    return;
+                }
+                if (future.panic != null) {
+                    BError error = future.panic instanceof BError ? (BError) future.panic :
+                            ErrorCreator.createError(future.panic);
+                    if (!parentBlocked) {
+                        throw error;
+                    }
+                    handleRuntimeErrors(error);
+                    return;
                 }
+                futureResultConsumer.accept(future.result);
+                callCount++;
             }
-
-            @Override
-            public void notifyFailure(BError error) {
-                handleRuntimeErrors(error);
+            if (parentBlocked) {
+                setReturnValues(returnValueSupplier.get());
             }
-        };
-        invokeFunctionPointerAsync(func, strand, strandName, metadata, argsSupplier.get(), callback, scheduler);
+        }
+
+        @Override
+        public void notifySuccess(Object result) {
+            futureResultConsumer.accept(getFutureResult());
+            callCount++;
+            invokeRemaining();
+        }
+
+        @Override
+        public void notifyFailure(BError error) {
+            handleRuntimeErrors(error);
+        }
     }
 
     private static class Unblocker implements java.util.function.BiConsumer<Object, Throwable> {
@@ -160,6 +160,52 @@ public class Scheduler {
         return future;
     }
 
+    /**
+     * Executes given function pointer in a new strand of the callers strand group, on the current thread. If the
+     * function yields, the strand is handed over to the scheduler as if it was scheduled using
+     * {@link #scheduleLocal(Object[], BFunctionPointer, Strand, FutureValue)}, and it is resumed by the scheduler.
+     *
+     * @param params  parameters to underlying function.
+     * @param fp      function pointer to be executed.
+     * @param parent  parent of the strand of the future.
+     * @param future  future of the new strand.
+     * @param onYield executed before the strand is handed over to the scheduler, if the function yields.
+     * @return true if the function was completed on the current thread.
+     */
+    boolean executeLocal(Object[] params, BFunctionPointer<?, ?> fp, Strand parent, FutureValue future,
+                         Runnable onYield) {
+        params[0] = future.strand;
+        SchedulerItem item = new SchedulerItem(fp.getFunction(), params, future);
+        future.strand.schedulerItem = item;
+        totalStrands.incrementAndGet();
+        future.strand.strandGroup = parent.strandGroup;
+
+        StrandHolder holder = strandHolder.get();
+        Strand currentStrand = holder.strand;
+        Object result = null;
+        Throwable panic = null;
+        try {
+            holder.strand = future.strand;
+            result = item.execute();
+        } catch (Throwable e) {
+            panic = createError(e);
+            notifyChannels(item, panic);
+
+            if (!(panic instanceof BError)) {
+                RuntimeUtils.printCrashLog(panic);
+            }
+        } finally {
+            holder.strand = currentStrand;
+        }
+
+        boolean yielded = item.isYielded();
+        if (yielded) {
+            onYield.run();
+        }
+        postProcess(item, result, panic);
+        return !yielded;
+    }
+
     public FutureValue scheduleTransactionalLocal(Object[] params, BFunctionPointer<?, ?> fp, Strand parent,
                                                   Type returnType, String strandName, StrandMetadata metadata) {
         FutureValue future = createTransactionalFuture(parent, null, null, returnType, strandName, metadata);
@@ -339,14 +385,9 @@ public class Scheduler {
                 item.future.strand.unlock();
                 break;
             case BLOCK_ON_AND_YIELD:
-                WaitContext waitContext = item.future.strand.waitContext;
-                waitContext.lock();
-                waitContext.intermediate = false;
-                if (waitContext.runnable) {
-                    waitContext.completed = true;
+                if (item.future.strand.waitContext.park()) {
                     reschedule(item);
                 }
-                waitContext.unLock();
                 break;
             case YIELD:
                 reschedule(item);
@@ -373,19 +414,17 @@ public class Scheduler {
                 justCompleted.setState(State.DONE);
 
 
-                for (WaitContext ctx : justCompleted.waitingContexts) {
-                    ctx.lock();
-                    if (!ctx.completed) {
-                        if ((item.future.panic != null && ctx.handlePanic()) || ctx.waitCompleted(result)) {
-                            if (ctx.intermediate) {
-                                ctx.runnable = true;
-                            } else {
-                                ctx.completed = true;
-                                reschedule(ctx.schedulerItem);
-                            }
+                for (Strand.WaiterNode waiter = justCompleted.completeWaiters(); waiter != null;
+                     waiter = waiter.next) {
+                    WaitContext ctx = waiter.ctx;
+                    if (ctx.isSatisfied()) {
+                        continue;
+                    }
+                    if ((item.future.panic != null && ctx.handlePanic()) || ctx.waitCompleted(result)) {
+                        if (ctx.satisfy()) {
+                            reschedule(ctx.schedulerItem);
                         }
                     }
-                    ctx.unLock();
                 }
 
                 cleanUp(justCompleted);
@@ -434,7 +473,6 @@ public class Scheduler {
     private void cleanUp(Strand justCompleted) {
         justCompleted.scheduler = null;
         justCompleted.frames = null;
-        justCompleted.waitingContexts = null;
         //TODO: more cleanup , eg channels
     }
 
@@ -28,7 +28,6 @@ import io.ballerina.runtime.internal.values.FutureValue;
 import io.ballerina.runtime.internal.values.MapValue;
 import io.ballerina.runtime.transactions.TransactionLocalContext;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -37,6 +36,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.Stack;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -55,6 +55,7 @@ import static io.ballerina.runtime.internal.scheduling.State.YIELD;
 public class Strand {
 
     private static AtomicInteger nextStrandId = new AtomicInteger(0);
+    private static final WaiterNode COMPLETED_WAITERS = new WaiterNode(null, null);
 
     private int id;
     private String name;
@@ -74,7 +75,6 @@ public class Strand {
     public boolean cancel;
 
     SchedulerItem schedulerItem;
-    List<WaitContext> waitingContexts;
     WaitContext waitContext;
     ItemGroup strandGroup;
 
@@ -84,6 +84,10 @@ public class Strand {
     private State state;
     private final ReentrantLock strandLock;
 
+    // Contexts of the strands waiting on this strand, kept as a lock-free stack. It is swapped with
+    // COMPLETED_WAITERS when this strand completes, after which no more contexts can be added.
+    private final AtomicReference<WaiterNode> waiters = new AtomicReference<>();
+
     public Strand(String name, StrandMetadata metadata, Scheduler scheduler, Strand parent,
                   Map<String, Object> properties) {
         this.id = nextStrandId.incrementAndGet();
@@ -93,7 +97,6 @@ public class Strand {
         this.state = RUNNABLE;
         this.dependants = new HashSet<>();
         this.strandLock = new ReentrantLock();
-        this.waitingContexts = new ArrayList<>();
         this.name = name;
         this.metadata = metadata;
         this.trxContexts = new Stack<>();
@@ -242,86 +245,101 @@ public class Strand {
     public void handleWaitMultiple(Map<String, FutureValue> keyValues, MapValue target) throws Throwable {
         WaitContext ctx = new WaitMultipleContext(this.schedulerItem);
         ctx.waitCount.set(keyValues.size());
-        ctx.lock();
+        boolean blocked = false;
         for (Map.Entry<String, FutureValue> entry : keyValues.entrySet()) {
             FutureValue future = entry.getValue();
-            // need to lock the future's strand since we cannot have a parallel state change
-            future.strand.lock();
-            if (future.isDone) {
-                if (future.panic != null) {
-                    ctx.completed = true;
-                    ctx.waitCount.set(0);
-                    this.setState(RUNNABLE);
-                    future.strand.unlock();
-                    ctx.unLock();
-                    throw future.panic;
-                }
-                ctx.waitCount.decrementAndGet();
-                target.put(StringUtils.fromString(entry.getKey()), future.result);
-            } else {
-                this.setState(BLOCK_ON_AND_YIELD);
-                entry.getValue().strand.waitingContexts.add(ctx);
+            if (future.strand.addWaitingContext(ctx)) {
+                blocked = true;
+                continue;
+            }
+            // The future is done, and its result is visible since the strand completed before swapping the waiters.
+            if (future.panic != null) {
+                ctx.complete();
+                throw future.panic;
+            }
+            target.put(StringUtils.fromString(entry.getKey()), future.result);
+            if (ctx.waitCompleted(future.result)) {
+                // The registered futures completed while registering the rest. Make the strand runnable again, so
+                // that the wait is re-evaluated to collect all the results.
+                ctx.satisfy();
             }
-            future.strand.unlock();
         }
-        if (!this.isBlocked()) {
-            ctx.waitCount.set(0);
-            ctx.completed = true;
-        } else {
+        if (blocked) {
             this.waitContext = ctx;
-            ctx.intermediate = true;
+            this.setState(BLOCK_ON_AND_YIELD);
+        } else {
+            ctx.complete();
         }
-        ctx.unLock();
     }
 
     public WaitResult handleWaitAny(List<FutureValue> futures) throws Throwable {
         WaitResult waitResult = new WaitResult(false, null);
         WaitContext ctx = new WaitAnyContext(this.schedulerItem);
-        ctx.lock();
         ctx.waitCount.set(futures.size());
+        boolean blocked = false;
         Object error = null;
         for (FutureValue future : futures) {
-            // need to lock the future's strand since we cannot have a parallel state change
-            try {
-                future.strand.lock();
-                if (future.isDone) {
-                    if (future.panic != null) {
-                        ctx.completed = true;
-                        ctx.unLock();
-                        throw future.panic;
-                    }
-
-                    if (TypeChecker.checkIsType(future.result, PredefinedTypes.TYPE_ERROR)) {
-                        ctx.waitCount.decrementAndGet();
-                        // if error, should wait for other futures as well
-                        error = future.result;
-                        continue;
-                    }
-                    waitResult = new WaitResult(true, future.result);
-                    break;
-                } else {
-                    future.strand.waitingContexts.add(ctx);
+            if (future.strand.addWaitingContext(ctx)) {
+                blocked = true;
+                continue;
+            }
+            if (future.panic != null) {
+                ctx.complete();
+                throw future.panic;
+            }
+
+            if (TypeChecker.checkIsType(future.result, PredefinedTypes.TYPE_ERROR)) {
+                // if error, should wait for other futures as well
+                error = future.result;
+                if (ctx.waitCompleted(future.result)) {
+                    ctx.satisfy();
                 }
-            } finally {
-                future.strand.unlock();
+                continue;
             }
+            waitResult = new WaitResult(true, future.result);
+            break;
         }
 
         if (waitResult.done) {
-            ctx.completed = true;
-        } else if (ctx.waitCount.get() == 0) {
-            ctx.completed = true;
+            ctx.complete();
+        } else if (!blocked) {
+            ctx.complete();
             // all futures have error result
             waitResult = new WaitResult(true, error);
         } else {
             this.waitContext = ctx;
             this.setState(BLOCK_ON_AND_YIELD);
         }
-        ctx.unLock();
-
         return waitResult;
     }
 
+    /**
+     * Registers a context which waits for this strand to complete.
+     *
+     * @param ctx wait context
+     * @return true if the context was registered, false if this strand has already completed
+     */
+    boolean addWaitingContext(WaitContext ctx) {
+        WaiterNode head;
+        do {
+            head = this.waiters.get();
+            if (head == COMPLETED_WAITERS) {
+                return false;
+            }
+        } while (!this.waiters.compareAndSet(head, new WaiterNode(ctx, head)));
+        return true;
+    }
+
+    /**
+     * Marks this strand as completed for waiters, and returns the contexts which were waiting on it. The future of
+     * the strand should be updated before calling this.
+     *
+     * @return the first node of the waiting contexts, or null if there are none
+     */
+    WaiterNode completeWaiters() {
+        return this.waiters.getAndSet(COMPLETED_WAITERS);
+    }
+
     public void updateChannelDetails(ChannelDetails[] channels) {
         for (ChannelDetails channel: channels) {
             this.channelDetails.add(channel);
@@ -417,6 +435,19 @@ public class Strand {
         }
     }
 
+    /**
+     * Node of the lock-free list of contexts waiting on a strand.
+     */
+    static class WaiterNode {
+        final WaitContext ctx;
+        final WaiterNode next;
+
+        WaiterNode(WaitContext ctx, WaiterNode next) {
+            this.ctx = ctx;
+            this.next = next;
+        }
+    }
+
     /**
      * Holds both waiting state and result.
      *
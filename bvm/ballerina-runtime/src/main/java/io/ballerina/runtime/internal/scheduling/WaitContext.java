@@ -18,38 +18,75 @@
  package io.ballerina.runtime.internal.scheduling;
 
  import java.util.concurrent.atomic.AtomicInteger;
- import java.util.concurrent.locks.ReentrantLock;
 
  /**
   * This context is shared among the strands to notify that a
   * certain strand is waiting on another strand.
+  * <p>
+  * The progress of the wait is kept as a CAS-updated state, so that completing strands never lock the context.
+  * A wait is registered while the waiting strand is still running (intermediate), and is parked when the strand
+  * yields. A completing strand which satisfies an intermediate wait marks it runnable, and the waiting strand
+  * reschedules itself when it yields; a parked wait is rescheduled by the completing strand instead.
   *
   * @since 1.0.0
   */
  public abstract class WaitContext {
 
+     private static final int INTERMEDIATE = 0;
+     private static final int PARKED = 1;
+     private static final int RUNNABLE = 2;
+     private static final int COMPLETED = 3;
+
      SchedulerItem schedulerItem;
-     boolean runnable;
-     boolean completed;
-     boolean intermediate;
-     private final ReentrantLock contextLock;
+     private final AtomicInteger state;
      AtomicInteger waitCount;
 
 
      WaitContext(SchedulerItem schedulerItem) {
          this.schedulerItem = schedulerItem;
-         this.contextLock = new ReentrantLock();
+         this.state = new AtomicInteger(INTERMEDIATE);
          this.waitCount = new AtomicInteger();
-         this.intermediate = true;
+     }
+
+     /**
+      * Marks the wait as satisfied.
+      *
+      * @return true if the waiting strand is parked and the caller should reschedule it
+      */
+     boolean satisfy() {
+         while (true) {
+             int current = state.get();
+             if (current == INTERMEDIATE) {
+                 if (state.compareAndSet(INTERMEDIATE, RUNNABLE)) {
+                     return false;
+                 }
+             } else if (current == PARKED) {
+                 return state.compareAndSet(PARKED, COMPLETED);
+             } else {
+                 return false;
+             }
+         }
+     }
 
+     /**
+      * Parks the wait once the waiting strand has yielded.
+      *
+      * @return true if the wait was satisfied while the strand was running, and the caller should reschedule it
+      */
+     boolean park() {
+         if (state.compareAndSet(INTERMEDIATE, PARKED)) {
+             return false;
+         }
+         state.set(COMPLETED);
+         return true;
      }
 
-     void lock() {
-         this.contextLock.lock();
+     void complete() {
+         state.set(COMPLETED);
      }
 
-     void unLock() {
-         this.contextLock.unlock();
+     boolean isSatisfied() {
+         return state.get() >= RUNNABLE;
      }
 
      abstract boolean handlePanic();
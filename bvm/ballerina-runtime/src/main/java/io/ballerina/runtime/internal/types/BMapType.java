@@ -24,8 +24,8 @@ import io.ballerina.runtime.api.constants.TypeConstants;
 import io.ballerina.runtime.api.types.IntersectionType;
 import io.ballerina.runtime.api.types.MapType;
 import io.ballerina.runtime.api.types.Type;
-import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.values.MapValueImpl;
+import io.ballerina.runtime.internal.values.PrimitiveMapValue;
 import io.ballerina.runtime.internal.values.ReadOnlyUtils;
 
 /**
@@ -92,7 +92,7 @@ public class BMapType extends BType implements MapType {
 
     @Override
     public <V extends Object> V getZeroValue() {
-        return (V) new MapValueImpl<BString, V>(new BMapType(constraint));
+        return (V) PrimitiveMapValue.create(new BMapType(constraint));
     }
 
     @Override
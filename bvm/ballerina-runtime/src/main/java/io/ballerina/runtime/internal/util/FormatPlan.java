@@ -0,0 +1,372 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.util;
+
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.TypeChecker;
+
+import java.text.DecimalFormatSymbols;
+import java.util.ArrayList;
+import java.util.IllegalFormatConversionException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Format string of {@code sprintf}, parsed into the literal text and the format specifiers.
+ * <p>
+ * Plans are cached by their format string, hence a format string is parsed only once. Specifiers which are not
+ * affected by the padding or the locale are formatted directly, and the others are formatted with a Java format
+ * string created when parsing.
+ * <p>
+ * The modules which provide {@code sprintf} report the errors differently, hence the errors are created by the
+ * {@link ErrorFactory} given when formatting.
+ *
+ * @since 2.0.0
+ */
+public class FormatPlan {
+
+    // Format strings are usually constants, hence the cache is cleared only if they are created dynamically.
+    private static final int MAX_CACHED_PLANS = 1024;
+    private static final Map<String, FormatPlan> PLANS = new ConcurrentHashMap<>();
+    private static final boolean IS_ASCII_ZERO_DIGIT =
+            DecimalFormatSymbols.getInstance(Locale.getDefault(Locale.Category.FORMAT)).getZeroDigit() == '0';
+
+    private final Segment[] segments;
+    private final int literalLength;
+
+    private FormatPlan(Segment[] segments, int literalLength) {
+        this.segments = segments;
+        this.literalLength = literalLength;
+    }
+
+    /**
+     * Returns the plan of the given format string.
+     *
+     * @param format format string
+     * @return cached or newly parsed plan
+     */
+    public static FormatPlan of(String format) {
+        FormatPlan plan = PLANS.get(format);
+        if (plan != null) {
+            return plan;
+        }
+        plan = parse(format);
+        if (PLANS.size() >= MAX_CACHED_PLANS) {
+            PLANS.clear();
+        }
+        PLANS.put(format, plan);
+        return plan;
+    }
+
+    /**
+     * Formats the given arguments.
+     *
+     * @param args         arguments referenced by the format specifiers
+     * @param errorFactory creates the error when the arguments cannot be formatted
+     * @return formatted string
+     */
+    public BString format(Object[] args, ErrorFactory errorFactory) {
+        StringBuilder result = new StringBuilder(literalLength + 16 * args.length);
+        for (Segment segment : segments) {
+            segment.appendTo(result, args, errorFactory);
+        }
+        return StringUtils.fromString(result.toString());
+    }
+
+    /*
+     * Primitive built-in types (Same as Java String.format())
+     * b            boolean
+     * B            boolean (ALL_CAPS)
+     * d            int
+     * f            float
+     * s            string
+     * x            hex
+     * X            HEX (ALL_CAPS)
+     *
+     * s            is applicable for any of the supported types in Ballerina. These values will be converted to
+     * their string representation and displayed.
+     */
+    private static FormatPlan parse(String format) {
+        List<Segment> segments = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int literalLength = 0;
+        int length = format.length();
+
+        // i keeps index for checking %
+        // j reads format specifier to apply
+        // k records number of format specifiers seen so far, used to read respective array element
+        for (int i = 0, j, k = 0; i < length; i++) {
+            char c = format.charAt(i);
+            if (c != '%' || i + 1 >= length) {
+                // no match, copy and continue
+                literal.append(c);
+                continue;
+            }
+
+            if (literal.length() > 0) {
+                literalLength += literal.length();
+                segments.add(new Literal(literal.toString()));
+                literal.setLength(0);
+            }
+
+            // skip % character
+            j = i + 1;
+            while (j < length && (Character.isDigit(format.charAt(j)) || format.charAt(j) == '.')) {
+                j++;
+            }
+            String padding = format.substring(i + 1, j);
+            if (j == length) {
+                // The format string ends within the specifier.
+                segments.add(new Invalid(k, "%" + padding));
+                break;
+            }
+
+            char formatSpecifier = format.charAt(j);
+            switch (formatSpecifier) {
+                case 'b':
+                case 'B':
+                case 'd':
+                case 'f':
+                case 'x':
+                case 'X':
+                case 's':
+                    segments.add(new Specifier(k, padding, formatSpecifier));
+                    break;
+                case '%':
+                    segments.add(new Percent(k));
+                    break;
+                default:
+                    // format string not supported
+                    segments.add(new Invalid(k, String.valueOf(formatSpecifier)));
+                    break;
+            }
+
+            if (formatSpecifier == '%') {
+                // special case %%, don't count as a format specifier
+                i++;
+            } else {
+                k++;
+                i = j;
+            }
+        }
+
+        if (literal.length() > 0) {
+            literalLength += literal.length();
+            segments.add(new Literal(literal.toString()));
+        }
+        return new FormatPlan(segments.toArray(new Segment[0]), literalLength);
+    }
+
+    private static void checkArgumentCount(int argIndex, Object[] args, ErrorFactory errorFactory) {
+        if (argIndex >= args.length) {
+            // there's not enough arguments
+            throw errorFactory.notEnoughFormatArguments();
+        }
+    }
+
+    /**
+     * Creates the errors of formatting.
+     */
+    public interface ErrorFactory {
+
+        /**
+         * Creates the error when a format specifier has no argument.
+         *
+         * @return error
+         */
+        BError notEnoughFormatArguments();
+
+        /**
+         * Creates the error when a format specifier is not supported.
+         *
+         * @param formatSpecifier format specifier, or the incomplete specifier at the end of the format string
+         * @return error
+         */
+        BError unknownFormatConversion(String formatSpecifier);
+
+        /**
+         * Creates the error when an argument cannot be formatted by its format specifier.
+         *
+         * @param conversion format specifier and the type of the argument, e.g. {@code d != string}
+         * @return error
+         */
+        BError illegalFormatConversion(String conversion);
+    }
+
+    /**
+     * Part of a format string.
+     */
+    private abstract static class Segment {
+
+        abstract void appendTo(StringBuilder result, Object[] args, ErrorFactory errorFactory);
+    }
+
+    /**
+     * Text which is copied as it is.
+     */
+    private static class Literal extends Segment {
+
+        private final String text;
+
+        Literal(String text) {
+            this.text = text;
+        }
+
+        @Override
+        void appendTo(StringBuilder result, Object[] args, ErrorFactory errorFactory) {
+            result.append(text);
+        }
+    }
+
+    /**
+     * Escaped {@code %} character. The arguments are checked similar to the other specifiers.
+     */
+    private static class Percent extends Segment {
+
+        private final int argIndex;
+
+        Percent(int argIndex) {
+            this.argIndex = argIndex;
+        }
+
+        @Override
+        void appendTo(StringBuilder result, Object[] args, ErrorFactory errorFactory) {
+            checkArgumentCount(argIndex, args, errorFactory);
+            result.append('%');
+        }
+    }
+
+    /**
+     * Specifier which is not supported, which fails when it is reached.
+     */
+    private static class Invalid extends Segment {
+
+        private final int argIndex;
+        private final String formatSpecifier;
+
+        Invalid(int argIndex, String formatSpecifier) {
+            this.argIndex = argIndex;
+            this.formatSpecifier = formatSpecifier;
+        }
+
+        @Override
+        void appendTo(StringBuilder result, Object[] args, ErrorFactory errorFactory) {
+            checkArgumentCount(argIndex, args, errorFactory);
+            throw errorFactory.unknownFormatConversion(formatSpecifier);
+        }
+    }
+
+    /**
+     * Specifier which formats an argument.
+     */
+    private static class Specifier extends Segment {
+
+        private final int argIndex;
+        private final char formatSpecifier;
+        private final String javaFormat;
+        private final boolean hasPadding;
+        // Width of a padding without flags or a precision, or -1
+        private final int width;
+
+        Specifier(int argIndex, String padding, char formatSpecifier) {
+            this.argIndex = argIndex;
+            this.formatSpecifier = formatSpecifier;
+            this.javaFormat = "%" + padding + formatSpecifier;
+            this.hasPadding = !padding.isEmpty();
+            this.width = hasPadding && padding.charAt(0) != '0' && padding.indexOf('.') < 0 &&
+                    padding.length() < 10 ? Integer.parseInt(padding) : -1;
+        }
+
+        @Override
+        void appendTo(StringBuilder result, Object[] args, ErrorFactory errorFactory) {
+            checkArgumentCount(argIndex, args, errorFactory);
+            Object ref = args[argIndex];
+            try {
+                switch (formatSpecifier) {
+                    case 's':
+                        if (ref != null) {
+                            appendString(result, StringUtils.getStringValue(ref, null));
+                        }
+                        break;
+                    case 'd':
+                        checkNotNil(ref, errorFactory);
+                        if (!hasPadding && ref instanceof Long && IS_ASCII_ZERO_DIGIT) {
+                            result.append((long) ref);
+                        } else {
+                            result.append(String.format(javaFormat, ref));
+                        }
+                        break;
+                    case 'x':
+                    case 'X':
+                        checkNotNil(ref, errorFactory);
+                        formatHexString(result, ref);
+                        break;
+                    default:
+                        checkNotNil(ref, errorFactory);
+                        result.append(String.format(javaFormat, ref));
+                        break;
+                }
+            } catch (IllegalFormatConversionException e) {
+                throw errorFactory.illegalFormatConversion(formatSpecifier + " != " + TypeChecker.getType(ref));
+            }
+        }
+
+        private void appendString(StringBuilder result, String value) {
+            if (!hasPadding) {
+                result.append(value);
+                return;
+            }
+            if (width < 0) {
+                result.append(String.format(javaFormat, value));
+                return;
+            }
+            // Values are right aligned within the width, similar to String.format().
+            for (int i = value.length(); i < width; i++) {
+                result.append(' ');
+            }
+            result.append(value);
+        }
+
+        private void checkNotNil(Object ref, ErrorFactory errorFactory) {
+            if (ref == null) {
+                throw errorFactory.illegalFormatConversion(formatSpecifier + " != ()");
+            }
+        }
+
+        private void formatHexString(StringBuilder result, Object ref) {
+            final Type type = TypeChecker.getType(ref);
+            if (TypeTags.ARRAY_TAG == type.getTag() &&
+                    TypeTags.BYTE_TAG == ((ArrayType) type).getElementType().getTag()) {
+                BArray byteArray = ((BArray) ref);
+                for (int i = 0; i < byteArray.size(); i++) {
+                    result.append(String.format(javaFormat, byteArray.getByte(i)));
+                }
+            } else {
+                result.append(String.format(javaFormat, ref));
+            }
+        }
+    }
+}
@@ -43,7 +43,6 @@ import java.util.Arrays;
 import java.util.Map;
 import java.util.Objects;
 import java.util.StringJoiner;
-import java.util.stream.IntStream;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.ARRAY_LANG_LIB;
 import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons.INDEX_OUT_OF_RANGE_ERROR_IDENTIFIER;
@@ -726,8 +725,9 @@ public class ArrayValueImpl extends AbstractArrayValue {
             return this;
         }
 
-        if (refs.containsKey(this)) {
-            return refs.get(this);
+        Object copy = refs.get(this);
+        if (copy != null) {
+            return copy;
         }
 
         ArrayValue valueArray;
@@ -757,15 +757,17 @@ public class ArrayValueImpl extends AbstractArrayValue {
             default:
                 Object[] values = new Object[this.size];
                 valueArray = new ArrayValueImpl(values, arrayType);
-                IntStream.range(0, this.size).forEach(i -> {
+                // Added before copying the members, so that a member referring back to this array gets the copy
+                refs.put(this, valueArray);
+                for (int i = 0; i < this.size; i++) {
                     Object value = this.refValues[i];
                     if (value instanceof RefValue) {
                         values[i] = ((RefValue) value).copy(refs);
                     } else {
                         values[i] = value;
                     }
-                });
-                break;
+                }
+                return valueArray;
         }
 
         refs.put(this, valueArray);
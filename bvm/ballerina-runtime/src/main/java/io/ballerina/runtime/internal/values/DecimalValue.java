@@ -36,6 +36,12 @@ import java.util.Map;
  * The {@link DecimalValue} represents a decimal value in Ballerina.
  * </p>
  * <p>
+ * Values whose unscaled value fits in a {@code long} are kept as the unscaled value and the scale, and their
+ * {@code BigDecimal} is created only when it is asked for. Addition, subtraction, multiplication and comparison of
+ * such values are done on the unscaled values, as long as the result fits in a {@code long}. Since such a result has
+ * fewer digits than the precision of decimal128, it is the same as the result of the {@code BigDecimal} operation.
+ * </p>
+ * <p>
  * <i>Note: This is an internal API and may change in future versions.</i>
  * </p> 
  * @since 0.995.0
@@ -54,10 +60,32 @@ public class DecimalValue implements SimpleValue, BDecimal {
     @Deprecated
     public DecimalValueKind valueKind = DecimalValueKind.OTHER;
 
+    // Unscaled value of a value which is not kept in compact form.
+    private static final long INFLATED = Long.MIN_VALUE;
+    private static final int MAX_COMPACT_PRECISION = 18;
+    private static final long MAX_EXACT_DOUBLE_INT = 1L << 53;
+    // Largest int whose decimal value, which has a scale of one, is compact.
+    private static final long MAX_COMPACT_INT = Long.MAX_VALUE / 10;
+    private static final long[] POWERS_OF_TEN = {
+            1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L, 10000000L, 100000000L, 1000000000L, 10000000000L,
+            100000000000L, 1000000000000L, 10000000000000L, 100000000000000L, 1000000000000000L,
+            10000000000000000L, 100000000000000000L, 1000000000000000000L
+    };
+
+    // Created lazily for the values in compact form.
     private BigDecimal value;
+    private final long unscaledValue;
+    private final int scale;
 
     public DecimalValue(BigDecimal value) {
         this.value = value;
+        if (value.precision() <= MAX_COMPACT_PRECISION) {
+            this.unscaledValue = value.unscaledValue().longValue();
+            this.scale = value.scale();
+        } else {
+            this.unscaledValue = INFLATED;
+            this.scale = 0;
+        }
         if (!this.booleanValue()) {
             this.valueKind = DecimalValueKind.ZERO;
         }
@@ -67,19 +95,66 @@ public class DecimalValue implements SimpleValue, BDecimal {
         // Check whether the number provided is a hexadecimal value.
         if (isHexValueString(value)) {
             this.value = hexToDecimalFloatingPointNumber(value);
+            this.unscaledValue = INFLATED;
+            this.scale = 0;
+        } else if (isCompactDecimalString(value)) {
+            int pointIndex = value.indexOf('.');
+            if (pointIndex < 0) {
+                this.unscaledValue = Long.parseLong(value);
+                this.scale = 0;
+            } else {
+                this.unscaledValue = Long.parseLong(value.substring(0, pointIndex) +
+                                                            value.substring(pointIndex + 1));
+                this.scale = value.length() - pointIndex - 1;
+            }
         } else {
             this.value = new BigDecimal(value, MathContext.DECIMAL128);
+            this.unscaledValue = INFLATED;
+            this.scale = 0;
         }
         if (!this.booleanValue()) {
             this.valueKind = DecimalValueKind.ZERO;
         }
     }
 
+    private DecimalValue(long unscaledValue, int scale) {
+        this.unscaledValue = unscaledValue;
+        this.scale = scale;
+        if (unscaledValue == 0) {
+            this.valueKind = DecimalValueKind.ZERO;
+        }
+    }
+
     public DecimalValue(String value, DecimalValueKind valueKind) {
         this(value);
         this.valueKind = valueKind;
     }
 
+    /**
+     * Checks whether the given string is a plain decimal number, i.e. an optional minus sign followed by digits with an
+     * optional decimal point, whose digits fit in a {@code long}.
+     *
+     * @param value string value
+     * @return true if the unscaled value of the number can be parsed as a {@code long}
+     */
+    private static boolean isCompactDecimalString(String value) {
+        int length = value.length();
+        int start = length > 0 && value.charAt(0) == '-' ? 1 : 0;
+        int digits = 0;
+        boolean hasPoint = false;
+        for (int i = start; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits++;
+            } else if (c == '.' && !hasPoint && i > start && i < length - 1) {
+                hasPoint = true;
+            } else {
+                return false;
+            }
+        }
+        return digits > 0 && digits <= MAX_COMPACT_PRECISION;
+    }
+
     private static boolean isHexValueString(String value) {
         String upperCaseValue = value.toUpperCase();
         return upperCaseValue.startsWith("0X") || upperCaseValue.startsWith("-0X");
@@ -142,7 +217,17 @@ public class DecimalValue implements SimpleValue, BDecimal {
      * @return the value
      */
     public BigDecimal decimalValue() {
-        return this.value;
+        BigDecimal value = this.value;
+        if (value == null) {
+            // Values of the same decimal may race to create it, which results in equal instances.
+            value = BigDecimal.valueOf(unscaledValue, scale);
+            this.value = value;
+        }
+        return value;
+    }
+
+    private boolean isCompact() {
+        return unscaledValue != INFLATED;
     }
 
     /**
@@ -160,6 +245,11 @@ public class DecimalValue implements SimpleValue, BDecimal {
                 throw ErrorUtils.createNumericConversionError(POSITIVE_INF, PredefinedTypes.TYPE_INT);
         }
 
+        // Values beyond 2^53 are converted through a double, hence they are left to the BigDecimal path.
+        if (isCompact() && scale == 0 && Math.abs(unscaledValue) <= MAX_EXACT_DOUBLE_INT) {
+            return unscaledValue;
+        }
+        BigDecimal value = decimalValue();
         if (!isDecimalWithinIntRange(value)) {
             throw ErrorUtils.createNumericConversionError(this.stringValue(null), PredefinedTypes.TYPE_DECIMAL,
                                                           PredefinedTypes.TYPE_INT);
@@ -192,9 +282,9 @@ public class DecimalValue implements SimpleValue, BDecimal {
                 throw ErrorUtils.createNumericConversionError(POSITIVE_INF, PredefinedTypes.TYPE_BYTE);
         }
 
-        int intVal = (int) Math.rint(this.value.doubleValue());
+        int intVal = (int) Math.rint(decimalValue().doubleValue());
         if (!isByteLiteral(intVal)) {
-            throw ErrorUtils.createNumericConversionError(value, PredefinedTypes.TYPE_DECIMAL,
+            throw ErrorUtils.createNumericConversionError(decimalValue(), PredefinedTypes.TYPE_DECIMAL,
                                                           PredefinedTypes.TYPE_BYTE);
         }
         return intVal;
@@ -212,7 +302,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
         if (this.valueKind == DecimalValueKind.NOT_A_NUMBER) {
             return Double.NaN;
         }
-        return value.doubleValue();
+        return decimalValue().doubleValue();
     }
 
     /**
@@ -220,6 +310,9 @@ public class DecimalValue implements SimpleValue, BDecimal {
      * @return true if the value is non zero
      */
     public boolean booleanValue() {
+        if (isCompact()) {
+            return unscaledValue != 0;
+        }
         return value.compareTo(BigDecimal.ZERO) != 0;
     }
 
@@ -242,7 +335,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
         if (this.valueKind != DecimalValueKind.OTHER) {
             return this.valueKind.getValue();
         }
-        return value.toString();
+        return toDecimalString();
     }
 
     /**
@@ -254,7 +347,41 @@ public class DecimalValue implements SimpleValue, BDecimal {
         if (this.valueKind != DecimalValueKind.OTHER) {
             return this.valueKind.getValue() + "d";
         }
-        return value.toString() + "d";
+        return toDecimalString() + "d";
+    }
+
+    /**
+     * Get the string value of the {@code BigDecimal} value, as given by {@link BigDecimal#toString()}.
+     * @return string value of the {@code BigDecimal} value
+     */
+    public String toDecimalString() {
+        if (!isCompact() || scale < 0) {
+            return decimalValue().toString();
+        }
+        if (scale == 0) {
+            return Long.toString(unscaledValue);
+        }
+
+        String digits = Long.toString(Math.abs(unscaledValue));
+        // BigDecimal uses the scientific notation if the adjusted exponent is less than -6.
+        if (digits.length() - 1 - scale < -6) {
+            return decimalValue().toString();
+        }
+        StringBuilder sb = new StringBuilder(digits.length() + 3);
+        if (unscaledValue < 0) {
+            sb.append('-');
+        }
+        int pointIndex = digits.length() - scale;
+        if (pointIndex > 0) {
+            sb.append(digits, 0, pointIndex).append('.').append(digits, pointIndex, digits.length());
+        } else {
+            sb.append("0.");
+            for (int i = pointIndex; i < 0; i++) {
+                sb.append('0');
+            }
+            sb.append(digits);
+        }
+        return sb.toString();
     }
 
     /**
@@ -262,7 +389,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
      * @return the decimal value
      */
     public BigDecimal value() {
-        return this.value;
+        return decimalValue();
     }
 
     /**
@@ -303,6 +430,13 @@ public class DecimalValue implements SimpleValue, BDecimal {
                     return this;
                 }
                 if (augend.valueKind == DecimalValueKind.OTHER) {
+                    if (this.isCompact() && augend.isCompact()) {
+                        DecimalValue sum = addCompact(this.unscaledValue, this.scale, augend.unscaledValue,
+                                                      augend.scale);
+                        if (sum != null) {
+                            return sum;
+                        }
+                    }
                     return new DecimalValue(this.decimalValue().add(augend.decimalValue(), MathContext.DECIMAL128));
                 }
                 return augend;
@@ -341,6 +475,14 @@ public class DecimalValue implements SimpleValue, BDecimal {
                     return this;
                 }
                 if (subtrahend.valueKind == DecimalValueKind.OTHER) {
+                    if (this.isCompact() && subtrahend.isCompact()) {
+                        // The unscaled value of a compact value is never Long.MIN_VALUE, hence it can be negated.
+                        DecimalValue difference = addCompact(this.unscaledValue, this.scale,
+                                                             -subtrahend.unscaledValue, subtrahend.scale);
+                        if (difference != null) {
+                            return difference;
+                        }
+                    }
                     return new DecimalValue(this.decimalValue().subtract(subtrahend.decimalValue(),
                             MathContext.DECIMAL128));
                 }
@@ -384,6 +526,13 @@ public class DecimalValue implements SimpleValue, BDecimal {
                 return NaN;
             default:
                 if (multiplicand.valueKind == DecimalValueKind.OTHER) {
+                    if (this.isCompact() && multiplicand.isCompact()) {
+                        DecimalValue product = multiplyCompact(this.unscaledValue, this.scale,
+                                                               multiplicand.unscaledValue, multiplicand.scale);
+                        if (product != null) {
+                            return product;
+                        }
+                    }
                     return new DecimalValue(this.decimalValue().multiply(multiplicand.decimalValue(),
                             MathContext.DECIMAL128));
                 }
@@ -476,6 +625,9 @@ public class DecimalValue implements SimpleValue, BDecimal {
     public DecimalValue negate() {
         switch (this.valueKind) {
             case OTHER:
+                if (isCompact()) {
+                    return new DecimalValue(-unscaledValue, scale);
+                }
                 return new DecimalValue(this.decimalValue().negate());
             case POSITIVE_INFINITY:
                 return NEGATIVE_INF;
@@ -511,6 +663,74 @@ public class DecimalValue implements SimpleValue, BDecimal {
         return remainder((DecimalValue) divisor);
     }
 
+    /**
+     * Compares the numeric value of this decimal with the numeric value of the given decimal.
+     * @param other value to be compared with
+     * @return -1, 0 or 1 as this value is less than, equal to, or greater than the given value
+     */
+    public int compareValue(DecimalValue other) {
+        if (this.isCompact() && other.isCompact()) {
+            if (this.scale == other.scale) {
+                return Long.compare(this.unscaledValue, other.unscaledValue);
+            }
+            long lhs = this.scale < other.scale ?
+                    scaleUp(this.unscaledValue, other.scale - this.scale) : this.unscaledValue;
+            long rhs = other.scale < this.scale ?
+                    scaleUp(other.unscaledValue, this.scale - other.scale) : other.unscaledValue;
+            if (lhs != INFLATED && rhs != INFLATED) {
+                return Long.compare(lhs, rhs);
+            }
+        }
+        return this.decimalValue().compareTo(other.decimalValue());
+    }
+
+    /**
+     * Returns the sum of the given compact values, or null if the sum doesn't fit in a {@code long}.
+     */
+    private static DecimalValue addCompact(long lhs, int lhsScale, long rhs, int rhsScale) {
+        if (lhsScale < rhsScale) {
+            lhs = scaleUp(lhs, rhsScale - lhsScale);
+        } else if (rhsScale < lhsScale) {
+            rhs = scaleUp(rhs, lhsScale - rhsScale);
+        }
+        if (lhs == INFLATED || rhs == INFLATED) {
+            return null;
+        }
+        long sum = lhs + rhs;
+        // Overflows if both operands have a sign different from the sum.
+        if (((lhs ^ sum) & (rhs ^ sum)) < 0 || sum == INFLATED) {
+            return null;
+        }
+        return new DecimalValue(sum, Math.max(lhsScale, rhsScale));
+    }
+
+    /**
+     * Returns the product of the given compact values, or null if the product doesn't fit in a {@code long}.
+     */
+    private static DecimalValue multiplyCompact(long lhs, int lhsScale, long rhs, int rhsScale) {
+        long product = lhs * rhs;
+        long high = Math.multiplyHigh(lhs, rhs);
+        long scale = (long) lhsScale + rhsScale;
+        if (high != (product >> 63) || product == INFLATED || scale != (int) scale) {
+            return null;
+        }
+        return new DecimalValue(product, (int) scale);
+    }
+
+    /**
+     * Returns the given unscaled value multiplied by the given power of ten, or {@code INFLATED} if it overflows.
+     */
+    private static long scaleUp(long unscaledValue, int exponent) {
+        if (exponent >= POWERS_OF_TEN.length) {
+            return INFLATED;
+        }
+        long power = POWERS_OF_TEN[exponent];
+        if (Math.abs(unscaledValue) > Long.MAX_VALUE / power) {
+            return INFLATED;
+        }
+        return unscaledValue * power;
+    }
+
     /**
      * Returns value kind of {@code (-this)}.
      * @return value kind
@@ -532,12 +752,32 @@ public class DecimalValue implements SimpleValue, BDecimal {
         }
 
         DecimalValue bDecimal = (DecimalValue) obj;
-        return ((value.compareTo(bDecimal.value) == 0) && (this.valueKind == bDecimal.valueKind));
+        return ((compareValue(bDecimal) == 0) && (this.valueKind == bDecimal.valueKind));
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        // Equal values may have different scales, hence the hash code is computed without the trailing zeros.
+        if (isCompact()) {
+            return hashCode(unscaledValue, scale);
+        }
+        BigDecimal stripped = value.stripTrailingZeros();
+        BigInteger strippedUnscaledValue = stripped.unscaledValue();
+        if (strippedUnscaledValue.bitLength() < Long.SIZE) {
+            return hashCode(strippedUnscaledValue.longValue(), stripped.scale());
+        }
+        return stripped.hashCode();
+    }
+
+    private static int hashCode(long unscaledValue, int scale) {
+        if (unscaledValue == 0) {
+            return 0;
+        }
+        while (unscaledValue % 10 == 0) {
+            unscaledValue /= 10;
+            scale--;
+        }
+        return 31 * Long.hashCode(unscaledValue) + scale;
     }
 
     /**
@@ -555,7 +795,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
      * @return decimal value
      */
     public static DecimalValue valueOf(int value) {
-        return new DecimalValue(new BigDecimal(value, MathContext.DECIMAL128).setScale(1, BigDecimal.ROUND_HALF_EVEN));
+        return new DecimalValue(value * 10L, 1);
     }
 
     /**
@@ -564,6 +804,9 @@ public class DecimalValue implements SimpleValue, BDecimal {
      * @return decimal value
      */
     public static DecimalValue valueOf(long value) {
+        if (value >= -MAX_COMPACT_INT && value <= MAX_COMPACT_INT) {
+            return new DecimalValue(value * 10, 1);
+        }
         return new DecimalValue(new BigDecimal(value, MathContext.DECIMAL128).setScale(1, BigDecimal.ROUND_HALF_EVEN));
     }
 
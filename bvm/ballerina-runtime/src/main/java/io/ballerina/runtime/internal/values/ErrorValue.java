@@ -36,7 +36,7 @@ import io.ballerina.runtime.internal.types.BErrorType;
 import io.ballerina.runtime.internal.types.BTypeIdSet;
 
 import java.io.PrintWriter;
-import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -244,7 +244,7 @@ public class ErrorValue extends BError implements RefValue {
      */
     public Object getDetails() {
         if (details instanceof RefValue) {
-            return ((RefValue) details).copy(new HashMap<>());
+            return ((RefValue) details).copy(new IdentityHashMap<>());
         }
         return details;
     }
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BMapInitialValueEntry;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Map value of the {@code float} constrained map type, which keeps the values in a {@code double} array.
+ * </p>
+ * <p>
+ * <i>Note: This is an internal API and may change in future versions.</i>
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public class FloatMapValue extends PrimitiveMapValue<Double> {
+
+    private static final long serialVersionUID = 1L;
+    private static final double[] EMPTY_VALUES = new double[0];
+
+    private double[] values = EMPTY_VALUES;
+
+    public FloatMapValue(Type type) {
+        super(type);
+    }
+
+    public FloatMapValue(Type type, BMapInitialValueEntry[] initialValues) {
+        super(type);
+        populateInitialValues(initialValues);
+    }
+
+    /**
+     * Retrieve the value for the given key from map without boxing it.
+     * An error will be thrown if the key does not exist.
+     *
+     * @param key key used to get the value
+     * @return value associated with the key
+     */
+    public double getFloat(BString key) {
+        int position = indexOf(key);
+        if (position < 0) {
+            throw createKeyNotFoundError(key);
+        }
+        return values[position];
+    }
+
+    @Override
+    protected Double valueAt(int position) {
+        return Double.valueOf(values[position]);
+    }
+
+    @Override
+    protected void setValueAt(int position, Object value) {
+        values[position] = (Double) value;
+    }
+
+    @Override
+    protected void moveValue(int from, int to) {
+        values[to] = values[from];
+    }
+
+    @Override
+    protected void resizeValues(int capacity) {
+        values = Arrays.copyOf(values, capacity);
+    }
+
+    @Override
+    protected void copyValues(PrimitiveMapValue<Double> source) {
+        values = ((FloatMapValue) source).values.clone();
+    }
+
+    @Override
+    protected PrimitiveMapValue<Double> newMapValue(Type type) {
+        return new FloatMapValue(type);
+    }
+}
@@ -419,8 +419,9 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
             return this;
         }
 
-        if (refs.containsKey(this)) {
-            return refs.get(this);
+        Object copy = refs.get(this);
+        if (copy != null) {
+            return copy;
         }
 
         MapValueImpl<K, V> newMap = new MapValueImpl<>(type);
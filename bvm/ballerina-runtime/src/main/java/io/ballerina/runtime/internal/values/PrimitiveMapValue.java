@@ -0,0 +1,661 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMapInitialValueEntry;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.types.BMapType;
+
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons.MAP_KEY_NOT_FOUND_ERROR;
+
+/**
+ * <p>
+ * Base of the map values whose constraint is a basic type which has a primitive representation, i.e. {@code int},
+ * {@code float}, {@code boolean} and {@code string}.
+ * </p>
+ * <p>
+ * Instead of the entries of {@link java.util.LinkedHashMap}, the keys are kept in insertion order in an array, and the
+ * values are kept at the same positions in a primitive array of the subclass. Keys are looked up using an open
+ * addressing table of their positions. Removed keys leave a gap in the arrays, which is closed when the arrays are
+ * full. The storage inherited from {@link java.util.LinkedHashMap} is never used, hence all the methods which access
+ * it are overridden.
+ * </p>
+ * <p>
+ * <i>Note: This is an internal API and may change in future versions.</i>
+ * </p>
+ *
+ * @param <V> the type of mapped values
+ *
+ * @since 2.0.0
+ */
+public abstract class PrimitiveMapValue<V> extends MapValueImpl<BString, V> {
+
+    private static final long serialVersionUID = 1L;
+    private static final int INITIAL_CAPACITY = 8;
+    private static final BString[] EMPTY_KEYS = new BString[0];
+    private static final int EMPTY = 0;
+    private static final int DELETED = -1;
+
+    private BString[] keys = EMPTY_KEYS;
+    // Positions of the keys plus one, or EMPTY or DELETED. The table is at least twice as large as the key array, hence
+    // there is always an empty slot to end a probe.
+    private int[] table;
+    // Number of positions used in the key array, including the ones of removed keys
+    private int used = 0;
+    private int count = 0;
+    private int modCount = 0;
+
+    protected PrimitiveMapValue(Type type) {
+        super(type);
+    }
+
+    /**
+     * Creates a map value of the given type, which is specialized for the constraint of the type if possible.
+     *
+     * @param type          type of the map value
+     * @param initialValues initial entries of the map value
+     * @return map value
+     */
+    @SuppressWarnings("unchecked")
+    public static <V> MapValueImpl<BString, V> create(Type type, BMapInitialValueEntry[] initialValues) {
+        if (type.getTag() != TypeTags.MAP_TAG) {
+            return new MapValueImpl<>(type, initialValues);
+        }
+
+        switch (((BMapType) type).getConstrainedType().getTag()) {
+            case TypeTags.INT_TAG:
+                return (MapValueImpl<BString, V>) new IntMapValue(type, initialValues);
+            case TypeTags.FLOAT_TAG:
+                return (MapValueImpl<BString, V>) new FloatMapValue(type, initialValues);
+            case TypeTags.BOOLEAN_TAG:
+                return (MapValueImpl<BString, V>) new BooleanMapValue(type, initialValues);
+            case TypeTags.STRING_TAG:
+                return (MapValueImpl<BString, V>) new StringMapValue(type, initialValues);
+            default:
+                return new MapValueImpl<>(type, initialValues);
+        }
+    }
+
+    /**
+     * Creates an empty map value of the given type, which is specialized for the constraint of the type if possible.
+     *
+     * @param type type of the map value
+     * @return map value
+     */
+    public static <V> MapValueImpl<BString, V> create(Type type) {
+        return create(type, new BMapInitialValueEntry[0]);
+    }
+
+    /**
+     * Returns the value at the given position of the value array.
+     *
+     * @param position position of the value
+     * @return boxed value
+     */
+    protected abstract V valueAt(int position);
+
+    /**
+     * Sets the value at the given position of the value array.
+     *
+     * @param position position of the value
+     * @param value    boxed value
+     */
+    protected abstract void setValueAt(int position, Object value);
+
+    /**
+     * Moves a value to a lower position of the value array when the gaps of the removed keys are closed.
+     *
+     * @param from current position of the value
+     * @param to   new position of the value
+     */
+    protected abstract void moveValue(int from, int to);
+
+    /**
+     * Resizes the value array to the given capacity.
+     *
+     * @param capacity new capacity of the value array
+     */
+    protected abstract void resizeValues(int capacity);
+
+    /**
+     * Copies the value array of the given map value, which is of the same class.
+     *
+     * @param source map value to copy the values from
+     */
+    protected abstract void copyValues(PrimitiveMapValue<V> source);
+
+    /**
+     * Creates an empty map value of the same class.
+     *
+     * @param type type of the map value
+     * @return map value
+     */
+    protected abstract PrimitiveMapValue<V> newMapValue(Type type);
+
+    /**
+     * Releases the value at the given position of the value array, if it holds a reference.
+     *
+     * @param position position of the value
+     */
+    protected void clearValueAt(int position) {
+    }
+
+    /**
+     * Returns the position of the given key in the value array.
+     *
+     * @param key key of the map
+     * @return position of the key, or -1 if the key does not exist
+     */
+    protected int indexOf(Object key) {
+        int slot = findSlot(key);
+        return slot < 0 ? -1 : table[slot] - 1;
+    }
+
+    protected BError createKeyNotFoundError(BString key) {
+        return ErrorCreator.createError(MAP_KEY_NOT_FOUND_ERROR,
+                                        StringUtils.fromString("cannot find key '" + key + "'"));
+    }
+
+    @Override
+    public V get(Object key) {
+        int position = indexOf(key);
+        return position < 0 ? null : valueAt(position);
+    }
+
+    @Override
+    public V getOrDefault(Object key, V defaultValue) {
+        int position = indexOf(key);
+        return position < 0 ? defaultValue : valueAt(position);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return findSlot(key) >= 0;
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        for (int position = 0; position < used; position++) {
+            if (keys[position] != null && Objects.equals(valueAt(position), value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    protected V putValue(BString key, V value) {
+        int position = indexOf(key);
+        if (position >= 0) {
+            V oldValue = valueAt(position);
+            setValueAt(position, value);
+            return oldValue;
+        }
+
+        ensureCapacity();
+        position = used++;
+        keys[position] = key;
+        setValueAt(position, value);
+        int mask = table.length - 1;
+        int slot = hash(key) & mask;
+        while (table[slot] > EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = position + 1;
+        count++;
+        modCount++;
+        return null;
+    }
+
+    @Override
+    public V remove(Object key) {
+        validateFreezeStatus();
+        int slot = findSlot(key);
+        if (slot < 0) {
+            return null;
+        }
+        int position = table[slot] - 1;
+        V oldValue = valueAt(position);
+        table[slot] = DELETED;
+        keys[position] = null;
+        clearValueAt(position);
+        count--;
+        modCount++;
+        return oldValue;
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        int position = indexOf(key);
+        if (position < 0 || !Objects.equals(valueAt(position), value)) {
+            return false;
+        }
+        remove(key);
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        validateFreezeStatus();
+        for (int position = 0; position < used; position++) {
+            keys[position] = null;
+            clearValueAt(position);
+        }
+        if (table != null) {
+            Arrays.fill(table, EMPTY);
+        }
+        used = 0;
+        count = 0;
+        modCount++;
+    }
+
+    @Override
+    public int size() {
+        return count;
+    }
+
+    @Override
+    public BString[] getKeys() {
+        BString[] liveKeys = new BString[count];
+        int i = 0;
+        for (int position = 0; position < used; position++) {
+            if (keys[position] != null) {
+                liveKeys[i++] = keys[position];
+            }
+        }
+        return liveKeys;
+    }
+
+    @Override
+    public Set<BString> keySet() {
+        return new KeySet();
+    }
+
+    @Override
+    public Collection<V> values() {
+        return new Values();
+    }
+
+    @Override
+    public Set<Map.Entry<BString, V>> entrySet() {
+        return new EntrySet();
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super BString, ? super V> action) {
+        int expectedModCount = modCount;
+        for (int position = 0; position < used; position++) {
+            if (keys[position] != null) {
+                action.accept(keys[position], valueAt(position));
+                // Checked on each entry, since the keys inserted by the action would be visited as well.
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+        }
+    }
+
+    @Override
+    public void replaceAll(BiFunction<? super BString, ? super V, ? extends V> function) {
+        for (BString key : getKeys()) {
+            put(key, function.apply(key, get(key)));
+        }
+    }
+
+    @Override
+    public void putAll(Map<? extends BString, ? extends V> map) {
+        for (Map.Entry<? extends BString, ? extends V> entry : map.entrySet()) {
+            put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Override
+    public V putIfAbsent(BString key, V value) {
+        int position = indexOf(key);
+        if (position >= 0) {
+            return valueAt(position);
+        }
+        put(key, value);
+        return null;
+    }
+
+    @Override
+    public V replace(BString key, V value) {
+        return containsKey(key) ? put(key, value) : null;
+    }
+
+    @Override
+    public boolean replace(BString key, V oldValue, V newValue) {
+        int position = indexOf(key);
+        if (position < 0 || !Objects.equals(valueAt(position), oldValue)) {
+            return false;
+        }
+        put(key, newValue);
+        return true;
+    }
+
+    @Override
+    public V computeIfAbsent(BString key, Function<? super BString, ? extends V> mappingFunction) {
+        int position = indexOf(key);
+        if (position >= 0) {
+            return valueAt(position);
+        }
+        V value = mappingFunction.apply(key);
+        if (value != null) {
+            put(key, value);
+        }
+        return value;
+    }
+
+    @Override
+    public V computeIfPresent(BString key, BiFunction<? super BString, ? super V, ? extends V> remappingFunction) {
+        int position = indexOf(key);
+        if (position < 0) {
+            return null;
+        }
+        return compute(key, remappingFunction);
+    }
+
+    @Override
+    public V compute(BString key, BiFunction<? super BString, ? super V, ? extends V> remappingFunction) {
+        V value = remappingFunction.apply(key, get(key));
+        if (value == null) {
+            remove(key);
+        } else {
+            put(key, value);
+        }
+        return value;
+    }
+
+    @Override
+    public V merge(BString key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        int position = indexOf(key);
+        V newValue = position < 0 ? value : remappingFunction.apply(valueAt(position), value);
+        if (newValue == null) {
+            remove(key);
+        } else {
+            put(key, newValue);
+        }
+        return newValue;
+    }
+
+    @Override
+    public Object copy(Map<Object, Object> refs) {
+        if (isFrozen()) {
+            return this;
+        }
+
+        Object copy = refs.get(this);
+        if (copy != null) {
+            return copy;
+        }
+
+        // Values of the basic types with a primitive representation are not references, hence the arrays are copied.
+        PrimitiveMapValue<V> newMap = newMapValue(getType());
+        refs.put(this, newMap);
+        newMap.keys = keys.clone();
+        newMap.table = table == null ? null : table.clone();
+        newMap.used = used;
+        newMap.count = count;
+        newMap.copyValues(this);
+        return newMap;
+    }
+
+    private int findSlot(Object key) {
+        if (count == 0 || !(key instanceof BString)) {
+            return -1;
+        }
+        int mask = table.length - 1;
+        for (int slot = hash(key) & mask; ; slot = (slot + 1) & mask) {
+            int entry = table[slot];
+            if (entry == EMPTY) {
+                return -1;
+            }
+            if (entry != DELETED && keys[entry - 1].equals(key)) {
+                return slot;
+            }
+        }
+    }
+
+    private void ensureCapacity() {
+        if (used < keys.length) {
+            return;
+        }
+
+        // Grow only if closing the gaps of the removed keys doesn't free at least half of the positions.
+        int capacity = count >= keys.length / 2 ? Math.max(INITIAL_CAPACITY, keys.length * 2) : keys.length;
+        int to = 0;
+        for (int from = 0; from < used; from++) {
+            if (keys[from] == null) {
+                continue;
+            }
+            if (to != from) {
+                keys[to] = keys[from];
+                moveValue(from, to);
+            }
+            to++;
+        }
+        for (int position = to; position < used; position++) {
+            keys[position] = null;
+            clearValueAt(position);
+        }
+        used = to;
+        keys = Arrays.copyOf(keys, capacity);
+        resizeValues(capacity);
+
+        table = new int[capacity * 2];
+        int mask = table.length - 1;
+        for (int position = 0; position < used; position++) {
+            int slot = hash(keys[position]) & mask;
+            while (table[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = position + 1;
+        }
+    }
+
+    private static int hash(Object key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Iterator over the positions of the keys in insertion order.
+     */
+    private abstract class PositionIterator<T> implements Iterator<T> {
+
+        private int nextPosition = 0;
+        private int lastPosition = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            while (nextPosition < used && keys[nextPosition] == null) {
+                nextPosition++;
+            }
+            return nextPosition < used;
+        }
+
+        @Override
+        public T next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            lastPosition = nextPosition++;
+            return valueOf(lastPosition);
+        }
+
+        @Override
+        public void remove() {
+            if (lastPosition < 0) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            PrimitiveMapValue.this.remove(keys[lastPosition]);
+            lastPosition = -1;
+            expectedModCount = modCount;
+        }
+
+        abstract T valueOf(int position);
+    }
+
+    /**
+     * View of the keys of the map.
+     */
+    private class KeySet extends AbstractSet<BString> {
+
+        @Override
+        public Iterator<BString> iterator() {
+            return new PositionIterator<BString>() {
+                @Override
+                BString valueOf(int position) {
+                    return keys[position];
+                }
+            };
+        }
+
+        @Override
+        public boolean contains(Object key) {
+            return containsKey(key);
+        }
+
+        @Override
+        public int size() {
+            return count;
+        }
+    }
+
+    /**
+     * View of the values of the map.
+     */
+    private class Values extends AbstractCollection<V> {
+
+        @Override
+        public Iterator<V> iterator() {
+            return new PositionIterator<V>() {
+                @Override
+                V valueOf(int position) {
+                    return valueAt(position);
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return count;
+        }
+    }
+
+    /**
+     * View of the entries of the map.
+     */
+    private class EntrySet extends AbstractSet<Map.Entry<BString, V>> {
+
+        @Override
+        public Iterator<Map.Entry<BString, V>> iterator() {
+            return new PositionIterator<Map.Entry<BString, V>>() {
+                @Override
+                Map.Entry<BString, V> valueOf(int position) {
+                    return new Entry(position);
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return count;
+        }
+    }
+
+    /**
+     * Entry of the map, which reads the value of its key from the map as long as the key exists. The key is looked up
+     * on each read, since closing the gaps of the removed keys moves the values.
+     */
+    private class Entry implements Map.Entry<BString, V> {
+
+        private final BString key;
+        private V value;
+
+        Entry(int position) {
+            this.key = keys[position];
+            this.value = valueAt(position);
+        }
+
+        @Override
+        public BString getKey() {
+            return key;
+        }
+
+        @Override
+        public V getValue() {
+            int position = indexOf(key);
+            return position < 0 ? value : valueAt(position);
+        }
+
+        @Override
+        public V setValue(V value) {
+            V oldValue = getValue();
+            put(key, value);
+            this.value = value;
+            return oldValue;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            Map.Entry<?, ?> entry = (Map.Entry<?, ?>) o;
+            return key.equals(entry.getKey()) && Objects.equals(getValue(), entry.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return key.hashCode() ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + getValue();
+        }
+    }
+}
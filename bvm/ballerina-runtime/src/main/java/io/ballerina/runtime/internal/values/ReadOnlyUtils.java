@@ -74,20 +74,29 @@ public class ReadOnlyUtils {
         if (type.isReadOnly()) {
             return type;
         }
+        // The readonly type is created once per type, hence the type is not checked again once it is available.
+        Type immutableType = getAvailableImmutableType(type);
+        if (immutableType != null) {
+            return immutableType;
+        }
         if (!TypeChecker.isSelectivelyImmutableType(type, new HashSet<>())) {
             throw new IllegalArgumentException(type.getName() + " cannot be a readonly type.");
         }
-        return setImmutableTypeAndGetEffectiveType(type);
+        return setImmutableIntersectionType(type, new HashSet<>()).getEffectiveType();
     }
 
     public static Type getReadOnlyType(Type type, Set<Type> unresolvedTypes) {
         if (type.isReadOnly()) {
             return type;
         }
+        Type immutableType = getAvailableImmutableType(type);
+        if (immutableType != null) {
+            return immutableType;
+        }
         if (!TypeChecker.isSelectivelyImmutableType(type, new HashSet<>())) {
             throw new IllegalArgumentException(type.getName() + " cannot be a readonly type.");
         }
-        return setImmutableTypeAndGetEffectiveType(type, unresolvedTypes);
+        return setImmutableIntersectionType(type, unresolvedTypes).getEffectiveType();
     }
 
     public static Type setImmutableTypeAndGetEffectiveType(Type type) {
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BMapInitialValueEntry;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Map value of the {@code string} constrained map type, which keeps the values in a {@code BString} array.
+ * </p>
+ * <p>
+ * <i>Note: This is an internal API and may change in future versions.</i>
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public class StringMapValue extends PrimitiveMapValue<BString> {
+
+    private static final long serialVersionUID = 1L;
+    private static final BString[] EMPTY_VALUES = new BString[0];
+
+    private BString[] values = EMPTY_VALUES;
+
+    public StringMapValue(Type type) {
+        super(type);
+    }
+
+    public StringMapValue(Type type, BMapInitialValueEntry[] initialValues) {
+        super(type);
+        populateInitialValues(initialValues);
+    }
+
+    @Override
+    protected BString valueAt(int position) {
+        return values[position];
+    }
+
+    @Override
+    protected void setValueAt(int position, Object value) {
+        values[position] = (BString) value;
+    }
+
+    @Override
+    protected void moveValue(int from, int to) {
+        values[to] = values[from];
+    }
+
+    @Override
+    protected void clearValueAt(int position) {
+        values[position] = null;
+    }
+
+    @Override
+    protected void resizeValues(int capacity) {
+        values = Arrays.copyOf(values, capacity);
+    }
+
+    @Override
+    protected void copyValues(PrimitiveMapValue<BString> source) {
+        values = ((StringMapValue) source).values.clone();
+    }
+
+    @Override
+    protected PrimitiveMapValue<BString> newMapValue(Type type) {
+        return new StringMapValue(type);
+    }
+}
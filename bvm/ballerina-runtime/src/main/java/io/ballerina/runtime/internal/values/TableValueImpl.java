@@ -134,11 +134,13 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
             return this;
         }
 
-        if (refs.containsKey(this)) {
-            return refs.get(this);
+        Object copy = refs.get(this);
+        if (copy != null) {
+            return copy;
         }
 
         TableValueImpl<K, V> clone = new TableValueImpl<>(type);
+        refs.put(this, clone);
         if (fieldNames != null) {
             clone.fieldNames = fieldNames;
         }
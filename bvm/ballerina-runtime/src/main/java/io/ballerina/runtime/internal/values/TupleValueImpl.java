@@ -39,7 +39,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.StringJoiner;
-import java.util.stream.IntStream;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.ARRAY_LANG_LIB;
 import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons.INDEX_OUT_OF_RANGE_ERROR_IDENTIFIER;
@@ -431,21 +430,22 @@ public class TupleValueImpl extends AbstractArrayValue {
             return this;
         }
 
-        if (refs.containsKey(this)) {
-            return refs.get(this);
+        Object copy = refs.get(this);
+        if (copy != null) {
+            return copy;
         }
 
         Object[] values = new Object[this.size];
         TupleValueImpl refValueArray = new TupleValueImpl(values, this.tupleType);
         refs.put(this, refValueArray);
-        IntStream.range(0, this.size).forEach(i -> {
+        for (int i = 0; i < this.size; i++) {
             Object value = this.refValues[i];
             if (value instanceof RefValue) {
                 values[i] = ((RefValue) value).copy(refs);
             } else {
                 values[i] = value;
             }
-        });
+        }
 
         return refValueArray;
     }
@@ -83,7 +83,7 @@ public class TypedescValueImpl implements  TypedescValue {
     @Override
     public Object instantiate(Strand s, BInitialValueEntry[] initialValues) {
         if (describingType.getTag() == TypeTags.MAP_TAG) {
-            return new MapValueImpl(describingType, (BMapInitialValueEntry[]) initialValues);
+            return PrimitiveMapValue.create(describingType, (BMapInitialValueEntry[]) initialValues);
         }
         // This method will be overridden for user-defined types, therefor this line shouldn't be reached.
         throw new BallerinaException("Given type can't be instantiated at runtime : " + describingType);
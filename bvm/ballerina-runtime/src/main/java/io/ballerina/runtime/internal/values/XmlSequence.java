@@ -452,8 +452,9 @@ public final class XmlSequence extends XmlValue implements BXmlSequence {
             return this;
         }
 
-        if (refs.containsKey(this)) {
-            return refs.get(this);
+        Object copy = refs.get(this);
+        if (copy != null) {
+            return copy;
         }
 
         ArrayList<BXml> copiedChildrenList = new ArrayList<>(children.size());
@@ -57,13 +57,14 @@ public class TransactionLocalContext {
         this.transactionLevel = 0;
         this.allowedTransactionRetryCounts = new HashMap<>();
         this.currentTransactionRetryCounts = new HashMap<>();
-        this.transactionContextStore = new HashMap<>();
         this.transactionBlockIdStack = new Stack<>();
         this.transactionFailure = new Stack<>();
         this.rollbackOnlyError = null;
         this.isTransactional = true;
         this.transactionId = ValueCreator.createArrayValue(globalTransactionId.getBytes());
-        transactionResourceManager.transactionInfoMap.put(transactionId, infoRecord);
+        if (infoRecord != null) {
+            transactionResourceManager.transactionInfoMap.put(transactionId, infoRecord);
+        }
     }
 
     public static TransactionLocalContext createTransactionParticipantLocalCtx(String globalTransactionId,
@@ -114,10 +115,15 @@ public class TransactionLocalContext {
     }
 
     public BallerinaTransactionContext getTransactionContext(String connectorid) {
-        return transactionContextStore.get(connectorid);
+        return transactionContextStore == null ? null : transactionContextStore.get(connectorid);
     }
 
     public void registerTransactionContext(String connectorid, BallerinaTransactionContext txContext) {
+        // Created on first use, as most transaction blocks, and all the branches of a transaction context which are
+        // created for strands started within it, never enlist a resource.
+        if (transactionContextStore == null) {
+            transactionContextStore = new HashMap<>(2);
+        }
         transactionContextStore.put(connectorid, txContext);
     }
 
@@ -145,7 +151,7 @@ public class TransactionLocalContext {
     }
 
     public void notifyAbortAndClearTransaction(String transactionBlockId) {
-        transactionContextStore.clear();
+        transactionContextStore = null;
         transactionResourceManager.notifyAbort(globalTransactionId, transactionBlockId);
     }
 
@@ -189,7 +195,7 @@ public class TransactionLocalContext {
     private void resetTransactionInfo() {
         allowedTransactionRetryCounts.clear();
         currentTransactionRetryCounts.clear();
-        transactionContextStore.clear();
+        transactionContextStore = null;
     }
 
     public void markFailure() {
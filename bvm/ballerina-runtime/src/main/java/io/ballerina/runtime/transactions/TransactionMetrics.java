@@ -0,0 +1,109 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.transactions;
+
+import io.ballerina.runtime.observability.ObserveUtils;
+import io.ballerina.runtime.observability.metrics.DefaultMetricRegistry;
+import io.ballerina.runtime.observability.metrics.MetricId;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.StatisticConfig;
+import io.ballerina.runtime.observability.metrics.Tag;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.Collections;
+
+/**
+ * Records the latency of each phase of completing the resource managers of a transaction.
+ * <p>
+ * Nothing is recorded unless metrics are enabled, hence the only cost on the transaction path otherwise is reading
+ * the clock.
+ *
+ * @since 2.0.0
+ */
+final class TransactionMetrics {
+
+    private static final String TAG_KEY_PROTOCOL = "protocol";
+    private static final String PROTOCOL_ONE_PHASE = "1pc";
+    private static final String PROTOCOL_TWO_PHASE = "2pc";
+
+    private static final MetricId PREPARE_TIME = new MetricId("transaction_prepare_time_seconds",
+            "Time taken to prepare the resource managers of a transaction", Collections.emptySet());
+    private static final MetricId ONE_PHASE_COMMIT_TIME = new MetricId("transaction_commit_time_seconds",
+            "Time taken to commit the resource managers of a transaction",
+            Collections.singleton(Tag.of(TAG_KEY_PROTOCOL, PROTOCOL_ONE_PHASE)));
+    private static final MetricId TWO_PHASE_COMMIT_TIME = new MetricId("transaction_commit_time_seconds",
+            "Time taken to commit the resource managers of a transaction",
+            Collections.singleton(Tag.of(TAG_KEY_PROTOCOL, PROTOCOL_TWO_PHASE)));
+    private static final MetricId ABORT_TIME = new MetricId("transaction_abort_time_seconds",
+            "Time taken to abort the resource managers of a transaction", Collections.emptySet());
+    private static final MetricId ONE_PHASE_COMMITS = new MetricId("transaction_commits_total",
+            "Total number of transactions committed by the resource managers",
+            Collections.singleton(Tag.of(TAG_KEY_PROTOCOL, PROTOCOL_ONE_PHASE)));
+    private static final MetricId TWO_PHASE_COMMITS = new MetricId("transaction_commits_total",
+            "Total number of transactions committed by the resource managers",
+            Collections.singleton(Tag.of(TAG_KEY_PROTOCOL, PROTOCOL_TWO_PHASE)));
+
+    private static final StatisticConfig[] LATENCY_STATISTIC_CONFIGS = new StatisticConfig[]{
+            StatisticConfig.builder()
+                    .expiry(Duration.ofMinutes(1))
+                    .percentiles(StatisticConfig.DEFAULT.getPercentiles())
+                    .build()
+    };
+
+    private static final PrintStream consoleError = System.err;
+
+    private TransactionMetrics() {
+    }
+
+    static void recordPrepare(long startTime) {
+        recordLatency(PREPARE_TIME, startTime);
+    }
+
+    static void recordCommit(boolean onePhase, boolean committed, long startTime) {
+        // Failed commits are timed as well, but only the successful ones are counted.
+        if (recordLatency(onePhase ? ONE_PHASE_COMMIT_TIME : TWO_PHASE_COMMIT_TIME, startTime) && committed) {
+            DefaultMetricRegistry.getInstance().counter(onePhase ? ONE_PHASE_COMMITS : TWO_PHASE_COMMITS)
+                    .increment();
+        }
+    }
+
+    static void recordAbort(long startTime) {
+        recordLatency(ABORT_TIME, startTime);
+    }
+
+    private static boolean recordLatency(MetricId metricId, long startTime) {
+        if (!ObserveUtils.isMetricsEnabled()) {
+            return false;
+        }
+        // The registry is set when the observability module starts, which may be after the first transaction.
+        MetricRegistry metricRegistry = DefaultMetricRegistry.getInstance();
+        if (metricRegistry == null) {
+            return false;
+        }
+        long duration = System.nanoTime() - startTime;
+        try {
+            metricRegistry.gauge(metricId, LATENCY_STATISTIC_CONFIGS).setValue(duration / 1E9);
+        } catch (RuntimeException e) {
+            // Metric Provider may throw exceptions if there is a mismatch in tags.
+            consoleError.println("error: error collecting metrics for " + metricId.getName() + ": " + e.getMessage());
+            return false;
+        }
+        return true;
+    }
+}
@@ -86,9 +86,7 @@ public class TransactionResourceManager {
     private static final String ATOMIKOS_REGISTERED_PROPERTY = "com.atomikos.icatch.registered";
 
     private static final Logger log = LoggerFactory.getLogger(TransactionResourceManager.class);
-    private Map<String, List<BallerinaTransactionContext>> resourceRegistry;
-    private Map<String, Transaction> trxRegistry;
-    private Map<String, Xid> xidRegistry;
+    private final Map<String, ResourceBranch> branchRegistry = new ConcurrentHashMap<>();
 
     private Map<String, List<BFunctionPointer>> committedFuncRegistry;
     private Map<String, List<BFunctionPointer>> abortedFuncRegistry;
@@ -103,17 +101,13 @@ public class TransactionResourceManager {
     public Map<BArray, Object> transactionInfoMap;
 
     private TransactionResourceManager() {
-        resourceRegistry = new HashMap<>();
         committedFuncRegistry = new HashMap<>();
         abortedFuncRegistry = new HashMap<>();
-        transactionInfoMap = new HashMap<>();
+        transactionInfoMap = new ConcurrentHashMap<>();
         transactionManagerEnabled = getTransactionManagerEnabled();
         if (transactionManagerEnabled) {
-            trxRegistry = new HashMap<>();
             setLogProperties();
             userTransactionManager = new UserTransactionManager();
-        } else {
-            xidRegistry = new HashMap<>();
         }
     }
 
@@ -196,7 +190,12 @@ public class TransactionResourceManager {
      */
     public void register(String transactionId, String transactionBlockId, BallerinaTransactionContext txContext) {
         String combinedId = generateCombinedTransactionId(transactionId, transactionBlockId);
-        resourceRegistry.computeIfAbsent(combinedId, resourceList -> new ArrayList<>()).add(txContext);
+        // Enlisting happens within compute, so that it cannot interleave with the branch being released.
+        branchRegistry.compute(combinedId, (id, branch) -> {
+            ResourceBranch resourceBranch = branch == null ? new ResourceBranch() : branch;
+            resourceBranch.contexts.add(txContext);
+            return resourceBranch;
+        });
     }
 
     /**
@@ -246,19 +245,19 @@ public class TransactionResourceManager {
      */
     //TODO:Comment for now, might need it for distributed transactions.
     public boolean prepare(String transactionId, String transactionBlockId) {
+        long startTime = System.nanoTime();
         endXATransaction(transactionId, transactionBlockId);
         if (transactionManagerEnabled) {
             return true;
         }
         String combinedId = generateCombinedTransactionId(transactionId, transactionBlockId);
-        List<BallerinaTransactionContext> txContextList = resourceRegistry.get(combinedId);
-        if (txContextList != null) {
-            Xid xid = xidRegistry.get(combinedId);
-            for (BallerinaTransactionContext ctx : txContextList) {
+        ResourceBranch branch = branchRegistry.get(combinedId);
+        if (branch != null) {
+            for (BallerinaTransactionContext ctx : branch.contexts) {
                 try {
                     XAResource xaResource = ctx.getXAResource();
                     if (xaResource != null) {
-                        xaResource.prepare(xid);
+                        xaResource.prepare(branch.xid);
                     }
                 } catch (XAException e) {
                     log.error("error at transaction prepare phase in transaction " + transactionId
@@ -268,15 +267,61 @@ public class TransactionResourceManager {
             }
         }
 
-        boolean status = true;
-        if (failedResourceParticipantSet.contains(transactionId) || failedLocalParticipantSet.contains(transactionId)) {
-            // resource participant reported failure.
-            status = false;
+        boolean status = !hasFailedParticipant(transactionId);
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Transaction prepare (participants): %s", status ? "success" : "failed"));
         }
-        log.info(String.format("Transaction prepare (participants): %s", status ? "success" : "failed"));
+        TransactionMetrics.recordPrepare(startTime);
         return status;
     }
 
+    /**
+     * This method commits the resources participated in the given transaction without a separate prepare phase.
+     * <p>
+     * The coordinator may use this instead of {@link #prepare(String, String)} followed by
+     * {@link #notifyCommit(String, String)} when it has no other participants to agree with. If a single resource
+     * participates, it is committed with the one-phase commit of its resource manager, which saves the prepare round
+     * trip and the durable prepare record on the resource side. Otherwise this falls back to the two-phase commit
+     * among the participating resources, in which case the resources are rolled back if they fail to prepare.
+     *
+     * @param transactionId      the global transaction id
+     * @param transactionBlockId the block id of the transaction
+     * @return the outcome of the commit operation
+     */
+    public OnePhaseCommitOutcome notifyOnePhaseCommit(String transactionId, String transactionBlockId) {
+        String combinedId = generateCombinedTransactionId(transactionId, transactionBlockId);
+        ResourceBranch branch = branchRegistry.get(combinedId);
+        if (transactionManagerEnabled || branch == null || branch.contexts.size() != 1
+                || hasFailedParticipant(transactionId)) {
+            if (!prepare(transactionId, transactionBlockId)) {
+                notifyAbort(transactionId, transactionBlockId);
+                return OnePhaseCommitOutcome.PREPARE_FAILED;
+            }
+            return notifyCommit(transactionId, transactionBlockId) ? OnePhaseCommitOutcome.COMMITTED
+                    : OnePhaseCommitOutcome.COMMIT_FAILED;
+        }
+
+        long startTime = System.nanoTime();
+        endXATransaction(transactionId, transactionBlockId);
+        boolean commitSuccess = true;
+        BallerinaTransactionContext ctx = branch.contexts.get(0);
+        try {
+            XAResource xaResource = ctx.getXAResource();
+            if (xaResource != null) {
+                xaResource.commit(branch.xid, true);
+            } else {
+                ctx.commit();
+            }
+        } catch (XAException e) {
+            log.error("error when committing transaction " + transactionId + ":" + e.getMessage(), e);
+            commitSuccess = false;
+        } finally {
+            ctx.close();
+        }
+        TransactionMetrics.recordCommit(true, commitSuccess, startTime);
+        return commitSuccess ? OnePhaseCommitOutcome.COMMITTED : OnePhaseCommitOutcome.COMMIT_FAILED;
+    }
+
     /**
      * This method acts as the callback which commits all the resources participated in the given transaction.
      *
@@ -285,12 +330,13 @@ public class TransactionResourceManager {
      * @return the status of the commit operation
      */
     public boolean notifyCommit(String transactionId, String transactionBlockId) {
+        long startTime = System.nanoTime();
         String combinedId = generateCombinedTransactionId(transactionId, transactionBlockId);
         boolean commitSuccess = true;
-        List<BallerinaTransactionContext> txContextList = resourceRegistry.get(combinedId);
-        if (txContextList != null) {
+        ResourceBranch branch = branchRegistry.get(combinedId);
+        if (branch != null) {
             if (transactionManagerEnabled) {
-                Transaction trx = trxRegistry.get(combinedId);
+                Transaction trx = branch.transaction;
                 try {
                     if (trx != null) {
                         trx.commit();
@@ -302,15 +348,14 @@ public class TransactionResourceManager {
                 }
             }
 
-            for (BallerinaTransactionContext ctx : txContextList) {
+            for (BallerinaTransactionContext ctx : branch.contexts) {
                 try {
                     XAResource xaResource = ctx.getXAResource();
                     if (transactionManagerEnabled && xaResource == null) {
                         ctx.commit();
                     } else {
                         if (xaResource != null) {
-                            Xid xid = xidRegistry.get(combinedId);
-                            xaResource.commit(xid, false);
+                            xaResource.commit(branch.xid, false);
                         } else {
                             ctx.commit();
                         }
@@ -323,12 +368,13 @@ public class TransactionResourceManager {
                 }
             }
         }
+        TransactionMetrics.recordCommit(false, commitSuccess, startTime);
         return commitSuccess;
     }
 
     public void cleanTransaction(String transactionId, String transactionBlockId) {
         String combinedId = generateCombinedTransactionId(transactionId, transactionBlockId);
-        removeContextsFromRegistry(combinedId, transactionId);
+        removeContextsFromRegistry(combinedId);
         failedResourceParticipantSet.remove(transactionId);
         failedLocalParticipantSet.remove(transactionId);
         localParticipants.remove(transactionId);
@@ -342,13 +388,14 @@ public class TransactionResourceManager {
      * @return the status of the abort operation
      */
     public boolean notifyAbort(String transactionId, String transactionBlockId) {
+        long startTime = System.nanoTime();
         String combinedId = generateCombinedTransactionId(transactionId, transactionBlockId);
         boolean abortSuccess = true;
-        List<BallerinaTransactionContext> txContextList = resourceRegistry.get(combinedId);
+        ResourceBranch branch = branchRegistry.get(combinedId);
 
-        if (txContextList != null) {
+        if (branch != null) {
             if (transactionManagerEnabled) {
-                Transaction trx = trxRegistry.get(combinedId);
+                Transaction trx = branch.transaction;
                 try {
                     if (trx != null) {
                         trx.rollback();
@@ -359,15 +406,14 @@ public class TransactionResourceManager {
                 }
             }
 
-            for (BallerinaTransactionContext ctx : txContextList) {
+            for (BallerinaTransactionContext ctx : branch.contexts) {
                 try {
                     XAResource xaResource = ctx.getXAResource();
                     if (transactionManagerEnabled && xaResource == null) {
                         ctx.rollback();
                     } else {
-                        Xid xid = xidRegistry.get(combinedId);
                         if (xaResource != null) {
-                            ctx.getXAResource().rollback(xid);
+                            xaResource.rollback(branch.xid);
                         } else {
                             ctx.rollback();
                         }
@@ -385,10 +431,11 @@ public class TransactionResourceManager {
 
         // todo: Temporaraly disabling abort functions as there is no clear way to separate rollback and full abort.
 
-        removeContextsFromRegistry(combinedId, transactionId);
+        removeContextsFromRegistry(combinedId);
         failedResourceParticipantSet.remove(transactionId);
         failedLocalParticipantSet.remove(transactionId);
         localParticipants.remove(transactionId);
+        TransactionMetrics.recordAbort(startTime);
         return abortSuccess;
     }
 
@@ -403,25 +450,26 @@ public class TransactionResourceManager {
     public void beginXATransaction(String transactionId, String transactionBlockId, XAResource xaResource) {
         String combinedId = generateCombinedTransactionId(transactionId, transactionBlockId);
         if (transactionManagerEnabled) {
-            Transaction trx = trxRegistry.get(combinedId);
+            ResourceBranch branch = branchRegistry.computeIfAbsent(combinedId, id -> new ResourceBranch());
             try {
-                if (trx == null) {
+                if (branch.transaction == null) {
                     userTransactionManager.begin();
 
-                    trx = userTransactionManager.getTransaction();
-                    trxRegistry.put(combinedId, trx);
+                    branch.transaction = userTransactionManager.getTransaction();
                 }
             } catch (SystemException | NotSupportedException e) {
                 log.error("error in initiating transaction " + transactionId + ":" + e.getMessage(), e);
             }
         } else {
-            Xid xid = xidRegistry.get(combinedId);
-            if (xid == null) {
-                xid = XIDGenerator.createXID();
-                xidRegistry.put(combinedId, xid);
-            }
+            ResourceBranch branch = branchRegistry.compute(combinedId, (id, existing) -> {
+                ResourceBranch resourceBranch = existing == null ? new ResourceBranch() : existing;
+                if (resourceBranch.xid == null) {
+                    resourceBranch.xid = XIDGenerator.createXID();
+                }
+                return resourceBranch;
+            });
             try {
-                xaResource.start(xid, TMNOFLAGS);
+                xaResource.start(branch.xid, TMNOFLAGS);
             } catch (XAException e) {
                 log.error("error in starting XA transaction " + transactionId + ":" + e.getMessage(), e);
             }
@@ -544,33 +592,33 @@ public class TransactionResourceManager {
      */
     void endXATransaction(String transactionId, String transactionBlockId) {
         String combinedId = generateCombinedTransactionId(transactionId, transactionBlockId);
+        ResourceBranch branch = branchRegistry.get(combinedId);
+        if (branch == null) {
+            return;
+        }
         if (transactionManagerEnabled) {
-            Transaction trx = trxRegistry.get(combinedId);
+            Transaction trx = branch.transaction;
             if (trx != null) {
-                List<BallerinaTransactionContext> txContextList = resourceRegistry.get(combinedId);
-                if (txContextList != null) {
-                    for (BallerinaTransactionContext ctx : txContextList) {
-                        try {
-                            XAResource xaResource = ctx.getXAResource();
-                            if (xaResource != null) {
-                                trx.delistResource(xaResource, TMSUCCESS);
-                            }
-                        } catch (IllegalStateException | SystemException e) {
-                            log.error("error in ending the XA transaction " + transactionId
-                                    + ":" + e.getMessage(), e);
+                for (BallerinaTransactionContext ctx : branch.contexts) {
+                    try {
+                        XAResource xaResource = ctx.getXAResource();
+                        if (xaResource != null) {
+                            trx.delistResource(xaResource, TMSUCCESS);
                         }
+                    } catch (IllegalStateException | SystemException e) {
+                        log.error("error in ending the XA transaction " + transactionId
+                                + ":" + e.getMessage(), e);
                     }
                 }
             }
         } else {
-            Xid xid = xidRegistry.get(combinedId);
-            List<BallerinaTransactionContext> txContextList = resourceRegistry.get(combinedId);
-            if (xid != null && txContextList != null) {
-                for (BallerinaTransactionContext ctx : txContextList) {
+            Xid xid = branch.xid;
+            if (xid != null) {
+                for (BallerinaTransactionContext ctx : branch.contexts) {
                     try {
                         XAResource xaResource = ctx.getXAResource();
                         if (xaResource != null) {
-                            ctx.getXAResource().end(xid, TMSUCCESS);
+                            xaResource.end(xid, TMSUCCESS);
                         }
                     } catch (XAException e) {
                         log.error("error in ending XA transaction " + transactionId + ":" + e.getMessage(), e);
@@ -580,13 +628,14 @@ public class TransactionResourceManager {
         }
     }
 
-    private void removeContextsFromRegistry(String transactionCombinedId, String gTransactionId) {
-        resourceRegistry.remove(transactionCombinedId);
-        if (transactionManagerEnabled) {
-            trxRegistry.remove(transactionCombinedId);
-        } else {
-            xidRegistry.remove(transactionCombinedId);
-        }
+    private void removeContextsFromRegistry(String transactionCombinedId) {
+        branchRegistry.remove(transactionCombinedId);
+    }
+
+    private boolean hasFailedParticipant(String transactionId) {
+        // resource participant reported failure.
+        return failedResourceParticipantSet.contains(transactionId)
+                || failedLocalParticipantSet.contains(transactionId);
     }
 
     private String generateCombinedTransactionId(String transactionId, String transactionBlockId) {
@@ -605,4 +654,32 @@ public class TransactionResourceManager {
             failedLocalParticipantSet.add(gTransactionId);
         }
     }
+
+    /**
+     * Outcome of committing the resources of a transaction in one phase.
+     */
+    public enum OnePhaseCommitOutcome {
+        /**
+         * A resource failed to prepare, hence the resources were rolled back.
+         */
+        PREPARE_FAILED,
+        /**
+         * All the resources committed.
+         */
+        COMMITTED,
+        /**
+         * A resource failed to commit after the resources were prepared or while committing in one phase.
+         */
+        COMMIT_FAILED
+    }
+
+    /**
+     * Bookkeeping of the resources which participate in a single transaction block.
+     */
+    private static class ResourceBranch {
+
+        private final List<BallerinaTransactionContext> contexts = new ArrayList<>(1);
+        private Xid xid;
+        private Transaction transaction;
+    }
 }
@@ -17,7 +17,7 @@
 */
 package io.ballerina.runtime.transactions;
 
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -27,12 +27,12 @@ import java.util.concurrent.atomic.AtomicInteger;
  */
 public class XIDGenerator {
 
-    private static final Random rand = new Random();
     private static final AtomicInteger formatIdIdGenerator = new AtomicInteger();
 
     private static byte[] randomBytes() {
         final byte[] bytes = new byte[48];
-        rand.nextBytes(bytes);
+        // A shared Random serializes all the transactions on its seed, hence the per-thread generator.
+        ThreadLocalRandom.current().nextBytes(bytes);
         return bytes;
     }
 
@@ -0,0 +1,158 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test cases for registering and waking up the contexts waiting on a strand without locking.
+ */
+public class WaitContextTest {
+
+    private static final int WAITER_THREADS = 8;
+    private static final int WAITERS_PER_THREAD = 2000;
+
+    @Test
+    public void testConcurrentWaitersAreWokenOnce() throws Exception {
+        Strand strand = new Strand("target", null, null, null, null);
+        List<Set<WaitContext>> registeredPerThread = new ArrayList<>();
+        List<Set<WaitContext>> rejectedPerThread = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(WAITER_THREADS);
+        CountDownLatch started = new CountDownLatch(WAITER_THREADS);
+        try {
+            List<Future<?>> registrations = new ArrayList<>();
+            for (int i = 0; i < WAITER_THREADS; i++) {
+                Set<WaitContext> registered = Collections.newSetFromMap(new IdentityHashMap<>());
+                Set<WaitContext> rejected = Collections.newSetFromMap(new IdentityHashMap<>());
+                registeredPerThread.add(registered);
+                rejectedPerThread.add(rejected);
+                registrations.add(executor.submit(() -> {
+                    started.countDown();
+                    for (int j = 0; j < WAITERS_PER_THREAD; j++) {
+                        WaitContext ctx = new TestWaitContext();
+                        if (strand.addWaitingContext(ctx)) {
+                            registered.add(ctx);
+                        } else {
+                            rejected.add(ctx);
+                        }
+                    }
+                }));
+            }
+            // Complete the strand while the waiters are being registered
+            started.await();
+            Set<WaitContext> woken = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (Strand.WaiterNode waiter = strand.completeWaiters(); waiter != null; waiter = waiter.next) {
+                Assert.assertTrue(woken.add(waiter.ctx), "waiter woken more than once");
+                Assert.assertFalse(waiter.ctx.satisfy(), "waiter which has not yielded should not be rescheduled");
+                Assert.assertTrue(waiter.ctx.park(), "satisfied waiter should be rescheduled when it yields");
+            }
+            for (Future<?> registration : registrations) {
+                registration.get();
+            }
+
+            Set<WaitContext> registered = Collections.newSetFromMap(new IdentityHashMap<>());
+            int rejectedCount = 0;
+            for (int i = 0; i < WAITER_THREADS; i++) {
+                registered.addAll(registeredPerThread.get(i));
+                rejectedCount += rejectedPerThread.get(i).size();
+                for (WaitContext ctx : rejectedPerThread.get(i)) {
+                    Assert.assertFalse(woken.contains(ctx), "rejected waiter should not be woken");
+                }
+            }
+            Assert.assertEquals(registered.size() + rejectedCount, WAITER_THREADS * WAITERS_PER_THREAD);
+            Assert.assertEquals(woken, registered);
+            Assert.assertFalse(strand.addWaitingContext(new TestWaitContext()));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testWaitIsRescheduledOnceWhenSatisfiedWhileParking() throws Exception {
+        int iterations = 5000;
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        AtomicInteger reschedules = new AtomicInteger();
+        try {
+            for (int i = 0; i < iterations; i++) {
+                WaitContext ctx = new TestWaitContext();
+                Future<Boolean> parked = executor.submit(() -> {
+                    barrier.await();
+                    return ctx.park();
+                });
+                Future<Boolean> satisfied = executor.submit(() -> {
+                    barrier.await();
+                    return ctx.satisfy();
+                });
+                int count = (parked.get(10, TimeUnit.SECONDS) ? 1 : 0) +
+                        (satisfied.get(10, TimeUnit.SECONDS) ? 1 : 0);
+                Assert.assertEquals(count, 1, "waiting strand should be rescheduled exactly once");
+                Assert.assertTrue(ctx.isSatisfied());
+                reschedules.addAndGet(count);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        Assert.assertEquals(reschedules.get(), iterations);
+    }
+
+    @Test
+    public void testWaitIsSatisfiedOnce() {
+        WaitContext ctx = new TestWaitContext();
+        Assert.assertFalse(ctx.park());
+        Assert.assertTrue(ctx.satisfy());
+        // A second future completing the same wait, such as in an alternate wait, does not reschedule it again
+        Assert.assertFalse(ctx.satisfy());
+        Assert.assertTrue(ctx.isSatisfied());
+    }
+
+    /**
+     * Wait context which is completed by any result.
+     */
+    private static class TestWaitContext extends WaitContext {
+
+        TestWaitContext() {
+            super(null);
+        }
+
+        @Override
+        boolean handlePanic() {
+            return true;
+        }
+
+        @Override
+        boolean waitCompleted(Object result) {
+            return true;
+        }
+    }
+}
@@ -35,7 +35,9 @@ import io.ballerina.runtime.internal.util.RuntimeUtils;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.HashMap;
@@ -131,6 +133,46 @@ public class ConfigTest {
         Assert.assertEquals(((BArray) configValueMap.get(keys[5])).getValues(), expectedDecimalArray);
     }
 
+    @Test
+    public void testTomlConfigProviderWithManyConfigurables() throws IOException {
+        int moduleCount = 50;
+        int variableCount = 25;
+        Map<Module, VariableKey[]> configVarMap = new HashMap<>();
+        StringBuilder configContent = new StringBuilder();
+        for (int i = 0; i < moduleCount; i++) {
+            Module module = new Module("myorg", "mod" + i, "1.0.0");
+            VariableKey[] keys = new VariableKey[variableCount * 2];
+            configContent.append("[myorg.mod").append(i).append("]\n");
+            for (int j = 0; j < variableCount; j++) {
+                keys[2 * j] = new VariableKey(module, "intVar" + j, PredefinedTypes.TYPE_INT, true);
+                keys[2 * j + 1] = new VariableKey(module, "stringVar" + j, PredefinedTypes.TYPE_STRING, true);
+                configContent.append("intVar").append(j).append(" = ").append(i * variableCount + j).append("\n");
+                configContent.append("stringVar").append(j).append(" = \"value").append(j).append("\"\n");
+            }
+            configVarMap.put(module, keys);
+        }
+        Path configFile = Files.createTempFile("Many_Configurables_Config", ".toml");
+        try {
+            Files.writeString(configFile, configContent);
+            List<ConfigProvider> supportedConfigProviders = new LinkedList<>();
+            supportedConfigProviders.add(new ConfigTomlProvider(configFile, configVarMap));
+            ConfigResolver configResolver = new ConfigResolver(configVarMap, supportedConfigProviders);
+            Map<VariableKey, Object> configValueMap = configResolver.resolveConfigs();
+
+            Assert.assertEquals(configValueMap.size(), moduleCount * variableCount * 2);
+            for (Map.Entry<Module, VariableKey[]> entry : configVarMap.entrySet()) {
+                int moduleIndex = Integer.parseInt(entry.getKey().getName().substring(3));
+                VariableKey[] keys = entry.getValue();
+                for (int j = 0; j < variableCount; j++) {
+                    Assert.assertEquals(configValueMap.get(keys[2 * j]), (long) (moduleIndex * variableCount + j));
+                    Assert.assertEquals(((BString) configValueMap.get(keys[2 * j + 1])).getValue(), "value" + j);
+                }
+            }
+        } finally {
+            Files.deleteIfExists(configFile);
+        }
+    }
+
     private Path getConfigPath(String configFileName) {
         return Paths.get(RuntimeUtils.USER_DIR, "src", "test", "resources", "config_files", configFileName);
     }
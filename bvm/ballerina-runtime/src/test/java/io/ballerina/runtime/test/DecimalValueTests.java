@@ -0,0 +1,56 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.internal.values.DecimalValue;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.math.BigDecimal;
+
+/**
+ * Test cases for {@link DecimalValue class}.
+ */
+public class DecimalValueTests {
+
+    @Test
+    public void testHashCodeOfCompactProductWithNineteenDigits() {
+        // The product fits in a long, hence it is kept compact, whereas the literal has 19 digits and is not.
+        DecimalValue product = new DecimalValue("999999999999999999").multiply(new DecimalValue("9"));
+        DecimalValue literal = new DecimalValue("8999999999999999991");
+        Assert.assertEquals(product, literal);
+        Assert.assertEquals(product.hashCode(), literal.hashCode());
+    }
+
+    @Test
+    public void testHashCodeOfCompactSumWithScale() {
+        DecimalValue sum = new DecimalValue("-99999999999999999.9").add(new DecimalValue("-99999999999999999.9"));
+        DecimalValue literal = new DecimalValue("-199999999999999999.8");
+        Assert.assertEquals(sum, literal);
+        Assert.assertEquals(sum.hashCode(), literal.hashCode());
+    }
+
+    @Test
+    public void testHashCodeOfEqualValuesWithDifferentScales() {
+        DecimalValue value = new DecimalValue("12.50");
+        DecimalValue rescaled = new DecimalValue(new BigDecimal("12.5000000000000000000000000"));
+        Assert.assertEquals(value, rescaled);
+        Assert.assertEquals(value.hashCode(), rescaled.hashCode());
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.internal.util.FormatPlan;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Test cases for formatting the arguments of {@code sprintf} with {@link FormatPlan}.
+ */
+public class FormatPlanTest {
+
+    private static final FormatPlan.ErrorFactory ERROR_FACTORY = new FormatPlan.ErrorFactory() {
+
+        @Override
+        public BError notEnoughFormatArguments() {
+            return ErrorCreator.createError(StringUtils.fromString("not enough format arguments"));
+        }
+
+        @Override
+        public BError unknownFormatConversion(String formatSpecifier) {
+            return ErrorCreator.createError(StringUtils.fromString("unknown format conversion " + formatSpecifier));
+        }
+
+        @Override
+        public BError illegalFormatConversion(String conversion) {
+            return ErrorCreator.createError(StringUtils.fromString("illegal format conversion " + conversion));
+        }
+    };
+
+    @Test
+    public void testIntFormat() {
+        Assert.assertEquals(format("%d", 42L), "42");
+        Assert.assertEquals(format("%d items", -42L), "-42 items");
+        Assert.assertEquals(format("%d", Long.MIN_VALUE), String.valueOf(Long.MIN_VALUE));
+        Assert.assertEquals(format("[%5d]", 42L), "[   42]");
+        Assert.assertEquals(format("[%05d]", 42L), "[00042]");
+    }
+
+    @Test
+    public void testStringWidth() {
+        Assert.assertEquals(format("[%5s]", "ab"), "[   ab]");
+        Assert.assertEquals(format("[%2s]", "abc"), "[abc]");
+        Assert.assertEquals(format("[%5s]", 42L), "[   42]");
+        Assert.assertEquals(format("[%5.1s]", "ab"), "[    a]");
+        Assert.assertEquals(format("[%5s]", (Object) null), "[]");
+    }
+
+    @Test
+    public void testLiteralsAndPercent() {
+        Assert.assertEquals(format("100%% of %s", "ab"), "100% of ab");
+        Assert.assertEquals(format("%s and %s, 50%", "a", "b"), "a and b, 50%");
+    }
+
+    @Test
+    public void testFormatEndingWithinSpecifier() {
+        assertError("abc %5", "unknown format conversion %5", 1L);
+        assertError("abc %5.", "unknown format conversion %5.", 1L);
+    }
+
+    @Test
+    public void testUnknownFormatConversion() {
+        assertError("%s %q", "unknown format conversion q", "a", "b");
+    }
+
+    @Test
+    public void testNotEnoughArguments() {
+        assertError("%s %s", "not enough format arguments", "a");
+        assertError("abc %5", "not enough format arguments");
+    }
+
+    @Test
+    public void testIllegalFormatConversion() {
+        assertError("%d", "illegal format conversion d != string", "a");
+        assertError("%5d", "illegal format conversion d != ()", (Object) null);
+    }
+
+    private static String format(String format, Object... args) {
+        return FormatPlan.of(format).format(toBallerinaValues(args), ERROR_FACTORY).getValue();
+    }
+
+    private static void assertError(String format, String expectedMessage, Object... args) {
+        try {
+            format(format, args);
+            Assert.fail("expected error: " + expectedMessage);
+        } catch (BError e) {
+            Assert.assertEquals(e.getErrorMessage().getValue(), expectedMessage);
+        }
+    }
+
+    private static Object[] toBallerinaValues(Object[] args) {
+        Object[] values = new Object[args.length];
+        for (int i = 0; i < args.length; i++) {
+            values[i] = args[i] instanceof String ? StringUtils.fromString((String) args[i]) : args[i];
+        }
+        return values;
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.values.BooleanMapValue;
+import io.ballerina.runtime.internal.values.FloatMapValue;
+import io.ballerina.runtime.internal.values.IntMapValue;
+import io.ballerina.runtime.internal.values.StringMapValue;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test cases for the map values which keep their values in primitive arrays.
+ */
+public class PrimitiveMapValueTest {
+
+    @Test
+    public void testInsertionOrderAfterRemovals() {
+        IntMapValue map = newIntMap();
+        for (int i = 0; i < 8; i++) {
+            map.put(key(i), (long) i);
+        }
+        map.remove(key(1));
+        map.remove(key(4));
+        map.put(key(1), 10L);
+        map.put(key(4), 40L);
+
+        assertKeys(map, 0, 2, 3, 5, 6, 7, 1, 4);
+        Assert.assertEquals(map.size(), 8);
+        Assert.assertEquals(map.getInt(key(1)), 10L);
+        Assert.assertEquals(map.getInt(key(4)), 40L);
+        Assert.assertEquals(map.getInt(key(7)), 7L);
+    }
+
+    @Test
+    public void testInsertionOrderAfterCompaction() {
+        IntMapValue map = newIntMap();
+        for (int i = 0; i < 16; i++) {
+            map.put(key(i), (long) i);
+        }
+        // Removing more than half of the keys makes the next insertion close the gaps instead of growing the arrays.
+        for (int i = 0; i < 16; i += 3) {
+            map.remove(key(i));
+        }
+        for (int i = 0; i < 16; i += 2) {
+            map.remove(key(i));
+        }
+        map.put(key(100), 100L);
+        map.put(key(0), 0L);
+
+        assertKeys(map, 1, 5, 7, 11, 13, 100, 0);
+        for (BString key : map.getKeys()) {
+            Assert.assertEquals(map.getInt(key), Long.parseLong(key.getValue().substring(3)));
+        }
+        Assert.assertFalse(map.containsKey(key(3)));
+        Assert.assertNull(map.get(key(3)));
+    }
+
+    @Test
+    public void testEntryValueAfterCompaction() {
+        IntMapValue map = newIntMap();
+        for (int i = 0; i < 8; i++) {
+            map.put(key(i), (long) i);
+        }
+        List<Map.Entry<BString, Long>> entries = new ArrayList<>(map.entrySet());
+        for (int i = 0; i < 6; i++) {
+            map.remove(key(i));
+        }
+        // Moves the values of key6 and key7 to the start of the value array.
+        map.put(key(8), 8L);
+        map.put(key(7), 70L);
+
+        Map.Entry<BString, Long> entry = entries.get(7);
+        Assert.assertEquals(entry.getKey(), key(7));
+        Assert.assertEquals(entry.getValue(), Long.valueOf(70L));
+        Assert.assertEquals(entries.get(6).getValue(), Long.valueOf(6L));
+        // Entries of the removed keys keep the value they had.
+        Assert.assertEquals(entries.get(0).getValue(), Long.valueOf(0L));
+
+        entry.setValue(700L);
+        Assert.assertEquals(map.getInt(key(7)), 700L);
+    }
+
+    @Test(expectedExceptions = ConcurrentModificationException.class)
+    public void testInsertionWhileIterating() {
+        IntMapValue map = newIntMap();
+        map.put(key(0), 0L);
+        map.put(key(1), 1L);
+        Iterator<BString> iterator = map.keySet().iterator();
+        iterator.next();
+        map.put(key(2), 2L);
+        iterator.next();
+    }
+
+    @Test(expectedExceptions = ConcurrentModificationException.class)
+    public void testRemovalWhileIterating() {
+        IntMapValue map = newIntMap();
+        map.put(key(0), 0L);
+        map.put(key(1), 1L);
+        Iterator<Map.Entry<BString, Long>> iterator = map.entrySet().iterator();
+        iterator.next();
+        map.remove(key(1));
+        iterator.next();
+    }
+
+    @Test(expectedExceptions = ConcurrentModificationException.class)
+    public void testInsertionWithinForEach() {
+        IntMapValue map = newIntMap();
+        map.put(key(0), 0L);
+        map.put(key(1), 1L);
+        map.forEach((key, value) -> map.put(StringUtils.fromString(key.getValue() + "'"), value));
+    }
+
+    @Test
+    public void testUpdateWhileIterating() {
+        // Updating the value of an existing key is not a structural modification.
+        IntMapValue map = newIntMap();
+        map.put(key(0), 0L);
+        map.put(key(1), 1L);
+        long sum = 0;
+        for (Map.Entry<BString, Long> entry : map.entrySet()) {
+            map.put(entry.getKey(), entry.getValue() + 1);
+            sum += entry.getValue();
+        }
+        Assert.assertEquals(sum, 3L);
+    }
+
+    @Test
+    public void testRemovalThroughIterator() {
+        IntMapValue map = newIntMap();
+        for (int i = 0; i < 4; i++) {
+            map.put(key(i), (long) i);
+        }
+        Iterator<Long> iterator = map.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() % 2 == 0) {
+                iterator.remove();
+            }
+        }
+        assertKeys(map, 1, 3);
+    }
+
+    @Test
+    public void testCopy() {
+        IntMapValue map = newIntMap();
+        for (int i = 0; i < 4; i++) {
+            map.put(key(i), (long) i);
+        }
+        map.remove(key(0));
+
+        IntMapValue copy = (IntMapValue) map.copy(new HashMap<>());
+        copy.put(key(1), 10L);
+        copy.put(key(4), 4L);
+        map.remove(key(2));
+
+        assertKeys(map, 1, 3);
+        Assert.assertEquals(map.getInt(key(1)), 1L);
+        assertKeys(copy, 1, 2, 3, 4);
+        Assert.assertEquals(copy.getInt(key(1)), 10L);
+    }
+
+    @Test
+    public void testFloatBooleanAndStringMaps() {
+        FloatMapValue floatMap = new FloatMapValue(TypeCreator.createMapType(PredefinedTypes.TYPE_FLOAT));
+        BooleanMapValue booleanMap = new BooleanMapValue(TypeCreator.createMapType(PredefinedTypes.TYPE_BOOLEAN));
+        StringMapValue stringMap = new StringMapValue(TypeCreator.createMapType(PredefinedTypes.TYPE_STRING));
+        for (int i = 0; i < 10; i++) {
+            floatMap.put(key(i), i + 0.5);
+            booleanMap.put(key(i), i % 2 == 0);
+            stringMap.put(key(i), StringUtils.fromString("v" + i));
+        }
+        for (int i = 0; i < 10; i += 2) {
+            floatMap.remove(key(i));
+            booleanMap.remove(key(i));
+            stringMap.remove(key(i));
+        }
+        // The last insertion closes the gaps of the removed keys.
+        for (int i = 10; i < 17; i++) {
+            floatMap.put(key(i), i + 0.5);
+            booleanMap.put(key(i), i % 2 == 0);
+            stringMap.put(key(i), StringUtils.fromString("v" + i));
+        }
+
+        int[] expectedKeys = {1, 3, 5, 7, 9, 10, 11, 12, 13, 14, 15, 16};
+        assertKeys(floatMap, expectedKeys);
+        assertKeys(booleanMap, expectedKeys);
+        assertKeys(stringMap, expectedKeys);
+        for (int i : expectedKeys) {
+            Assert.assertEquals(floatMap.getFloat(key(i)), i + 0.5);
+            Assert.assertEquals(booleanMap.getBoolean(key(i)), i % 2 == 0);
+            Assert.assertEquals(stringMap.getStringValue(key(i)).getValue(), "v" + i);
+        }
+    }
+
+    private static IntMapValue newIntMap() {
+        return new IntMapValue(TypeCreator.createMapType(PredefinedTypes.TYPE_INT));
+    }
+
+    private static BString key(int i) {
+        return StringUtils.fromString("key" + i);
+    }
+
+    private static void assertKeys(Map<BString, ?> map, int... expectedKeys) {
+        List<BString> keys = new ArrayList<>(map.keySet());
+        Assert.assertEquals(keys.size(), expectedKeys.length);
+        for (int i = 0; i < expectedKeys.length; i++) {
+            Assert.assertEquals(keys.get(i), key(expectedKeys[i]));
+        }
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.transactions.BallerinaTransactionContext;
+import io.ballerina.runtime.transactions.TransactionResourceManager;
+import io.ballerina.runtime.transactions.TransactionResourceManager.OnePhaseCommitOutcome;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.transaction.xa.XAException;
+import javax.transaction.xa.XAResource;
+import javax.transaction.xa.Xid;
+
+/**
+ * Test cases for completing the resources of a transaction in {@link TransactionResourceManager}.
+ */
+public class TransactionResourceManagerTest {
+
+    private final TransactionResourceManager resourceManager = TransactionResourceManager.getInstance();
+
+    @Test
+    public void testOnePhaseCommitOfSingleResource() {
+        RecordingXAResource xaResource = new RecordingXAResource();
+        enlist("trx-1", "block", xaResource);
+
+        Assert.assertEquals(resourceManager.notifyOnePhaseCommit("trx-1", "block"), OnePhaseCommitOutcome.COMMITTED);
+        resourceManager.cleanTransaction("trx-1", "block");
+        Assert.assertEquals(xaResource.calls, List.of("start", "end", "commit-1pc", "close"));
+    }
+
+    @Test
+    public void testOnePhaseCommitFallsBackToTwoPhaseForManyResources() {
+        RecordingXAResource first = new RecordingXAResource();
+        RecordingXAResource second = new RecordingXAResource();
+        enlist("trx-2", "block", first);
+        enlist("trx-2", "block", second);
+
+        Assert.assertEquals(resourceManager.notifyOnePhaseCommit("trx-2", "block"), OnePhaseCommitOutcome.COMMITTED);
+        resourceManager.cleanTransaction("trx-2", "block");
+        Assert.assertEquals(first.calls, List.of("start", "end", "prepare", "commit-2pc", "close"));
+        Assert.assertEquals(second.calls, List.of("start", "end", "prepare", "commit-2pc", "close"));
+    }
+
+    @Test
+    public void testOnePhaseCommitOfSingleResourceAfterResourceFailure() {
+        // The failure has to be seen by the prepare phase, hence the resource is not committed in one phase.
+        RecordingXAResource xaResource = new RecordingXAResource();
+        enlist("trx-5", "block", xaResource);
+        resourceManager.notifyResourceFailure("trx-5");
+
+        Assert.assertEquals(resourceManager.notifyOnePhaseCommit("trx-5", "block"),
+                OnePhaseCommitOutcome.PREPARE_FAILED);
+        Assert.assertEquals(xaResource.calls, List.of("start", "end", "prepare", "rollback", "close"));
+    }
+
+    @Test
+    public void testOnePhaseCommitRollsBackWhenPrepareFails() {
+        RecordingXAResource first = new RecordingXAResource();
+        RecordingXAResource second = new RecordingXAResource();
+        second.failPrepare = true;
+        enlist("trx-6", "block", first);
+        enlist("trx-6", "block", second);
+
+        Assert.assertEquals(resourceManager.notifyOnePhaseCommit("trx-6", "block"),
+                OnePhaseCommitOutcome.PREPARE_FAILED);
+        Assert.assertEquals(first.calls, List.of("start", "end", "prepare", "rollback", "close"));
+        Assert.assertEquals(second.calls, List.of("start", "end", "prepare", "rollback", "close"));
+    }
+
+    @Test
+    public void testOnePhaseCommitOfSingleResourceFails() {
+        RecordingXAResource xaResource = new RecordingXAResource();
+        xaResource.failCommit = true;
+        enlist("trx-7", "block", xaResource);
+
+        Assert.assertEquals(resourceManager.notifyOnePhaseCommit("trx-7", "block"),
+                OnePhaseCommitOutcome.COMMIT_FAILED);
+        resourceManager.cleanTransaction("trx-7", "block");
+        Assert.assertEquals(xaResource.calls, List.of("start", "end", "commit-1pc", "close"));
+    }
+
+    @Test
+    public void testTwoPhaseCommitAfterAbortOfSameBlock() {
+        // The aborted transaction must not leave its branch behind for the next one.
+        RecordingXAResource aborted = new RecordingXAResource();
+        enlist("trx-3", "block", aborted);
+        Assert.assertTrue(resourceManager.notifyAbort("trx-3", "block"));
+
+        RecordingXAResource committed = new RecordingXAResource();
+        enlist("trx-4", "block", committed);
+        Assert.assertTrue(resourceManager.prepare("trx-4", "block"));
+        Assert.assertTrue(resourceManager.notifyCommit("trx-4", "block"));
+        resourceManager.cleanTransaction("trx-4", "block");
+
+        Assert.assertEquals(aborted.calls, List.of("start", "rollback", "close"));
+        Assert.assertEquals(committed.calls, List.of("start", "end", "prepare", "commit-2pc", "close"));
+        Assert.assertNotSame(committed.xid, aborted.xid);
+    }
+
+    private void enlist(String transactionId, String transactionBlockId, RecordingXAResource xaResource) {
+        resourceManager.beginXATransaction(transactionId, transactionBlockId, xaResource);
+        resourceManager.register(transactionId, transactionBlockId, new BallerinaTransactionContext() {
+            @Override
+            public void commit() {
+                xaResource.calls.add("local-commit");
+            }
+
+            @Override
+            public void rollback() {
+                xaResource.calls.add("local-rollback");
+            }
+
+            @Override
+            public void close() {
+                xaResource.calls.add("close");
+            }
+
+            @Override
+            public XAResource getXAResource() {
+                return xaResource;
+            }
+        });
+    }
+
+    /**
+     * XA resource which records the calls made on it.
+     */
+    private static class RecordingXAResource implements XAResource {
+
+        private final List<String> calls = new ArrayList<>();
+        private Xid xid;
+        private boolean failPrepare;
+        private boolean failCommit;
+
+        @Override
+        public void start(Xid xid, int flags) {
+            this.xid = xid;
+            calls.add("start");
+        }
+
+        @Override
+        public void end(Xid xid, int flags) {
+            calls.add("end");
+        }
+
+        @Override
+        public int prepare(Xid xid) throws XAException {
+            calls.add("prepare");
+            if (failPrepare) {
+                throw new XAException(XAException.XA_RBROLLBACK);
+            }
+            return XA_OK;
+        }
+
+        @Override
+        public void commit(Xid xid, boolean onePhase) throws XAException {
+            Assert.assertSame(xid, this.xid);
+            calls.add(onePhase ? "commit-1pc" : "commit-2pc");
+            if (failCommit) {
+                throw new XAException(XAException.XAER_RMERR);
+            }
+        }
+
+        @Override
+        public void rollback(Xid xid) {
+            calls.add("rollback");
+        }
+
+        @Override
+        public void forget(Xid xid) {
+        }
+
+        @Override
+        public Xid[] recover(int flag) {
+            return new Xid[0];
+        }
+
+        @Override
+        public boolean isSameRM(XAResource xaResource) {
+            return xaResource == this;
+        }
+
+        @Override
+        public int getTransactionTimeout() {
+            return 0;
+        }
+
+        @Override
+        public boolean setTransactionTimeout(int seconds) {
+            return false;
+        }
+    }
+}
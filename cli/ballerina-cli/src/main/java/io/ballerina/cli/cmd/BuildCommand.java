@@ -129,6 +129,10 @@ public class BuildCommand implements BLauncherCmd {
     @CommandLine.Option(names = "--dump-bir-file", hidden = true)
     private String dumpBIRFile;
 
+    @CommandLine.Option(names = "--dump-build-cache-stats",
+            description = "print the number of modules of which the generated code is reused from the build cache")
+    private boolean dumpBuildCacheStats;
+
     @CommandLine.Option(names = {"--help", "-h"}, hidden = true)
     private boolean helpFlag;
 
@@ -233,11 +237,11 @@ public class BuildCommand implements BLauncherCmd {
 
         TaskExecutor taskExecutor = new TaskExecutor.TaskBuilder()
                 // clean the target directory(projects only)
-                .addTask(new CleanTargetDirTask(), isSingleFileBuild)
+                .addTask(new CleanTargetDirTask(true), isSingleFileBuild)
                 // resolve maven dependencies in Ballerina.toml
                 .addTask(new ResolveMavenDependenciesTask(outStream))
                 // compile the modules
-                .addTask(new CompileTask(outStream, errStream))
+                .addTask(new CompileTask(outStream, errStream, this.dumpBuildCacheStats))
 //                .addTask(new CopyResourcesTask()) // merged with CreateJarTask
                 // run tests (projects only)
                 .addTask(new RunTestsTask(outStream, errStream, includes),
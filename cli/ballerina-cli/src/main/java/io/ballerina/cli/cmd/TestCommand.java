@@ -115,6 +115,9 @@ public class TestCommand implements BLauncherCmd {
     @CommandLine.Option(names = "--rerun-failed", description = "Rerun failed tests.")
     private boolean rerunTests;
 
+    @CommandLine.Option(names = "--parallelism", description = "maximum number of tests to be executed in parallel")
+    private Integer parallelism;
+
     @CommandLine.Option(names = "--includes", hidden = true,
             description = "hidden option for code coverage to include all classes")
     private String includes;
@@ -171,19 +174,26 @@ public class TestCommand implements BLauncherCmd {
             displayWarning = true;
         }
 
+        if (parallelism != null && parallelism < 1) {
+            CommandUtil.printError(this.errStream, "invalid value for --parallelism: " + parallelism +
+                    ". It should be a positive integer.", testCmd, false);
+            CommandUtil.exitError(this.exitWhenFinish);
+            return;
+        }
+
         // Skip --includes flag if it is set without code coverage
         if (!project.buildOptions().codeCoverage() && includes != null) {
             this.outStream.println("warning: ignoring --includes flag since code coverage is not enabled");
         }
 
         TaskExecutor taskExecutor = new TaskExecutor.TaskBuilder()
-                .addTask(new CleanTargetDirTask(), isSingleFile)   // clean the target directory(projects only)
+                .addTask(new CleanTargetDirTask(true), isSingleFile)   // clean the target directory(projects only)
                 .addTask(new ResolveMavenDependenciesTask(outStream)) // resolve maven dependencies in Ballerina.toml
                 .addTask(new CompileTask(outStream, errStream)) // compile the modules
 //                .addTask(new CopyResourcesTask(), listGroups) // merged with CreateJarTask
                 .addTask(new ListTestGroupsTask(outStream, displayWarning), !listGroups) // list available test groups
                 .addTask(new RunTestsTask(outStream, errStream, rerunTests, groupList, disableGroupList,
-                        testList, includes), listGroups)
+                        testList, includes, parallelism == null ? 1 : parallelism), listGroups)
                 .build();
 
         taskExecutor.executeTasks(project);
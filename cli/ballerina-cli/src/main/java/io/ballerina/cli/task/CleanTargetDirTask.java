@@ -33,12 +33,22 @@ import static io.ballerina.cli.launcher.LauncherUtils.createLauncherException;
  * @since 2.0.0
  */
 public class CleanTargetDirTask implements Task {
+    private final boolean keepBuildCache;
+
+    public CleanTargetDirTask() {
+        this(false);
+    }
+
+    public CleanTargetDirTask(boolean keepBuildCache) {
+        this.keepBuildCache = keepBuildCache;
+    }
+
     @Override
     public void execute(Project project) {
         try {
             ProjectUtils.checkWritePermission(project.sourceRoot());
             Target target = new Target(project.sourceRoot());
-            target.clean();
+            target.clean(this.keepBuildCache);
         } catch (IOException | ProjectException e) {
             throw createLauncherException("unable to clean the target directory: " + e.getMessage());
         }
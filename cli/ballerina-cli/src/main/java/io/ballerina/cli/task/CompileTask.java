@@ -41,10 +41,16 @@ import static io.ballerina.cli.launcher.LauncherUtils.createLauncherException;
 public class CompileTask implements Task {
     private final transient PrintStream out;
     private final transient PrintStream err;
+    private final boolean dumpBuildCacheStats;
 
     public CompileTask(PrintStream out, PrintStream err) {
+        this(out, err, false);
+    }
+
+    public CompileTask(PrintStream out, PrintStream err, boolean dumpBuildCacheStats) {
         this.out = out;
         this.err = err;
+        this.dumpBuildCacheStats = dumpBuildCacheStats;
     }
 
     @Override
@@ -69,6 +75,9 @@ public class CompileTask implements Task {
             JBallerinaBackend jBallerinaBackend = JBallerinaBackend.from(packageCompilation, JvmTarget.JAVA_11);
             DiagnosticResult diagnosticResult = jBallerinaBackend.diagnosticResult();
             diagnosticResult.diagnostics().forEach(d -> err.println(convertDiagnosticToString(d)));
+            if (this.dumpBuildCacheStats) {
+                printBuildCacheStats(jBallerinaBackend);
+            }
             if (diagnosticResult.hasErrors()) {
                 throw createLauncherException("compilation contains errors");
             }
@@ -78,6 +87,14 @@ public class CompileTask implements Task {
         }
     }
 
+    private void printBuildCacheStats(JBallerinaBackend jBallerinaBackend) {
+        int cacheHits = jBallerinaBackend.codeGenCacheHits();
+        int totalModules = cacheHits + jBallerinaBackend.codeGenCacheMisses();
+        long hitRate = totalModules == 0 ? 0 : Math.round(cacheHits * 100.0 / totalModules);
+        this.out.println("\tbuild cache: reused generated code of " + cacheHits + " out of " + totalModules +
+                " module(s) (" + hitRate + "%)");
+    }
+
     private String convertDiagnosticToString(Diagnostic diagnostic) {
         LineRange lineRange = diagnostic.location().lineRange();
 
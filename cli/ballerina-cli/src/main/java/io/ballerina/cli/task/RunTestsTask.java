@@ -98,6 +98,7 @@ public class RunTestsTask implements Task {
     private boolean isSingleTestExecution;
     private boolean isRerunTestExecution;
     private List<String> singleExecTests;
+    private int parallelism = 1;
     TestReport testReport;
 
     public RunTestsTask(PrintStream out, PrintStream err, String includes) {
@@ -131,6 +132,12 @@ public class RunTestsTask implements Task {
         this.includesInCoverage = includes;
     }
 
+    public RunTestsTask(PrintStream out, PrintStream err, boolean rerunTests, List<String> groupList,
+                        List<String> disableGroupList, List<String> testList, String includes, int parallelism) {
+        this(out, err, rerunTests, groupList, disableGroupList, testList, includes);
+        this.parallelism = parallelism;
+    }
+
     @Override
     public void execute(Project project) {
         try {
@@ -389,6 +396,7 @@ public class RunTestsTask implements Task {
         cmdArgs.add(testCachePath.toString());
         cmdArgs.add(Boolean.toString(report));
         cmdArgs.add(Boolean.toString(coverage));
+        cmdArgs.add(Integer.toString(parallelism));
 
         ProcessBuilder processBuilder = new ProcessBuilder(cmdArgs).inheritIO();
         Process proc = processBuilder.start();
@@ -42,4 +42,36 @@ public abstract class CompilationCache {
     public abstract void cachePlatformSpecificLibrary(CompilerBackend compilerBackend,
                                                       String libraryName,
                                                       ByteArrayOutputStream libraryContent);
+
+    /**
+     * Returns the platform-specific library of the given name, if it was cached for the given inputs.
+     * <p>
+     * The returned library replaces the library of the given name in this cache. By default, libraries are not
+     * addressed by their inputs, hence nothing is returned.
+     *
+     * @param compilerBackend compiler backend which generated the library
+     * @param libraryName     name of the library
+     * @param inputHash       hash of the inputs used to generate the library
+     * @return path of the cached library or else empty
+     */
+    public Optional<Path> getPlatformSpecificLibrary(CompilerBackend compilerBackend,
+                                                     String libraryName,
+                                                     String inputHash) {
+        return Optional.empty();
+    }
+
+    /**
+     * Caches the given platform-specific library along with the hash of the inputs used to generate it.
+     *
+     * @param compilerBackend compiler backend which generated the library
+     * @param libraryName     name of the library
+     * @param libraryContent  content of the library
+     * @param inputHash       hash of the inputs used to generate the library
+     */
+    public void cachePlatformSpecificLibrary(CompilerBackend compilerBackend,
+                                             String libraryName,
+                                             ByteArrayOutputStream libraryContent,
+                                             String inputHash) {
+        cachePlatformSpecificLibrary(compilerBackend, libraryName, libraryContent);
+    }
 }
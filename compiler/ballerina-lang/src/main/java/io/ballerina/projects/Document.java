@@ -72,6 +72,7 @@ public class Document {
      */
     public static class Modifier {
         private String content;
+        private SyntaxTree syntaxTree;
         private String name;
         private DocumentId documentId;
         private Module oldModule;
@@ -91,6 +92,20 @@ public class Document {
          */
         public Modifier withContent(String content) {
             this.content = content;
+            this.syntaxTree = null;
+            return this;
+        }
+
+        /**
+         * Sets the syntax tree of the changed content. This avoids parsing the content again when the
+         * syntax tree has already been derived from the old one, e.g. by the incremental parser.
+         *
+         * @param syntaxTree syntax tree of the content to change with
+         * @return Document.Modifier that holds the content to be changed
+         */
+        public Modifier withSyntaxTree(SyntaxTree syntaxTree) {
+            this.content = syntaxTree.textDocument().toString();
+            this.syntaxTree = syntaxTree;
             return this;
         }
 
@@ -102,7 +117,9 @@ public class Document {
         public Document apply() {
             DocumentConfig documentConfig = DocumentConfig.from(this.documentId, this.content,
                     this.name);
-            DocumentContext documentContext = DocumentContext.from(documentConfig);
+            DocumentCache documentCache = oldModule.project().documentCache();
+            DocumentContext documentContext = this.syntaxTree == null ? documentCache.documentContext(documentConfig)
+                    : documentCache.documentContext(documentConfig, this.syntaxTree);
             Module newModule = oldModule.modify().updateDocument(documentContext).apply();
             return newModule.document(this.documentId);
         }
@@ -0,0 +1,109 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.projects;
+
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Keeps the recent versions of the documents of a project by their content.
+ * <p>
+ * A document which is changed to a content it had before, e.g. when an edit is undone, gets the same
+ * {@code DocumentContext} again. Hence its syntax tree and compilation unit are reused instead of being
+ * created again.
+ *
+ * @since 2.0.0
+ */
+class DocumentCache {
+
+    private static final int MAX_VERSIONS_PER_DOCUMENT = 3;
+
+    private final Map<DocumentId, Deque<DocumentContext>> documentVersions = new HashMap<>();
+
+    /**
+     * Returns the context of a document with the given configuration, reusing a cached one with the same content.
+     *
+     * @param documentConfig configuration of the document
+     * @return context of the document
+     */
+    synchronized DocumentContext documentContext(DocumentConfig documentConfig) {
+        DocumentContext documentContext = lookup(documentConfig);
+        if (documentContext == null) {
+            documentContext = DocumentContext.from(documentConfig);
+            add(documentContext);
+        }
+        return documentContext;
+    }
+
+    /**
+     * Returns the context of a document with the given configuration, reusing a cached one with the same content.
+     *
+     * @param documentConfig configuration of the document
+     * @param syntaxTree     syntax tree which is up to date with the content of the document
+     * @return context of the document
+     */
+    synchronized DocumentContext documentContext(DocumentConfig documentConfig, SyntaxTree syntaxTree) {
+        DocumentContext documentContext = lookup(documentConfig);
+        if (documentContext == null) {
+            documentContext = DocumentContext.from(documentConfig, syntaxTree);
+            add(documentContext);
+        }
+        return documentContext;
+    }
+
+    synchronized void remove(DocumentId documentId) {
+        this.documentVersions.remove(documentId);
+    }
+
+    private DocumentContext lookup(DocumentConfig documentConfig) {
+        Deque<DocumentContext> versions = this.documentVersions.get(documentConfig.documentId());
+        if (versions == null) {
+            return null;
+        }
+
+        String content = documentConfig.content();
+        Iterator<DocumentContext> iterator = versions.iterator();
+        while (iterator.hasNext()) {
+            DocumentContext documentContext = iterator.next();
+            // The hash code of a string is cached, hence it is compared first
+            if (documentContext.content().hashCode() == content.hashCode()
+                    && documentContext.content().equals(content)
+                    && documentContext.name().equals(documentConfig.name())) {
+                // Move to the front so that the least recently used version is evicted first
+                iterator.remove();
+                versions.addFirst(documentContext);
+                return documentContext;
+            }
+        }
+        return null;
+    }
+
+    private void add(DocumentContext documentContext) {
+        Deque<DocumentContext> versions = this.documentVersions.computeIfAbsent(documentContext.documentId(),
+                documentId -> new ArrayDeque<>(MAX_VERSIONS_PER_DOCUMENT));
+        versions.addFirst(documentContext);
+        if (versions.size() > MAX_VERSIONS_PER_DOCUMENT) {
+            versions.removeLast();
+        }
+    }
+}
@@ -23,6 +23,7 @@ import io.ballerina.compiler.syntax.tree.ModulePartNode;
 import io.ballerina.compiler.syntax.tree.SeparatedNodeList;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.projects.environment.ModuleLoadRequest;
+import io.ballerina.projects.internal.TopLevelConstructIndex;
 import io.ballerina.projects.internal.TransactionImportValidator;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import io.ballerina.tools.text.TextDocument;
@@ -56,6 +57,7 @@ class DocumentContext {
     private Set<ModuleLoadRequest> moduleLoadRequests;
     private BLangCompilationUnit compilationUnit;
     private NodeCloner nodeCloner;
+    private TopLevelConstructIndex constructIndex;
     private DocumentId documentId;
     private String name;
     private String content;
@@ -70,6 +72,14 @@ class DocumentContext {
         return new DocumentContext(documentConfig.documentId(), documentConfig.name(), documentConfig.content());
     }
 
+    static DocumentContext from(DocumentConfig documentConfig, SyntaxTree syntaxTree) {
+        DocumentContext documentContext = from(documentConfig);
+        // The syntax tree is already up to date with the content, e.g. it has been reparsed incrementally
+        documentContext.syntaxTree = syntaxTree;
+        documentContext.textDocument = syntaxTree.textDocument();
+        return documentContext;
+    }
+
     DocumentId documentId() {
         return this.documentId;
     }
@@ -78,7 +88,11 @@ class DocumentContext {
         return this.name;
     }
 
-    void parse() {
+    String content() {
+        return this.content;
+    }
+
+    synchronized void parse() {
         if (syntaxTree != null) {
             return;
         }
@@ -91,6 +105,13 @@ class DocumentContext {
         return syntaxTree;
     }
 
+    TopLevelConstructIndex constructIndex() {
+        if (this.constructIndex == null) {
+            this.constructIndex = TopLevelConstructIndex.from(syntaxTree());
+        }
+        return this.constructIndex;
+    }
+
     TextDocument textDocument() {
         if (this.textDocument == null) {
             this.textDocument = TextDocuments.from(this.content);
@@ -41,6 +41,7 @@ import org.wso2.ballerinalang.compiler.tree.BLangPackage;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.CompilerOptions;
 import org.wso2.ballerinalang.util.Lists;
+import org.wso2.ballerinalang.util.RepoUtils;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
@@ -53,14 +54,18 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.jar.Attributes;
 import java.util.jar.JarFile;
 import java.util.jar.JarInputStream;
@@ -85,6 +90,8 @@ public class JBallerinaBackend extends CompilerBackend {
     private static final String JAR_FILE_NAME_SUFFIX = "";
     private static final HashSet<String> excludeExtensions = new HashSet<>(Lists.of("DSA", "SF"));
     private static final PrintStream out = System.out;
+    private static final String INPUT_HASH_ALGORITHM = "SHA-256";
+    private static final String INPUT_SEPARATOR = "\n";
 
     private final PackageResolution pkgResolution;
     private final JvmTarget jdkVersion;
@@ -98,6 +105,11 @@ public class JBallerinaBackend extends CompilerBackend {
     private DiagnosticResult diagnosticResult;
     private boolean codeGenCompleted;
     private List<JarConflict> conflictedJars;
+    private final Map<ModuleId, String> moduleInputHashes;
+    private final Map<PackageId, String> platformLibrariesHashes;
+    private Set<ModuleId> reusableModules;
+    private int codeGenCacheHits;
+    private int codeGenCacheMisses;
 
     public static JBallerinaBackend from(PackageCompilation packageCompilation, JvmTarget jdkVersion) {
         // Check if the project has write permissions
@@ -126,6 +138,8 @@ public class JBallerinaBackend extends CompilerBackend {
             observabilitySymbolCollector.process(packageContext.project());
         }
         this.conflictedJars = new ArrayList<>();
+        this.moduleInputHashes = new HashMap<>();
+        this.platformLibrariesHashes = new HashMap<>();
 
         // Trigger code generation
         performCodeGen();
@@ -140,6 +154,7 @@ public class JBallerinaBackend extends CompilerBackend {
             return;
         }
 
+        reusableModules = findReusableModules();
         List<Diagnostic> diagnostics = new ArrayList<>();
         for (ModuleContext moduleContext : pkgResolution.topologicallySortedModuleList()) {
             moduleContext.generatePlatformSpecificCode(compilerContext, this);
@@ -160,6 +175,24 @@ public class JBallerinaBackend extends CompilerBackend {
         return diagnosticResult;
     }
 
+    /**
+     * Returns the number of modules of which the previously generated code was reused.
+     *
+     * @return number of modules which were not generated again
+     */
+    public int codeGenCacheHits() {
+        return codeGenCacheHits;
+    }
+
+    /**
+     * Returns the number of modules of which the code was generated.
+     *
+     * @return number of modules which were generated
+     */
+    public int codeGenCacheMisses() {
+        return codeGenCacheMisses;
+    }
+
     // TODO EmitResult should not contain compilation diagnostics.
     public EmitResult emit(OutputType outputType, Path filePath) {
         Path generatedArtifact = null;
@@ -264,13 +297,24 @@ public class JBallerinaBackend extends CompilerBackend {
         if (bLangPackage.getErrorCount() > 0) {
             return;
         }
-        CompiledJarFile compiledJarFile = jvmCodeGenerator.generate(bLangPackage);
         String jarFileName = getJarFileName(moduleContext) + JAR_FILE_NAME_SUFFIX;
-        try {
-            ByteArrayOutputStream byteStream = JarWriter.write(compiledJarFile);
-            compilationCache.cachePlatformSpecificLibrary(this, jarFileName, byteStream);
-        } catch (IOException e) {
-            throw new ProjectException("Failed to cache generated jar, module: " + moduleContext.moduleName());
+        String inputHash = moduleInputHashes.get(moduleContext.moduleId());
+        if (reusableModules.contains(moduleContext.moduleId())) {
+            // The jar generated from the same inputs is already restored into the cache
+            codeGenCacheHits++;
+        } else {
+            CompiledJarFile compiledJarFile = jvmCodeGenerator.generate(bLangPackage);
+            try {
+                ByteArrayOutputStream byteStream = JarWriter.write(compiledJarFile);
+                if (inputHash != null) {
+                    compilationCache.cachePlatformSpecificLibrary(this, jarFileName, byteStream, inputHash);
+                } else {
+                    compilationCache.cachePlatformSpecificLibrary(this, jarFileName, byteStream);
+                }
+            } catch (IOException e) {
+                throw new ProjectException("Failed to cache generated jar, module: " + moduleContext.moduleName());
+            }
+            codeGenCacheMisses++;
         }
 
         // skip generation of the test jar if --skip-tests option is set to true
@@ -292,6 +336,158 @@ public class JBallerinaBackend extends CompilerBackend {
         }
     }
 
+    /**
+     * Finds the modules of this package of which the jars generated from the same inputs are cached, and restores them.
+     * <p>
+     * The code generation of a module relies on the BIR of its dependencies in this package as rewritten by their
+     * own code generation. Hence the jar of a module is reused only if the jars of all its dependants are reused, and
+     * if no test jar is generated from the module.
+     *
+     * @return ids of the modules of which the code need not be generated
+     */
+    private Set<ModuleId> findReusableModules() {
+        List<ModuleContext> moduleContexts = pkgResolution.topologicallySortedModuleList();
+        Map<ModuleId, List<ModuleId>> dependants = new HashMap<>();
+        for (ModuleContext moduleContext : moduleContexts) {
+            String inputHash = computeInputHash(moduleContext);
+            if (inputHash != null) {
+                moduleInputHashes.put(moduleContext.moduleId(), inputHash);
+            }
+            for (ModuleDependency moduleDependency : moduleContext.dependencies()) {
+                dependants.computeIfAbsent(moduleDependency.moduleId(), moduleId -> new ArrayList<>())
+                        .add(moduleContext.moduleId());
+            }
+        }
+
+        CompilationCache compilationCache = packageContext.project().projectEnvironmentContext()
+                .getService(CompilationCache.class);
+        boolean skipTests = Boolean.parseBoolean(compilerOptions.get(SKIP_TESTS));
+        Set<ModuleId> reusableModules = new HashSet<>();
+        // Visit the dependants of a module before the module
+        for (int i = moduleContexts.size() - 1; i >= 0; i--) {
+            ModuleContext moduleContext = moduleContexts.get(i);
+            ModuleId moduleId = moduleContext.moduleId();
+            String inputHash = moduleInputHashes.get(moduleId);
+            if (inputHash == null || !packageContext.packageId().equals(moduleId.packageId())) {
+                continue;
+            }
+            if (!skipTests && !moduleContext.testSrcDocumentIds().isEmpty()) {
+                continue;
+            }
+            if (!reusableModules.containsAll(dependants.getOrDefault(moduleId, Collections.emptyList()))) {
+                continue;
+            }
+            String jarFileName = getJarFileName(moduleContext) + JAR_FILE_NAME_SUFFIX;
+            if (compilationCache.getPlatformSpecificLibrary(this, jarFileName, inputHash).isPresent()) {
+                reusableModules.add(moduleId);
+            }
+        }
+        return reusableModules;
+    }
+
+    /**
+     * Computes the hash of everything the generated jar of the given module depends on. That is, the sources of the
+     * module or the BIR it was loaded from, the platform libraries of its package, the inputs of its dependencies,
+     * the compiler and the options which affect the generated code.
+     *
+     * @param moduleContext module to be hashed
+     * @return hash of the inputs, or null if the inputs of a dependency are unknown
+     */
+    private String computeInputHash(ModuleContext moduleContext) {
+        ModuleDescriptor moduleDescriptor = moduleContext.descriptor();
+        List<String> inputs = new ArrayList<>();
+        inputs.add(RepoUtils.getBallerinaVersion());
+        inputs.add(jdkVersion.code());
+        inputs.add(String.valueOf(packageContext.compilationOptions().observabilityIncluded()));
+        inputs.add(moduleDescriptor.org().value() + "/" + moduleDescriptor.packageName().value() + "/" +
+                moduleDescriptor.name() + ":" + moduleDescriptor.version());
+
+        // A module of another package may be rebuilt without changing its version, hence its BIR is hashed as well
+        byte[] birBytes = moduleContext.birBytes();
+        if (!packageContext.packageId().equals(moduleContext.moduleId().packageId()) && birBytes.length > 0) {
+            String birHash = computeHash(birBytes);
+            if (birHash == null) {
+                return null;
+            }
+            inputs.add(birHash);
+        } else {
+            List<DocumentContext> documentContexts = moduleContext.srcDocumentIds().stream()
+                    .map(moduleContext::documentContext)
+                    .sorted(Comparator.comparing(DocumentContext::name))
+                    .collect(Collectors.toList());
+            for (DocumentContext documentContext : documentContexts) {
+                inputs.add(documentContext.name());
+                inputs.add(documentContext.textDocument().toString());
+            }
+        }
+
+        // The interop calls of the module are resolved against the platform libraries of its package
+        String platformLibrariesHash = getPlatformLibrariesHash(moduleContext.moduleId().packageId());
+        if (platformLibrariesHash == null) {
+            return null;
+        }
+        inputs.add(platformLibrariesHash);
+
+        List<String> dependencyHashes = new ArrayList<>();
+        for (ModuleDependency moduleDependency : moduleContext.dependencies()) {
+            String dependencyHash = moduleInputHashes.get(moduleDependency.moduleId());
+            if (dependencyHash == null) {
+                return null;
+            }
+            dependencyHashes.add(dependencyHash);
+        }
+        Collections.sort(dependencyHashes);
+        inputs.addAll(dependencyHashes);
+
+        ByteArrayOutputStream inputBytes = new ByteArrayOutputStream();
+        for (String input : inputs) {
+            inputBytes.writeBytes(input.getBytes(StandardCharsets.UTF_8));
+            inputBytes.writeBytes(INPUT_SEPARATOR.getBytes(StandardCharsets.UTF_8));
+        }
+        return computeHash(inputBytes.toByteArray());
+    }
+
+    /**
+     * Returns the hash of the paths and the contents of the platform libraries of the given package.
+     *
+     * @param packageId package of the platform libraries
+     * @return hash of the platform libraries, or null if a platform library cannot be read
+     */
+    private String getPlatformLibrariesHash(PackageId packageId) {
+        if (platformLibrariesHashes.containsKey(packageId)) {
+            return platformLibrariesHashes.get(packageId);
+        }
+        String platformLibrariesHash;
+        try {
+            List<String> libraryHashes = new ArrayList<>();
+            for (PlatformLibrary platformLibrary : getPlatformLibraries(packageId)) {
+                libraryHashes.add(platformLibrary.path().toString() + INPUT_SEPARATOR +
+                        computeHash(Files.readAllBytes(platformLibrary.path())));
+            }
+            Collections.sort(libraryHashes);
+            platformLibrariesHash = computeHash(String.join(INPUT_SEPARATOR, libraryHashes)
+                    .getBytes(StandardCharsets.UTF_8));
+        } catch (IOException | ProjectException e) {
+            platformLibrariesHash = null;
+        }
+        platformLibrariesHashes.put(packageId, platformLibrariesHash);
+        return platformLibrariesHash;
+    }
+
+    private static String computeHash(byte[] content) {
+        MessageDigest messageDigest;
+        try {
+            messageDigest = MessageDigest.getInstance(INPUT_HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            return null;
+        }
+        StringBuilder hash = new StringBuilder();
+        for (byte hashByte : messageDigest.digest(content)) {
+            hash.append(String.format("%02x", hashByte));
+        }
+        return hash.toString();
+    }
+
     @Override
     public String libraryFileExtension() {
         return JAR_FILE_EXTENSION;
@@ -17,12 +17,15 @@
  */
 package io.ballerina.projects;
 
+import io.ballerina.projects.internal.TopLevelConstructIndex;
+
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.Spliterator;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
@@ -164,7 +167,9 @@ public class Module {
         private Package packageInstance;
         private Project project;
         private MdDocumentContext moduleMdContext;
-
+        private boolean isModified;
+        // Top-level constructs changed by the document updates, or null if the changes are not narrowed down
+        private Set<String> updatedConstructs;
 
         private Modifier(Module oldModule) {
             moduleId = oldModule.moduleId();
@@ -179,11 +184,13 @@ public class Module {
         }
 
         Modifier updateDocument(DocumentContext newDocContext) {
+            DocumentContext oldDocContext;
             if (this.srcDocContextMap.containsKey(newDocContext.documentId())) {
-                this.srcDocContextMap.put(newDocContext.documentId(), newDocContext);
+                oldDocContext = this.srcDocContextMap.put(newDocContext.documentId(), newDocContext);
             } else {
-                this.testDocContextMap.put(newDocContext.documentId(), newDocContext);
+                oldDocContext = this.testDocContextMap.put(newDocContext.documentId(), newDocContext);
             }
+            trackUpdatedConstructs(oldDocContext, newDocContext);
             return this;
         }
 
@@ -194,8 +201,9 @@ public class Module {
          * @return an instance of the Module.Modifier
          */
         public Modifier addDocument(DocumentConfig documentConfig) {
-            DocumentContext newDocumentContext = DocumentContext.from(documentConfig);
+            DocumentContext newDocumentContext = this.project.documentCache().documentContext(documentConfig);
             this.srcDocContextMap.put(newDocumentContext.documentId(), newDocumentContext);
+            untrackUpdatedConstructs();
             return this;
         }
 
@@ -206,8 +214,9 @@ public class Module {
          * @return an instance of the Module.Modifier
          */
         public Modifier addTestDocument(DocumentConfig documentConfig) {
-            DocumentContext newDocumentContext = DocumentContext.from(documentConfig);
+            DocumentContext newDocumentContext = this.project.documentCache().documentContext(documentConfig);
             this.testDocContextMap.put(newDocumentContext.documentId(), newDocumentContext);
+            untrackUpdatedConstructs();
             return this;
         }
 
@@ -224,6 +233,8 @@ public class Module {
             } else {
                 testDocContextMap.remove(documentId);
             }
+            this.project.documentCache().remove(documentId);
+            untrackUpdatedConstructs();
             return this;
         }
 
@@ -234,6 +245,7 @@ public class Module {
          */
         public Modifier removeModuleMd() {
             moduleMdContext = null;
+            untrackUpdatedConstructs();
             return this;
         }
 
@@ -267,12 +279,39 @@ public class Module {
             ModuleContext newModuleContext = new ModuleContext(this.project,
                     this.moduleId, this.moduleDescriptor, this.isDefaultModule, srcDocContextMap,
                     testDocContextMap, this.moduleMdContext, this.dependencies);
-            Package newPackage = this.packageInstance.modify().updateModule(newModuleContext).apply();
+            Package newPackage = this.packageInstance.modify()
+                    .updateModule(newModuleContext, this.isModified ? this.updatedConstructs : null).apply();
             return newPackage.module(this.moduleId);
         }
 
+        private void trackUpdatedConstructs(DocumentContext oldDocContext, DocumentContext newDocContext) {
+            if (this.isModified && this.updatedConstructs == null) {
+                return;
+            }
+            this.isModified = true;
+            if (oldDocContext == null) {
+                this.updatedConstructs = null;
+                return;
+            }
+            Optional<Set<String>> changedConstructs = TopLevelConstructIndex.changedConstructs(
+                    oldDocContext.constructIndex(), newDocContext.constructIndex());
+            if (changedConstructs.isEmpty()) {
+                this.updatedConstructs = null;
+            } else if (this.updatedConstructs == null) {
+                this.updatedConstructs = changedConstructs.get();
+            } else {
+                this.updatedConstructs.addAll(changedConstructs.get());
+            }
+        }
+
+        private void untrackUpdatedConstructs() {
+            this.isModified = true;
+            this.updatedConstructs = null;
+        }
+
         Modifier updateModuleMd(MdDocumentContext moduleMd) {
             this.moduleMdContext = moduleMd;
+            untrackUpdatedConstructs();
             return this;
         }
     }
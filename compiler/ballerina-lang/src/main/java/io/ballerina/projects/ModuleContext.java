@@ -22,6 +22,7 @@ import io.ballerina.projects.environment.ModuleLoadRequest;
 import io.ballerina.projects.environment.PackageResolver;
 import io.ballerina.projects.environment.ProjectEnvironment;
 import io.ballerina.projects.internal.CompilerPhaseRunner;
+import io.ballerina.projects.internal.TopLevelConstructIndex;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import org.ballerinalang.model.TreeBuilder;
 import org.ballerinalang.model.elements.Flag;
@@ -38,6 +39,7 @@ import org.wso2.ballerinalang.programfile.PackageFileWriter;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -105,14 +107,15 @@ class ModuleContext {
     }
 
     static ModuleContext from(Project project, ModuleConfig moduleConfig) {
+        DocumentCache documentCache = project.documentCache();
         Map<DocumentId, DocumentContext> srcDocContextMap = new HashMap<>();
         for (DocumentConfig sourceDocConfig : moduleConfig.sourceDocs()) {
-            srcDocContextMap.put(sourceDocConfig.documentId(), DocumentContext.from(sourceDocConfig));
+            srcDocContextMap.put(sourceDocConfig.documentId(), documentCache.documentContext(sourceDocConfig));
         }
 
         Map<DocumentId, DocumentContext> testDocContextMap = new HashMap<>();
         for (DocumentConfig testSrcDocConfig : moduleConfig.testSourceDocs()) {
-            testDocContextMap.put(testSrcDocConfig.documentId(), DocumentContext.from(testSrcDocConfig));
+            testDocContextMap.put(testSrcDocConfig.documentId(), documentCache.documentContext(testSrcDocConfig));
         }
 
         return new ModuleContext(project, moduleConfig.moduleId(), moduleConfig.moduleDescriptor(),
@@ -186,6 +189,43 @@ class ModuleContext {
         return moduleLoadRequests;
     }
 
+    /**
+     * Returns the given top-level constructs of this module along with the constructs which depend on them.
+     *
+     * @param constructs names of the top-level constructs
+     * @return names of the given constructs and their dependants
+     */
+    Set<String> dependantConstructs(Set<String> constructs) {
+        List<TopLevelConstructIndex> constructIndexes = new ArrayList<>();
+        for (DocumentContext docContext : srcDocContextMap.values()) {
+            constructIndexes.add(docContext.constructIndex());
+        }
+        for (DocumentContext docContext : testDocContextMap.values()) {
+            constructIndexes.add(docContext.constructIndex());
+        }
+        return TopLevelConstructIndex.dependantConstructs(constructs, constructIndexes);
+    }
+
+    /**
+     * Returns whether this module refers to any of the given top-level constructs of a module it depends on.
+     *
+     * @param constructs names of the top-level constructs
+     * @return true if any of the constructs is referred to, false otherwise
+     */
+    boolean refersToConstructs(Set<String> constructs) {
+        for (DocumentContext docContext : srcDocContextMap.values()) {
+            if (docContext.constructIndex().refersToAny(constructs)) {
+                return true;
+            }
+        }
+        for (DocumentContext docContext : testDocContextMap.values()) {
+            if (docContext.constructIndex().refersToAny(constructs)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     BLangPackage bLangPackage() {
         return getBLangPackageOrThrow();
     }
@@ -194,6 +234,15 @@ class ModuleContext {
         return moduleCompState;
     }
 
+    /**
+     * Returns the BIR the module was loaded from, which is empty if the module was compiled from its sources.
+     *
+     * @return BIR of the module
+     */
+    byte[] birBytes() {
+        return birBytes;
+    }
+
     private BLangPackage getBLangPackageOrThrow() {
         if (bLangPackage == null) {
             throw new IllegalStateException("Compile the module first!");
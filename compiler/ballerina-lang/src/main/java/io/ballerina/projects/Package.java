@@ -10,6 +10,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.Spliterator;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
@@ -249,9 +250,19 @@ public class Package {
             this.packageMdContext = oldPackage.packageContext.packageMdContext().orElse(null);
         }
 
-        Modifier updateModule(ModuleContext newModuleContext) {
+        /**
+         * Updates a module, resetting only the dependant modules which refer to the updated top-level constructs
+         * or to the constructs depending on them. The rest of the dependant modules keep their compilation.
+         *
+         * @param newModuleContext  context of the updated module
+         * @param updatedConstructs names of the updated top-level constructs, or null to reset all dependant modules
+         * @return Package.Modifier which contains the updated package
+         */
+        Modifier updateModule(ModuleContext newModuleContext, Set<String> updatedConstructs) {
             this.moduleContextMap.put(newModuleContext.moduleId(), newModuleContext);
-            resetDependantModules(newModuleContext.moduleId());
+            Set<String> dependantConstructs = updatedConstructs == null ?
+                    null : newModuleContext.dependantConstructs(updatedConstructs);
+            resetDependantModules(newModuleContext.moduleId(), dependantConstructs);
             return this;
         }
 
@@ -422,7 +433,7 @@ public class Package {
             return this;
         }
 
-        private void resetDependantModules(ModuleId updatedModuleId) {
+        private void resetDependantModules(ModuleId updatedModuleId, Set<String> updatedConstructs) {
             List<ModuleId> dependantList = new ArrayList<>();
             for (Map.Entry<ModuleId, ModuleContext> moduleContextEntry : this.moduleContextMap.entrySet()) {
                 if (moduleContextEntry.getKey() != updatedModuleId) {
@@ -431,7 +442,8 @@ public class Package {
                         continue;
                     }
                     for (ModuleDependency moduleDependency : dependencies) {
-                        if (moduleDependency.moduleId().equals(updatedModuleId)) {
+                        if (moduleDependency.moduleId().equals(updatedModuleId) && (updatedConstructs == null
+                                || moduleContextEntry.getValue().refersToConstructs(updatedConstructs))) {
                             ModuleId key = moduleContextEntry.getKey();
                             dependantList.add(key);
                         }
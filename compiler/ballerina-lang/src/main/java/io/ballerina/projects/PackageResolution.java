@@ -153,6 +153,28 @@ public class PackageResolution {
                 packageCache, rootPackageContext.project());
     }
 
+    /**
+     * Parses the documents of all the modules of this package in parallel.
+     * <p>
+     * The imports of each document are read from its syntax tree, hence all the documents are parsed here up front
+     * rather than one after the other. Documents which have been parsed already are not parsed again.
+     */
+    private void parseDocuments() {
+        List<DocumentContext> documentContexts = new ArrayList<>();
+        for (ModuleId moduleId : rootPackageContext.moduleIds()) {
+            ModuleContext moduleContext = rootPackageContext.moduleContext(moduleId);
+            for (DocumentId documentId : moduleContext.srcDocumentIds()) {
+                documentContexts.add(moduleContext.documentContext(documentId));
+            }
+            if (!compilationOptions.skipTests()) {
+                for (DocumentId documentId : moduleContext.testSrcDocumentIds()) {
+                    documentContexts.add(moduleContext.documentContext(documentId));
+                }
+            }
+        }
+        documentContexts.parallelStream().forEach(DocumentContext::parse);
+    }
+
     private LinkedHashSet<ModuleLoadRequest> getModuleLoadRequestsOfDirectDependencies() {
         LinkedHashSet<ModuleLoadRequest> allModuleLoadRequests = new LinkedHashSet<>();
         for (ModuleId moduleId : rootPackageContext.moduleIds()) {
@@ -225,6 +247,8 @@ public class PackageResolution {
     }
 
     private void createDependencyGraphFromSources() {
+        parseDocuments();
+
         // 1) Get PackageLoadRequests for all the direct dependencies of this package
         LinkedHashSet<ModuleLoadRequest> moduleLoadRequests = getModuleLoadRequestsOfDirectDependencies();
         for (ModuleLoadRequest moduleLoadRequest : moduleLoadRequests) {
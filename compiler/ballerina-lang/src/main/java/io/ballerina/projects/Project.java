@@ -37,6 +37,7 @@ public abstract class Project {
     private final BuildOptions buildOptions;
     private final ProjectEnvironment projectEnvironment;
     private final ProjectKind projectKind;
+    private final DocumentCache documentCache = new DocumentCache();
 
     protected Project(ProjectKind projectKind,
                       Path projectPath,
@@ -87,6 +88,10 @@ public abstract class Project {
         return buildOptions;
     }
 
+    DocumentCache documentCache() {
+        return this.documentCache;
+    }
+
     // Following project path was added to support old compiler extensions.
     // Currently this method is only called from Build and Single File projects
     // todo remove after introducing extension model
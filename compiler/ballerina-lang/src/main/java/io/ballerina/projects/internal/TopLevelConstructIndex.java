@@ -0,0 +1,258 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.projects.internal;
+
+import io.ballerina.compiler.syntax.tree.AnnotationDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ClassDefinitionNode;
+import io.ballerina.compiler.syntax.tree.ConstantDeclarationNode;
+import io.ballerina.compiler.syntax.tree.EnumDeclarationNode;
+import io.ballerina.compiler.syntax.tree.EnumMemberNode;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ListenerDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.ModuleVariableDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModuleXMLNamespaceDeclarationNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NodeVisitor;
+import io.ballerina.compiler.syntax.tree.QualifiedNameReferenceNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.compiler.syntax.tree.Token;
+import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Indexes the top-level constructs of a document by name, along with the names each of them refers to.
+ * <p>
+ * Names are matched by their text only, hence the dependencies recorded here are a superset of the actual ones.
+ * This is used to find the modules which need to be compiled again when a document of a module they depend on is
+ * edited, i.e. only the modules referring to a changed construct or to a construct which depends on a changed one.
+ *
+ * @since 2.0.0
+ */
+public class TopLevelConstructIndex extends NodeVisitor {
+
+    private static final String QUOTED_IDENTIFIER_PREFIX = "'";
+    private static final String ESCAPE_PREFIX = "\\";
+
+    // Source code of each construct along with its position, since the position is a part of the symbols
+    private final Map<String, String> constructs = new HashMap<>();
+    private final Map<String, Set<String>> references = new HashMap<>();
+    private final Set<String> qualifiedReferences = new HashSet<>();
+    private String imports;
+    private boolean isIndexable = true;
+    private Set<String> currentReferences;
+
+    private TopLevelConstructIndex() {
+    }
+
+    public static TopLevelConstructIndex from(SyntaxTree syntaxTree) {
+        TopLevelConstructIndex constructIndex = new TopLevelConstructIndex();
+        if (!syntaxTree.containsModulePart()) {
+            constructIndex.isIndexable = false;
+            return constructIndex;
+        }
+        ModulePartNode modulePartNode = syntaxTree.rootNode();
+        StringBuilder imports = new StringBuilder();
+        for (ImportDeclarationNode importDeclarationNode : modulePartNode.imports()) {
+            imports.append(importDeclarationNode.toSourceCode());
+        }
+        constructIndex.imports = imports.toString();
+        for (ModuleMemberDeclarationNode member : modulePartNode.members()) {
+            constructIndex.addConstruct(member);
+        }
+        return constructIndex;
+    }
+
+    /**
+     * Returns the names of the constructs which differ between the given indexes of a document.
+     *
+     * @param oldIndex index of the document before the change
+     * @param newIndex index of the document after the change
+     * @return names of the changed constructs, or empty if the change affects the document as a whole
+     */
+    public static Optional<Set<String>> changedConstructs(TopLevelConstructIndex oldIndex,
+                                                         TopLevelConstructIndex newIndex) {
+        if (!oldIndex.isIndexable || !newIndex.isIndexable || !oldIndex.imports.equals(newIndex.imports)) {
+            return Optional.empty();
+        }
+        Set<String> changedConstructs = new HashSet<>();
+        for (Map.Entry<String, String> construct : oldIndex.constructs.entrySet()) {
+            if (!construct.getValue().equals(newIndex.constructs.get(construct.getKey()))) {
+                changedConstructs.add(construct.getKey());
+            }
+        }
+        for (String name : newIndex.constructs.keySet()) {
+            if (!oldIndex.constructs.containsKey(name)) {
+                changedConstructs.add(name);
+            }
+        }
+        return Optional.of(changedConstructs);
+    }
+
+    /**
+     * Returns the given constructs along with all the constructs of the module which depend on them, directly or
+     * transitively.
+     *
+     * @param constructs   names of the constructs
+     * @param moduleIndexes indexes of all the documents of the module
+     * @return names of the given constructs and their dependants
+     */
+    public static Set<String> dependantConstructs(Set<String> constructs,
+                                                  Collection<TopLevelConstructIndex> moduleIndexes) {
+        Map<String, List<String>> dependants = new HashMap<>();
+        for (TopLevelConstructIndex moduleIndex : moduleIndexes) {
+            for (Map.Entry<String, Set<String>> construct : moduleIndex.references.entrySet()) {
+                for (String reference : construct.getValue()) {
+                    dependants.computeIfAbsent(reference, name -> new ArrayList<>()).add(construct.getKey());
+                }
+            }
+        }
+
+        Set<String> dependantConstructs = new HashSet<>(constructs);
+        Deque<String> unvisited = new ArrayDeque<>(constructs);
+        while (!unvisited.isEmpty()) {
+            for (String dependant : dependants.getOrDefault(unvisited.pop(), Collections.emptyList())) {
+                if (dependantConstructs.add(dependant)) {
+                    unvisited.push(dependant);
+                }
+            }
+        }
+        return dependantConstructs;
+    }
+
+    /**
+     * Returns whether the document refers to any of the given names through a module prefix.
+     *
+     * @param names names of constructs of another module
+     * @return true if any of the names is referred to, false otherwise
+     */
+    public boolean refersToAny(Set<String> names) {
+        if (!this.isIndexable) {
+            return true;
+        }
+        for (String name : names) {
+            if (this.qualifiedReferences.contains(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void addConstruct(ModuleMemberDeclarationNode member) {
+        List<String> names = new ArrayList<>();
+        switch (member.kind()) {
+            case FUNCTION_DEFINITION:
+                names.add(((FunctionDefinitionNode) member).functionName().text());
+                break;
+            case TYPE_DEFINITION:
+                names.add(((TypeDefinitionNode) member).typeName().text());
+                break;
+            case CLASS_DEFINITION:
+                names.add(((ClassDefinitionNode) member).className().text());
+                break;
+            case CONST_DECLARATION:
+                names.add(((ConstantDeclarationNode) member).variableName().text());
+                break;
+            case LISTENER_DECLARATION:
+                names.add(((ListenerDeclarationNode) member).variableName().text());
+                break;
+            case ANNOTATION_DECLARATION:
+                names.add(((AnnotationDeclarationNode) member).annotationTag().text());
+                break;
+            case ENUM_DECLARATION:
+                EnumDeclarationNode enumDeclarationNode = (EnumDeclarationNode) member;
+                names.add(enumDeclarationNode.identifier().text());
+                for (Node enumMember : enumDeclarationNode.enumMemberList()) {
+                    if (enumMember.kind() == SyntaxKind.ENUM_MEMBER) {
+                        names.add(((EnumMemberNode) enumMember).identifier().text());
+                    }
+                }
+                break;
+            case MODULE_VAR_DECL:
+                // Any identifier of the binding pattern may be a variable name
+                Set<String> variableNames = new HashSet<>();
+                collectIdentifiers(((ModuleVariableDeclarationNode) member).typedBindingPattern().bindingPattern(),
+                        variableNames);
+                names.addAll(variableNames);
+                break;
+            case MODULE_XML_NAMESPACE_DECLARATION:
+                ((ModuleXMLNamespaceDeclarationNode) member).namespacePrefix()
+                        .ifPresent(prefix -> names.add(prefix.text()));
+                break;
+            case SERVICE_DECLARATION:
+                // Services cannot be referred to, hence only the references made by them are recorded
+                break;
+            default:
+                this.isIndexable = false;
+                break;
+        }
+
+        Set<String> memberReferences = new HashSet<>();
+        this.currentReferences = memberReferences;
+        member.accept(this);
+        this.currentReferences = null;
+
+        String construct = member.lineRange().startLine().line() + ":" + member.toSourceCode();
+        for (String name : names) {
+            String normalizedName = normalize(name);
+            this.constructs.merge(normalizedName, construct, String::concat);
+            this.references.computeIfAbsent(normalizedName, key -> new HashSet<>()).addAll(memberReferences);
+        }
+    }
+
+    private void collectIdentifiers(Node node, Set<String> identifiers) {
+        this.currentReferences = identifiers;
+        node.accept(this);
+        this.currentReferences = null;
+    }
+
+    @Override
+    public void visit(QualifiedNameReferenceNode qualifiedNameReferenceNode) {
+        this.qualifiedReferences.add(normalize(qualifiedNameReferenceNode.identifier().text()));
+        visitSyntaxNode(qualifiedNameReferenceNode);
+    }
+
+    @Override
+    public void visit(Token token) {
+        if (this.currentReferences != null && token.kind() == SyntaxKind.IDENTIFIER_TOKEN) {
+            this.currentReferences.add(normalize(token.text()));
+        }
+    }
+
+    private String normalize(String identifier) {
+        if (identifier.contains(ESCAPE_PREFIX)) {
+            // Escaped characters cannot be matched by the text
+            this.isIndexable = false;
+        }
+        return identifier.startsWith(QUOTED_IDENTIFIER_PREFIX) ? identifier.substring(1) : identifier;
+    }
+}
@@ -25,6 +25,7 @@ import org.wso2.ballerinalang.compiler.util.ProjectDirConstants;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.stream.Stream;
 
 /**
  * Represents the target directory model.
@@ -176,8 +177,25 @@ public class Target {
      *
      */
     public void clean() throws IOException {
+        clean(false);
+    }
+
+    /**
+     * Cleans the target directory.
+     *
+     * @param keepBuildCache whether to keep the generated code, which is reused when its inputs are unchanged
+     * @throws IOException if the cache directory cannot be read
+     */
+    public void clean(boolean keepBuildCache) throws IOException {
         // Remove from cache
-        ProjectUtils.deleteDirectory(this.cache);
+        if (!keepBuildCache) {
+            ProjectUtils.deleteDirectory(this.cache);
+        } else if (Files.isDirectory(this.cache)) {
+            try (Stream<Path> cachePaths = Files.list(this.cache)) {
+                cachePaths.filter(path -> !path.getFileName().toString().equals(
+                        ProjectConstants.BUILD_CACHE_DIR_NAME)).forEach(ProjectUtils::deleteDirectory);
+            }
+        }
         // Remove any generated bala
         ProjectUtils.deleteDirectory(this.balaCachePath);
         ProjectUtils.deleteDirectory(this.binPath);
@@ -25,12 +25,15 @@ import io.ballerina.projects.Package;
 import io.ballerina.projects.PackageManifest;
 import io.ballerina.projects.Project;
 import io.ballerina.projects.util.ProjectConstants;
+import io.ballerina.projects.util.ProjectUtils;
 import org.apache.commons.io.FileUtils;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
 import java.util.Optional;
 
 /**
@@ -46,10 +49,19 @@ import java.util.Optional;
  * - mod2.bir
  * - jar
  * - org-package-name-version.jar
+ * - build_cache
+ * - org
+ * - package-name
+ * - version
+ * - jar
+ * - library-name
+ * - input-hash.jar
  *
  * @since 2.0.0
  */
 public class FileSystemCache extends CompilationCache {
+    private static final String TEMP_FILE_EXTENSION = ".tmp";
+
     private final Path cacheDirPath;
     private Path birPath;
     private Path packageCacheDirPath;
@@ -77,14 +89,16 @@ public class FileSystemCache extends CompilationCache {
     @Override
     public void cacheBir(ModuleName moduleName, ByteArrayOutputStream birContent) {
         Path birFilePath = getBirPath().resolve(moduleName.toString() + ProjectConstants.BLANG_COMPILED_PKG_BIR_EXT);
-        if (!Files.exists(birFilePath)) {
-            try {
-                // TODO Can we improve this logic
-                FileUtils.writeByteArrayToFile(birFilePath.toFile(), birContent.toByteArray());
-            } catch (IOException e) {
-                // TODO proper error handling
-                throw new RuntimeException("Failed to cache the bir of module: " + moduleName, e);
+        byte[] birBytes = birContent.toByteArray();
+        try {
+            // Rewrite the BIR only if it was generated from different sources
+            if (Files.exists(birFilePath) && Arrays.equals(Files.readAllBytes(birFilePath), birBytes)) {
+                return;
             }
+            FileUtils.writeByteArrayToFile(birFilePath.toFile(), birBytes);
+        } catch (IOException e) {
+            // TODO proper error handling
+            throw new RuntimeException("Failed to cache the bir of module: " + moduleName, e);
         }
     }
 
@@ -115,6 +129,61 @@ public class FileSystemCache extends CompilationCache {
         }
     }
 
+    @Override
+    public Optional<Path> getPlatformSpecificLibrary(CompilerBackend compilerBackend,
+                                                     String libraryName,
+                                                     String inputHash) {
+        Path storedLibraryPath = getBuildCacheDirPath(compilerBackend, libraryName)
+                .resolve(inputHash + compilerBackend.libraryFileExtension());
+        if (!Files.exists(storedLibraryPath)) {
+            return Optional.empty();
+        }
+
+        Path targetPlatformCacheDirPath = getTargetPlatformCacheDirPath(compilerBackend);
+        createDirectories(targetPlatformCacheDirPath);
+        Path jarFilePath = targetPlatformCacheDirPath.resolve(libraryName + compilerBackend.libraryFileExtension());
+        try {
+            Files.copy(storedLibraryPath, jarFilePath, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            // The library will be generated again
+            return Optional.empty();
+        }
+        return Optional.of(jarFilePath);
+    }
+
+    @Override
+    public void cachePlatformSpecificLibrary(CompilerBackend compilerBackend,
+                                             String libraryName,
+                                             ByteArrayOutputStream libraryContent,
+                                             String inputHash) {
+        cachePlatformSpecificLibrary(compilerBackend, libraryName, libraryContent);
+
+        // Only the library generated from the latest inputs is kept
+        Path buildCacheDirPath = getBuildCacheDirPath(compilerBackend, libraryName);
+        ProjectUtils.deleteDirectory(buildCacheDirPath);
+        createDirectories(buildCacheDirPath);
+        Path storedLibraryPath = buildCacheDirPath.resolve(inputHash + compilerBackend.libraryFileExtension());
+        Path tempLibraryPath = buildCacheDirPath.resolve(inputHash + TEMP_FILE_EXTENSION);
+        try {
+            // Write to a temporary file first, so that a partially written library is never reused
+            FileUtils.writeByteArrayToFile(tempLibraryPath.toFile(), libraryContent.toByteArray());
+            Files.move(tempLibraryPath, storedLibraryPath, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            // TODO improve the error handling
+            throw new RuntimeException("Failed to write library: " + storedLibraryPath, e);
+        }
+    }
+
+    private Path getBuildCacheDirPath(CompilerBackend compilerBackend, String libraryName) {
+        PackageManifest pkgDescriptor = project.currentPackage().manifest();
+        return cacheDirPath.resolve(ProjectConstants.BUILD_CACHE_DIR_NAME)
+                .resolve(pkgDescriptor.org().value())
+                .resolve(pkgDescriptor.name().value())
+                .resolve(pkgDescriptor.version().toString())
+                .resolve(compilerBackend.targetPlatform().code())
+                .resolve(libraryName);
+    }
+
     private Path getTargetPlatformCacheDirPath(CompilerBackend compilerBackend) {
         String targetPlatformCode = compilerBackend.targetPlatform().code();
         return packageCacheDirPath().resolve(targetPlatformCode);
@@ -63,6 +63,7 @@ public class ProjectConstants {
     public static final String BALA_DIR_NAME = "bala";
     public static final String BALA_CACHE_DIR_NAME = "bala_cache";
     public static final String BIR_CACHE_DIR_NAME = "bir_cache";
+    public static final String BUILD_CACHE_DIR_NAME = "build_cache";
     public static final String JAR_CACHE_DIR_NAME = "jar_cache";
     public static final String JSON_CACHE_DIR_NAME = "json_cache";
     public static final String TESTS_CACHE_DIR_NAME = "tests_cache";
@@ -97,7 +97,6 @@ import org.wso2.ballerinalang.util.Flags;
 import java.io.ByteArrayInputStream;
 import java.io.DataInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.EnumSet;
@@ -141,8 +140,6 @@ public class BIRPackageSymbolEnter {
     private static final CompilerContext.Key<BIRPackageSymbolEnter> COMPILED_PACKAGE_SYMBOL_ENTER_KEY =
             new CompilerContext.Key<>();
 
-    private Map<String, BVarSymbol> globalVarMap = new HashMap<>();
-
     public static BIRPackageSymbolEnter getInstance(CompilerContext context) {
         BIRPackageSymbolEnter packageReader = context.get(COMPILED_PACKAGE_SYMBOL_ENTER_KEY);
         if (packageReader == null) {
@@ -163,11 +160,11 @@ public class BIRPackageSymbolEnter {
         this.types = Types.getInstance(context);
     }
 
-    public BPackageSymbol definePackage(PackageID packageId,
-                                        RepoHierarchy packageRepositoryHierarchy,
-                                        byte[] packageBinaryContent) {
+    public synchronized BPackageSymbol definePackage(PackageID packageId,
+                                                     RepoHierarchy packageRepositoryHierarchy,
+                                                     byte[] packageBinaryContent) {
         BPackageSymbol pkgSymbol = definePackage(packageId, packageRepositoryHierarchy,
-                new ByteArrayInputStream(packageBinaryContent));
+                new ByteArrayInputStream(packageBinaryContent), packageBinaryContent);
 
         // Strip magic value (4 bytes) and the version (2 bytes) off from the binary content of the package.
         byte[] modifiedPkgBinaryContent = Arrays.copyOfRange(
@@ -181,13 +178,16 @@ public class BIRPackageSymbolEnter {
 
     private BPackageSymbol definePackage(PackageID packageId,
                                          RepoHierarchy packageRepositoryHierarchy,
-                                         InputStream programFileInStream) {
+                                         ByteArrayInputStream programFileInStream,
+                                         byte[] packageBinaryContent) {
         // TODO packageID --> package to be loaded. this is required for error reporting..
         try (DataInputStream dataInStream = new DataInputStream(programFileInStream)) {
             BIRPackageSymbolEnv prevEnv = this.env;
             this.env = new BIRPackageSymbolEnv();
             this.env.requestedPackageId = packageId;
             this.env.repoHierarchy = packageRepositoryHierarchy;
+            this.env.packageBinaryContent = packageBinaryContent;
+            this.env.packageInStream = programFileInStream;
 
             BPackageSymbol pkgSymbol = definePackage(dataInStream);
             this.env = prevEnv;
@@ -246,8 +246,8 @@ public class BIRPackageSymbolEnter {
 
         readTypeDefBodies(dataInStream);
 
-        // Define functions.
-        defineSymbols(dataInStream, rethrow(this::defineFunction));
+        // Define functions. These are defined only when they are looked up.
+        defineFunctionsLazily(dataInStream);
 
         // Define annotations.
         defineSymbols(dataInStream, rethrow(this::defineAnnotations));
@@ -335,6 +335,71 @@ public class BIRPackageSymbolEnter {
         }
     }
 
+    private void defineFunctionsLazily(DataInputStream dataInStream) throws IOException {
+        BIRPackageSymbolEnv symbolEnv = this.env;
+        int functionCount = dataInStream.readInt();
+        for (int i = 0; i < functionCount; i++) {
+            int offset = symbolEnv.packageBinaryContent.length - symbolEnv.packageInStream.available();
+            Name funcName = names.fromString(skipFunction(dataInStream));
+            int length = symbolEnv.packageBinaryContent.length - symbolEnv.packageInStream.available() - offset;
+            symbolEnv.pkgSymbol.scope.defineLazily(funcName, this, () -> defineFunction(symbolEnv, offset, length));
+        }
+    }
+
+    private void defineFunction(BIRPackageSymbolEnv symbolEnv, int offset, int length) {
+        BIRPackageSymbolEnv prevEnv = this.env;
+        BStructureTypeSymbol prevStructure = this.currentStructure;
+        this.env = symbolEnv;
+        this.currentStructure = null;
+        try (DataInputStream dataInStream = new DataInputStream(
+                new ByteArrayInputStream(symbolEnv.packageBinaryContent, offset, length))) {
+            defineFunction(dataInStream);
+        } catch (IOException e) {
+            throw new BLangCompilerException(e.getMessage(), e);
+        } finally {
+            this.env = prevEnv;
+            this.currentStructure = prevStructure;
+        }
+    }
+
+    /**
+     * Reads past a function, without creating its symbol. This reads only the lengths of the parts of the function.
+     *
+     * @param dataInStream stream positioned at the start of the function
+     * @return name of the function
+     * @throws IOException if the function cannot be read
+     */
+    private String skipFunction(DataInputStream dataInStream) throws IOException {
+        readPosition(dataInStream);
+        String funcName = getStringCPEntryValue(dataInStream);
+        dataInStream.readInt(); // worker name
+        dataInStream.readLong(); // flags
+        dataInStream.readByte(); // origin
+        dataInStream.readInt(); // type
+        dataInStream.skip(dataInStream.readLong()); // annotation attachments
+
+        int requiredParamCount = dataInStream.readInt();
+        for (int i = 0; i < requiredParamCount; i++) {
+            dataInStream.readInt(); // name
+            dataInStream.readLong(); // flags
+        }
+        if (dataInStream.readBoolean()) { // rest param
+            dataInStream.readInt();
+        }
+        if (dataInStream.readBoolean()) { // receiver
+            dataInStream.readByte();
+            dataInStream.readInt();
+            dataInStream.readInt();
+        }
+
+        dataInStream.skip(dataInStream.readLong()); // taint table
+        dataInStream.skip(dataInStream.readInt()); // markdown documentation
+        dataInStream.skip(dataInStream.readInt() * 4L); // global variable dependencies
+        dataInStream.skip(dataInStream.readLong()); // scope table
+        dataInStream.skip(dataInStream.readLong()); // function body
+        return funcName;
+    }
+
     // TODO do we need to load all the import packages of a compiled package.
     private void defineImportPackage(DataInputStream dataInStream) throws IOException {
         String orgName = getStringCPEntryValue(dataInStream);
@@ -419,7 +484,7 @@ public class BIRPackageSymbolEnter {
         long length = dataInStream.readInt();
         for (int i = 0; i < length; i++) {
             String globalVarName = getStringCPEntryValue(dataInStream.readInt());
-            invokableSymbol.dependentGlobalVars.add(this.globalVarMap.get(globalVarName));
+            invokableSymbol.dependentGlobalVars.add(this.env.globalVarMap.get(globalVarName));
         }
     }
 
@@ -728,7 +793,7 @@ public class BIRPackageSymbolEnter {
             }
         }
 
-        this.globalVarMap.put(varName, varSymbol);
+        this.env.globalVarMap.put(varName, varSymbol);
 
         defineMarkDownDocAttachment(varSymbol, docBytes);
 
@@ -960,6 +1025,9 @@ public class BIRPackageSymbolEnter {
         BPackageSymbol pkgSymbol;
         CPEntry[] constantPool;
         List<UnresolvedType> unresolvedTypes;
+        Map<String, BVarSymbol> globalVarMap = new HashMap<>();
+        byte[] packageBinaryContent;
+        ByteArrayInputStream packageInStream;
 
         BIRPackageSymbolEnv() {
             this.unresolvedTypes = new ArrayList<>();
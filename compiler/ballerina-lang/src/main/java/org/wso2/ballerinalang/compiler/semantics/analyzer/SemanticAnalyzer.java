@@ -272,7 +272,13 @@ public class SemanticAnalyzer extends BLangNodeVisitor {
 
     public BLangPackage analyze(BLangPackage pkgNode) {
         this.dlog.setCurrentPackageId(pkgNode.packageID);
-        pkgNode.accept(this);
+        // The module level types of the package are defined by now, hence the relations between them can be cached.
+        this.types.enableTypeRelationCache();
+        try {
+            pkgNode.accept(this);
+        } finally {
+            this.types.disableTypeRelationCache();
+        }
         return pkgNode;
     }
 
@@ -103,6 +103,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -151,6 +152,12 @@ public class Types {
     private int recordCount = 0;
     private SymbolEnv env;
 
+    // Results of checking the relations between the structural types defined at module level. These are keyed by the
+    // identity of the types, and are only kept while the types of the package being analyzed are completely defined.
+    private final Map<BType, Map<BType, Boolean>> assignabilityCache = new IdentityHashMap<>();
+    private final Map<BType, Map<BType, Boolean>> sameTypeCache = new IdentityHashMap<>();
+    private boolean typeRelationCacheEnabled = false;
+
     public static Types getInstance(CompilerContext context) {
         Types types = context.get(TYPES_KEY);
         if (types == null) {
@@ -314,7 +321,17 @@ public class Types {
     }
 
     public boolean isSameType(BType source, BType target) {
-        return isSameType(source, target, new HashSet<>());
+        if (!isTypeRelationCacheable(source, target)) {
+            return isSameType(source, target, new HashSet<>());
+        }
+
+        Map<BType, Boolean> results = sameTypeCache.computeIfAbsent(source, type -> new IdentityHashMap<>());
+        Boolean result = results.get(target);
+        if (result == null) {
+            result = isSameType(source, target, new HashSet<>());
+            results.put(target, result);
+        }
+        return result;
     }
 
     public boolean isPureType(BType type) {
@@ -644,7 +661,65 @@ public class Types {
      * @return true if source type is assignable to the target type.
      */
     public boolean isAssignable(BType source, BType target) {
-        return isAssignable(source, target, new HashSet<>());
+        if (!isTypeRelationCacheable(source, target)) {
+            return isAssignable(source, target, new HashSet<>());
+        }
+
+        Map<BType, Boolean> results = assignabilityCache.computeIfAbsent(source, type -> new IdentityHashMap<>());
+        Boolean result = results.get(target);
+        if (result == null) {
+            result = isAssignable(source, target, new HashSet<>());
+            results.put(target, result);
+        }
+        return result;
+    }
+
+    /**
+     * Starts caching the results of {@link #isAssignable(BType, BType)} and {@link #isSameType(BType, BType)} for the
+     * structural types defined at module level. This should only be enabled once the types of the package are defined,
+     * since the results are not invalidated when a type is modified.
+     */
+    public void enableTypeRelationCache() {
+        this.typeRelationCacheEnabled = true;
+    }
+
+    /**
+     * Stops caching the results of type relation checks and discards the cached results.
+     */
+    public void disableTypeRelationCache() {
+        this.typeRelationCacheEnabled = false;
+        this.assignabilityCache.clear();
+        this.sameTypeCache.clear();
+    }
+
+    private boolean isTypeRelationCacheable(BType source, BType target) {
+        return this.typeRelationCacheEnabled && isModuleLevelStructuralType(source) &&
+                isModuleLevelStructuralType(target);
+    }
+
+    private boolean isModuleLevelStructuralType(BType type) {
+        switch (type.tag) {
+            case TypeTags.RECORD:
+            case TypeTags.OBJECT:
+            case TypeTags.UNION:
+            case TypeTags.TUPLE:
+            case TypeTags.ERROR:
+                break;
+            default:
+                // Checking the other types is either cheap, or depends on types which are not cached.
+                return false;
+        }
+
+        // Only the types of type definitions are cached. Anonymous types, immutable clones and parameterized types
+        // may be created and modified while the package is being analyzed.
+        BTypeSymbol tsymbol = type.tsymbol;
+        if (tsymbol == null || tsymbol.owner == null || tsymbol.owner.tag != SymTag.PACKAGE ||
+                tsymbol.name.value.isEmpty() || anonymousModelHelper.isAnonymousType(tsymbol)) {
+            return false;
+        }
+        long flags = type.flags | tsymbol.flags;
+        return !Symbols.isFlagOn(flags, Flags.ANONYMOUS) && !Symbols.isFlagOn(flags, Flags.READONLY) &&
+                !Symbols.isFlagOn(flags, Flags.PARAMETERIZED) && !Symbols.isFlagOn(flags, Flags.TYPE_PARAM);
     }
 
     private boolean isAssignable(BType source, BType target, Set<TypePair> unresolvedTypes) {
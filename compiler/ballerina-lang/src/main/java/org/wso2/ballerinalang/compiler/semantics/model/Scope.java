@@ -20,8 +20,15 @@ package org.wso2.ballerinalang.compiler.semantics.model;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BSymbol;
 import org.wso2.ballerinalang.compiler.util.Name;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 /**
  * @since 0.94
@@ -65,6 +72,232 @@ public class Scope implements org.ballerinalang.model.Scope {
         return entry;
     }
 
+    /**
+     * Registers a definer which defines the symbols of the given name in this scope. The definer is run only when
+     * the name is first looked up, or when the entries are read as a whole. Hence symbols which are never referred
+     * to are never created.
+     * <p>
+     * The entries of the scope and the state used by the definer are guarded by the given lock, since looking up a
+     * name may run a definer, which may in turn look up names of other scopes.
+     *
+     * @param name          name of the symbols
+     * @param lock          lock which guards the definer
+     * @param symbolDefiner defines the symbols of the name in this scope
+     */
+    public void defineLazily(Name name, Object lock, Runnable symbolDefiner) {
+        synchronized (lock) {
+            if (!(entries instanceof LazyScopeEntries)) {
+                entries = new LazyScopeEntries(entries, lock);
+            }
+            ((LazyScopeEntries) entries).addDefiner(name, symbolDefiner);
+        }
+    }
+
+    /**
+     * Entries of a scope, of which some are defined only when they are accessed.
+     * <p>
+     * Once all the definers are run, the entries are accessed without locking, as in any other scope.
+     */
+    private static class LazyScopeEntries extends LinkedHashMap<Name, ScopeEntry> {
+
+        private final Object lock;
+        private final Map<Name, List<Runnable>> definers = new LinkedHashMap<>();
+        private volatile boolean hasDefiners;
+        private int runningDefiners;
+
+        LazyScopeEntries(Map<Name, ScopeEntry> entries, Object lock) {
+            super(entries);
+            this.lock = lock;
+        }
+
+        void addDefiner(Name name, Runnable definer) {
+            definers.computeIfAbsent(name, key -> new ArrayList<>()).add(definer);
+            hasDefiners = true;
+        }
+
+        // Should be called while holding the lock
+        private void define(Object name) {
+            List<Runnable> nameDefiners = definers.remove(name);
+            if (nameDefiners != null) {
+                runningDefiners++;
+                try {
+                    nameDefiners.forEach(Runnable::run);
+                } finally {
+                    runningDefiners--;
+                }
+            }
+            // Entries are read without locking only once nothing is written to them anymore
+            hasDefiners = !definers.isEmpty() || runningDefiners > 0;
+        }
+
+        private void defineAll() {
+            if (!hasDefiners) {
+                return;
+            }
+            synchronized (lock) {
+                while (!definers.isEmpty()) {
+                    define(definers.keySet().iterator().next());
+                }
+            }
+        }
+
+        @Override
+        public ScopeEntry get(Object name) {
+            if (!hasDefiners) {
+                return super.get(name);
+            }
+            synchronized (lock) {
+                define(name);
+                return super.get(name);
+            }
+        }
+
+        @Override
+        public ScopeEntry getOrDefault(Object name, ScopeEntry defaultEntry) {
+            if (!hasDefiners) {
+                return super.getOrDefault(name, defaultEntry);
+            }
+            synchronized (lock) {
+                define(name);
+                return super.getOrDefault(name, defaultEntry);
+            }
+        }
+
+        @Override
+        public boolean containsKey(Object name) {
+            if (!hasDefiners) {
+                return super.containsKey(name);
+            }
+            synchronized (lock) {
+                define(name);
+                return super.containsKey(name);
+            }
+        }
+
+        @Override
+        public ScopeEntry put(Name name, ScopeEntry entry) {
+            if (!hasDefiners) {
+                return super.put(name, entry);
+            }
+            synchronized (lock) {
+                define(name);
+                return super.put(name, entry);
+            }
+        }
+
+        @Override
+        public ScopeEntry putIfAbsent(Name name, ScopeEntry entry) {
+            if (!hasDefiners) {
+                return super.putIfAbsent(name, entry);
+            }
+            synchronized (lock) {
+                define(name);
+                return super.putIfAbsent(name, entry);
+            }
+        }
+
+        @Override
+        public ScopeEntry remove(Object name) {
+            if (!hasDefiners) {
+                return super.remove(name);
+            }
+            synchronized (lock) {
+                define(name);
+                return super.remove(name);
+            }
+        }
+
+        @Override
+        public ScopeEntry computeIfAbsent(Name name, Function<? super Name, ? extends ScopeEntry> mappingFunction) {
+            defineAll();
+            return super.computeIfAbsent(name, mappingFunction);
+        }
+
+        @Override
+        public ScopeEntry computeIfPresent(Name name,
+                                           BiFunction<? super Name, ? super ScopeEntry, ? extends ScopeEntry> func) {
+            defineAll();
+            return super.computeIfPresent(name, func);
+        }
+
+        @Override
+        public ScopeEntry compute(Name name,
+                                  BiFunction<? super Name, ? super ScopeEntry, ? extends ScopeEntry> func) {
+            defineAll();
+            return super.compute(name, func);
+        }
+
+        @Override
+        public ScopeEntry merge(Name name, ScopeEntry entry,
+                                BiFunction<? super ScopeEntry, ? super ScopeEntry, ? extends ScopeEntry> func) {
+            defineAll();
+            return super.merge(name, entry, func);
+        }
+
+        @Override
+        public void putAll(Map<? extends Name, ? extends ScopeEntry> entries) {
+            defineAll();
+            super.putAll(entries);
+        }
+
+        @Override
+        public int size() {
+            defineAll();
+            return super.size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            defineAll();
+            return super.isEmpty();
+        }
+
+        @Override
+        public boolean containsValue(Object entry) {
+            defineAll();
+            return super.containsValue(entry);
+        }
+
+        @Override
+        public Set<Name> keySet() {
+            defineAll();
+            return super.keySet();
+        }
+
+        @Override
+        public Collection<ScopeEntry> values() {
+            defineAll();
+            return super.values();
+        }
+
+        @Override
+        public Set<Map.Entry<Name, ScopeEntry>> entrySet() {
+            defineAll();
+            return super.entrySet();
+        }
+
+        @Override
+        public void forEach(BiConsumer<? super Name, ? super ScopeEntry> action) {
+            defineAll();
+            super.forEach(action);
+        }
+
+        @Override
+        public void replaceAll(BiFunction<? super Name, ? super ScopeEntry, ? extends ScopeEntry> function) {
+            defineAll();
+            super.replaceAll(function);
+        }
+
+        @Override
+        public void clear() {
+            synchronized (lock) {
+                definers.clear();
+                hasDefiners = false;
+                super.clear();
+            }
+        }
+    }
+
     /**
      * @since 0.94
      */
@@ -34,6 +34,8 @@ import io.ballerina.runtime.internal.scheduling.Scheduler;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.PrimitiveIterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.ARRAY_LANG_LIB;
 import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons.INVALID_TYPE_TO_SORT;
@@ -47,6 +49,9 @@ import static org.ballerinalang.langlib.array.utils.ArrayUtils.checkIsArrayOnlyO
  */
 public class Sort {
 
+    // Ranges smaller than this are sorted by a single thread, since splitting them costs more than it saves.
+    private static final int PARALLEL_SORT_THRESHOLD = 1 << 13;
+
     public static BArray sort(BArray arr, Object direction, Object func) {
         checkIsArrayOnlyOperation(arr.getType(), "sort()");
         BFunctionPointer<Object, Object> function = (BFunctionPointer<Object, Object>) func;
@@ -91,7 +96,14 @@ public class Sort {
             }
         }
 
-        mergesort(sortArr, sortArrClone, 0, sortArr.length - 1, isAscending, elemType);
+        // The keys are evaluated by now, hence sorting them does not run any ballerina code and can be split across
+        // threads. The ranges of each half are disjoint and the merge order is unchanged, so the sort stays stable.
+        if (sortArr.length >= PARALLEL_SORT_THRESHOLD && ForkJoinPool.getCommonPoolParallelism() > 1) {
+            ForkJoinPool.commonPool().invoke(new MergeSortTask(sortArr, sortArrClone, 0, sortArr.length - 1,
+                                                               isAscending, elemType));
+        } else {
+            mergesort(sortArr, sortArrClone, 0, sortArr.length - 1, isAscending, elemType);
+        }
 
         for (int k = 0; k < sortArr.length; k++) {
             arr.add(k, sortArr[k][1]);
@@ -124,6 +136,43 @@ public class Sort {
         merge(input, aux, lo, mid, hi, isAscending, type);
     }
 
+    /**
+     * Merge sort of a range which sorts the two halves in parallel before merging them.
+     */
+    private static class MergeSortTask extends RecursiveAction {
+
+        private final Object[][] input;
+        private final Object[][] aux;
+        private final int lo;
+        private final int hi;
+        private final boolean isAscending;
+        private final Type type;
+
+        MergeSortTask(Object[][] input, Object[][] aux, int lo, int hi, boolean isAscending, Type type) {
+            this.input = input;
+            this.aux = aux;
+            this.lo = lo;
+            this.hi = hi;
+            this.isAscending = isAscending;
+            this.type = type;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo < PARALLEL_SORT_THRESHOLD) {
+                mergesort(input, aux, lo, hi, isAscending, type);
+                return;
+            }
+
+            int mid = lo + (hi - lo) / 2;
+
+            invokeAll(new MergeSortTask(input, aux, lo, mid, isAscending, type),
+                      new MergeSortTask(input, aux, mid + 1, hi, isAscending, type));
+
+            merge(input, aux, lo, mid, hi, isAscending, type);
+        }
+    }
+
     private static void merge(Object[][] input, Object[][] aux, int lo, int mid, int hi, boolean isAscending,
                               Type type) {
         if (hi + 1 - lo >= 0) {
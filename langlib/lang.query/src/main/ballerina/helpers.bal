@@ -150,3 +150,18 @@ function consumeStream(stream<Type, ErrorType> strm) returns error? {
         return v;
     }
 }
+
+function initJoinTable(_JoinTable joinTable) = @java:Method {
+    'class: "org.ballerinalang.langlib.query.JoinTable",
+    name: "init"
+} external;
+
+function getFromJoinTable(_JoinTable joinTable, any key, boolean isLhsKey) returns any = @java:Method {
+    'class: "org.ballerinalang.langlib.query.JoinTable",
+    name: "get"
+} external;
+
+function putToJoinTable(_JoinTable joinTable, any key, boolean isLhsKey, any value) = @java:Method {
+    'class: "org.ballerinalang.langlib.query.JoinTable",
+    name: "put"
+} external;
@@ -59,6 +59,16 @@ type _StreamFunction object {
     public function reset();
 };
 
+# A stream function of a clause which can be fused into a `_FusedFunction`.
+type _FusableFunction object {
+    *_StreamFunction;
+
+    # Applies the clause to a frame of the previous clause.
+    # + return - resulting frame, an error returned by the clause, nil at the end, or false if the frame is filtered
+    #            out
+    public function processFrame(_Frame _frame) returns _Frame|error|boolean?;
+};
+
 type _Frame record {|
     (any|error|())...;
 |};
@@ -70,7 +80,12 @@ class _StreamPipeline {
     function init(
             Type[]|map<Type>|record{}|string|xml|table<map<Type>>|stream<Type, ErrorType>|_Iterable collection,
             typedesc<Type> resType) {
-        self.streamFunction = new _InitFunction(collection);
+        if (collection is Type[]) {
+            // Members of a list are read by the fused function, without going through an iterator.
+            self.streamFunction = new _FusedFunction(collection);
+        } else {
+            self.streamFunction = new _InitFunction(collection);
+        }
         self.resType = resType;
     }
 
@@ -89,8 +104,16 @@ class _StreamPipeline {
 
     function addStreamFunction(_StreamFunction streamFunction) {
         _StreamFunction existingFunc = self.streamFunction;
-        streamFunction.prevFunc = existingFunc;
-        self.streamFunction = streamFunction;
+        if (existingFunc is _FusedFunction && existingFunc.addClause(streamFunction)) {
+            return;
+        }
+        _StreamFunction nextFunc = streamFunction;
+        _FusedFunction fusedFunc = new (());
+        if (fusedFunc.addClause(streamFunction)) {
+            nextFunc = fusedFunc;
+        }
+        nextFunc.prevFunc = existingFunc;
+        self.streamFunction = nextFunc;
     }
 
     public function getStream() returns stream <Type, ErrorType> {
@@ -183,6 +206,11 @@ class _InputFunction {
         return pFrame;
     }
 
+    public function processFrame(_Frame _frame) returns _Frame|error|boolean? {
+        function (_Frame _frame) returns _Frame|error? f = self.inputFunc;
+        return f(_frame);
+    }
+
     public function reset() {
         _StreamFunction? pf = self.prevFunc;
         if (pf is _StreamFunction) {
@@ -300,6 +328,11 @@ class _LetFunction {
         return pFrame;
     }
 
+    public function processFrame(_Frame _frame) returns _Frame|error|boolean? {
+        function (_Frame _frame) returns _Frame|error? f = self.letFunc;
+        return f(_frame);
+    }
+
     public function reset() {
         _StreamFunction? pf = self.prevFunc;
         if (pf is _StreamFunction) {
@@ -310,26 +343,14 @@ class _LetFunction {
 
 class _InnerJoinFunction {
     *_StreamFunction;
-    function (_Frame _frame) returns any lhsKeyFunction;
-    function (_Frame _frame) returns any rhsKeyFunction;
-    _FrameMultiMap rhsFramesMap = new;
-    _Frame[]? rhsCandidates;
-    _Frame|error? lhsFrame;
+    _HashJoin hashJoin;
 
     function init(
             _StreamPipeline pipelineToJoin,
             function (_Frame _frame) returns any lhsKeyFunction,
             function (_Frame _frame) returns any rhsKeyFunction) {
-        self.lhsKeyFunction = lhsKeyFunction;
-        self.rhsKeyFunction = rhsKeyFunction;
-        self.rhsCandidates = ();
         self.prevFunc = ();
-        self.lhsFrame = ();
-        _Frame|error? f = pipelineToJoin.next();
-        while (f is _Frame) {
-            self.rhsFramesMap.put(rhsKeyFunction(f).toString(), f);
-            f = pipelineToJoin.next();
-        }
+        self.hashJoin = new (pipelineToJoin, lhsKeyFunction, rhsKeyFunction, ());
     }
 
     # Desugared function to do;
@@ -337,46 +358,11 @@ class _InnerJoinFunction {
     # join var ... in streamA join var ... in streamB
     # + return - merged two frames { ...frameA, ...frameB }
     public function process() returns _Frame|error? {
-        function (_Frame _frame) returns any lhsKF = self.lhsKeyFunction;
-        _StreamFunction pf = <_StreamFunction>self.prevFunc;
-         _FrameMultiMap rhsFramesMap = self.rhsFramesMap;
-        _Frame[]? rhsCandidates = self.rhsCandidates;
-        _Frame|error? lhsFrame = self.lhsFrame;
-        string lhsKey = "";
-
-        if (lhsFrame is ()) {
-            lhsFrame = pf.process();
-            self.lhsFrame = lhsFrame;
-        }
-
-        if (lhsFrame is _Frame) {
-            lhsKey = lhsKF(lhsFrame).toString();
-            if (rhsCandidates is ()) {
-                rhsCandidates = rhsFramesMap.get(lhsKey);
-                self.rhsCandidates = rhsCandidates;
-            }
-            if (rhsCandidates is _Frame[] && rhsCandidates.length() > 0) {
-                _Frame rhsFrame = rhsCandidates.shift();
-                self.rhsCandidates = rhsCandidates;
-                _Frame joinedFrame = {...lhsFrame};
-                foreach var [k, val] in rhsFrame.entries() {
-                    joinedFrame[k] = val;
-                }
-                return joinedFrame;
-            } else {
-                // Move to next lhs frame
-                self.lhsFrame = ();
-                self.rhsCandidates = ();
-                return self.process();
-            }
-        }
-        return lhsFrame;
+        return self.hashJoin.process(<_StreamFunction>self.prevFunc);
     }
 
     public function reset() {
-        // Reset the state of lhsFrame
-        self.lhsFrame = ();
-        self.rhsCandidates = ();
+        self.hashJoin.reset();
         _StreamFunction? pf = self.prevFunc;
         if (pf is _StreamFunction) {
             pf.reset();
@@ -386,28 +372,14 @@ class _InnerJoinFunction {
 
 class _OuterJoinFunction {
     *_StreamFunction;
-    function (_Frame _frame) returns any lhsKeyFunction;
-    function (_Frame _frame) returns any rhsKeyFunction;
-    _FrameMultiMap rhsFramesMap = new;
-    _Frame[]? rhsCandidates;
-    _Frame|error? lhsFrame;
-    _Frame nilFrame;
+    _HashJoin hashJoin;
 
     function init(
             _StreamPipeline pipelineToJoin,
             function (_Frame _frame) returns any lhsKeyFunction,
             function (_Frame _frame) returns any rhsKeyFunction, _Frame nilFrame) {
-        self.lhsKeyFunction = lhsKeyFunction;
-        self.rhsKeyFunction = rhsKeyFunction;
-        self.rhsCandidates = ();
         self.prevFunc = ();
-        self.lhsFrame = ();
-        self.nilFrame = nilFrame;
-        _Frame|error? f = pipelineToJoin.next();
-        while (f is _Frame) {
-            self.rhsFramesMap.put(rhsKeyFunction(f).toString(), f);
-            f = pipelineToJoin.next();
-        }
+        self.hashJoin = new (pipelineToJoin, lhsKeyFunction, rhsKeyFunction, nilFrame);
     }
 
     # Desugared function to do;
@@ -415,62 +387,124 @@ class _OuterJoinFunction {
     # outer join var ... in streamA join var ... in streamB
     # + return - merged two frames { ...frameA, ...frameB }
     public function process() returns _Frame|error? {
-        function (_Frame _frame) returns any lhsKF = self.lhsKeyFunction;
-        _StreamFunction pf = <_StreamFunction>self.prevFunc;
-         _FrameMultiMap rhsFramesMap = self.rhsFramesMap;
-        _Frame[]? rhsCandidates = self.rhsCandidates;
-        _Frame|error? lhsFrame = self.lhsFrame;
-        _Frame nilFrame = self.nilFrame;
-        string lhsKey = "";
-
-        if (lhsFrame is ()) {
-            lhsFrame = pf.process();
-            self.lhsFrame = lhsFrame;
+        return self.hashJoin.process(<_StreamFunction>self.prevFunc);
+    }
+
+    public function reset() {
+        self.hashJoin.reset();
+        _StreamFunction? pf = self.prevFunc;
+        if (pf is _StreamFunction) {
+            pf.reset();
         }
+    }
+}
 
-        if (lhsFrame is _Frame) {
-            lhsKey = lhsKF(lhsFrame).toString();
-            if (rhsCandidates is ()) {
-                rhsCandidates = rhsFramesMap.get(lhsKey);
-                self.rhsCandidates = rhsCandidates;
-            }
+class _FusedFunction {
+    *_StreamFunction;
+    Type[]? list;
+    _FusableFunction[] clauses = [];
+    int index = 0;
+    # Length of the list when the iteration started, similar to an iterator of the list
+    int length;
+
+    # Consecutive from, let, where, select, do and limit clauses, which are applied to each frame in a single loop
+    # instead of a stream function per clause.
+    # + list - members of the collection of the query, if this is the first stream function of the pipeline
+    function init(Type[]? list) {
+        self.prevFunc = ();
+        self.list = list;
+        self.length = list is Type[] ? list.length() : 0;
+    }
 
-            if (rhsCandidates is _Frame[]) {
-                _Frame rhsFrame = rhsCandidates.shift();
-                if (rhsCandidates.length() > 0) {
-                    self.rhsCandidates = rhsCandidates;
-                } else {
-                    // Move to next lhs frame in next iteration.
-                    self.rhsCandidates = ();
-                    self.lhsFrame = ();
-                }
-                _Frame joinedFrame = {...lhsFrame};
-                foreach var [k, val] in rhsFrame.entries() {
-                    joinedFrame[k] = val;
-                }
-                return joinedFrame;
-            } else {
-                // rhsCandidates is nil, move to next lhs frame in next iteration.
-                _Frame joinedFrame = {...lhsFrame};
-                foreach var [k, val] in nilFrame.entries() {
-                    joinedFrame[k] = val;
+    # Adds the clause of the given stream function, if it can be fused.
+    # + return - true if the clause was added
+    function addClause(_StreamFunction streamFunction) returns boolean {
+        if (streamFunction is _FusableFunction) {
+            self.clauses.push(streamFunction);
+            return true;
+        }
+        return false;
+    }
+
+    public function process() returns _Frame|error? {
+        Type[]? list = self.list;
+        if (list is Type[]) {
+            while (self.index < self.length) {
+                _Frame _frame = {value: list[self.index]};
+                self.index += 1;
+                _Frame|error|boolean? cFrame = self.applyClauses(_frame);
+                if (!(cFrame is boolean)) {
+                    return cFrame;
                 }
-                self.lhsFrame = ();
-                return joinedFrame;
             }
+            return ();
+        }
+        _StreamFunction pf = <_StreamFunction>self.prevFunc;
+        _Frame|error? pFrame = pf.process();
+        while (pFrame is _Frame) {
+            _Frame|error|boolean? cFrame = self.applyClauses(pFrame);
+            if (!(cFrame is boolean)) {
+                return cFrame;
+            }
+            // The frame is filtered out, move to the next frame.
+            pFrame = pf.process();
         }
-        return lhsFrame;
+        return pFrame;
     }
 
     public function reset() {
-        // Reset the state of lhsFrame
-        self.lhsFrame = ();
-        self.rhsCandidates = ();
+        Type[]? list = self.list;
+        self.index = 0;
+        self.length = list is Type[] ? list.length() : 0;
+        foreach _FusableFunction clause in self.clauses {
+            // The previous function of a fused clause is nil, hence this resets only the count of a limit clause.
+            clause.reset();
+        }
         _StreamFunction? pf = self.prevFunc;
         if (pf is _StreamFunction) {
             pf.reset();
         }
     }
+
+    # Returns the number of frames this produces, if it is known before consuming them.
+    # + return - number of frames, or -1 if it is not known
+    function knownSize() returns int {
+        if (self.list is ()) {
+            return -1;
+        }
+        foreach _FusableFunction clause in self.clauses {
+            // Other than the from, let and select clauses, a clause may leave out frames.
+            if (!(clause is _InputFunction || clause is _LetFunction || clause is _SelectFunction)) {
+                return -1;
+            }
+        }
+        return self.length - self.index;
+    }
+
+    # Returns whether the clauses only bind the members of the list to the variables of from clauses, hence
+    # consuming the frames runs no other code of the query.
+    function hasOnlyFromClauses() returns boolean {
+        foreach _FusableFunction clause in self.clauses {
+            if (!(clause is _InputFunction)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    function applyClauses(_Frame _frame) returns _Frame|error|boolean? {
+        _Frame cFrame = _frame;
+        foreach _FusableFunction clause in self.clauses {
+            _Frame|error|boolean? result = clause.processFrame(cFrame);
+            if (result is _Frame) {
+                cFrame = result;
+            } else {
+                // An error or nil ends the clauses, similar to the stream functions of the clauses.
+                return result;
+            }
+        }
+        return cFrame;
+    }
 }
 
 class _FilterFunction {
@@ -496,6 +530,14 @@ class _FilterFunction {
         return pFrame;
     }
 
+    public function processFrame(_Frame _frame) returns _Frame|error|boolean? {
+        function (_Frame _frame) returns boolean filterFunc = self.filterFunc;
+        if (filterFunc(_frame)) {
+            return _frame;
+        }
+        return false;
+    }
+
     public function reset() {
         _StreamFunction? pf = self.prevFunc;
         if (pf is _StreamFunction) {
@@ -581,6 +623,11 @@ class _SelectFunction {
         return pFrame;
     }
 
+    public function processFrame(_Frame _frame) returns _Frame|error|boolean? {
+        function (_Frame _frame) returns _Frame|error? f = self.selectFunc;
+        return f(_frame);
+    }
+
     public function reset() {
         _StreamFunction? pf = self.prevFunc;
         if (pf is _StreamFunction) {
@@ -616,6 +663,12 @@ class _DoFunction {
         }
     }
 
+    public function processFrame(_Frame _frame) returns _Frame|error|boolean? {
+        function (_Frame _frame) f = self.doFunc;
+        f(_frame);
+        return _frame;
+    }
+
     public function reset() {
         _StreamFunction? pf = self.prevFunc;
         if (pf is _StreamFunction) {
@@ -654,6 +707,19 @@ class _LimitFunction {
         return pFrame;
     }
 
+    public function processFrame(_Frame _frame) returns _Frame|error|boolean? {
+        function (_Frame _frame) returns int limitFunc = self.limitFunc;
+        int lmt = limitFunc(_frame);
+        if (lmt < 1) {
+            panic error("Invalid limit", message = "limit cannot be < 1.");
+        }
+        if (self.count < lmt) {
+            self.count += 1;
+            return _frame;
+        }
+        return ();
+    }
+
     public function reset() {
         self.count = 0;
         _StreamFunction? pf = self.prevFunc;
@@ -665,36 +731,219 @@ class _LimitFunction {
 
 // ---- helper types ----
 
-class _FrameMultiMap {
-    map<_Frame[]> m;
+# Hash join of the left frames, which are produced by the stream function before the join, with the right frames,
+# which are produced by the pipeline to join.
+#
+# Frames of one side are put into a table by their join keys, and the frames of the other side are looked up in it.
+# The right side is the build side, unless the left side of an inner join is a smaller list than the right side, and
+# its clauses only bind the members of the list. The left side is then consumed before the first joined frame, along
+# with its join keys, hence a limit clause after the join does not stop the evaluation of the left join keys, and they
+# are evaluated before the right side. The joined frames are produced in the order of the left side in both cases.
+class _HashJoin {
+    _StreamPipeline pipelineToJoin;
+    function (_Frame _frame) returns any lhsKeyFunction;
+    function (_Frame _frame) returns any rhsKeyFunction;
+    # Frame joined with the left frames which have no matching right frames, or nil for an inner join
+    _Frame? nilFrame;
+    boolean isBuilt = false;
+    boolean isLhsBuildSide = false;
+
+    # Right frames by their join keys, when the right side is the build side
+    _JoinTable? rhsTable = ();
+    _Frame? lhsFrame = ();
+    _Frame[]? candidates = ();
+    int candidateIndex = 0;
+
+    # Left frames along with their matching right frames, when the left side is the build side
+    _JoinedFrames[] lhsFrames = [];
+    # Error which ended the left side, which is returned after the joined frames
+    error? lhsEnd = ();
+    int lhsIndex = 0;
+
+    function init(_StreamPipeline pipelineToJoin,
+            function (_Frame _frame) returns any lhsKeyFunction,
+            function (_Frame _frame) returns any rhsKeyFunction, _Frame? nilFrame) {
+        self.pipelineToJoin = pipelineToJoin;
+        self.lhsKeyFunction = lhsKeyFunction;
+        self.rhsKeyFunction = rhsKeyFunction;
+        self.nilFrame = nilFrame;
+    }
 
-    function init() {
-        self.m = {};
+    # Returns the next joined frame.
+    # + pf - stream function which produces the left frames
+    # + return - next joined frame, an error returned by the left side, or nil at the end
+    function process(_StreamFunction pf) returns _Frame|error? {
+        if (!self.isBuilt) {
+            self.build(pf);
+        }
+        if (self.isLhsBuildSide) {
+            return self.processLhsTable();
+        }
+
+        _JoinTable rhsTable = <_JoinTable>self.rhsTable;
+        function (_Frame _frame) returns any lhsKF = self.lhsKeyFunction;
+        while (!self.hasCandidate()) {
+            _Frame|error? lhsFrame = pf.process();
+            if (!(lhsFrame is _Frame)) {
+                // nil or an error ends the join.
+                return lhsFrame;
+            }
+            _Frame[]? candidates = <_Frame[]?>rhsTable.get(lhsKF(lhsFrame), true);
+            self.lhsFrame = lhsFrame;
+            self.candidates = candidates;
+            self.candidateIndex = 0;
+            _Frame? nilFrame = self.nilFrame;
+            if (candidates is () && nilFrame is _Frame) {
+                return self.join(lhsFrame, nilFrame);
+            }
+        }
+        _Frame[] candidates = <_Frame[]>self.candidates;
+        _Frame rhsFrame = candidates[self.candidateIndex];
+        self.candidateIndex += 1;
+        return self.join(<_Frame>self.lhsFrame, rhsFrame);
     }
 
-    function put(string k, _Frame v) {
-        _Frame[]? vals = self.m[k];
-        if (vals is _Frame[]) {
-            vals.push(v);
-        } else {
-            self.m[k] = [v];
+    function reset() {
+        self.lhsFrame = ();
+        self.candidates = ();
+        self.candidateIndex = 0;
+        if (self.isLhsBuildSide) {
+            // The left side is consumed again, hence the matching right frames are found again as well.
+            self.isBuilt = false;
+            self.lhsFrames = [];
+            self.lhsEnd = ();
+            self.pipelineToJoin.reset();
         }
     }
 
-    function get(string k) returns _Frame[]? {
-        _Frame[]? vals = self.m[k];
-        if (vals is _Frame[]) {
-            _Frame[] frames = [];
-            int l = vals.length();
-            int i = 0;
-            while (i < l) {
-                frames.push(vals[i]);
-                i += 1;
+    function build(_StreamFunction pf) {
+        // An outer join produces the left frames without matches while streaming them, hence it builds on the right
+        // side. Once the right side is consumed into its table, it stays the build side.
+        int lhsSize = -1;
+        int rhsSize = -1;
+        if (self.nilFrame is () && self.rhsTable is () && pf is _FusedFunction && pf.hasOnlyFromClauses()) {
+            lhsSize = pf.knownSize();
+        }
+        _StreamFunction rhsFunc = self.pipelineToJoin.streamFunction;
+        if (rhsFunc is _FusedFunction) {
+            rhsSize = rhsFunc.knownSize();
+        }
+        self.isLhsBuildSide = lhsSize >= 0 && rhsSize >= 0 && lhsSize < rhsSize;
+        if (self.isLhsBuildSide) {
+            self.buildLhsTable(pf);
+        } else if (self.rhsTable is ()) {
+            self.buildRhsTable();
+        }
+        self.isBuilt = true;
+    }
+
+    function buildRhsTable() {
+        _JoinTable rhsTable = new;
+        function (_Frame _frame) returns any rhsKF = self.rhsKeyFunction;
+        // Similar to the left side, an error ends the right side.
+        _Frame|error? f = self.pipelineToJoin.next();
+        while (f is _Frame) {
+            any key = rhsKF(f);
+            _Frame[]? frames = <_Frame[]?>rhsTable.get(key, false);
+            if (frames is _Frame[]) {
+                frames.push(f);
+            } else {
+                _Frame[] newFrames = [f];
+                rhsTable.put(key, false, newFrames);
             }
-            return frames;
+            f = self.pipelineToJoin.next();
         }
+        self.rhsTable = rhsTable;
     }
 
+    function buildLhsTable(_StreamFunction pf) {
+        _JoinTable lhsTable = new;
+        _JoinedFrames[] lhsFrames = [];
+        function (_Frame _frame) returns any lhsKF = self.lhsKeyFunction;
+        function (_Frame _frame) returns any rhsKF = self.rhsKeyFunction;
+        _Frame|error? f = pf.process();
+        while (f is _Frame) {
+            any key = lhsKF(f);
+            _JoinedFrames joinedFrames = {lhsFrame: f, rhsFrames: []};
+            _JoinedFrames[]? sameKeyFrames = <_JoinedFrames[]?>lhsTable.get(key, true);
+            if (sameKeyFrames is _JoinedFrames[]) {
+                sameKeyFrames.push(joinedFrames);
+            } else {
+                _JoinedFrames[] newFrames = [joinedFrames];
+                lhsTable.put(key, true, newFrames);
+            }
+            lhsFrames.push(joinedFrames);
+            f = pf.process();
+        }
+        self.lhsEnd = f is error ? f : ();
+
+        f = self.pipelineToJoin.next();
+        while (f is _Frame) {
+            _JoinedFrames[]? matches = <_JoinedFrames[]?>lhsTable.get(rhsKF(f), false);
+            if (matches is _JoinedFrames[]) {
+                foreach _JoinedFrames joinedFrames in matches {
+                    joinedFrames.rhsFrames.push(f);
+                }
+            }
+            f = self.pipelineToJoin.next();
+        }
+        self.lhsFrames = lhsFrames;
+        self.lhsIndex = 0;
+        self.candidateIndex = 0;
+    }
+
+    function processLhsTable() returns _Frame|error? {
+        _JoinedFrames[] lhsFrames = self.lhsFrames;
+        while (self.lhsIndex < lhsFrames.length()) {
+            _JoinedFrames joinedFrames = lhsFrames[self.lhsIndex];
+            if (self.candidateIndex < joinedFrames.rhsFrames.length()) {
+                _Frame rhsFrame = joinedFrames.rhsFrames[self.candidateIndex];
+                self.candidateIndex += 1;
+                return self.join(joinedFrames.lhsFrame, rhsFrame);
+            }
+            self.lhsIndex += 1;
+            self.candidateIndex = 0;
+        }
+        return self.lhsEnd;
+    }
+
+    function hasCandidate() returns boolean {
+        _Frame[]? candidates = self.candidates;
+        return candidates is _Frame[] && self.candidateIndex < candidates.length();
+    }
+
+    function join(_Frame lhsFrame, _Frame rhsFrame) returns _Frame {
+        _Frame joinedFrame = {...lhsFrame};
+        foreach var [k, val] in rhsFrame.entries() {
+            joinedFrame[k] = val;
+        }
+        return joinedFrame;
+    }
+}
+
+# Frame of the left side of a join along with its matching right frames.
+type _JoinedFrames record {|
+    _Frame lhsFrame;
+    _Frame[] rhsFrames;
+|};
+
+# Values of a join by their join keys, which are compared by their values as left key == right key.
+class _JoinTable {
+
+    function init() {
+        initJoinTable(self);
+    }
+
+    # Returns the value of the given join key.
+    # + isLhsKey - true if the key is of the left side of the join
+    # + return - value of the key, or nil if there is no value
+    function get(any key, boolean isLhsKey) returns any {
+        return getFromJoinTable(self, key, isLhsKey);
+    }
+
+    function put(any key, boolean isLhsKey, any value) {
+        putToJoinTable(self, key, isLhsKey, value);
+    }
 }
 
 class IterHelper {
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.TypeChecker;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Native implementation of the lang.query:_JoinTable, which keeps the values of a join by their join keys.
+ * <p>
+ * Keys are compared by their values, as left key == right key. The join itself, which calls the stream functions
+ * and the key functions, is done by lang.query:_HashJoin, hence those calls can yield.
+ *
+ * @since 2.0.0
+ */
+public class JoinTable {
+
+    private static final String JOIN_TABLE = "JOIN_TABLE";
+    // Nested members beyond this depth are left out of the hash code, which keeps cyclic keys from recursing forever
+    private static final int MAX_HASH_DEPTH = 8;
+
+    public static void init(BObject joinTable) {
+        joinTable.addNativeData(JOIN_TABLE, new HashMap<JoinKey, Object>());
+    }
+
+    /**
+     * Returns the value of the given join key.
+     *
+     * @param joinTable join table
+     * @param key       join key
+     * @param isLhsKey  true if the key is of the left side of the join
+     * @return value of the key, or nil if there is no value
+     */
+    public static Object get(BObject joinTable, Object key, boolean isLhsKey) {
+        return getTable(joinTable).get(new JoinKey(key, isLhsKey));
+    }
+
+    public static void put(BObject joinTable, Object key, boolean isLhsKey, Object value) {
+        getTable(joinTable).put(new JoinKey(key, isLhsKey), value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<JoinKey, Object> getTable(BObject joinTable) {
+        return (Map<JoinKey, Object>) joinTable.getNativeData(JOIN_TABLE);
+    }
+
+    private JoinTable() {
+    }
+
+    /**
+     * Join key, which is equal to another key if their values are equal with {@code ==}.
+     * <p>
+     * Numbers of different basic types are not equal, for example an int key does not match a decimal key of the same
+     * value. Numbers within mappings and lists are compared with {@code ==} of the runtime, which finds an int equal to
+     * a float or a decimal of the same value, hence numbers are hashed by their integer values.
+     */
+    private static class JoinKey {
+
+        private final Object value;
+        // Keys are compared as left key == right key, since == may differ when the operands are swapped.
+        private final boolean isLhsKey;
+        private final int hashCode;
+
+        JoinKey(Object value, boolean isLhsKey) {
+            this.value = value;
+            this.isLhsKey = isLhsKey;
+            this.hashCode = hash(value, 0);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof JoinKey)) {
+                return false;
+            }
+            JoinKey other = (JoinKey) o;
+            if (getNumberTypeTag(value) != getNumberTypeTag(other.value)) {
+                return false;
+            }
+            return isLhsKey ? TypeChecker.isEqual(value, other.value) : TypeChecker.isEqual(other.value, value);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        /**
+         * Returns the type tag of the basic type of a number, where a byte is an int, or -1 if it is not a number.
+         */
+        private static int getNumberTypeTag(Object value) {
+            if (value instanceof Long || value instanceof Integer) {
+                return TypeTags.INT_TAG;
+            }
+            if (value instanceof Double) {
+                return TypeTags.FLOAT_TAG;
+            }
+            if (value instanceof BDecimal) {
+                return TypeTags.DECIMAL_TAG;
+            }
+            return -1;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static int hash(Object value, int depth) {
+            if (value == null || depth > MAX_HASH_DEPTH) {
+                return 0;
+            }
+            if (value instanceof Long || value instanceof Integer) {
+                return Long.hashCode(((Number) value).longValue());
+            }
+            if (value instanceof Double) {
+                return Long.hashCode(((Double) value).longValue());
+            }
+            if (value instanceof BDecimal) {
+                return Long.hashCode(((BDecimal) value).value().longValue());
+            }
+            if (value instanceof BString) {
+                return ((BString) value).getValue().hashCode();
+            }
+            if (value instanceof Boolean) {
+                return Boolean.hashCode((Boolean) value);
+            }
+            if (value instanceof BMap) {
+                // Mappings are equal regardless of the order of their fields.
+                int hash = 0;
+                for (Map.Entry<BString, Object> entry : ((BMap<BString, Object>) value).entrySet()) {
+                    hash += hash(entry.getKey(), depth + 1) ^ hash(entry.getValue(), depth + 1);
+                }
+                return hash;
+            }
+            if (value instanceof BArray) {
+                BArray list = (BArray) value;
+                int hash = 1;
+                for (int i = 0, size = list.size(); i < size; i++) {
+                    hash = 31 * hash + hash(list.get(i), depth + 1);
+                }
+                return hash;
+            }
+            // Other values are left to the equality check.
+            return 0;
+        }
+    }
+}
@@ -26,7 +26,7 @@ import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.TypeChecker;
 import io.ballerina.runtime.internal.util.exceptions.BLangExceptionHelper;
 
-import java.util.HashMap;
+import java.util.IdentityHashMap;
 
 import static io.ballerina.runtime.api.creators.ErrorCreator.createError;
 import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons.BALLERINA_PREFIXED_CONVERSION_ERROR;
@@ -58,7 +58,7 @@ public class CloneUtils {
         }
 
         BRefValue refValue = (BRefValue) value;
-        return refValue.copy(new HashMap<>());
+        return refValue.copy(new IdentityHashMap<>());
     }
 
     /**
@@ -78,7 +78,7 @@ public class CloneUtils {
         }
 
         BRefValue refValue = (BRefValue) value;
-        return refValue.frozenCopy(new HashMap<>());
+        return refValue.frozenCopy(new IdentityHashMap<>());
     }
 
     public static BError createConversionError(Object inputValue, Type targetType) {
@@ -527,7 +527,10 @@ public class LangLibArrayTest {
                 "testSort10",
                 "testReadOnlyArrayFilter",
                 "testTupleFilter",
-                "testTupleReverse"
+                "testTupleReverse",
+                "testMapWithOccasionallyYieldingFunction",
+                "testPanicInArrayForEach",
+                "testSortLargeArray"
         };
     }
 }
@@ -207,7 +207,11 @@ public class LangLibMapTest {
                 "testOpenRecordToArray",
                 "testMapOfUnionToArray",
                 "testRecordWithSameTypeFieldsToArray",
-                "testReadOnlyMapFilter"
+                "testReadOnlyMapFilter",
+                "testPrimitiveConstrainedMaps",
+                "testPrimitiveConstrainedMapFunctions",
+                "testPrimitiveConstrainedMapCloneAndFreeze",
+                "testPrimitiveConstrainedMapJsonRoundTrip"
         };
     }
 }
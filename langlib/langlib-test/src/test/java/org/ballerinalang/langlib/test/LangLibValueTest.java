@@ -226,6 +226,11 @@ public class LangLibValueTest {
         BRunUtil.invoke(compileResult, "testXMLWithAngleBrackets");
     }
 
+    @Test
+    public void testCloneWithCyclicAndSharedReferences() {
+        BRunUtil.invoke(compileResult, "testCloneWithCyclicAndSharedReferences");
+    }
+
     @Test
     public void testToStringForTable() {
         BRunUtil.invokeFunction(compileResult, "testToStringMethodForTable");
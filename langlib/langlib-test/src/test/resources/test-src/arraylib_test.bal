@@ -1225,3 +1225,71 @@ function testReadOnlyArrayFilter() {
 function getRandomNumber(int i) returns int {
     return i + 2;
 }
+
+function testMapWithOccasionallyYieldingFunction() {
+    int[] numbers = [];
+    foreach int i in 0 ..< 1000 {
+        numbers.push(i);
+    }
+    int[] mapped = numbers.map(function (int i) returns int {
+        if (i % 100 == 0) {
+            future<int> f = start getRandomNumber(i);
+            return wait f;
+        }
+        return i + 2;
+    });
+    assertValueEquality(1000, mapped.length());
+    foreach int i in 0 ..< 1000 {
+        assertValueEquality(i + 2, mapped[i]);
+    }
+
+    int sum = numbers.reduce(function (int total, int i) returns int {
+        if (i % 250 == 0) {
+            future<int> f = start getRandomNumber(i);
+            return total + wait f - 2;
+        }
+        return total + i;
+    }, 0);
+    assertValueEquality(499500, sum);
+}
+
+function testPanicInArrayForEach() {
+    int[] numbers = [1, 2, 3, 4];
+    int count = 0;
+    error? result = trap numbers.forEach(function (int i) {
+        if (i == 3) {
+            panic error("invalid number: 3");
+        }
+        count += 1;
+    });
+    assertTrue(result is error);
+    assertValueEquality("invalid number: 3", (<error>result).message());
+    assertValueEquality(2, count);
+}
+
+function testSortLargeArray() {
+    // Large enough for the sort to be split across threads
+    int size = 50000;
+    int[] numbers = [];
+    foreach int i in 0 ..< size {
+        numbers.push((i * 7919) % size);
+    }
+    int[] sorted = numbers.sort();
+    foreach int i in 0 ..< size {
+        assertValueEquality(i, sorted[i]);
+    }
+
+    // The array is sorted in place, hence the members with the same key are in ascending order now
+    int[] descending = numbers.sort(array:DESCENDING, isolated function(int i) returns int => i % 10);
+    assertValueEquality(9, descending[0] % 10);
+    assertValueEquality(0, descending[size - 1] % 10);
+    foreach int i in 1 ..< size {
+        int previousKey = descending[i - 1] % 10;
+        int key = descending[i] % 10;
+        assertTrue(previousKey >= key);
+        // Members with the same key keep their order
+        if (previousKey == key) {
+            assertTrue(descending[i - 1] < descending[i]);
+        }
+    }
+}
@@ -320,3 +320,170 @@ function testReadOnlyMapFilter() {
     });
     assertFalse(passed.isReadOnly());
 }
+
+function testPrimitiveConstrainedMaps() {
+    map<int> counts = {};
+    foreach int i in 0 ..< 20 {
+        counts["k" + i.toString()] = i;
+    }
+    foreach int i in 0 ..< 20 {
+        if (i % 2 == 0) {
+            _ = counts.remove("k" + i.toString());
+        }
+    }
+    // Removed keys leave gaps, which are closed when the map grows.
+    foreach int i in 20 ..< 40 {
+        counts["k" + i.toString()] = i;
+    }
+    counts["k1"] = counts.get("k1") + 100;
+    assert(30, counts.length());
+    assert(["k1", "k3", "k5"], counts.keys().slice(0, 3));
+    assert(["k17", "k19", "k20", "k21"], counts.keys().slice(8, 12));
+    assert("k39", counts.keys()[29]);
+    assert(101, counts["k1"]);
+    assertFalse(counts.hasKey("k2"));
+    assert(counts, counts.clone());
+    assert(790, counts.reduce(function (int total, int value) returns int => total + value, 0));
+
+    map<float> ratios = {a: 0.5, b: 1.5};
+    ratios["c"] = ratios.get("a") + ratios.get("b");
+    assert(<float[]> [0.5, 1.5, 2.0], ratios.toArray());
+
+    map<boolean> flags = {a: true, b: false};
+    _ = flags.remove("a");
+    flags["a"] = false;
+    assert(<map<boolean>> {b: false, a: false}, flags);
+
+    map<string> names = {lk: "Sri Lanka", us: "USA"};
+    names.removeAll();
+    names["uk"] = "United Kingdom";
+    assert(["uk"], names.keys());
+    assert("United Kingdom", names["uk"]);
+}
+
+function testPrimitiveConstrainedMapFunctions() {
+    map<int> ints = {a: 1, b: 2, c: 3, d: 4};
+    _ = ints.remove("b");
+    ints["e"] = 5;
+    map<int> doubled = ints.map(function (int value) returns int => value * 2);
+    assert(<map<int>> {a: 2, c: 6, d: 8, e: 10}, doubled);
+    assert(["a", "c", "d", "e"], doubled.keys());
+    assert(<map<int>> {a: 1, c: 3, e: 5}, ints.filter(function (int value) returns boolean => value % 2 == 1));
+    string visited = "";
+    ints.forEach(function (int value) {
+        visited += value.toString();
+    });
+    assert("1345", visited);
+    assert(<[string, int]> ["c", 3], ints.entries()["c"]);
+    assert(4, ints.removeIfHasKey("d"));
+    assert((), ints.removeIfHasKey("d"));
+    assertFalse(ints.hasKey("d"));
+    assert(<int[]> [1, 3, 5], ints.toArray());
+
+    map<float> floats = {x: 1.5, y: 2.5};
+    _ = floats.remove("x");
+    floats["x"] = 0.5;
+    assert(<map<float>> {y: 5.0, x: 1.0}, floats.map(function (float value) returns float => value * 2));
+    assert(3.0, floats.reduce(function (float total, float value) returns float => total + value, 0.0));
+    assert(<float[]> [2.5, 0.5], floats.toArray());
+
+    map<boolean> flags = {a: true, b: false, c: true};
+    assert(<map<boolean>> {a: true, c: true}, flags.filter(function (boolean value) returns boolean => value));
+    assert(<[string, boolean]> ["b", false], flags.entries()["b"]);
+    assert(<boolean[]> [true, false, true], flags.toArray());
+
+    map<string> names = {a: "x", b: "y"};
+    assert(<map<string>> {a: "X", b: "Y"}, names.map(function (string value) returns string => value.toUpperAscii()));
+    assert("xy", names.reduce(function (string total, string value) returns string => total + value, ""));
+    assert("y", names.remove("b"));
+    assert(["a"], names.keys());
+}
+
+function testPrimitiveConstrainedMapCloneAndFreeze() {
+    map<int> ints = {a: 1, b: 2};
+    _ = ints.remove("a");
+    ints["c"] = 3;
+    map<int> intsClone = ints.clone();
+    intsClone["b"] = 20;
+    intsClone["d"] = 4;
+    assert(<map<int>> {b: 2, c: 3}, ints);
+    assert(<map<int>> {b: 20, c: 3, d: 4}, intsClone);
+    assertFalse(intsClone.isReadOnly());
+
+    map<int> & readonly frozenInts = ints.cloneReadOnly();
+    assertTrue(frozenInts.isReadOnly());
+    assert(ints, frozenInts);
+    assertInvalidUpdate(frozenInts, "b", 5);
+    assertInvalidRemoval(frozenInts, "b");
+    // The source map is still mutable.
+    ints["b"] = 5;
+    assert(2, frozenInts["b"]);
+
+    map<float> floats = {x: 1.5, y: 2.5};
+    map<float> & readonly frozenFloats = floats.cloneReadOnly();
+    assert(floats, frozenFloats.clone());
+    assertInvalidUpdate(frozenFloats, "z", 3.5);
+
+    map<boolean> flags = {a: true};
+    map<boolean> flagsClone = flags.clone();
+    flagsClone["a"] = false;
+    assert(<map<boolean>> {a: true}, flags);
+    map<boolean> & readonly frozenFlags = flags.cloneReadOnly();
+    assertInvalidUpdate(frozenFlags, "a", false);
+
+    map<string> names = {lk: "Sri Lanka"};
+    map<string> & readonly frozenNames = names.cloneReadOnly();
+    assertSameRef(frozenNames, frozenNames.cloneReadOnly());
+    assertInvalidRemoval(frozenNames, "lk");
+    assert("Sri Lanka", frozenNames["lk"]);
+}
+
+type IntMap map<int>;
+
+type FloatMap map<float>;
+
+type BooleanMap map<boolean>;
+
+type StringMap map<string>;
+
+function testPrimitiveConstrainedMapJsonRoundTrip() {
+    map<int> ints = {a: 1, b: -2};
+    _ = ints.remove("a");
+    ints["a"] = 3;
+    IntMap intsFromJson = checkpanic ints.toJsonString().fromJsonStringWithType(IntMap);
+    assert(ints, intsFromJson);
+    assert(["b", "a"], intsFromJson.keys());
+    IntMap intsFromClone = checkpanic ints.toJson().cloneWithType(IntMap);
+    assert(ints, intsFromClone);
+
+    map<float> floats = {a: 1.5, b: -0.25};
+    FloatMap floatsFromJson = checkpanic floats.toJsonString().fromJsonStringWithType(FloatMap);
+    assert(floats, floatsFromJson);
+    assert(floats, checkpanic floats.toJson().fromJsonWithType(FloatMap));
+
+    map<boolean> flags = {a: true, b: false};
+    BooleanMap flagsFromJson = checkpanic flags.toJsonString().fromJsonStringWithType(BooleanMap);
+    assert(flags, flagsFromJson);
+
+    map<string> names = {a: "x", b: "\"y\""};
+    StringMap namesFromJson = checkpanic names.toJsonString().fromJsonStringWithType(StringMap);
+    assert(names, namesFromJson);
+    json namesJson = names.toJson();
+    assert(<map<json>> {a: "x", b: "\"y\""}, namesJson);
+}
+
+function assertInvalidUpdate(map<anydata> m, string key, anydata value) {
+    error? err = trap updateMap(m, key, value);
+    assertTrue(err is error);
+    assert("{ballerina/lang.map}InvalidUpdate", (<error> err).message());
+}
+
+function assertInvalidRemoval(map<anydata> m, string key) {
+    anydata|error err = trap m.remove(key);
+    assertTrue(err is error);
+    assert("{ballerina/lang.map}InvalidUpdate", (<error> err).message());
+}
+
+function updateMap(map<anydata> m, string key, anydata value) {
+    m[key] = value;
+}
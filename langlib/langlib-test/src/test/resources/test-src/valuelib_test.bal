@@ -1449,3 +1449,31 @@ function testXMLWithAngleBrackets() {
     }
     panic error("AssertionError : expected: " + expected + " found: " + exy.toString());
 }
+
+function testCloneWithCyclicAndSharedReferences() {
+    anydata[] cyclicArray = [1];
+    cyclicArray.push(cyclicArray);
+    anydata[] clonedArray = cyclicArray.clone();
+    assertEquality(false, clonedArray === cyclicArray);
+    assertEquality(true, clonedArray[1] === clonedArray);
+
+    map<anydata> cyclicMap = {name: "root"};
+    int[] shared = [1, 2];
+    int[] equalToShared = [1, 2];
+    cyclicMap["self"] = [cyclicMap];
+    cyclicMap["first"] = shared;
+    cyclicMap["second"] = shared;
+    cyclicMap["third"] = equalToShared;
+
+    map<anydata> clonedMap = cyclicMap.clone();
+    assertEquality(true, (<anydata[]> clonedMap["self"])[0] === clonedMap);
+    assertEquality(true, clonedMap["first"] === clonedMap["second"]);
+    assertEquality(false, clonedMap["first"] === shared);
+    // Members which are equal but are not the same value are cloned separately
+    assertEquality(false, clonedMap["first"] === clonedMap["third"]);
+
+    map<anydata> & readonly immutableMap = cyclicMap.cloneReadOnly();
+    assertEquality(true, (<anydata[]> immutableMap["self"])[0] === immutableMap);
+    assertEquality(true, immutableMap["first"] === immutableMap["second"]);
+    assertEquality(true, immutableMap["third"] is readonly);
+}
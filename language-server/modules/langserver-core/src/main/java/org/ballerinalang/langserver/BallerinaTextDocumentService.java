@@ -24,6 +24,7 @@ import io.ballerina.projects.Document;
 import io.ballerina.projects.Module;
 import io.ballerina.tools.text.LinePosition;
 import io.ballerina.tools.text.LineRange;
+import io.ballerina.tools.text.TextDocument;
 import org.ballerinalang.formatter.core.Formatter;
 import org.ballerinalang.formatter.core.FormatterException;
 import org.ballerinalang.langserver.codelenses.CodeLensUtil;
@@ -409,12 +410,7 @@ class BallerinaTextDocumentService implements TextDocumentService {
                     return new ArrayList<>();
                 }
                 SyntaxTree syntaxTree = document.get().syntaxTree();
-                String formattedSource = Formatter.format(syntaxTree).toSourceCode();
-
-                LinePosition eofPos = syntaxTree.rootNode().lineRange().endLine();
-                Range range = new Range(new Position(0, 0), new Position(eofPos.line() + 1, eofPos.offset()));
-                textEdit = new TextEdit(range, formattedSource);
-                return Collections.singletonList(textEdit);
+                return toTextEdits(syntaxTree, Formatter.formatToTextEdits(syntaxTree));
             } catch (UserErrorException | FormatterException e) {
                 this.clientLogger.notifyUser("Formatting", e);
                 return Collections.singletonList(textEdit);
@@ -455,12 +451,7 @@ class BallerinaTextDocumentService implements TextDocumentService {
                 LinePosition endPos = LinePosition.from(range.getEnd().getLine(), range.getEnd().getCharacter());
 
                 LineRange lineRange = LineRange.from(syntaxTree.filePath(), startPos, endPos);
-                SyntaxTree formattedTree = Formatter.format(syntaxTree, lineRange);
-
-                LinePosition eofPos = syntaxTree.rootNode().lineRange().endLine();
-                Range updateRange = new Range(new Position(0, 0), new Position(eofPos.line() + 1, eofPos.offset()));
-                textEdit = new TextEdit(updateRange, formattedTree.toSourceCode());
-                return Collections.singletonList(textEdit);
+                return toTextEdits(syntaxTree, Formatter.formatToTextEdits(syntaxTree, lineRange));
             } catch (UserErrorException | FormatterException e) {
                 this.clientLogger.notifyUser("Formatting", e);
                 return Collections.singletonList(textEdit);
@@ -473,6 +464,27 @@ class BallerinaTextDocumentService implements TextDocumentService {
         });
     }
 
+    /**
+     * Converts the formatting text edits of the given syntax tree to the text edits to be sent to the client.
+     *
+     * @param syntaxTree       syntax tree which is formatted
+     * @param formattingEdits  text edits on the source of the syntax tree
+     * @return text edits with the line positions of the edited ranges
+     */
+    private static List<TextEdit> toTextEdits(SyntaxTree syntaxTree,
+                                              List<io.ballerina.tools.text.TextEdit> formattingEdits) {
+        TextDocument textDocument = syntaxTree.textDocument();
+        List<TextEdit> textEdits = new ArrayList<>(formattingEdits.size());
+        for (io.ballerina.tools.text.TextEdit formattingEdit : formattingEdits) {
+            LinePosition startPos = textDocument.linePositionFrom(formattingEdit.range().startOffset());
+            LinePosition endPos = textDocument.linePositionFrom(formattingEdit.range().endOffset());
+            Range range = new Range(new Position(startPos.line(), startPos.offset()),
+                    new Position(endPos.line(), endPos.offset()));
+            textEdits.add(new TextEdit(range, formattingEdit.text()));
+        }
+        return textEdits;
+    }
+
     @Override
     public CompletableFuture<WorkspaceEdit> rename(RenameParams params) {
         return CompletableFuture.supplyAsync(() -> {
@@ -534,7 +546,7 @@ class BallerinaTextDocumentService implements TextDocumentService {
             this.clientLogger.logTrace("Operation '" + LSContextOperation.TXT_DID_CHANGE.getName() +
                     "' {fileUri: '" + fileUri + "'} updated");
             DiagnosticsHelper diagnosticsHelper = DiagnosticsHelper.getInstance(this.serverContext);
-            diagnosticsHelper.compileAndSendDiagnostics(this.languageServer.getClient(), context);
+            diagnosticsHelper.schedulePublishDiagnostics(this.languageServer.getClient(), context);
         } catch (Throwable e) {
             String msg = "Operation 'text/didChange' failed!";
             this.clientLogger.logError(LSContextOperation.TXT_DID_CHANGE, msg, e, params.getTextDocument(),
@@ -76,6 +76,21 @@ public class LSClientLogger {
         }
     }
 
+    /**
+     * Sends a telemetry event with the given message, if telemetry is enabled by the client.
+     *
+     * @param operation {@link LSOperation}
+     * @param message   telemetry message
+     */
+    public void logTelemetry(LSOperation operation, String message) {
+        if (!this.isInitializedOnce || this.languageClient == null) {
+            return;
+        }
+        if (this.configHolder.getConfig().isEnableTelemetry()) {
+            this.languageClient.telemetryEvent(LSTelemetry.from(operation, message));
+        }
+    }
+
     /**
      * Logs the error message through the LSP protocol.
      *
@@ -49,6 +49,10 @@ public class LSTelemetry {
                                getStackTrace(error));
     }
 
+    public static LSTelemetry from(LSOperation operation, String message) {
+        return new LSTelemetry(getComponentName(operation), CommonUtil.SDK_VERSION, message, null, null);
+    }
+
     private static String getErrorMessage(Throwable error) {
         String claz = error.getClass().getName();
         String message = error.getMessage();
@@ -19,6 +19,8 @@ import io.ballerina.projects.PackageCompilation;
 import io.ballerina.projects.Project;
 import io.ballerina.projects.ProjectKind;
 import io.ballerina.tools.text.LineRange;
+import org.ballerinalang.langserver.LSClientLogger;
+import org.ballerinalang.langserver.LSContextOperation;
 import org.ballerinalang.langserver.commons.DocumentServiceContext;
 import org.ballerinalang.langserver.commons.LanguageServerContext;
 import org.ballerinalang.langserver.commons.client.ExtendedLanguageClient;
@@ -28,6 +30,7 @@ import org.eclipse.lsp4j.DiagnosticSeverity;
 import org.eclipse.lsp4j.Position;
 import org.eclipse.lsp4j.PublishDiagnosticsParams;
 import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextDocumentIdentifier;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -36,6 +39,11 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Utilities for the diagnostics related operations.
@@ -46,10 +54,29 @@ public class DiagnosticsHelper {
     private final List<Diagnostic> emptyDiagnosticList = new ArrayList<>(0);
     private static final LanguageServerContext.Key<DiagnosticsHelper> DIAGNOSTICS_HELPER_KEY =
             new LanguageServerContext.Key<>();
+    /**
+     * Time to wait for further changes before compiling a changed project.
+     */
+    private static final long DIAGNOSTICS_DELAY_MILLIS = 300;
+    /**
+     * Number of published diagnostics summarized by each latency telemetry event.
+     */
+    private static final int LATENCY_REPORT_INTERVAL = 50;
     /**
      * Holds last sent diagnostics for the purpose of clear-off when publishing new diagnostics.
      */
     private Map<String, List<Diagnostic>> lastDiagnosticMap;
+    private final LSClientLogger clientLogger;
+    private final ScheduledExecutorService diagnosticsScheduler;
+    private final Map<Path, ScheduledFuture<?>> pendingDiagnostics = new ConcurrentHashMap<>();
+    /**
+     * Number of changes scheduled per project root. A compilation is stale once a newer change is scheduled.
+     */
+    private final Map<Path, Long> changeGenerations = new ConcurrentHashMap<>();
+    private int publishedCount;
+    private long totalCompileNanos;
+    private long totalLatencyNanos;
+    private long maxLatencyNanos;
 
     public static DiagnosticsHelper getInstance(LanguageServerContext serverContext) {
         DiagnosticsHelper diagnosticsHelper = serverContext.get(DIAGNOSTICS_HELPER_KEY);
@@ -63,6 +90,12 @@ public class DiagnosticsHelper {
     private DiagnosticsHelper(LanguageServerContext serverContext) {
         serverContext.put(DIAGNOSTICS_HELPER_KEY, this);
         this.lastDiagnosticMap = new HashMap<>();
+        this.clientLogger = LSClientLogger.getInstance(serverContext);
+        this.diagnosticsScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ballerina-ls-diagnostics");
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     /**
@@ -83,7 +116,66 @@ public class DiagnosticsHelper {
         if (client == null) {
             return;
         }
+        publishDiagnostics(client, diagnosticMap);
+    }
+
+    /**
+     * Schedules compiling and publishing diagnostics for a changed source file.
+     * <p>
+     * The compilation starts after a short delay, and is cancelled if another change of the same project is scheduled
+     * within that delay. Diagnostics of a compilation which is already running when another change is scheduled are
+     * dropped, since the compilation of the latter change supersedes them.
+     *
+     * @param client  Language server client
+     * @param context LS context
+     */
+    public void schedulePublishDiagnostics(ExtendedLanguageClient client, DocumentServiceContext context) {
+        long changedTime = System.nanoTime();
+        Path projectRoot = context.workspace().projectRoot(context.filePath());
+        long generation = changeGenerations.merge(projectRoot, 1L, Long::sum);
+        ScheduledFuture<?> diagnosticsFuture = diagnosticsScheduler.schedule(
+                () -> compileAndSendDiagnostics(client, context, projectRoot, generation, changedTime),
+                DIAGNOSTICS_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+        ScheduledFuture<?> previousFuture = pendingDiagnostics.put(projectRoot, diagnosticsFuture);
+        if (previousFuture != null) {
+            previousFuture.cancel(false);
+        }
+    }
+
+    private void compileAndSendDiagnostics(ExtendedLanguageClient client, DocumentServiceContext context,
+                                           Path projectRoot, long generation, long changedTime) {
+        if (isStale(projectRoot, generation)) {
+            return;
+        }
+        try {
+            Optional<Project> project = context.workspace().project(context.filePath());
+            if (project.isEmpty()) {
+                return;
+            }
+            long compileStartTime = System.nanoTime();
+            Map<String, List<Diagnostic>> diagnosticMap = getLatestDiagnostics(context);
+            long compileTime = System.nanoTime() - compileStartTime;
+
+            synchronized (this) {
+                // If the client is null or the project has changed while compiling, returns
+                if (client == null || isStale(projectRoot, generation)) {
+                    return;
+                }
+                publishDiagnostics(client, diagnosticMap);
+                recordLatency(compileTime, System.nanoTime() - changedTime);
+            }
+        } catch (Throwable e) {
+            String msg = "Operation 'text/publishDiagnostics' failed!";
+            this.clientLogger.logError(LSContextOperation.TXT_DID_CHANGE, msg, e,
+                                       new TextDocumentIdentifier(context.fileUri()), (Position) null);
+        }
+    }
 
+    private boolean isStale(Path projectRoot, long generation) {
+        return changeGenerations.getOrDefault(projectRoot, 0L) != generation;
+    }
+
+    private void publishDiagnostics(ExtendedLanguageClient client, Map<String, List<Diagnostic>> diagnosticMap) {
         // Clear old entries with an empty list
         lastDiagnosticMap.forEach((key, value) -> {
             if (!diagnosticMap.containsKey(key)) {
@@ -98,6 +190,31 @@ public class DiagnosticsHelper {
         lastDiagnosticMap = diagnosticMap;
     }
 
+    /**
+     * Records the time taken to compile and the time from the change to publishing its diagnostics, and sends a
+     * summary of them once in every {@link #LATENCY_REPORT_INTERVAL} publications.
+     */
+    private void recordLatency(long compileNanos, long latencyNanos) {
+        publishedCount++;
+        totalCompileNanos += compileNanos;
+        totalLatencyNanos += latencyNanos;
+        maxLatencyNanos = Math.max(maxLatencyNanos, latencyNanos);
+        if (publishedCount < LATENCY_REPORT_INTERVAL) {
+            return;
+        }
+        String message = String.format("Diagnostics latency {count: %d, avgCompileMillis: %d, " +
+                                               "avgChangeToPublishMillis: %d, maxChangeToPublishMillis: %d}",
+                                       publishedCount,
+                                       TimeUnit.NANOSECONDS.toMillis(totalCompileNanos / publishedCount),
+                                       TimeUnit.NANOSECONDS.toMillis(totalLatencyNanos / publishedCount),
+                                       TimeUnit.NANOSECONDS.toMillis(maxLatencyNanos));
+        this.clientLogger.logTelemetry(LSContextOperation.TXT_DID_CHANGE, message);
+        publishedCount = 0;
+        totalCompileNanos = 0;
+        totalLatencyNanos = 0;
+        maxLatencyNanos = 0;
+    }
+
     public Map<String, List<Diagnostic>> getLatestDiagnostics(DocumentServiceContext context) {
         WorkspaceManager workspace = context.workspace();
         Map<String, List<Diagnostic>> diagnosticMap = new HashMap<>();
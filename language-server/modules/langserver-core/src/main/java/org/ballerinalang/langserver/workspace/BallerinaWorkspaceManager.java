@@ -41,6 +41,12 @@ import io.ballerina.projects.directory.BuildProject;
 import io.ballerina.projects.directory.SingleFileProject;
 import io.ballerina.projects.util.ProjectConstants;
 import io.ballerina.projects.util.ProjectPaths;
+import io.ballerina.tools.text.LinePosition;
+import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextDocumentChange;
+import io.ballerina.tools.text.TextDocuments;
+import io.ballerina.tools.text.TextEdit;
+import io.ballerina.tools.text.TextRange;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 import org.ballerinalang.langserver.LSClientLogger;
@@ -55,12 +61,15 @@ import org.eclipse.lsp4j.DidCloseTextDocumentParams;
 import org.eclipse.lsp4j.DidOpenTextDocumentParams;
 import org.eclipse.lsp4j.FileChangeType;
 import org.eclipse.lsp4j.FileEvent;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
 import org.eclipse.lsp4j.TextDocumentIdentifier;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
@@ -263,21 +272,34 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
         ProjectPair projectPair = createOrGetProjectPair(filePath, LSContextOperation.TXT_DID_CHANGE.getName());
 
         Project project = projectPair.project();
+        List<TextDocumentContentChangeEvent> changes = params.getContentChanges();
         if (filePath.equals(project.sourceRoot().resolve(ProjectConstants.BALLERINA_TOML))) {
             // Update Ballerina.toml
-            updateBallerinaToml(params.getContentChanges().get(0).getText(), projectPair, false);
+            Optional<TextDocument> oldToml = project.currentPackage().ballerinaToml()
+                    .map(toml -> toml.tomlDocument().textDocument());
+            updateBallerinaToml(applyContentChanges(oldToml, changes), projectPair, false);
         } else if (filePath.equals(project.sourceRoot().resolve(ProjectConstants.DEPENDENCIES_TOML))) {
             // create or update Dependencies.toml
-            updateDependenciesToml(params.getContentChanges().get(0).getText(), projectPair, false);
+            Optional<TextDocument> oldToml = project.currentPackage().dependenciesToml()
+                    .map(toml -> toml.tomlDocument().textDocument());
+            updateDependenciesToml(applyContentChanges(oldToml, changes), projectPair, false);
         } else if (filePath.equals(project.sourceRoot().resolve(ProjectConstants.CLOUD_TOML))) {
             // create or update Cloud.toml
-            updateCloudToml(params.getContentChanges().get(0).getText(), projectPair, false);
+            Optional<TextDocument> oldToml = project.currentPackage().cloudToml()
+                    .map(toml -> toml.tomlDocument().textDocument());
+            updateCloudToml(applyContentChanges(oldToml, changes), projectPair, false);
         } else if (filePath.equals(project.sourceRoot().resolve(ProjectConstants.COMPILER_PLUGIN_TOML))) {
             // create or update Compiler-plugin.toml
-            updateCompilerPluginToml(params.getContentChanges().get(0).getText(), projectPair, false);
+            Optional<TextDocument> oldToml = project.currentPackage().compilerPluginToml()
+                    .map(toml -> toml.tomlDocument().textDocument());
+            updateCompilerPluginToml(applyContentChanges(oldToml, changes), projectPair, false);
         } else if (ProjectPaths.isBalFile(filePath)) {
             // Update .bal document
-            updateDocument(filePath, params.getContentChanges().get(0).getText(), projectPair, false);
+            if (changes.size() == 1 && changes.get(0).getRange() == null) {
+                updateDocument(filePath, changes.get(0).getText(), projectPair, false);
+            } else {
+                updateDocument(filePath, changes, projectPair);
+            }
         } else {
             throw new WorkspaceDocumentException("Unsupported file update");
         }
@@ -786,6 +808,77 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
         }
     }
 
+    private void updateDocument(Path filePath, List<TextDocumentContentChangeEvent> changes, ProjectPair projectPair)
+            throws WorkspaceDocumentException {
+        // Lock Project Instance
+        Lock lock = projectPair.lockAndGet();
+        try {
+            // Get document
+            Optional<Document> document = document(filePath, projectPair.project());
+            if (document.isEmpty()) {
+                throw new WorkspaceDocumentException("Document does not exist in path: " + filePath.toString());
+            }
+
+            // Reparse only the changed ranges, reusing the unchanged nodes of the previous syntax tree
+            SyntaxTree syntaxTree = document.get().syntaxTree();
+            for (TextDocumentContentChangeEvent change : changes) {
+                if (change.getRange() == null) {
+                    syntaxTree = SyntaxTree.from(TextDocuments.from(change.getText()), document.get().name());
+                } else {
+                    TextEdit textEdit = toTextEdit(syntaxTree.textDocument(), change);
+                    syntaxTree = SyntaxTree.from(syntaxTree, TextDocumentChange.from(new TextEdit[]{textEdit}));
+                }
+            }
+
+            // Update file
+            Document updatedDoc = document.get().modify().withSyntaxTree(syntaxTree).apply();
+
+            // Update project instance
+            projectPair.setProject(updatedDoc.module().project());
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new WorkspaceDocumentException("Invalid content change for the document in path: " + filePath, e);
+        } finally {
+            // Unlock Project Instance
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Applies the given content changes, in order, on the given document and returns the changed content.
+     *
+     * @param textDocument document to apply the changes on, or empty if the document does not exist
+     * @param changes      content changes of the document
+     * @return content of the document after applying the changes
+     * @throws WorkspaceDocumentException when a change does not fit the document
+     */
+    private static String applyContentChanges(Optional<TextDocument> textDocument,
+                                              List<TextDocumentContentChangeEvent> changes)
+            throws WorkspaceDocumentException {
+        TextDocument changedDocument = textDocument.orElseGet(() -> TextDocuments.from(""));
+        try {
+            for (TextDocumentContentChangeEvent change : changes) {
+                if (change.getRange() == null) {
+                    changedDocument = TextDocuments.from(change.getText());
+                } else {
+                    TextEdit textEdit = toTextEdit(changedDocument, change);
+                    changedDocument = changedDocument.apply(TextDocumentChange.from(new TextEdit[]{textEdit}));
+                }
+            }
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new WorkspaceDocumentException("Invalid content change: " + e.getMessage(), e);
+        }
+        return changedDocument.toString();
+    }
+
+    private static TextEdit toTextEdit(TextDocument textDocument, TextDocumentContentChangeEvent change) {
+        Range range = change.getRange();
+        int startOffset = textDocument.textPositionFrom(
+                LinePosition.from(range.getStart().getLine(), range.getStart().getCharacter()));
+        int endOffset = textDocument.textPositionFrom(
+                LinePosition.from(range.getEnd().getLine(), range.getEnd().getCharacter()));
+        return TextEdit.from(TextRange.from(startOffset, endOffset - startOffset), change.getText());
+    }
+
     /**
      * The document close notification is sent from the client to the server when the document got closed in the
      * client.
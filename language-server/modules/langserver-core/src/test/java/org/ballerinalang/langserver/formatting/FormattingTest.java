@@ -17,6 +17,9 @@ package org.ballerinalang.langserver.formatting;
 
 import com.google.gson.Gson;
 import com.google.gson.internal.LinkedTreeMap;
+import io.ballerina.tools.text.LinePosition;
+import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextDocuments;
 import org.ballerinalang.langserver.util.FileUtils;
 import org.ballerinalang.langserver.util.TestUtil;
 import org.eclipse.lsp4j.DocumentFormattingParams;
@@ -75,12 +78,32 @@ public class FormattingTest {
         String result = TestUtil.getFormattingResponse(documentFormattingParams, this.serviceEndpoint);
         Gson gson = new Gson();
         ResponseMessage responseMessage = gson.fromJson(result, ResponseMessage.class);
-        String actual = (String) ((LinkedTreeMap) ((List) responseMessage.getResult()).get(0)).get("newText");
+        String actual = applyTextEdits(new String(Files.readAllBytes(inputFilePath)),
+                (List) responseMessage.getResult());
         actual = actual.replaceAll("\\r\\n", "\n");
         TestUtil.closeDocument(this.serviceEndpoint, inputFilePath);
         Assert.assertEquals(actual, expected, "Did not match: " + expectedFile);
     }
 
+    private static String applyTextEdits(String source, List<?> textEdits) {
+        TextDocument textDocument = TextDocuments.from(source);
+        StringBuilder result = new StringBuilder(source);
+        // Edits are ordered by their positions, hence applied from the last one to keep the offsets valid
+        for (int i = textEdits.size() - 1; i >= 0; i--) {
+            LinkedTreeMap textEdit = (LinkedTreeMap) textEdits.get(i);
+            LinkedTreeMap range = (LinkedTreeMap) textEdit.get("range");
+            int startOffset = textDocument.textPositionFrom(toLinePosition((LinkedTreeMap) range.get("start")));
+            int endOffset = textDocument.textPositionFrom(toLinePosition((LinkedTreeMap) range.get("end")));
+            result.replace(startOffset, endOffset, (String) textEdit.get("newText"));
+        }
+        return result.toString();
+    }
+
+    private static LinePosition toLinePosition(LinkedTreeMap position) {
+        return LinePosition.from(((Number) position.get("line")).intValue(),
+                ((Number) position.get("character")).intValue());
+    }
+
     @DataProvider(name = "fileProvider")
     public Object[][] fileProvider() {
         log.info("Test textDocument/format");
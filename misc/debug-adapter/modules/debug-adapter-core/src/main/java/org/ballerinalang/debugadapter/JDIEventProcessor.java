@@ -65,6 +65,7 @@ import static org.eclipse.lsp4j.debug.OutputEventArgumentsCategory.STDOUT;
 public class JDIEventProcessor {
 
     private final ExecutionContext context;
+    private final LoadedClassIndex classIndex;
     private boolean isRemoteVmAttached = false;
     private final Map<String, Map<Integer, BalBreakpoint>> breakpoints = new HashMap<>();
     private final List<EventRequest> stepEventRequests = new ArrayList<>();
@@ -75,12 +76,15 @@ public class JDIEventProcessor {
 
     JDIEventProcessor(ExecutionContext context) {
         this.context = context;
+        this.classIndex = new LoadedClassIndex(context);
     }
 
     /**
      * Asynchronously listens and processes the incoming JDI events.
      */
     void startListening() {
+        // Classes of a previously attached VM must not be used with the current one.
+        classIndex.clear();
         CompletableFuture.runAsync(() -> {
             isRemoteVmAttached = true;
             while (isRemoteVmAttached) {
@@ -106,9 +110,10 @@ public class JDIEventProcessor {
 
     private void processEvent(EventSet eventSet, Event event) {
         if (event instanceof ClassPrepareEvent) {
+            ReferenceType referenceType = ((ClassPrepareEvent) event).referenceType();
+            String qualifiedClassName = classIndex.addClass(referenceType);
             if (context.getLastInstruction() != DebugInstruction.STEP_OVER) {
-                ClassPrepareEvent evt = (ClassPrepareEvent) event;
-                configureUserBreakPoints(evt.referenceType());
+                configureUserBreakPoints(referenceType, qualifiedClassName);
             }
             eventSet.resume();
         } else if (event instanceof BreakpointEvent) {
@@ -159,7 +164,7 @@ public class JDIEventProcessor {
         if (context.getDebuggeeVM() != null) {
             // Setting breakpoints to a already running debug session.
             context.getEventManager().deleteAllBreakpoints();
-            context.getDebuggeeVM().allClasses().forEach(this::configureUserBreakPoints);
+            configureUserBreakPoints();
         }
     }
 
@@ -183,11 +188,22 @@ public class JDIEventProcessor {
 
         context.getEventManager().deleteAllBreakpoints();
         if (instruction == DebugInstruction.CONTINUE) {
-            context.getDebuggeeVM().allClasses().forEach(this::configureUserBreakPoints);
+            configureUserBreakPoints();
         }
     }
 
-    private void configureUserBreakPoints(ReferenceType referenceType) {
+    /**
+     * Configures user breakpoints in all the loaded classes of the sources which have breakpoints.
+     */
+    private void configureUserBreakPoints() {
+        for (String qualifiedClassName : breakpoints.keySet()) {
+            for (ReferenceType referenceType : classIndex.getClasses(qualifiedClassName)) {
+                configureUserBreakPoints(referenceType, qualifiedClassName);
+            }
+        }
+    }
+
+    private void configureUserBreakPoints(ReferenceType referenceType, String qualifiedClassName) {
         try {
             // Avoids setting break points if the server is running in 'no-debug' mode.
             ClientConfigHolder configHolder = context.getAdapter().getClientConfigHolder();
@@ -196,15 +212,13 @@ public class JDIEventProcessor {
                 return;
             }
 
-            String qualifiedClassName = getQualifiedClassName(context, referenceType);
             if (!breakpoints.containsKey(qualifiedClassName)) {
                 return;
             }
             Map<Integer, BalBreakpoint> breakpoints = this.breakpoints.get(qualifiedClassName);
             for (BalBreakpoint bp : breakpoints.values()) {
-                List<Location> locations = referenceType.locationsOfLine(bp.getLine().intValue());
-                if (!locations.isEmpty()) {
-                    Location loc = locations.get(0);
+                Location loc = classIndex.getLocation(referenceType, bp.getLine().intValue());
+                if (loc != null) {
                     BreakpointRequest bpReq = context.getEventManager().createBreakpointRequest(loc);
                     bpReq.enable();
                 }
@@ -260,9 +274,9 @@ public class JDIEventProcessor {
 
             int nextStepPoint = firstLocation.get().lineNumber();
             do {
-                List<Location> locations = referenceType.locationsOfLine(nextStepPoint);
-                if (!locations.isEmpty() && (locations.get(0).lineNumber() > firstLocation.get().lineNumber())) {
-                    BreakpointRequest bpReq = context.getEventManager().createBreakpointRequest(locations.get(0));
+                Location location = classIndex.getLocation(referenceType, nextStepPoint);
+                if (location != null && (location.lineNumber() > firstLocation.get().lineNumber())) {
+                    BreakpointRequest bpReq = context.getEventManager().createBreakpointRequest(location);
                     bpReq.enable();
                 }
                 nextStepPoint++;
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.debugadapter;
+
+import com.sun.jdi.AbsentInformationException;
+import com.sun.jdi.Location;
+import com.sun.jdi.ReferenceType;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.ballerinalang.debugadapter.utils.PackageUtils.getQualifiedClassName;
+
+/**
+ * Index of the classes loaded in the debuggee, by the qualified class name derived from their ballerina source.
+ * <p>
+ * The index is seeded with the classes loaded at the time of the first lookup and is kept up to date using the class
+ * prepare events, hence breakpoints of a source can be configured without going through all the loaded classes.
+ * The line locations of the indexed classes are cached as well, since they do not change once a class is loaded.
+ */
+class LoadedClassIndex {
+
+    // JDK classes never belong to a ballerina source and are the majority of the classes loaded at the start.
+    private static final String[] JDK_CLASS_PREFIXES = {"java.", "javax.", "jdk.", "sun.", "com.sun."};
+
+    private final ExecutionContext context;
+    private final Map<String, List<ReferenceType>> classesBySource = new ConcurrentHashMap<>();
+    private final Map<ReferenceType, Map<Integer, Location>> lineLocations = new ConcurrentHashMap<>();
+    private volatile boolean isSeeded = false;
+
+    LoadedClassIndex(ExecutionContext context) {
+        this.context = context;
+    }
+
+    /**
+     * Adds a newly loaded class to the index.
+     *
+     * @param referenceType JDI class reference of the loaded class
+     * @return qualified class name of the source of the class
+     */
+    String addClass(ReferenceType referenceType) {
+        String qualifiedClassName = getQualifiedClassName(context, referenceType);
+        List<ReferenceType> classes = classesBySource.computeIfAbsent(qualifiedClassName,
+                name -> new CopyOnWriteArrayList<>());
+        classes.addIfAbsent(referenceType);
+        return qualifiedClassName;
+    }
+
+    /**
+     * Returns the loaded classes which are generated from the given source.
+     *
+     * @param qualifiedClassName qualified class name derived from the source
+     * @return loaded classes of the source
+     */
+    List<ReferenceType> getClasses(String qualifiedClassName) {
+        seed();
+        return classesBySource.getOrDefault(qualifiedClassName, Collections.emptyList());
+    }
+
+    /**
+     * Returns the first location of the given line in the given class.
+     *
+     * @param referenceType JDI class reference
+     * @param line          source line number
+     * @return location of the line, or null if there is no code at the line
+     */
+    Location getLocation(ReferenceType referenceType, int line) {
+        return lineLocations.computeIfAbsent(referenceType, this::computeLineLocations).get(line);
+    }
+
+    void clear() {
+        classesBySource.clear();
+        lineLocations.clear();
+        isSeeded = false;
+    }
+
+    private synchronized void seed() {
+        if (isSeeded || context.getDebuggeeVM() == null) {
+            return;
+        }
+        // Classes loaded after this are added by the class prepare events, which may have added some of these already.
+        for (ReferenceType referenceType : context.getDebuggeeVM().getVirtualMachine().allClasses()) {
+            if (!isJdkClass(referenceType.name())) {
+                addClass(referenceType);
+            }
+        }
+        isSeeded = true;
+    }
+
+    private Map<Integer, Location> computeLineLocations(ReferenceType referenceType) {
+        try {
+            Map<Integer, Location> locations = new HashMap<>();
+            // Line locations are ordered by the method and the code index, similar to 'locationsOfLine()'.
+            for (Location location : referenceType.allLineLocations()) {
+                locations.putIfAbsent(location.lineNumber(), location);
+            }
+            return locations;
+        } catch (AbsentInformationException e) {
+            return Collections.emptyMap();
+        }
+    }
+
+    private static boolean isJdkClass(String className) {
+        for (String prefix : JDK_CLASS_PREFIXES) {
+            if (className.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -20,6 +20,9 @@ import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.tools.text.LineRange;
 import io.ballerina.tools.text.TextDocument;
 import io.ballerina.tools.text.TextDocuments;
+import io.ballerina.tools.text.TextEdit;
+
+import java.util.List;
 
 /**
  * Class that exposes the formatting APIs.
@@ -102,6 +105,71 @@ public class Formatter {
         return modifyTree(syntaxTree, options, null);
     }
 
+    /**
+     * Formats the provided SyntaxTree and returns back the text edits to be applied on its source, instead of the
+     * formatted SyntaxTree. Only the changed parts of the source are covered by the text edits.
+     *
+     * @param syntaxTree The SyntaxTree which is to be formatted
+     * @return Text edits on the source of the SyntaxTree, ordered by their positions
+     * @throws FormatterException Exception caught while formatting
+     */
+    public static List<TextEdit> formatToTextEdits(SyntaxTree syntaxTree) throws FormatterException {
+        return formatToTextEdits(syntaxTree, new FormattingOptions());
+    }
+
+    /**
+     * Formats a line range of the provided SyntaxTree and returns back the text edits to be applied on its source.
+     * Only the nodes falling within the line range are visited and only the changed parts of the source are covered
+     * by the text edits.
+     *
+     * @param syntaxTree The complete SyntaxTree, of which a part is to be formatted
+     * @param range LineRange which specifies the range to be formatted
+     * @return Text edits on the source of the SyntaxTree, ordered by their positions
+     * @throws FormatterException Exception caught while formatting
+     */
+    public static List<TextEdit> formatToTextEdits(SyntaxTree syntaxTree, LineRange range)
+            throws FormatterException {
+        return formatToTextEdits(syntaxTree, range, new FormattingOptions());
+    }
+
+    /**
+     * Formats the provided SyntaxTree while using the formatting options provided and returns back the text edits to
+     * be applied on its source.
+     *
+     * @param syntaxTree The SyntaxTree which is to be formatted
+     * @param options Formatting options that are to be used when formatting
+     * @return Text edits on the source of the SyntaxTree, ordered by their positions
+     * @throws FormatterException Exception caught while formatting
+     */
+    public static List<TextEdit> formatToTextEdits(SyntaxTree syntaxTree, FormattingOptions options)
+            throws FormatterException {
+        return textEdits(syntaxTree, modifyTree(syntaxTree, options, null));
+    }
+
+    /**
+     * Formats a line range of the provided SyntaxTree while using the formatting options provided and returns back
+     * the text edits to be applied on its source.
+     *
+     * @param syntaxTree The complete SyntaxTree, of which a part is to be formatted
+     * @param range LineRange which needs to be formatted
+     * @param options Formatting options that are to be used when formatting
+     * @return Text edits on the source of the SyntaxTree, ordered by their positions
+     * @throws FormatterException Exception caught while formatting
+     */
+    public static List<TextEdit> formatToTextEdits(SyntaxTree syntaxTree, LineRange range, FormattingOptions options)
+            throws FormatterException {
+        return textEdits(syntaxTree, modifyTree(syntaxTree, options, range));
+    }
+
+    private static List<TextEdit> textEdits(SyntaxTree syntaxTree, SyntaxTree formattedTree)
+            throws FormatterException {
+        try {
+            return FormattingTextEdits.from(syntaxTree.rootNode(), formattedTree.rootNode());
+        } catch (Exception e) {
+            throw new FormatterException("Error while formatting: " + e.getMessage(), e);
+        }
+    }
+
     private static SyntaxTree modifyTree(SyntaxTree syntaxTree, FormattingOptions options, LineRange range)
             throws FormatterException {
         FormattingTreeModifier treeModifier = new FormattingTreeModifier(options, range);
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.formatter.core;
+
+import io.ballerina.compiler.syntax.tree.ChildNodeList;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NonTerminalNode;
+import io.ballerina.compiler.syntax.tree.Token;
+import io.ballerina.tools.text.TextEdit;
+import io.ballerina.tools.text.TextRange;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Computes the text edits which turn the source of a node into the source of its formatted node.
+ * <p>
+ * Subtrees which are left unchanged by the formatter share the internal nodes with the original tree, hence they are
+ * skipped. Since the formatter only changes the minutiae, the edits replace the minutiae between the tokens.
+ *
+ * @since 2.0.0
+ */
+class FormattingTextEdits {
+
+    private final List<TextEdit> textEdits = new ArrayList<>();
+    private int editStartOffset;
+    private int editEndOffset;
+    private StringBuilder editText;
+
+    private FormattingTextEdits() {
+    }
+
+    /**
+     * Returns the text edits, ordered by their positions, which turn the source of the given node into the source of
+     * the formatted node.
+     *
+     * @param node          Node of the original tree
+     * @param formattedNode Node of the formatted tree
+     * @return Text edits on the source of the original tree
+     */
+    static List<TextEdit> from(Node node, Node formattedNode) {
+        FormattingTextEdits formattingTextEdits = new FormattingTextEdits();
+        if (!formattingTextEdits.collect(node, formattedNode)) {
+            // Tokens have been changed, hence the edit covers all the changed text.
+            return replacement(node, formattedNode);
+        }
+        formattingTextEdits.flush();
+        return formattingTextEdits.textEdits;
+    }
+
+    private boolean collect(Node node, Node formattedNode) {
+        if (node.internalNode() == formattedNode.internalNode()) {
+            return true;
+        }
+        if (node.kind() != formattedNode.kind()) {
+            return false;
+        }
+
+        if (node instanceof Token) {
+            Token token = (Token) node;
+            Token formattedToken = (Token) formattedNode;
+            if (!token.text().equals(formattedToken.text())) {
+                return false;
+            }
+            TextRange textRange = token.textRange();
+            TextRange textRangeWithMinutiae = token.textRangeWithMinutiae();
+            addEdit(textRangeWithMinutiae.startOffset(), textRange.startOffset(),
+                    token.leadingMinutiae().toString(), formattedToken.leadingMinutiae().toString());
+            addEdit(textRange.endOffset(), textRangeWithMinutiae.endOffset(),
+                    token.trailingMinutiae().toString(), formattedToken.trailingMinutiae().toString());
+            return true;
+        }
+
+        ChildNodeList children = ((NonTerminalNode) node).children();
+        ChildNodeList formattedChildren = ((NonTerminalNode) formattedNode).children();
+        if (children.size() != formattedChildren.size()) {
+            return false;
+        }
+        for (int i = 0; i < children.size(); i++) {
+            if (!collect(children.get(i), formattedChildren.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void addEdit(int startOffset, int endOffset, String text, String formattedText) {
+        if (text.equals(formattedText)) {
+            return;
+        }
+        // Trailing minutiae of a token and the leading minutiae of the next token are replaced by a single edit.
+        if (editText != null && editEndOffset == startOffset) {
+            editEndOffset = endOffset;
+            editText.append(formattedText);
+            return;
+        }
+        flush();
+        editStartOffset = startOffset;
+        editEndOffset = endOffset;
+        editText = new StringBuilder(formattedText);
+    }
+
+    private void flush() {
+        if (editText == null) {
+            return;
+        }
+        textEdits.add(TextEdit.from(TextRange.from(editStartOffset, editEndOffset - editStartOffset),
+                editText.toString()));
+        editText = null;
+    }
+
+    private static List<TextEdit> replacement(Node node, Node formattedNode) {
+        String source = node.toSourceCode();
+        String formattedSource = formattedNode.toSourceCode();
+        int prefixLength = 0;
+        int maxLength = Math.min(source.length(), formattedSource.length());
+        while (prefixLength < maxLength && source.charAt(prefixLength) == formattedSource.charAt(prefixLength)) {
+            prefixLength++;
+        }
+        int suffixLength = 0;
+        while (suffixLength < maxLength - prefixLength && source.charAt(source.length() - suffixLength - 1) ==
+                formattedSource.charAt(formattedSource.length() - suffixLength - 1)) {
+            suffixLength++;
+        }
+        if (prefixLength == source.length() && prefixLength == formattedSource.length()) {
+            return Collections.emptyList();
+        }
+
+        int startOffset = node.textRangeWithMinutiae().startOffset() + prefixLength;
+        int length = source.length() - prefixLength - suffixLength;
+        String text = formattedSource.substring(prefixLength, formattedSource.length() - suffixLength);
+        return Collections.singletonList(TextEdit.from(TextRange.from(startOffset, length), text));
+    }
+}
@@ -26,7 +26,9 @@ import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.tools.text.LinePosition;
 import io.ballerina.tools.text.LineRange;
 import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextDocumentChange;
 import io.ballerina.tools.text.TextDocuments;
+import io.ballerina.tools.text.TextEdit;
 import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
@@ -63,6 +65,14 @@ public abstract class RangeFormatterTest {
             syntaxTree = Formatter.format(syntaxTree, lineRange);
         }
         Assert.assertEquals(syntaxTree.toSourceCode(), getFileContent(assertFilePath));
+
+        // Applying the text edits of each range should give the same source
+        TextDocument editedDocument = textDocument;
+        for (LineRange lineRange : lineRanges) {
+            List<TextEdit> textEdits = Formatter.formatToTextEdits(SyntaxTree.from(editedDocument), lineRange);
+            editedDocument = editedDocument.apply(TextDocumentChange.from(textEdits.toArray(new TextEdit[0])));
+        }
+        Assert.assertEquals(editedDocument.toString(), getFileContent(assertFilePath));
     }
 
     /**
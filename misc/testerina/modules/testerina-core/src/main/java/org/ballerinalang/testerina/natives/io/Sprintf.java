@@ -18,18 +18,12 @@
 
 package org.ballerinalang.testerina.natives.io;
 
-import io.ballerina.runtime.api.TypeTags;
-import io.ballerina.runtime.api.types.ArrayType;
-import io.ballerina.runtime.api.types.Type;
-import io.ballerina.runtime.api.utils.StringUtils;
-import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BString;
-import io.ballerina.runtime.internal.TypeChecker;
+import io.ballerina.runtime.internal.util.FormatPlan;
 import io.ballerina.runtime.internal.util.exceptions.BLangExceptionHelper;
 import io.ballerina.runtime.internal.util.exceptions.RuntimeErrors;
 
-import java.util.IllegalFormatConversionException;
-
 /**
  * External function ballerina/test#sprintf.
  *
@@ -37,93 +31,28 @@ import java.util.IllegalFormatConversionException;
  */
 public class Sprintf {
 
-    private Sprintf() {
-    }
-
-    public static BString sprintf(BString format, Object... args) {
-        StringBuilder result = new StringBuilder();
+    private static final FormatPlan.ErrorFactory ERROR_FACTORY = new FormatPlan.ErrorFactory() {
 
-        for (int i = 0, j, k = 0; i < format.length(); i++) {
-            if (format.getValue().charAt(i) == '%' && ((i + 1) < format.length())) {
+        @Override
+        public BError notEnoughFormatArguments() {
+            return BLangExceptionHelper.getRuntimeException(RuntimeErrors.NOT_ENOUGH_FORMAT_ARGUMENTS);
+        }
 
-                // skip % character
-                j = i + 1;
+        @Override
+        public BError unknownFormatConversion(String formatSpecifier) {
+            return BLangExceptionHelper.getRuntimeException(RuntimeErrors.INVALID_FORMAT_SPECIFIER, formatSpecifier);
+        }
 
-                if (k >= args.length) {
-                    // there's not enough arguments
-                    throw BLangExceptionHelper.getRuntimeException(RuntimeErrors.NOT_ENOUGH_FORMAT_ARGUMENTS);
-                }
-                StringBuilder padding = new StringBuilder();
-                while (Character.isDigit(format.getValue().charAt(j)) || format.getValue().charAt(j) == '.') {
-                    padding.append(format.getValue().charAt(j));
-                    j += 1;
-                }
-                try {
-                    char formatSpecifier = format.getValue().charAt(j);
-                    Object ref = args[k];
-                    switch (formatSpecifier) {
-                        case 'b':
-                        case 'B':
-                        case 'd':
-                        case 'f':
-                            if (ref == null) {
-                                throw BLangExceptionHelper.getRuntimeException(RuntimeErrors.ILLEGAL_FORMAT_CONVERSION,
-                                        format.getValue().charAt(j) + " != ()");
-                            }
-                            result.append(String.format("%" + padding + formatSpecifier, ref));
-                            break;
-                        case 'x':
-                        case 'X':
-                            if (ref == null) {
-                                throw BLangExceptionHelper.getRuntimeException(RuntimeErrors.ILLEGAL_FORMAT_CONVERSION,
-                                        format.getValue().charAt(j) + " != ()");
-                            }
-                            formatHexString(result, k, padding, formatSpecifier, args);
-                            break;
-                        case 's':
-                            if (ref != null) {
-                                result.append(String.format("%" + padding + "s",
-                                                            StringUtils.getStringValue(ref, null)));
-                            }
-                            break;
-                        case '%':
-                            result.append("%");
-                            break;
-                        default:
-                            // format string not supported
-                            throw BLangExceptionHelper.getRuntimeException(RuntimeErrors.INVALID_FORMAT_SPECIFIER,
-                                    format.getValue().charAt(j));
-                    }
-                } catch (IllegalFormatConversionException e) {
-                    throw BLangExceptionHelper.getRuntimeException(RuntimeErrors.ILLEGAL_FORMAT_CONVERSION,
-                            format.getValue().charAt(j) + " != " +
-                                    TypeChecker.getType(args[k]));
-                }
-                if (format.getValue().charAt(j) == '%') {
-                    // special case %%, don't count as a format specifier
-                    i++;
-                } else {
-                    k++;
-                    i = j;
-                }
-                continue;
-            }
-            // no match, copy and continue
-            result.append(format.getValue().charAt(i));
+        @Override
+        public BError illegalFormatConversion(String conversion) {
+            return BLangExceptionHelper.getRuntimeException(RuntimeErrors.ILLEGAL_FORMAT_CONVERSION, conversion);
         }
-        return StringUtils.fromString(result.toString());
+    };
+
+    private Sprintf() {
     }
 
-    private static void formatHexString(StringBuilder result, int k, StringBuilder padding, char x, Object... args) {
-        final Object argsValues = args[k];
-        final Type type = TypeChecker.getType(argsValues);
-        if (TypeTags.ARRAY_TAG == type.getTag() && TypeTags.BYTE_TAG == ((ArrayType) type).getElementType().getTag()) {
-            BArray byteArray = ((BArray) argsValues);
-            for (int i = 0; i < byteArray.size(); i++) {
-                result.append(String.format("%" + padding + x, byteArray.getByte(i)));
-            }
-        } else {
-            result.append(String.format("%" + padding + x, argsValues));
-        }
+    public static BString sprintf(BString format, Object... args) {
+        return FormatPlan.of(format.getValue()).format(args, ERROR_FACTORY);
     }
 }
@@ -45,6 +45,7 @@ import io.ballerina.runtime.internal.values.MapValue;
 import io.ballerina.runtime.internal.values.ObjectValue;
 import io.ballerina.runtime.internal.values.XmlValue;
 import org.ballerinalang.test.runtime.entity.Test;
+import org.ballerinalang.test.runtime.entity.TestGroup;
 import org.ballerinalang.test.runtime.entity.TestSuite;
 import org.ballerinalang.test.runtime.entity.TesterinaFunction;
 import org.ballerinalang.test.runtime.entity.TesterinaReport;
@@ -64,9 +65,17 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Stack;
 import java.util.Vector;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
@@ -89,6 +98,7 @@ public class BTestRunner {
     private PrintStream errStream;
     private PrintStream outStream;
     private TesterinaReport tReport;
+    private final int parallelism;
 
     /**
      * Create Test Runner with given loggers.
@@ -97,8 +107,20 @@ public class BTestRunner {
      * @param errStream The error log strem.
      */
     public BTestRunner(PrintStream outStream, PrintStream errStream) {
+        this(outStream, errStream, 1);
+    }
+
+    /**
+     * Create Test Runner with given loggers, which executes up to the given number of tests concurrently.
+     *
+     * @param outStream   The info log stream.
+     * @param errStream   The error log strem.
+     * @param parallelism The maximum number of tests to be executed at a time.
+     */
+    public BTestRunner(PrintStream outStream, PrintStream errStream, int parallelism) {
         this.outStream = outStream;
         this.errStream = errStream;
+        this.parallelism = parallelism;
         tReport = new TesterinaReport(this.outStream);
     }
 
@@ -266,7 +288,11 @@ public class BTestRunner {
         // Run Before suite functions
         executeBeforeSuiteFunctions(suite, classLoader, scheduler, shouldSkip, shouldSkipAfterSuite);
         // Run Tests
-        executeTests(suite, packageName, classLoader, scheduler, shouldSkip, shouldSkipAfterGroups);
+        if (parallelism > 1) {
+            executeTestsInParallel(suite, packageName, classLoader, shouldSkip, shouldSkipAfterGroups);
+        } else {
+            executeTests(suite, packageName, classLoader, scheduler, shouldSkip, shouldSkipAfterGroups);
+        }
         // Run After suite functions
         executeAfterSuiteFunctions(suite, classLoader, scheduler, shouldSkipAfterSuite);
         // Call module stop and test stop function
@@ -320,6 +346,147 @@ public class BTestRunner {
         });
     }
 
+    /**
+     * Executes the tests of the suite concurrently, where a test is started only after the tests it depends on have
+     * completed. Each test is executed along with its before and after functions on a scheduler of its own thread.
+     */
+    private void executeTestsInParallel(TestSuite suite, String packageName, ClassLoader classLoader,
+                                        AtomicBoolean shouldSkip, AtomicBoolean shouldSkipAfterGroups) {
+        List<Test> tests = suite.getTests();
+        Map<String, Integer> testIndexes = new HashMap<>();
+        for (int i = 0; i < tests.size(); i++) {
+            testIndexes.put(tests.get(i).getTestName(), i);
+            for (String groupName : tests.get(i).getGroups()) {
+                suite.getGroups().get(groupName).setLastTestName(tests.get(i).getTestName());
+            }
+        }
+        int[] pendingDependencies = new int[tests.size()];
+        List<List<Integer>> dependants = new ArrayList<>();
+        for (int i = 0; i < tests.size(); i++) {
+            dependants.add(new ArrayList<>());
+        }
+        for (int i = 0; i < tests.size(); i++) {
+            for (String dependsOnFn : tests.get(i).getDependsOnTestFunctions()) {
+                dependants.get(testIndexes.get(dependsOnFn)).add(i);
+                pendingDependencies[i]++;
+            }
+        }
+
+        // These are read by the dependants of a test while other tests are being completed
+        List<String> failedOrSkippedTests = new CopyOnWriteArrayList<>();
+        List<String> failedAfterFuncTests = new CopyOnWriteArrayList<>();
+        ThreadLocal<Scheduler> schedulers = ThreadLocal.withInitial(() -> new Scheduler(4, false));
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        CompletionService<Integer> completionService = new ExecutorCompletionService<>(executor);
+        try {
+            for (int i = 0; i < tests.size(); i++) {
+                if (pendingDependencies[i] == 0) {
+                    submitTest(completionService, i, suite, packageName, classLoader, schedulers, shouldSkip,
+                            shouldSkipAfterGroups, failedOrSkippedTests, failedAfterFuncTests);
+                }
+            }
+            for (int completed = 0; completed < tests.size(); completed++) {
+                int completedTest = completionService.take().get();
+                for (int dependant : dependants.get(completedTest)) {
+                    if (--pendingDependencies[dependant] == 0) {
+                        submitTest(completionService, dependant, suite, packageName, classLoader, schedulers,
+                                shouldSkip, shouldSkipAfterGroups, failedOrSkippedTests, failedAfterFuncTests);
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BallerinaTestException("test execution was interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof BallerinaTestException) {
+                throw (BallerinaTestException) e.getCause();
+            }
+            throw new BallerinaTestException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void submitTest(CompletionService<Integer> completionService, int testIndex, TestSuite suite,
+                            String packageName, ClassLoader classLoader, ThreadLocal<Scheduler> schedulers,
+                            AtomicBoolean shouldSkip, AtomicBoolean shouldSkipAfterGroups,
+                            List<String> failedOrSkippedTests, List<String> failedAfterFuncTests) {
+        Test test = suite.getTests().get(testIndex);
+        completionService.submit(() -> {
+            Scheduler scheduler = schedulers.get();
+            AtomicBoolean shouldSkipTest = new AtomicBoolean(false);
+            executeBeforeGroupFunctionsOnce(test, suite, classLoader, scheduler, shouldSkip, shouldSkipTest,
+                    shouldSkipAfterGroups);
+            executeBeforeEachFunction(test, suite, classLoader, scheduler, shouldSkip, shouldSkipTest);
+            executeBeforeFunction(test, suite, classLoader, scheduler, shouldSkip, shouldSkipTest);
+            executeFunction(test, suite, packageName, classLoader, scheduler, shouldSkip, shouldSkipTest,
+                    failedOrSkippedTests, failedAfterFuncTests);
+            executeAfterFunction(test, suite, classLoader, scheduler, shouldSkip, shouldSkipTest,
+                    failedAfterFuncTests);
+            executeAfterEachFunction(test, suite, classLoader, scheduler, shouldSkip, shouldSkipTest);
+            executeAfterGroupFunctionsOnce(test, suite, classLoader, scheduler, shouldSkip, shouldSkipTest,
+                    shouldSkipAfterGroups);
+            return testIndex;
+        });
+    }
+
+    /**
+     * Executes the before group functions of the groups of the given test, unless they have been executed already.
+     * The other tests of a group wait on the lock of the group until its before group functions complete.
+     */
+    private void executeBeforeGroupFunctionsOnce(Test test, TestSuite suite, ClassLoader classLoader,
+                                                 Scheduler scheduler, AtomicBoolean shouldSkip,
+                                                 AtomicBoolean shouldSkipTest, AtomicBoolean shouldSkipAfterGroups) {
+        for (String groupName : test.getGroups()) {
+            TestGroup testGroup = suite.getGroups().get(groupName);
+            synchronized (testGroup) {
+                if (shouldSkip.get() || shouldSkipTest.get() || !testGroup.markBeforeGroupsExecuted()) {
+                    continue;
+                }
+                for (String beforeGroupFunc : testGroup.getBeforeGroupsFunctions()) {
+                    try {
+                        invokeTestFunction(suite, beforeGroupFunc, classLoader, scheduler);
+                    } catch (Throwable e) {
+                        shouldSkip.set(true);
+                        shouldSkipTest.set(true);
+                        shouldSkipAfterGroups.set(true);
+                        errStream.println(String.format("\t[fail] " + beforeGroupFunc +
+                                        " [before test group function for the test %s] :\n\t    %s", test,
+                                formatErrorMessage(e)));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Executes the after group functions of the groups of the given test, if all the other tests of a group have
+     * completed along with their after functions and the last test of the group in the execution order is not skipped.
+     */
+    private void executeAfterGroupFunctionsOnce(Test test, TestSuite suite, ClassLoader classLoader,
+                                                Scheduler scheduler, AtomicBoolean shouldSkip,
+                                                AtomicBoolean shouldSkipTest, AtomicBoolean shouldSkipAfterGroups) {
+        for (String groupName : test.getGroups()) {
+            TestGroup testGroup = suite.getGroups().get(groupName);
+            if (!testGroup.completeTest(test.getTestName(), shouldSkipTest.get()) || shouldSkipAfterGroups.get() ||
+                    shouldSkip.get()) {
+                continue;
+            }
+            for (String afterGroupFunc : testGroup.getAfterGroupsFunctions()) {
+                try {
+                    invokeTestFunction(suite, afterGroupFunc, classLoader, scheduler);
+                } catch (Throwable e) {
+                    shouldSkip.set(true);
+                    shouldSkipTest.set(true);
+                    shouldSkipAfterGroups.set(true);
+                    errStream.println(String.format("\t[fail] " + afterGroupFunc +
+                                    " [after test group function for the test %s] :\n\t    %s", test,
+                            formatErrorMessage(e)));
+                }
+            }
+        }
+    }
+
     private void executeBeforeGroupFunctions(Test test, TestSuite suite, ClassLoader classLoader, Scheduler scheduler,
                                        AtomicBoolean shouldSkip, AtomicBoolean shouldSkipTest,
                                              AtomicBoolean shouldSkipAfterGroups)  {
@@ -391,6 +558,7 @@ public class BTestRunner {
                                  Scheduler scheduler, AtomicBoolean shouldSkip, AtomicBoolean shouldSkipTest,
                                  List<String> failedOrSkippedTests, List<String> failedAfterFuncTests) {
         TesterinaResult functionResult;
+        long startTime = System.currentTimeMillis();
 
         try {
             if (isTestDependsOnFailedFunctions(test.getDependsOnTestFunctions(), failedOrSkippedTests) ||
@@ -405,18 +573,21 @@ public class BTestRunner {
                     valueSets = invokeTestFunction(suite, test.getDataProvider(), classLoader, scheduler);
                 }
                 if (valueSets == null) {
+                    startTime = System.currentTimeMillis();
                     invokeTestFunction(suite, test.getTestName(), classLoader, scheduler);
                     // report the test result
                     functionResult = new TesterinaResult(test.getTestName(), true, shouldSkip
-                            .get(), null);
+                            .get(), null, System.currentTimeMillis() - startTime);
                     tReport.addFunctionResult(packageName, functionResult);
                 } else {
                     Class<?>[] argTypes = extractArgumentTypes(valueSets);
                     List<Object[]> argList = extractArguments(valueSets);
                     for (Object[] arg : argList) {
+                        startTime = System.currentTimeMillis();
                         invokeTestFunction(suite, test.getTestName(), classLoader, scheduler, argTypes, arg);
                         TesterinaResult result = new TesterinaResult(test.getTestName(), true,
-                                                                     shouldSkip.get(), null);
+                                                                     shouldSkip.get(), null,
+                                                                     System.currentTimeMillis() - startTime);
                         tReport.addFunctionResult(packageName, result);
                     }
                 }
@@ -432,7 +603,7 @@ public class BTestRunner {
             failedOrSkippedTests.add(test.getTestName());
             // report the test result
             functionResult = new TesterinaResult(test.getTestName(), false, shouldSkip.get(),
-                                                 formatErrorMessage(e));
+                                                 formatErrorMessage(e), System.currentTimeMillis() - startTime);
             tReport.addFunctionResult(packageName, functionResult);
         }
         for (String groupName : test.getGroups()) {
@@ -443,7 +614,10 @@ public class BTestRunner {
             Path sourceRootPath = Paths.get(suite.getSourceRootPath()).resolve(TesterinaConstants.TARGET_DIR_NAME);
             Path jsonPath = Paths.get(sourceRootPath.toString(), TesterinaConstants.RERUN_TEST_JSON_FILE);
             File jsonFile = new File(jsonPath.toString());
-            writeFailedTestsToJson(failedOrSkippedTests, jsonFile);
+            // Tests executed in parallel write the same file
+            synchronized (failedOrSkippedTests) {
+                writeFailedTestsToJson(failedOrSkippedTests, jsonFile);
+            }
         }
 
     }
@@ -61,6 +61,7 @@ public class Main {
             Path testCache = Paths.get(args[0]);
             boolean report = Boolean.parseBoolean(args[1]);
             boolean coverage = Boolean.parseBoolean(args[2]);
+            int parallelism = args.length > 3 ? Integer.parseInt(args[3]) : 1;
 
             if (report || coverage) {
                 testReport = new TestReport();
@@ -94,7 +95,7 @@ public class Main {
 
                         Path jsonTmpSummaryPath = testCache.resolve(moduleName).resolve(TesterinaConstants.STATUS_FILE);
                         result = startTestSuit(Paths.get(testSuite.getSourceRootPath()), testSuite, jsonTmpSummaryPath,
-                                classLoader);
+                                classLoader, parallelism);
                         exitStatus = (result == 1) ? result : exitStatus;
                     }
                 } else {
@@ -109,10 +110,10 @@ public class Main {
     }
 
     private static int startTestSuit(Path sourceRootPath, TestSuite testSuite, Path jsonTmpSummaryPath,
-                                     ClassLoader classLoader) throws IOException {
+                                     ClassLoader classLoader, int parallelism) throws IOException {
         int exitStatus = 0;
         try {
-            TesterinaUtils.executeTests(sourceRootPath, testSuite, classLoader);
+            TesterinaUtils.executeTests(sourceRootPath, testSuite, classLoader, parallelism);
         } catch (RuntimeException e) {
             exitStatus = 1;
         } finally {
@@ -44,7 +44,11 @@ public class ModuleStatus {
     }
 
     public void addTestSummary(String testName, Status status, String failureMessage) {
-        Test test = new Test(testName, status, failureMessage);
+        addTestSummary(testName, status, failureMessage, 0);
+    }
+
+    public void addTestSummary(String testName, Status status, String failureMessage, long duration) {
+        Test test = new Test(testName, status, failureMessage, duration);
         this.tests.add(test);
         totalTests++;
         if (test.status.equals(Status.PASSED)) {
@@ -87,11 +91,14 @@ public class ModuleStatus {
         private String name;
         private Status status;
         private String failureMessage = "";
+        // Time taken to execute the test in milliseconds
+        private long duration;
 
-        public Test(String name, Status status, String failureMessage) {
+        public Test(String name, Status status, String failureMessage, long duration) {
             this.name = name;
             this.status = status;
             this.failureMessage = failureMessage;
+            this.duration = duration;
         }
 
         public String getFailureMessage() {
@@ -101,6 +108,10 @@ public class ModuleStatus {
         public String getName() {
             return name;
         }
+
+        public long getDuration() {
+            return duration;
+        }
     }
 
     /**
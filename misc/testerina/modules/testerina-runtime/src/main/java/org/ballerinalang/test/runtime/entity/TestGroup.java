@@ -27,6 +27,11 @@ import java.util.List;
 public class TestGroup {
     private int testCount;
     private int executedCount;
+    // Used when the tests are executed in parallel, where the tests of the group may overlap
+    private boolean beforeGroupsExecuted;
+    private int completedCount;
+    private String lastTestName;
+    private boolean lastTestSkipped;
     private List<String> beforeGroupsFunctions;
     private List<String> afterGroupsFunctions;
 
@@ -48,7 +53,7 @@ public class TestGroup {
      * Increments the executed test count by one.
      * This should be be called after each test execution.
      */
-    public void incrementExecutedCount() {
+    public synchronized void incrementExecutedCount() {
         this.executedCount++;
     }
 
@@ -108,6 +113,45 @@ public class TestGroup {
         return testCount == executedCount;
     }
 
+    /**
+     * Marks the @BeforeGroups functions as executed. This should be called while holding the lock of the group.
+     *
+     * @return true if the functions were not executed before, false otherwise
+     */
+    public boolean markBeforeGroupsExecuted() {
+        if (this.beforeGroupsExecuted) {
+            return false;
+        }
+        this.beforeGroupsExecuted = true;
+        return true;
+    }
+
+    /**
+     * Sets the test of the group which is executed last when the tests are executed sequentially.
+     *
+     * @param lastTestName name of the test
+     */
+    public void setLastTestName(String lastTestName) {
+        this.lastTestName = lastTestName;
+    }
+
+    /**
+     * Increments the count of tests which have completed along with their after functions. Similar to the sequential
+     * execution, the @AfterGroups functions are executed only if the last test of the group is not skipped, even if
+     * another test of the group completes after it.
+     *
+     * @param testName name of the completed test
+     * @param skipped  whether the test is skipped
+     * @return true if all the tests of the group have completed and the last test is not skipped, false otherwise
+     */
+    public synchronized boolean completeTest(String testName, boolean skipped) {
+        if (testName.equals(this.lastTestName)) {
+            this.lastTestSkipped = skipped;
+        }
+        this.completedCount++;
+        return this.completedCount == this.testCount && !this.lastTestSkipped;
+    }
+
     /**
      * Sort all the lists in Test group in alphabetical order.
      */
@@ -70,8 +70,20 @@ public class TesterinaUtils {
      */
     public static void executeTests(Path sourceRootPath, TestSuite testSuite, ClassLoader classLoader)
             throws RuntimeException {
+        executeTests(sourceRootPath, testSuite, classLoader, 1);
+    }
+
+    /**
+     * Execute tests in build, running up to the given number of tests at a time.
+     *
+     * @param sourceRootPath source root path
+     * @param testSuite test meta data
+     * @param parallelism maximum number of tests to be executed at a time
+     */
+    public static void executeTests(Path sourceRootPath, TestSuite testSuite, ClassLoader classLoader,
+                                    int parallelism) throws RuntimeException {
         try {
-            BTestRunner testRunner = new BTestRunner(outStream, errStream);
+            BTestRunner testRunner = new BTestRunner(outStream, errStream, parallelism);
             // Run the tests
             testRunner.runTest(testSuite, classLoader);
             cleanUpDir(sourceRootPath.resolve(TesterinaConstants.TESTERINA_TEMP_DIR));
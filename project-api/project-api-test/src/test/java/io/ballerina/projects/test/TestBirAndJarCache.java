@@ -20,6 +20,8 @@ package io.ballerina.projects.test;
 import io.ballerina.projects.CompilationCache;
 import io.ballerina.projects.CompilationCacheFactory;
 import io.ballerina.projects.CompilerBackend;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
 import io.ballerina.projects.JBallerinaBackend;
 import io.ballerina.projects.JvmTarget;
 import io.ballerina.projects.Module;
@@ -37,10 +39,17 @@ import org.testng.annotations.Test;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -98,6 +107,107 @@ public class TestBirAndJarCache {
         }
     }
 
+    @Test(description = "tests reusing the jars generated from unchanged inputs")
+    public void testJarReuse() throws IOException {
+        Path projectPath = RESOURCE_DIRECTORY.resolve("project_for_module_edit_test").toAbsolutePath();
+        Path cacheDirPath = Files.createTempDirectory("test-compilation-cache" + System.nanoTime());
+
+        // 1) The first build generates the jars of all the modules
+        BuildProject project = loadProject(projectPath, cacheDirPath);
+        int numOfModules = project.currentPackage().moduleIds().size();
+        JBallerinaBackend jBallerinaBackend = JBallerinaBackend.from(project.currentPackage().getCompilation(),
+                JvmTarget.JAVA_11);
+        Assert.assertFalse(jBallerinaBackend.diagnosticResult().hasErrors());
+        Assert.assertEquals(jBallerinaBackend.codeGenCacheHits(), 0);
+        Assert.assertEquals(jBallerinaBackend.codeGenCacheMisses(), numOfModules);
+
+        // 2) Building the same sources again reuses the jars of all the modules
+        project = loadProject(projectPath, cacheDirPath);
+        jBallerinaBackend = JBallerinaBackend.from(project.currentPackage().getCompilation(), JvmTarget.JAVA_11);
+        Assert.assertFalse(jBallerinaBackend.diagnosticResult().hasErrors());
+        Assert.assertEquals(jBallerinaBackend.codeGenCacheHits(), numOfModules);
+        Assert.assertEquals(jBallerinaBackend.codeGenCacheMisses(), 0);
+        for (ModuleId moduleId : project.currentPackage().moduleIds()) {
+            String jarName = project.currentPackage().module(moduleId).moduleName().toString();
+            Assert.assertTrue(jBallerinaBackend.jarResolver().getJarFilePathsRequiredForExecution().stream()
+                    .anyMatch(jarLibrary -> jarLibrary.path().getFileName().toString().equals(jarName + ".jar")));
+        }
+
+        // 3) Editing a module which no other module depends on generates the jar of that module only
+        Path servicesFilePath = projectPath.resolve("modules").resolve("services").resolve("services.bal");
+        DocumentId documentId = project.documentId(servicesFilePath);
+        Document document = project.currentPackage().module(documentId.moduleId()).document(documentId);
+        document.modify().withContent("public function initDatabase() {\n    int count = 0;\n}\n").apply();
+        jBallerinaBackend = JBallerinaBackend.from(project.currentPackage().getCompilation(), JvmTarget.JAVA_11);
+        Assert.assertFalse(jBallerinaBackend.diagnosticResult().hasErrors());
+        Assert.assertEquals(jBallerinaBackend.codeGenCacheHits(), numOfModules - 1);
+        Assert.assertEquals(jBallerinaBackend.codeGenCacheMisses(), 1);
+    }
+
+    @Test(description = "tests generating the jars again when a platform library changes")
+    public void testJarReuseAfterPlatformLibraryChange() throws IOException {
+        Path projectPath = Files.createTempDirectory("project-with-platform-lib" + System.nanoTime());
+        Path cacheDirPath = Files.createTempDirectory("test-compilation-cache" + System.nanoTime());
+        copyDirectory(RESOURCE_DIRECTORY.resolve("project_for_module_edit_test"), projectPath);
+        Files.writeString(projectPath.resolve(ProjectConstants.BALLERINA_TOML),
+                "\n[[platform.java11.dependency]]\npath = \"libs/native.jar\"\n", StandardOpenOption.APPEND);
+        Path platformLibPath = projectPath.resolve("libs").resolve("native.jar");
+        Files.createDirectories(platformLibPath.getParent());
+        writeJar(platformLibPath, "1.0");
+
+        // 1) The first build generates the jars of all the modules
+        BuildProject project = loadProject(projectPath, cacheDirPath);
+        int numOfModules = project.currentPackage().moduleIds().size();
+        JBallerinaBackend jBallerinaBackend = JBallerinaBackend.from(project.currentPackage().getCompilation(),
+                JvmTarget.JAVA_11);
+        Assert.assertFalse(jBallerinaBackend.diagnosticResult().hasErrors());
+        Assert.assertEquals(jBallerinaBackend.codeGenCacheMisses(), numOfModules);
+
+        // 2) Building with the same platform library reuses the jars of all the modules
+        project = loadProject(projectPath, cacheDirPath);
+        jBallerinaBackend = JBallerinaBackend.from(project.currentPackage().getCompilation(), JvmTarget.JAVA_11);
+        Assert.assertEquals(jBallerinaBackend.codeGenCacheHits(), numOfModules);
+        Assert.assertEquals(jBallerinaBackend.codeGenCacheMisses(), 0);
+
+        // 3) Changing the platform library generates the jars of all the modules of the package
+        writeJar(platformLibPath, "2.0");
+        project = loadProject(projectPath, cacheDirPath);
+        jBallerinaBackend = JBallerinaBackend.from(project.currentPackage().getCompilation(), JvmTarget.JAVA_11);
+        Assert.assertFalse(jBallerinaBackend.diagnosticResult().hasErrors());
+        Assert.assertEquals(jBallerinaBackend.codeGenCacheHits(), 0);
+        Assert.assertEquals(jBallerinaBackend.codeGenCacheMisses(), numOfModules);
+    }
+
+    private static void copyDirectory(Path source, Path target) throws IOException {
+        try (Stream<Path> paths = Files.walk(source)) {
+            for (Path path : paths.collect(Collectors.toList())) {
+                Path targetPath = target.resolve(source.relativize(path).toString());
+                if (Files.isDirectory(path)) {
+                    Files.createDirectories(targetPath);
+                } else {
+                    Files.copy(path, targetPath, StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+        }
+    }
+
+    private static void writeJar(Path jarPath, String version) throws IOException {
+        Manifest manifest = new Manifest();
+        manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        manifest.getMainAttributes().put(Attributes.Name.IMPLEMENTATION_VERSION, version);
+        try (JarOutputStream jarOutputStream = new JarOutputStream(Files.newOutputStream(jarPath), manifest)) {
+            jarOutputStream.putNextEntry(new JarEntry("native/version.txt"));
+            jarOutputStream.write(version.getBytes(StandardCharsets.UTF_8));
+            jarOutputStream.closeEntry();
+        }
+    }
+
+    private static BuildProject loadProject(Path projectPath, Path cacheDirPath) {
+        ProjectEnvironmentBuilder environmentBuilder = ProjectEnvironmentBuilder.getDefaultBuilder();
+        environmentBuilder.addCompilationCacheFactory(project -> new SourceOnlyCompilationCache(project, cacheDirPath));
+        return BuildProject.load(environmentBuilder, projectPath);
+    }
+
     /**
      * An instance of {@code CompilationCacheFactory} used for testing purposes.
      */
@@ -145,4 +255,19 @@ public class TestBirAndJarCache {
             jarCachedCount++;
         }
     }
+
+    /**
+     * A {@code CompilationCache} which never provides the cached BIR, so that modules are always compiled from sources.
+     */
+    private static class SourceOnlyCompilationCache extends FileSystemCache {
+
+        public SourceOnlyCompilationCache(Project project, Path cacheDirPath) {
+            super(project, cacheDirPath.resolve(ProjectConstants.CACHES_DIR_NAME));
+        }
+
+        @Override
+        public byte[] getBir(ModuleName moduleName) {
+            return new byte[0];
+        }
+    }
 }
@@ -19,6 +19,7 @@ package io.ballerina.projects.test;
 
 import io.ballerina.compiler.api.SemanticModel;
 import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.projects.BallerinaToml;
 import io.ballerina.projects.BuildOptions;
 import io.ballerina.projects.BuildOptionsBuilder;
@@ -461,6 +462,24 @@ public class TestBuildProject {
         Assert.assertEquals(updatedPackage, updatedDoc.module().packageInstance());
     }
 
+    @Test
+    public void testRevertDocumentUpdate() {
+        Path filePath = RESOURCE_DIRECTORY.resolve("myproject").resolve("main.bal").toAbsolutePath();
+        Project buildProject = ProjectLoader.loadProject(filePath);
+        DocumentId documentId = buildProject.documentId(filePath);
+        Document oldDocument = buildProject.currentPackage().module(documentId.moduleId()).document(documentId);
+        String oldContent = oldDocument.textDocument().toString();
+        SyntaxTree oldSyntaxTree = oldDocument.syntaxTree();
+
+        // Changing the document back to its old content should reuse the old syntax tree
+        Document updatedDoc = oldDocument.modify().withContent(dummyContent).apply();
+        Assert.assertEquals(updatedDoc.syntaxTree().textDocument().toString(), dummyContent);
+        Document revertedDoc = updatedDoc.modify().withContent(oldContent).apply();
+        Assert.assertSame(revertedDoc.syntaxTree(), oldSyntaxTree);
+        Assert.assertSame(buildProject.currentPackage().module(documentId.moduleId()).document(documentId)
+                .syntaxTree(), oldSyntaxTree);
+    }
+
     @Test
     public void testUpdateTestDocument() {
         // Inputs from langserver
@@ -1080,6 +1099,47 @@ public class TestBuildProject {
                 .contains("missing required parameter 'c'"));
     }
 
+    @Test
+    public void testEditUnreferencedConstructOfDependantModule() {
+        Path projectPath = RESOURCE_DIRECTORY.resolve("project_for_module_edit_test");
+        String typedFunctionStr = "public function concatStrings(string a, string b) returns Str {\n" +
+                "\treturn a + b;\n" +
+                "}\n" +
+                "\n" +
+                "public type Str string;\n";
+        String addedFunctionStr = "\n" +
+                "public function joinStrings(string a, string b) returns string {\n" +
+                "\treturn a + b;\n" +
+                "}\n";
+
+        // 1) Initialize the project instance
+        BuildProject project = null;
+        try {
+            project = BuildProject.load(projectPath);
+        } catch (Exception e) {
+            Assert.fail(e.getMessage());
+        }
+        Module module = project.currentPackage().module(ModuleName.from(PackageName.from("myproject"), "util"));
+        DocumentId documentId = module.documentIds().stream().findFirst().get();
+        module.document(documentId).modify().withContent(typedFunctionStr).apply();
+        Assert.assertEquals(project.currentPackage().getCompilation().diagnosticResult().diagnosticCount(), 0);
+
+        // 2) Add a function which is not used by the dependant module
+        module = project.currentPackage().module(module.moduleId());
+        module.document(documentId).modify().withContent(typedFunctionStr + addedFunctionStr).apply();
+        Assert.assertEquals(project.currentPackage().getCompilation().diagnosticResult().diagnosticCount(), 0);
+
+        // 3) Edit a type which is used by the dependant module only through the return type of a function
+        module = project.currentPackage().module(module.moduleId());
+        module.document(documentId).modify()
+                .withContent(typedFunctionStr.replace("type Str string", "type Str int") + addedFunctionStr).apply();
+
+        DiagnosticResult diagnosticResult = project.currentPackage().getCompilation().diagnosticResult();
+        Assert.assertTrue(diagnosticResult.diagnostics().stream().anyMatch(
+                diagnostic -> diagnostic.location().lineRange().filePath().equals("main.bal")
+                        && diagnostic.message().contains("incompatible types")));
+    }
+
     @Test
     public void testRemoveDependantModuleDocument() {
         Path projectPath = RESOURCE_DIRECTORY.resolve("project_for_module_edit_test");
@@ -0,0 +1,124 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# Hash functions supported by the incremental hashing and HMAC APIs.
+public type HashAlgorithm MD5|SHA1|SHA256|SHA384|SHA512;
+
+# The `MD5` hash function.
+public const MD5 = "MD5";
+
+# The `SHA-1` hash function.
+public const SHA1 = "SHA1";
+
+# The `SHA-256` hash function.
+public const SHA256 = "SHA256";
+
+# The `SHA-384` hash function.
+public const SHA384 = "SHA384";
+
+# The `SHA-512` hash function.
+public const SHA512 = "SHA512";
+
+# Calculates a hash or an HMAC incrementally, over data which is supplied in one or more chunks. This avoids
+# materializing the whole input as a single `byte[]`.
+# ```ballerina
+#  crypto:Hasher hasher = new(crypto:SHA256);
+#  hasher.update("Hello ".toBytes());
+#  hasher.update("Ballerina".toBytes());
+#  byte[] hash = hasher.digest();
+# ```
+public class Hasher {
+
+    # Initializes the `crypto:Hasher`. If a key is given, the hasher calculates the HMAC of the data using the given
+    # hash function. This panics if the key is empty.
+    #
+    # + algorithm - Hash function to be used
+    # + key - Key used for HMAC generation
+    public function init(HashAlgorithm algorithm, byte[]? key = ()) {
+        Error? result = externInitHasher(self, algorithm, key);
+        if (result is Error) {
+            panic result;
+        }
+    }
+
+    # Adds the given data to the hash.
+    #
+    # + input - Value to be hashed
+    public function update(byte[] input) {
+        externUpdate(self, input);
+    }
+
+    # Completes the calculation and resets the `crypto:Hasher`, so that it can be used to hash new data.
+    #
+    # + return - Hashed output
+    public function digest() returns byte[] {
+        return externDigest(self);
+    }
+}
+
+# Returns the hash of the data read from the given stream. Chunks are hashed as they are read.
+# ```ballerina
+#  byte[] hash = check crypto:hashStream(byteStream, crypto:SHA256);
+# ```
+#
+# + input - Stream of the values to be hashed
+# + algorithm - Hash function to be used
+# + return - Hashed output or else the error returned by the stream
+public function hashStream(stream<byte[], error> input, HashAlgorithm algorithm) returns byte[]|error {
+    return digestStream(new Hasher(algorithm), input);
+}
+
+# Returns the HMAC of the data read from the given stream. Chunks are hashed as they are read.
+# ```ballerina
+#  byte[] hmac = check crypto:hmacStream(byteStream, key, crypto:SHA256);
+# ```
+#
+# + input - Stream of the values to be hashed
+# + key - Key used for HMAC generation
+# + algorithm - Hash function to be used
+# + return - HMAC output or else the error returned by the stream
+public function hmacStream(stream<byte[], error> input, byte[] key, HashAlgorithm algorithm) returns byte[]|error {
+    return digestStream(new Hasher(algorithm, key), input);
+}
+
+function digestStream(Hasher hasher, stream<byte[], error> input) returns byte[]|error {
+    record {| byte[] value; |}|error? chunk = input.next();
+    while (chunk is record {| byte[] value; |}) {
+        hasher.update(chunk.value);
+        chunk = input.next();
+    }
+    if (chunk is error) {
+        return chunk;
+    }
+    return hasher.digest();
+}
+
+function externInitHasher(Hasher hasher, string algorithm, byte[]? key) returns Error? = @java:Method {
+    name: "init",
+    'class: "org.ballerinalang.stdlib.crypto.nativeimpl.Hasher"
+} external;
+
+function externUpdate(Hasher hasher, byte[] input) = @java:Method {
+    name: "update",
+    'class: "org.ballerinalang.stdlib.crypto.nativeimpl.Hasher"
+} external;
+
+function externDigest(Hasher hasher) returns byte[] = @java:Method {
+    name: "digest",
+    'class: "org.ballerinalang.stdlib.crypto.nativeimpl.Hasher"
+} external;
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.crypto;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.NoSuchPaddingException;
+
+/**
+ * Per-thread pool of JCA primitives keyed by the algorithm name.
+ * <p>
+ * {@code getInstance} does a provider lookup and constructs a new engine on every call, which dominates the cost of
+ * hashing or signing small inputs. The crypto natives never yield while a primitive is in use, hence a primitive
+ * owned by the current thread can be reused by the next call on that thread without any synchronization. Callers
+ * must fully (re)initialize a primitive before using it, since it may hold the state of a previously failed call.
+ *
+ * @since 2.0.0
+ */
+public class CryptoPrimitivePool {
+
+    private static final ThreadLocal<Map<String, MessageDigest>> DIGESTS = ThreadLocal.withInitial(HashMap::new);
+    private static final ThreadLocal<Map<String, Mac>> MACS = ThreadLocal.withInitial(HashMap::new);
+    private static final ThreadLocal<Map<String, Cipher>> CIPHERS = ThreadLocal.withInitial(HashMap::new);
+
+    private CryptoPrimitivePool() {
+
+    }
+
+    /**
+     * Returns the message digest of the current thread for the given algorithm, in its reset state.
+     *
+     * @param algorithm hashing algorithm
+     * @return message digest owned by the current thread
+     * @throws NoSuchAlgorithmException if the algorithm is not supported
+     */
+    public static MessageDigest getMessageDigest(String algorithm) throws NoSuchAlgorithmException {
+        Map<String, MessageDigest> digests = DIGESTS.get();
+        MessageDigest messageDigest = digests.get(algorithm);
+        if (messageDigest == null) {
+            messageDigest = MessageDigest.getInstance(algorithm);
+            digests.put(algorithm, messageDigest);
+        } else {
+            messageDigest.reset();
+        }
+        return messageDigest;
+    }
+
+    /**
+     * Returns the MAC of the current thread for the given algorithm. It must be initialized with a key before use.
+     *
+     * @param algorithm HMAC algorithm
+     * @return MAC owned by the current thread
+     * @throws NoSuchAlgorithmException if the algorithm is not supported
+     */
+    public static Mac getMac(String algorithm) throws NoSuchAlgorithmException {
+        Map<String, Mac> macs = MACS.get();
+        Mac mac = macs.get(algorithm);
+        if (mac == null) {
+            mac = Mac.getInstance(algorithm);
+            macs.put(algorithm, mac);
+        }
+        return mac;
+    }
+
+    /**
+     * Returns the cipher of the current thread for the given transformation. It must be initialized before use.
+     *
+     * @param transformation cipher transformation in the form of algorithm/mode/padding
+     * @return cipher owned by the current thread
+     * @throws NoSuchAlgorithmException if the algorithm is not supported
+     * @throws NoSuchPaddingException   if the padding scheme is not supported
+     */
+    public static Cipher getCipher(String transformation) throws NoSuchAlgorithmException, NoSuchPaddingException {
+        Map<String, Cipher> ciphers = CIPHERS.get();
+        Cipher cipher = ciphers.get(transformation);
+        if (cipher == null) {
+            cipher = Cipher.getInstance(transformation);
+            ciphers.put(transformation, cipher);
+        }
+        return cipher;
+    }
+}
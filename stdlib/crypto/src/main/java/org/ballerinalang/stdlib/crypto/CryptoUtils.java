@@ -88,7 +88,7 @@ public class CryptoUtils {
     public static byte[] hmac(String algorithm, byte[] key, byte[] input) {
         try {
             SecretKey secretKey = new SecretKeySpec(key, algorithm);
-            Mac mac = Mac.getInstance(algorithm);
+            Mac mac = CryptoPrimitivePool.getMac(algorithm);
             mac.init(secretKey);
             return mac.doFinal(input);
         } catch (NoSuchAlgorithmException | InvalidKeyException e) {
@@ -105,8 +105,7 @@ public class CryptoUtils {
      */
     public static byte[] hash(String algorithm, byte[] input) {
         try {
-            MessageDigest messageDigest;
-            messageDigest = MessageDigest.getInstance(algorithm);
+            MessageDigest messageDigest = CryptoPrimitivePool.getMessageDigest(algorithm);
             messageDigest.update(input);
             return messageDigest.digest();
         } catch (NoSuchAlgorithmException e) {
@@ -188,8 +187,8 @@ public class CryptoUtils {
                 return CryptoUtils.createError("Valid tag sizes are: " + Arrays.toString(VALID_GCM_TAG_SIZES));
             }
             AlgorithmParameterSpec paramSpec = buildParameterSpec(transformedAlgorithmMode, iv, (int) tagSize);
-            Cipher cipher = Cipher.getInstance(Constants.RSA + "/" + transformedAlgorithmMode + "/"
-                    + transformedAlgorithmPadding);
+            Cipher cipher = getCipher(Constants.RSA + "/" + transformedAlgorithmMode + "/"
+                    + transformedAlgorithmPadding, transformedAlgorithmMode);
             initCipher(cipher, cipherMode, key, paramSpec);
             return ValueCreator.createArrayValue(cipher.doFinal(input));
         } catch (NoSuchAlgorithmException e) {
@@ -231,7 +230,8 @@ public class CryptoUtils {
                         Arrays.toString(VALID_GCM_TAG_SIZES));
             }
             AlgorithmParameterSpec paramSpec = buildParameterSpec(transformedAlgorithmMode, iv, (int) tagSize);
-            Cipher cipher = Cipher.getInstance("AES/" + transformedAlgorithmMode + "/" + transformedAlgorithmPadding);
+            Cipher cipher = getCipher("AES/" + transformedAlgorithmMode + "/" + transformedAlgorithmPadding,
+                    transformedAlgorithmMode);
             initCipher(cipher, cipherMode, keySpec, paramSpec);
             return ValueCreator.createArrayValue(cipher.doFinal(input));
         } catch (NoSuchAlgorithmException e) {
@@ -246,6 +246,24 @@ public class CryptoUtils {
         }
     }
 
+    /**
+     * Get a cipher for the transformation. GCM ciphers are not reused, since a GCM cipher rejects being initialized
+     * again with the key and IV of its previous encryption.
+     *
+     * @param transformation cipher transformation
+     * @param algorithmMode  mode used in the transformation
+     * @return cipher instance which is yet to be initialized
+     * @throws NoSuchAlgorithmException if the algorithm is not supported
+     * @throws NoSuchPaddingException   if the padding scheme is not supported
+     */
+    private static Cipher getCipher(String transformation, String algorithmMode)
+            throws NoSuchAlgorithmException, NoSuchPaddingException {
+        if (Constants.GCM.equals(algorithmMode)) {
+            return Cipher.getInstance(transformation);
+        }
+        return CryptoPrimitivePool.getCipher(transformation);
+    }
+
     /**
      * Initialize cipher for encryption and decryption operations.
      *
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.crypto.nativeimpl;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import org.ballerinalang.stdlib.crypto.Constants;
+import org.ballerinalang.stdlib.crypto.CryptoUtils;
+
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Extern functions of the ballerina incremental hasher.
+ * <p>
+ * A hasher lives across many calls and may be shared between strands, hence it owns its own digest or MAC instead
+ * of using the per-thread pooled instances, and accesses it under the lock of that instance.
+ *
+ * @since 2.0.0
+ */
+public class Hasher {
+
+    public static Object init(BObject hasher, BString algorithm, Object key) {
+        try {
+            if (key == null) {
+                MessageDigest messageDigest = MessageDigest.getInstance(getHashAlgorithm(algorithm.getValue()));
+                hasher.addNativeData(Constants.NATIVE_DATA_MESSAGE_DIGEST, messageDigest);
+            } else {
+                String macAlgorithm = getHmacAlgorithm(algorithm.getValue());
+                Mac mac = Mac.getInstance(macAlgorithm);
+                mac.init(new SecretKeySpec(((BArray) key).getBytes(), macAlgorithm));
+                hasher.addNativeData(Constants.NATIVE_DATA_MAC, mac);
+            }
+        } catch (NoSuchAlgorithmException | InvalidKeyException | IllegalArgumentException e) {
+            return CryptoUtils.createError("Error occurred while initializing the hasher: " + e.getMessage());
+        }
+        return null;
+    }
+
+    public static void update(BObject hasher, BArray input) {
+        byte[] bytes = input.getBytes();
+        MessageDigest messageDigest = (MessageDigest) hasher.getNativeData(Constants.NATIVE_DATA_MESSAGE_DIGEST);
+        if (messageDigest != null) {
+            synchronized (messageDigest) {
+                messageDigest.update(bytes);
+            }
+            return;
+        }
+        Mac mac = (Mac) hasher.getNativeData(Constants.NATIVE_DATA_MAC);
+        synchronized (mac) {
+            mac.update(bytes);
+        }
+    }
+
+    public static BArray digest(BObject hasher) {
+        MessageDigest messageDigest = (MessageDigest) hasher.getNativeData(Constants.NATIVE_DATA_MESSAGE_DIGEST);
+        if (messageDigest != null) {
+            synchronized (messageDigest) {
+                return ValueCreator.createArrayValue(messageDigest.digest());
+            }
+        }
+        Mac mac = (Mac) hasher.getNativeData(Constants.NATIVE_DATA_MAC);
+        synchronized (mac) {
+            return ValueCreator.createArrayValue(mac.doFinal());
+        }
+    }
+
+    private static String getHashAlgorithm(String algorithm) {
+        switch (algorithm) {
+            case "MD5":
+                return "MD5";
+            case "SHA1":
+                return "SHA-1";
+            case "SHA256":
+                return "SHA-256";
+            case "SHA384":
+                return "SHA-384";
+            case "SHA512":
+                return "SHA-512";
+            default:
+                throw CryptoUtils.createError("Unsupported hash algorithm: " + algorithm);
+        }
+    }
+
+    private static String getHmacAlgorithm(String algorithm) {
+        switch (algorithm) {
+            case "MD5":
+                return "HmacMD5";
+            case "SHA1":
+                return "HmacSHA1";
+            case "SHA256":
+                return "HmacSHA256";
+            case "SHA384":
+                return "HmacSHA384";
+            case "SHA512":
+                return "HmacSHA512";
+            default:
+                throw CryptoUtils.createError("Unsupported HMAC algorithm: " + algorithm);
+        }
+    }
+}
@@ -138,6 +138,45 @@ public class CryptoTest {
         Assert.assertEquals(((BValueArray) returnValues[0]).getBytes(), expectedSha512Hash);
     }
 
+    @Test(description = "Test incremental hashing and HMAC generation over chunks")
+    public void testIncrementalHashing() throws DecoderException {
+        BValueArray first = new BValueArray("Ballerina ".getBytes(StandardCharsets.UTF_8));
+        BValueArray second = new BValueArray("test".getBytes(StandardCharsets.UTF_8));
+        byte[] expectedSha256Hash = Hex
+                .decodeHex("68F6CA0B55B55099331BF4EAA659B8BDC94FBDCE2F54D94FD90DA8240797A5D7".toCharArray());
+        byte[] expectedSha512Hash = Hex.decodeHex(("1C9BED7C87E7D17BA07ADD67F59B4A29AFD2B046409B65429E77D0CEE53A33C5" +
+                "E26731DC1CB091FAADA8C5D6433CB1544690804CC046A55D6AFED8BE0B901062").toCharArray());
+
+        BValue[] returnValues = BRunUtil.invoke(compileResult, "testIncrementalHashWithSHA256",
+                new BValue[]{first, second});
+        Assert.assertFalse(returnValues == null || returnValues.length == 0 || returnValues[0] == null);
+        Assert.assertEquals(((BValueArray) returnValues[0]).getBytes(), expectedSha256Hash);
+
+        returnValues = BRunUtil.invoke(compileResult, "testHashStreamWithSHA512", new BValue[]{first, second});
+        Assert.assertFalse(returnValues == null || returnValues.length == 0 || returnValues[0] == null);
+        Assert.assertEquals(((BValueArray) returnValues[0]).getBytes(), expectedSha512Hash);
+
+        returnValues = BRunUtil.invoke(compileResult, "testHasherReuse", new BValue[]{first});
+        Assert.assertTrue(((BBoolean) returnValues[0]).booleanValue());
+
+        BValueArray hmacFirst = new BValueArray("Ballerina ".getBytes(StandardCharsets.UTF_8));
+        BValueArray hmacSecond = new BValueArray("HMAC test".getBytes(StandardCharsets.UTF_8));
+        BValueArray key = new BValueArray("abcdefghijk".getBytes(StandardCharsets.UTF_8));
+        byte[] expectedHmacMD5Hash = Hex.decodeHex("3D5AC29160F2905A5C8153597798A4C1".toCharArray());
+        byte[] expectedHmacSHA256Hash = Hex
+                .decodeHex("2651203E18BF0088D3EF1215022D147E2534FD4BAD5689C9E5F12436E9758B15".toCharArray());
+
+        returnValues = BRunUtil.invoke(compileResult, "testIncrementalHmacWithSHA256",
+                new BValue[]{hmacFirst, hmacSecond, key});
+        Assert.assertFalse(returnValues == null || returnValues.length == 0 || returnValues[0] == null);
+        Assert.assertEquals(((BValueArray) returnValues[0]).getBytes(), expectedHmacSHA256Hash);
+
+        returnValues = BRunUtil.invoke(compileResult, "testHmacStreamWithMD5",
+                new BValue[]{hmacFirst, hmacSecond, key});
+        Assert.assertFalse(returnValues == null || returnValues.length == 0 || returnValues[0] == null);
+        Assert.assertEquals(((BValueArray) returnValues[0]).getBytes(), expectedHmacMD5Hash);
+    }
+
     @Test(description = "Test CRC32b generation")
     public void testCRC32() {
         byte[] payload = "Ballerina test".getBytes(StandardCharsets.UTF_8);
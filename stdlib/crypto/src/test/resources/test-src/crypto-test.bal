@@ -260,3 +260,53 @@ function testVerifyRsaMd5(byte[] input, byte[] signature, string path, string ke
     crypto:PublicKey pk = check crypto:decodePublicKey(keyStore, keyAlias);
     return crypto:verifyRsaMd5Signature(input, signature, pk);
 }
+
+class ChunkGenerator {
+    byte[][] chunks;
+    int index = 0;
+
+    function init(byte[][] chunks) {
+        self.chunks = chunks;
+    }
+
+    public isolated function next() returns record {| byte[] value; |}|error? {
+        if (self.index == self.chunks.length()) {
+            return ();
+        }
+        byte[] chunk = self.chunks[self.index];
+        self.index += 1;
+        return { value: chunk };
+    }
+}
+
+function testIncrementalHashWithSHA256(byte[] first, byte[] second) returns byte[] {
+    crypto:Hasher hasher = new(crypto:SHA256);
+    hasher.update(first);
+    hasher.update(second);
+    return hasher.digest();
+}
+
+function testIncrementalHmacWithSHA256(byte[] first, byte[] second, byte[] key) returns byte[] {
+    crypto:Hasher hasher = new(crypto:SHA256, key);
+    hasher.update(first);
+    hasher.update(second);
+    return hasher.digest();
+}
+
+function testHasherReuse(byte[] input) returns boolean {
+    crypto:Hasher hasher = new(crypto:SHA1);
+    hasher.update(input);
+    byte[] first = hasher.digest();
+    hasher.update(input);
+    return first == hasher.digest() && first == crypto:hashSha1(input);
+}
+
+function testHashStreamWithSHA512(byte[] first, byte[] second) returns byte[]|error {
+    stream<byte[], error> input = new(new ChunkGenerator([first, second]));
+    return crypto:hashStream(input, crypto:SHA512);
+}
+
+function testHmacStreamWithMD5(byte[] first, byte[] second, byte[] key) returns byte[]|error {
+    stream<byte[], error> input = new(new ChunkGenerator([first, second]));
+    return crypto:hmacStream(input, key, crypto:MD5);
+}
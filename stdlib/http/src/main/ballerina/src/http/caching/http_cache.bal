@@ -14,20 +14,19 @@
 // specific language governing permissions and limitations
 // under the License.
 
-import ballerina/cache;
+import ballerina/jballerina.java;
 import ballerina/log;
+import ballerina/stringutils;
 
 # Implements a cache for storing HTTP responses. This cache complies with the caching policy set when configuring
-# HTTP caching in the HTTP client endpoint.
+# HTTP caching in the HTTP client endpoint. The responses are stored natively, bounded by their size in bytes.
 #
-# + cache - The underlying cache used for storing HTTP responses
 # + policy - Gives the user some control over the caching behaviour. By default, this is set to
 #            `CACHE_CONTROL_AND_VALIDATORS`. The default behaviour is to allow caching only when the `cache-control`
 #            header and either the `etag` or `last-modified` header are present.
 # + isShared - Specifies whether the HTTP caching layer should behave as a public cache or a private cache
 public class HttpCache {
 
-    public cache:Cache cache;
     public CachingPolicy policy = CACHE_CONTROL_AND_VALIDATORS;
     public boolean isShared = false;
 
@@ -35,11 +34,7 @@ public class HttpCache {
     #
     # + cacheConfig - The configurations for the HTTP cache
     public function init(CacheConfig cacheConfig) {
-        cache:CacheConfig config = {
-            capacity: cacheConfig.capacity,
-            evictionFactor: cacheConfig.evictionFactor
-        };
-        self.cache = new cache:Cache(config);
+        externInitStore(self, cacheConfig.capacity, cacheConfig.evictionFactor);
         self.policy = cacheConfig.policy;
         self.isShared = cacheConfig.isShared;
     }
@@ -52,8 +47,8 @@ public class HttpCache {
         return true;
     }
 
-    function put(string key, RequestCacheControl? requestCacheControl, Response inboundResponse) {
-        if (self.isNonCacheableResponse(requestCacheControl, inboundResponse.cacheControl)) {
+    function put(string key, Request request, Response inboundResponse) {
+        if (self.isNonCacheableResponse(request.cacheControl, inboundResponse.cacheControl)) {
             return;
         }
 
@@ -61,8 +56,11 @@ public class HttpCache {
             // IMPT: The call to getBinaryPayload() builds the payload from the stream. If this is not done, the stream
             // will be read by the client and the response will be after the first cache hit.
             var binaryPayload = inboundResponse.getBinaryPayload();
+            int size = binaryPayload is byte[] ? binaryPayload.length() : 0;
+            string? varyHeader = inboundResponse.hasHeader(VARY) ? inboundResponse.getHeader(VARY) : ();
+            string? etag = inboundResponse.hasHeader(ETAG) ? inboundResponse.getHeader(ETAG) : ();
             log:printDebug(() => "Adding new cache entry for: " + key);
-            addEntry(self.cache, key, inboundResponse);
+            externPut(self, key, varyHeader, getVaryKey(varyHeader, request), etag, inboundResponse, size);
         }
     }
 
@@ -93,67 +91,32 @@ public class HttpCache {
     }
 
     function hasKey(string key) returns boolean {
-        return self.cache.hasKey(key);
+        return externHasKey(self, key);
     }
 
-    function get(string key) returns Response {
-        Response[] cacheEntry = <Response[]> self.cache.get(key);
-        return cacheEntry[cacheEntry.length() - 1];
-    }
-
-    function getAll(string key) returns Response[]|() {
-        var cacheEntry = trap <Response[]> self.cache.get(key);
-        if (cacheEntry is Response[]) {
-            return cacheEntry;
-        }
-        return ();
+    # Returns the most recently cached response for the key, which matches the request headers named in its `vary`
+    # header.
+    #
+    # + key - The cache key of the request
+    # + request - The request for which the response is looked up
+    # + return - The cached response or else `()` if there is no matching response
+    function get(string key, Request request) returns Response? {
+        string? varyHeader = externGetVaryHeader(self, key);
+        return externGet(self, key, getVaryKey(varyHeader, request));
     }
 
     function getAllByETag(string key, string etag) returns Response[] {
-        Response[] cachedResponses = [];
-        Response[] matchingResponses = [];
-        int i = 0;
-
-        var responses = self.getAll(key);
-        if (responses is Response[]) {
-            cachedResponses = responses;
-        }
-
-        foreach var cachedResp in cachedResponses {
-            if (cachedResp.getHeader(ETAG) == etag && !etag.startsWith(WEAK_VALIDATOR_TAG)) {
-                matchingResponses[i] = cachedResp;
-                i = i + 1;
-            }
-        }
-
-        return matchingResponses;
+        Response[]? matchingResponses = externGetAllByETag(self, key, etag);
+        return matchingResponses is Response[] ? matchingResponses : [];
     }
 
     function getAllByWeakETag(string key, string etag) returns Response[] {
-        Response[] cachedResponses = [];
-        Response[] matchingResponses = [];
-        int i = 0;
-
-        var responses = self.getAll(key);
-        if (responses is Response[]) {
-            cachedResponses = responses;
-        }
-
-        foreach var cachedResp in cachedResponses {
-            if (cachedResp.hasHeader(ETAG) && weakValidatorEquals(etag, cachedResp.getHeader(ETAG))) {
-                matchingResponses[i] = cachedResp;
-                i = i + 1;
-            }
-        }
-
-        return matchingResponses;
+        Response[]? matchingResponses = externGetAllByWeakETag(self, key, etag);
+        return matchingResponses is Response[] ? matchingResponses : [];
     }
 
     function remove(string key) {
-        cache:Error? result = self.cache.invalidate(key);
-        if (result is cache:Error) {
-            log:printDebug(() => "Failed to remove the key: " + key + " from the HTTP cache.");
-        }
+        externRemove(self, key);
     }
 }
 
@@ -166,26 +129,61 @@ function isCacheableStatusCode(int statusCode) returns boolean {
            statusCode == STATUS_NOT_IMPLEMENTED;
 }
 
-function addEntry(cache:Cache cache, string key, Response inboundResponse) {
-    if (cache.hasKey(key)) {
-        Response[] existingResponses = <Response[]>cache.get(key);
-        existingResponses.push(inboundResponse);
-    } else {
-        Response[] cachedResponses = [inboundResponse];
-        cache:Error? result = cache.put(key, cachedResponses);
-        if (result is cache:Error) {
-            log:printDebug(() => "Failed to add cached response with the key: " + key + " to the HTTP cache.");
-        }
-    }
+function getCacheKey(string httpMethod, string url) returns string {
+    return string `${httpMethod} ${url}`;
 }
 
-function weakValidatorEquals(string etag1, string etag2) returns boolean {
-    string validatorPortion1 = etag1.startsWith(WEAK_VALIDATOR_TAG) ? etag1.substring(2, etag1.length()) : etag1;
-    string validatorPortion2 = etag2.startsWith(WEAK_VALIDATOR_TAG) ? etag2.substring(2, etag2.length()) : etag2;
-
-    return validatorPortion1 == validatorPortion2;
+// Based on https://tools.ietf.org/html/rfc7234#section-4.1
+function getVaryKey(string? varyHeader, Request request) returns string {
+    if (varyHeader is ()) {
+        return "";
+    }
+    string varyKey = "";
+    foreach string headerName in stringutils:split(varyHeader, ",") {
+        string name = headerName.trim().toLowerAscii();
+        string value = request.hasHeader(name) ? request.getHeader(name) : "";
+        varyKey = varyKey + name + ":" + value + "\n";
+    }
+    return varyKey;
 }
 
-function getCacheKey(string httpMethod, string url) returns string {
-    return string `${httpMethod} ${url}`;
-}
+function externInitStore(HttpCache httpCache, int capacity, float evictionFactor) = @java:Method {
+    'class: "org.ballerinalang.net.http.nativeimpl.ExternHttpCache",
+    name: "initStore"
+} external;
+
+function externPut(HttpCache httpCache, string key, string? varyHeader, string varyKey, string? etag,
+                   Response response, int size) = @java:Method {
+    'class: "org.ballerinalang.net.http.nativeimpl.ExternHttpCache",
+    name: "put"
+} external;
+
+function externHasKey(HttpCache httpCache, string key) returns boolean = @java:Method {
+    'class: "org.ballerinalang.net.http.nativeimpl.ExternHttpCache",
+    name: "hasKey"
+} external;
+
+function externGetVaryHeader(HttpCache httpCache, string key) returns string? = @java:Method {
+    'class: "org.ballerinalang.net.http.nativeimpl.ExternHttpCache",
+    name: "getVaryHeader"
+} external;
+
+function externGet(HttpCache httpCache, string key, string varyKey) returns Response? = @java:Method {
+    'class: "org.ballerinalang.net.http.nativeimpl.ExternHttpCache",
+    name: "get"
+} external;
+
+function externGetAllByETag(HttpCache httpCache, string key, string etag) returns Response[]? = @java:Method {
+    'class: "org.ballerinalang.net.http.nativeimpl.ExternHttpCache",
+    name: "getAllByETag"
+} external;
+
+function externGetAllByWeakETag(HttpCache httpCache, string key, string etag) returns Response[]? = @java:Method {
+    'class: "org.ballerinalang.net.http.nativeimpl.ExternHttpCache",
+    name: "getAllByWeakETag"
+} external;
+
+function externRemove(HttpCache httpCache, string key) = @java:Method {
+    'class: "org.ballerinalang.net.http.nativeimpl.ExternHttpCache",
+    name: "remove"
+} external;
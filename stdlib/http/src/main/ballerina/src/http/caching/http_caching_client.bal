@@ -14,7 +14,6 @@
 // specific language governing permissions and limitations
 // under the License.
 
-import ballerina/cache;
 import ballerina/log;
 import ballerina/time;
 import ballerina/io;
@@ -283,9 +282,8 @@ function getCachedResponse(HttpCache cache, HttpClient httpClient, @tainted Requ
     time:Time currentT = time:currentTime();
     req.parseCacheControlHeader();
 
-    if (cache.hasKey(getCacheKey(httpMethod, path))) {
-        Response cachedResponse = cache.get(getCacheKey(httpMethod, path));
-
+    Response? cachedResponse = cache.get(getCacheKey(httpMethod, path), req);
+    if (cachedResponse is Response) {
         log:printDebug(() => "Cached response found for: '" + httpMethod + " " + path + "'");
 
         // Based on https://tools.ietf.org/html/rfc7234#section-4
@@ -337,7 +335,7 @@ function getCachedResponse(HttpCache cache, HttpClient httpClient, @tainted Requ
         if (cache.isAllowedToCache(response)) {
             response.requestTime = currentT.time;
             response.receivedTime = time:currentTime().time;
-            cache.put(<@untainted> getCacheKey(httpMethod, path), <@untainted> req.cacheControl, <@untainted> response);
+            cache.put(<@untainted> getCacheKey(httpMethod, path), <@untainted> req, <@untainted> response);
         }
     }
     return response;
@@ -348,21 +346,8 @@ function invalidateResponses(HttpCache httpCache, Response inboundResponse, stri
     // TODO: Improve this logic in accordance with the spec
     if (isCacheableStatusCode(inboundResponse.statusCode) &&
                     inboundResponse.statusCode >= 200 && inboundResponse.statusCode < 400) {
-        string getMethodCacheKey = getCacheKey(HTTP_GET, path);
-        if (httpCache.cache.hasKey(getMethodCacheKey)) {
-            cache:Error? result = httpCache.cache.invalidate(getMethodCacheKey);
-            if (result is cache:Error) {
-                log:printDebug(() => "Failed to remove the key: " + getMethodCacheKey + " from the cache.");
-            }
-        }
-
-        string headMethodCacheKey = getCacheKey(HTTP_HEAD, path);
-        if (httpCache.cache.hasKey(headMethodCacheKey)) {
-            cache:Error? result = httpCache.cache.invalidate(headMethodCacheKey);
-            if (result is cache:Error) {
-                log:printDebug(() => "Failed to remove the key: " + headMethodCacheKey + " from the cache.");
-            }
-        }
+        httpCache.remove(getCacheKey(HTTP_GET, path));
+        httpCache.remove(getCacheKey(HTTP_HEAD, path));
     }
 }
 
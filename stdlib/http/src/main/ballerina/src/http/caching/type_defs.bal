@@ -29,9 +29,9 @@ public const RFC_7234 = "RFC_7234";
 #
 # + enabled - Specifies whether HTTP caching is enabled. Caching is enabled by default.
 # + isShared - Specifies whether the HTTP caching layer should behave as a public cache or a private cache
-# + capacity - The capacity of the cache
-# + evictionFactor - The fraction of entries to be removed when the cache is full. The value should be
-#                    between 0 (exclusive) and 1 (inclusive).
+# + capacity - The maximum size of the cached response payloads in bytes
+# + evictionFactor - The fraction of the capacity to be freed by removing the least recently used responses when the
+#                    cache is full. The value should be between 0 (exclusive) and 1 (inclusive).
 # + policy - Gives the user some control over the caching behaviour. By default, this is set to
 #            `CACHE_CONTROL_AND_VALIDATORS`. The default behaviour is to allow caching only when the `cache-control`
 #            header and either the `etag` or `last-modified` header are present.
@@ -504,12 +504,6 @@ function createCircuitBreakerClient(string uri, ClientConfiguration configuratio
 
         time:Time circuitStartTime = time:currentTime();
         int numberOfBuckets = (cbConfig.rollingWindow.timeWindowInMillis / cbConfig.rollingWindow.bucketSizeInMillis);
-        Bucket?[] bucketArray = [];
-        int bucketIndex = 0;
-        while (bucketIndex < numberOfBuckets) {
-            bucketArray[bucketIndex] = {};
-            bucketIndex = bucketIndex + 1;
-        }
 
         CircuitBreakerInferredConfig circuitBreakerInferredConfig = {
             failureThreshold: cbConfig.failureThreshold,
@@ -522,8 +516,7 @@ function createCircuitBreakerClient(string uri, ClientConfiguration configuratio
             startTime: circuitStartTime,
             lastRequestTime: circuitStartTime,
             lastErrorTime: circuitStartTime,
-            lastForcedOpenTime: circuitStartTime,
-            totalBuckets: bucketArray
+            lastForcedOpenTime: circuitStartTime
         };
         return new CircuitBreakerClient(uri, configuration, circuitBreakerInferredConfig, cbHttpClient, circuitHealth);
     } else {
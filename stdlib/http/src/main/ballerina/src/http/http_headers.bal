@@ -90,3 +90,7 @@ public const string CONNECTION = "connection";
 # HTTP header key `upgrade`. Allows the client to specify what additional communication protocols it supports and
 # would like to use, if the server finds it appropriate to switch protocols.
 public const string UPGRADE = "upgrade";
+
+# HTTP header key `vary`. Specifies the request headers, other than the method and the URL, which are used to
+# select the response.
+public const string VARY = "vary";
@@ -14,6 +14,7 @@
 // specific language governing permissions and limitations
 // under the License.
 
+import ballerina/jballerina.java;
 import ballerina/log;
 import ballerina/time;
 
@@ -41,21 +42,17 @@ public const CB_CLOSED_STATE = "CLOSED";
 #
 # + lastRequestSuccess - Whether last request is success or not
 # + totalRequestCount - Total request count received within the `RollingWindow`
-# + lastUsedBucketId - ID of the last bucket used in Circuit Breaker calculations
 # + startTime - Circuit Breaker start time
 # + lastRequestTime - The time that the last request received
 # + lastErrorTime - The time that the last error occurred
 # + lastForcedOpenTime - The time that circuit forcefully opened at last
-# + totalBuckets - The discrete time buckets into which the time window is divided
 public type CircuitHealth record {|
     boolean lastRequestSuccess = false;
     int totalRequestCount = 0;
-    int lastUsedBucketId = 0;
     time:Time startTime = time:currentTime();
     time:Time lastRequestTime?;
     time:Time lastErrorTime?;
     time:Time lastForcedOpenTime?;
-    Bucket?[] totalBuckets = [];
 |};
 
 # Provides a set of configurations for controlling the behaviour of the Circuit Breaker.
@@ -150,6 +147,8 @@ public client class CircuitBreakerClient {
         self.circuitBreakerInferredConfig = circuitBreakerInferredConfig;
         self.httpClient = httpClient;
         self.circuitHealth = circuitHealth;
+        externInitCircuitHealthWindow(self, url, circuitHealth.startTime.time, rollingWindow.bucketSizeInMillis,
+                                      circuitBreakerInferredConfig.noOfBuckets);
     }
 
     # The POST remote function implementation of the Circuit Breaker. This wraps the `CircuitBreakerClient.post()`
@@ -162,14 +161,14 @@ public client class CircuitBreakerClient {
     #            server
     remote function post(string path, RequestMessage message) returns Response|ClientError {
         CircuitBreakerInferredConfig cbic = self.circuitBreakerInferredConfig;
-        self.currentCircuitState = updateCircuitState(self.circuitHealth, self.currentCircuitState, cbic);
+        self.currentCircuitState = updateCircuitState(self, cbic);
 
         if (self.currentCircuitState == CB_OPEN_STATE) {
             // TODO: Allow the user to handle this scenario. Maybe through a user provided function
-            return handleOpenCircuit(self.circuitHealth, cbic);
+            return handleOpenCircuit(self, cbic);
         } else {
             var serviceResponse = self.httpClient->post(path, <Request>message);
-            return updateCircuitHealthAndRespond(serviceResponse, self.circuitHealth, cbic);
+            return updateCircuitHealthAndRespond(serviceResponse, self, cbic);
         }
     }
 
@@ -183,14 +182,14 @@ public client class CircuitBreakerClient {
     #            server
     remote function head(string path, RequestMessage message = ()) returns Response|ClientError {
         CircuitBreakerInferredConfig cbic = self.circuitBreakerInferredConfig;
-        self.currentCircuitState = updateCircuitState(self.circuitHealth, self.currentCircuitState, cbic);
+        self.currentCircuitState = updateCircuitState(self, cbic);
 
         if (self.currentCircuitState == CB_OPEN_STATE) {
             // TODO: Allow the user to handle this scenario. Maybe through a user provided function
-            return handleOpenCircuit(self.circuitHealth, cbic);
+            return handleOpenCircuit(self, cbic);
         } else {
             var serviceResponse = self.httpClient->head(path, message = <Request>message);
-            return updateCircuitHealthAndRespond(serviceResponse, self.circuitHealth, cbic);
+            return updateCircuitHealthAndRespond(serviceResponse, self, cbic);
         }
     }
 
@@ -204,14 +203,14 @@ public client class CircuitBreakerClient {
     #            server
     remote function put(string path, RequestMessage message) returns Response|ClientError {
         CircuitBreakerInferredConfig cbic = self.circuitBreakerInferredConfig;
-        self.currentCircuitState = updateCircuitState(self.circuitHealth, self.currentCircuitState, cbic);
+        self.currentCircuitState = updateCircuitState(self, cbic);
 
         if (self.currentCircuitState == CB_OPEN_STATE) {
             // TODO: Allow the user to handle this scenario. Maybe through a user provided function
-            return handleOpenCircuit(self.circuitHealth, cbic);
+            return handleOpenCircuit(self, cbic);
         } else {
             var serviceResponse = self.httpClient->put(path, <Request>message);
-            return updateCircuitHealthAndRespond(serviceResponse, self.circuitHealth, cbic);
+            return updateCircuitHealthAndRespond(serviceResponse, self, cbic);
         }
     }
 
@@ -226,14 +225,14 @@ public client class CircuitBreakerClient {
     #            server
     remote function execute(string httpVerb, string path, RequestMessage message) returns Response|ClientError {
         CircuitBreakerInferredConfig cbic = self.circuitBreakerInferredConfig;
-        self.currentCircuitState = updateCircuitState(self.circuitHealth, self.currentCircuitState, cbic);
+        self.currentCircuitState = updateCircuitState(self, cbic);
 
         if (self.currentCircuitState == CB_OPEN_STATE) {
             // TODO: Allow the user to handle this scenario. Maybe through a user provided function
-            return handleOpenCircuit(self.circuitHealth, cbic);
+            return handleOpenCircuit(self, cbic);
         } else {
             var serviceResponse = self.httpClient->execute(httpVerb, path, <Request>message);
-            return updateCircuitHealthAndRespond(serviceResponse, self.circuitHealth, cbic);
+            return updateCircuitHealthAndRespond(serviceResponse, self, cbic);
         }
     }
 
@@ -247,14 +246,14 @@ public client class CircuitBreakerClient {
     #            server
     remote function patch(string path, RequestMessage message) returns Response|ClientError {
         CircuitBreakerInferredConfig cbic = self.circuitBreakerInferredConfig;
-        self.currentCircuitState = updateCircuitState(self.circuitHealth, self.currentCircuitState, cbic);
+        self.currentCircuitState = updateCircuitState(self, cbic);
 
         if (self.currentCircuitState == CB_OPEN_STATE) {
             // TODO: Allow the user to handle this scenario. Maybe through a user provided function
-            return handleOpenCircuit(self.circuitHealth, cbic);
+            return handleOpenCircuit(self, cbic);
         } else {
             var serviceResponse = self.httpClient->patch(path, <Request>message);
-            return updateCircuitHealthAndRespond(serviceResponse, self.circuitHealth, cbic);
+            return updateCircuitHealthAndRespond(serviceResponse, self, cbic);
         }
     }
 
@@ -268,14 +267,14 @@ public client class CircuitBreakerClient {
     #            server
     remote function delete(string path, RequestMessage message = ()) returns Response|ClientError {
         CircuitBreakerInferredConfig cbic = self.circuitBreakerInferredConfig;
-        self.currentCircuitState = updateCircuitState(self.circuitHealth, self.currentCircuitState, cbic);
+        self.currentCircuitState = updateCircuitState(self, cbic);
 
         if (self.currentCircuitState == CB_OPEN_STATE) {
             // TODO: Allow the user to handle this scenario. Maybe through a user provided function
-            return handleOpenCircuit(self.circuitHealth, cbic);
+            return handleOpenCircuit(self, cbic);
         } else {
             var serviceResponse = self.httpClient->delete(path, <Request>message);
-            return updateCircuitHealthAndRespond(serviceResponse, self.circuitHealth, cbic);
+            return updateCircuitHealthAndRespond(serviceResponse, self, cbic);
         }
     }
 
@@ -289,14 +288,14 @@ public client class CircuitBreakerClient {
     #            server
     remote function get(string path, RequestMessage message = ()) returns Response|ClientError {
         CircuitBreakerInferredConfig cbic = self.circuitBreakerInferredConfig;
-        self.currentCircuitState = updateCircuitState(self.circuitHealth, self.currentCircuitState, cbic);
+        self.currentCircuitState = updateCircuitState(self, cbic);
 
         if (self.currentCircuitState == CB_OPEN_STATE) {
             // TODO: Allow the user to handle this scenario. Maybe through a user provided function
-            return handleOpenCircuit(self.circuitHealth, cbic);
+            return handleOpenCircuit(self, cbic);
         } else {
             var serviceResponse = self.httpClient->get(path, message = <Request>message);
-            return updateCircuitHealthAndRespond(serviceResponse, self.circuitHealth, cbic);
+            return updateCircuitHealthAndRespond(serviceResponse, self, cbic);
         }
     }
 
@@ -310,14 +309,14 @@ public client class CircuitBreakerClient {
     #            server
     remote function options(string path, RequestMessage message = ()) returns Response|ClientError {
         CircuitBreakerInferredConfig cbic = self.circuitBreakerInferredConfig;
-        self.currentCircuitState = updateCircuitState(self.circuitHealth, self.currentCircuitState, cbic);
+        self.currentCircuitState = updateCircuitState(self, cbic);
 
         if (self.currentCircuitState == CB_OPEN_STATE) {
             // TODO: Allow the user to handle this scenario. Maybe through a user provided function
-            return handleOpenCircuit(self.circuitHealth, cbic);
+            return handleOpenCircuit(self, cbic);
         } else {
             var serviceResponse = self.httpClient->options(path, message = <Request>message);
-            return updateCircuitHealthAndRespond(serviceResponse, self.circuitHealth, cbic);
+            return updateCircuitHealthAndRespond(serviceResponse, self, cbic);
         }
     }
 
@@ -330,14 +329,14 @@ public client class CircuitBreakerClient {
     #            server
     remote function forward(string path, Request request) returns Response|ClientError {
         CircuitBreakerInferredConfig cbic = self.circuitBreakerInferredConfig;
-        self.currentCircuitState = updateCircuitState(self.circuitHealth, self.currentCircuitState, cbic);
+        self.currentCircuitState = updateCircuitState(self, cbic);
 
         if (self.currentCircuitState == CB_OPEN_STATE) {
             // TODO: Allow the user to handle this scenario. Maybe through a user provided function
-            return handleOpenCircuit(self.circuitHealth, cbic);
+            return handleOpenCircuit(self, cbic);
         } else {
             var serviceResponse = self.httpClient->forward(path, request);
-            return updateCircuitHealthAndRespond(serviceResponse, self.circuitHealth, cbic);
+            return updateCircuitHealthAndRespond(serviceResponse, self, cbic);
         }
     }
 
@@ -353,18 +352,18 @@ public client class CircuitBreakerClient {
     #            fails
     remote function submit(string httpVerb, string path, RequestMessage message) returns HttpFuture|ClientError {
         CircuitBreakerInferredConfig cbic = self.circuitBreakerInferredConfig;
-        self.currentCircuitState = updateCircuitState(self.circuitHealth, self.currentCircuitState, cbic);
+        self.currentCircuitState = updateCircuitState(self, cbic);
 
         if (self.currentCircuitState == CB_OPEN_STATE) {
             // TODO: Allow the user to handle this scenario. Maybe through a user provided function
-            return handleOpenCircuit(self.circuitHealth, cbic);
+            return handleOpenCircuit(self, cbic);
         } else {
             var serviceFuture = self.httpClient->submit(httpVerb, path, <Request>message);
             if (serviceFuture is HttpFuture) {
                 var serviceResponse = self.httpClient->getResponse(serviceFuture);
-                var result = updateCircuitHealthAndRespond(serviceResponse, self.circuitHealth, cbic);
+                var result = updateCircuitHealthAndRespond(serviceResponse, self, cbic);
             } else {
-                updateCircuitHealthFailure(self.circuitHealth, cbic);
+                updateCircuitHealthFailure(self, cbic);
             }
             return serviceFuture;
         }
@@ -433,118 +432,89 @@ public client class CircuitBreakerClient {
     }
 }
 
-
 # Updates the circuit state.
 #
-# + circuitHealth - Circuit Breaker health status
-# + currentStateValue - Circuit Breaker current state value
+# + circuitBreakerClient - Circuit Breaker client whose state is updated
 # + circuitBreakerInferredConfig - Configurations derived from `CircuitBreakerConfig`
 # + return - State of the circuit
-function updateCircuitState(CircuitHealth circuitHealth, CircuitState currentStateValue,
+function updateCircuitState(CircuitBreakerClient circuitBreakerClient,
                             CircuitBreakerInferredConfig circuitBreakerInferredConfig) returns CircuitState {
+    CircuitHealth circuitHealth = circuitBreakerClient.circuitHealth;
+    CircuitState currentState = circuitBreakerClient.currentCircuitState;
+    // The request counts are kept natively, but the timestamps are optional fields of the record, which are written
+    // by concurrent requests.
     lock {
-        CircuitState currentState = currentStateValue;
-        prepareRollingWindow(circuitHealth, circuitBreakerInferredConfig);
-        int currentBucketId = getCurrentBucketId(circuitHealth, circuitBreakerInferredConfig);
-        updateLastUsedBucketId(currentBucketId, circuitHealth);
         circuitHealth.lastRequestTime = time:currentTime();
-        int totalRequestsCount = getTotalRequestsCount(circuitHealth);
-        circuitHealth.totalRequestCount = totalRequestsCount;
-        if (totalRequestsCount >= circuitBreakerInferredConfig.rollingWindow.requestVolumeThreshold) {
-            if (currentState == CB_OPEN_STATE) {
-                currentState = switchCircuitStateOpenToHalfOpenOnResetTime(circuitBreakerInferredConfig,
-                                                                                    circuitHealth, currentState);
-            } else if (currentState == CB_HALF_OPEN_STATE) {
-                if (!circuitHealth.lastRequestSuccess) {
-                    // If the trial run has failed, trip the circuit again
-                    currentState = CB_OPEN_STATE;
-                    log:printInfo("CircuitBreaker trial run has failed. Circuit switched from HALF_OPEN to OPEN state.")
-                    ;
-                } else {
-                    // If the trial run was successful reset the circuit
-                    currentState = CB_CLOSED_STATE;
-                    log:printInfo(
-                        "CircuitBreaker trial run  was successful. Circuit switched from HALF_OPEN to CLOSE state.");
-                }
+    }
+    int totalRequestsCount = externGetTotalRequestCount(circuitBreakerClient);
+    circuitHealth.totalRequestCount = totalRequestsCount;
+    if (totalRequestsCount >= circuitBreakerInferredConfig.rollingWindow.requestVolumeThreshold) {
+        if (currentState == CB_OPEN_STATE) {
+            currentState = switchCircuitStateOpenToHalfOpenOnResetTime(circuitBreakerInferredConfig,
+                                                                                circuitHealth, currentState);
+        } else if (currentState == CB_HALF_OPEN_STATE) {
+            if (!circuitHealth.lastRequestSuccess) {
+                // If the trial run has failed, trip the circuit again
+                currentState = CB_OPEN_STATE;
+                log:printInfo("CircuitBreaker trial run has failed. Circuit switched from HALF_OPEN to OPEN state.");
             } else {
-                float currentFailureRate = getCurrentFailureRatio(circuitHealth);
-
-                if (currentFailureRate > circuitBreakerInferredConfig.failureThreshold) {
-                    currentState = CB_OPEN_STATE;
-                    log:printInfo("CircuitBreaker failure threshold exceeded. Circuit tripped from CLOSE to OPEN state."
-                    );
-                }
+                // If the trial run was successful reset the circuit
+                currentState = CB_CLOSED_STATE;
+                log:printInfo(
+                    "CircuitBreaker trial run  was successful. Circuit switched from HALF_OPEN to CLOSE state.");
             }
         } else {
-            currentState = switchCircuitStateOpenToHalfOpenOnResetTime(circuitBreakerInferredConfig,
-                                                                                    circuitHealth, currentState);
+            float currentFailureRate = externGetFailureRatio(circuitBreakerClient);
+
+            if (currentFailureRate > circuitBreakerInferredConfig.failureThreshold) {
+                currentState = CB_OPEN_STATE;
+                log:printInfo("CircuitBreaker failure threshold exceeded. Circuit tripped from CLOSE to OPEN state.");
+            }
         }
-        Bucket bucket = <Bucket> circuitHealth.totalBuckets[currentBucketId];
-        bucket.totalCount += 1;
-        return currentState;
+    } else {
+        currentState = switchCircuitStateOpenToHalfOpenOnResetTime(circuitBreakerInferredConfig,
+                                                                                circuitHealth, currentState);
     }
+    externRecordRequest(circuitBreakerClient);
+    return currentState;
 }
 
-function updateCircuitHealthAndRespond(Response|ClientError serviceResponse, CircuitHealth circuitHealth,
+function updateCircuitHealthAndRespond(Response|ClientError serviceResponse, CircuitBreakerClient circuitBreakerClient,
                                CircuitBreakerInferredConfig circuitBreakerInferredConfig) returns Response|ClientError {
     if (serviceResponse is Response) {
         if (circuitBreakerInferredConfig.statusCodes[serviceResponse.statusCode]) {
-            updateCircuitHealthFailure(circuitHealth, circuitBreakerInferredConfig);
+            updateCircuitHealthFailure(circuitBreakerClient, circuitBreakerInferredConfig);
         } else {
-            updateCircuitHealthSuccess(circuitHealth, circuitBreakerInferredConfig);
+            updateCircuitHealthSuccess(circuitBreakerClient, circuitBreakerInferredConfig);
         }
     } else {
-        updateCircuitHealthFailure(circuitHealth, circuitBreakerInferredConfig);
+        updateCircuitHealthFailure(circuitBreakerClient, circuitBreakerInferredConfig);
     }
     return serviceResponse;
 }
 
-function updateCircuitHealthFailure(CircuitHealth circuitHealth,
+function updateCircuitHealthFailure(CircuitBreakerClient circuitBreakerClient,
                                     CircuitBreakerInferredConfig circuitBreakerInferredConfig) {
+    CircuitHealth circuitHealth = circuitBreakerClient.circuitHealth;
+    circuitHealth.lastRequestSuccess = false;
     lock {
-        int currentBucketId = getCurrentBucketId(circuitHealth, circuitBreakerInferredConfig);
-        circuitHealth.lastRequestSuccess = false;
-        updateLastUsedBucketId(currentBucketId, circuitHealth);
-        Bucket bucket = <Bucket> circuitHealth.totalBuckets[currentBucketId];
-        bucket.failureCount += 1;
-        time:Time lastUpdated = time:currentTime();
-        circuitHealth.lastErrorTime = lastUpdated;
-        Bucket?[] buckets = circuitHealth.totalBuckets;
-        if (buckets is Bucket[]) {
-            //TODO:Get this verified
-            time:Time? lastUpdatedTime = buckets[currentBucketId]?.lastUpdatedTime;
-            if (lastUpdatedTime is time:Time) {
-                lastUpdatedTime = lastUpdated;
-            }
-        }
+        circuitHealth.lastErrorTime = time:currentTime();
     }
+    externRecordFailure(circuitBreakerClient);
 }
 
-function updateCircuitHealthSuccess(CircuitHealth circuitHealth,
+function updateCircuitHealthSuccess(CircuitBreakerClient circuitBreakerClient,
                                     CircuitBreakerInferredConfig circuitBreakerInferredConfig) {
-    lock {
-        int currentBucketId = getCurrentBucketId(circuitHealth, circuitBreakerInferredConfig);
-        time:Time lastUpdated = time:currentTime();
-        updateLastUsedBucketId(currentBucketId, circuitHealth);
-        circuitHealth.lastRequestSuccess = true;
-        Bucket?[] buckets = circuitHealth.totalBuckets;
-        if (buckets is Bucket[]) {
-            //TODO:Get this verified
-            time:Time? lastUpdatedTime = buckets[currentBucketId]?.lastUpdatedTime;
-            if (lastUpdatedTime is time:Time) {
-                lastUpdatedTime = lastUpdated;
-            }
-        }
-    }
+    circuitBreakerClient.circuitHealth.lastRequestSuccess = true;
 }
 
 // Handles open circuit state.
-function handleOpenCircuit(CircuitHealth circuitHealth, CircuitBreakerInferredConfig circuitBreakerInferredConfig)
-             returns (ClientError) {
-    time:Time effectiveErrorTime = getEffectiveErrorTime(circuitHealth);
+function handleOpenCircuit(CircuitBreakerClient circuitBreakerClient,
+                           CircuitBreakerInferredConfig circuitBreakerInferredConfig) returns (ClientError) {
+    time:Time effectiveErrorTime = getEffectiveErrorTime(circuitBreakerClient.circuitHealth);
     int timeDif = time:currentTime().time - effectiveErrorTime.time;
     int timeRemaining = circuitBreakerInferredConfig.resetTimeInMillis - timeDif;
-    updateRejectedRequestCount(circuitHealth, circuitBreakerInferredConfig);
+    externRecordRejection(circuitBreakerClient);
     string errorMessage = "Upstream service unavailable. Requests to upstream service will be suspended for "
         + timeRemaining.toString() + " milliseconds.";
     return UpstreamServiceUnavailableError(errorMessage);
@@ -560,76 +530,6 @@ function validateCircuitBreakerConfiguration(CircuitBreakerConfig circuitBreaker
     }
 }
 
-# Calculates a failure at a given point.
-#
-# + circuitHealth - Circuit Breaker health status
-# + return - Current failure ratio
-function getCurrentFailureRatio(CircuitHealth circuitHealth) returns float {
-    int totalCount = 0;
-    int totalFailures = 0;
-
-    foreach var optBucket in circuitHealth.totalBuckets {
-        var bucket = <Bucket>optBucket;
-        totalCount =  totalCount + bucket.failureCount +
-                                        (bucket.totalCount - (bucket.failureCount + bucket.rejectedCount));
-        totalFailures = totalFailures + bucket.failureCount;
-    }
-    float ratio = 0.0;
-    if (totalCount > 0) {
-        ratio = <float> totalFailures / totalCount;
-    }
-    return ratio;
-}
-
-# Calculates the total requests count within a `RollingWindow`.
-#
-# + circuitHealth - Circuit Breaker health status
-# + return - Total requests count
-function getTotalRequestsCount(CircuitHealth circuitHealth) returns int {
-    int totalCount = 0;
-
-    foreach var bucket in circuitHealth.totalBuckets {
-        Bucket temp = <Bucket>bucket;
-        totalCount  =  totalCount + temp.totalCount;
-    }
-    return totalCount;
-}
-
-# Calculates the current bucket ID.
-#
-# + circuitHealth - Circuit Breaker health status
-# + circuitBreakerInferredConfig - Configurations derived from `CircuitBreakerConfig`
-# + return - Current bucket id
-function getCurrentBucketId(CircuitHealth circuitHealth, CircuitBreakerInferredConfig circuitBreakerInferredConfig)
-             returns int {
-    int elapsedTime = (time:currentTime().time - circuitHealth.startTime.time) % circuitBreakerInferredConfig.
-        rollingWindow.timeWindowInMillis;
-    int currentBucketId = ((elapsedTime / circuitBreakerInferredConfig.rollingWindow.bucketSizeInMillis) + 1)
-        % circuitBreakerInferredConfig.noOfBuckets;
-    return currentBucketId;
-}
-
-# Updates the rejected requests count.
-#
-# + circuitHealth - Circuit Breaker health status
-# + circuitBreakerInferredConfig - Configurations derived from `CircuitBreakerConfig`
-function updateRejectedRequestCount(CircuitHealth circuitHealth,
-                                                CircuitBreakerInferredConfig circuitBreakerInferredConfig) {
-
-    int currentBucketId = getCurrentBucketId(circuitHealth, circuitBreakerInferredConfig);
-    updateLastUsedBucketId(currentBucketId, circuitHealth);
-    Bucket bucket = <Bucket>circuitHealth.totalBuckets[currentBucketId];
-    bucket.rejectedCount += 1;
-}
-
-# Resets the bucket values to the default ones.
-#
-# + circuitHealth - - Circuit Breaker health status.
-# + bucketId - - Id of the bucket should reset.
-function resetBucketStats(CircuitHealth circuitHealth, int bucketId) {
-    circuitHealth.totalBuckets[bucketId] = {};
-}
-
 function getEffectiveErrorTime(CircuitHealth circuitHealth) returns time:Time {
     time:Time? lastErrorTime = circuitHealth?.lastErrorTime;
     time:Time? lastForcedOpenTime = circuitHealth?.lastForcedOpenTime;
@@ -641,79 +541,6 @@ function getEffectiveErrorTime(CircuitHealth circuitHealth) returns time:Time {
     return time:currentTime();
 }
 
-# Populates the `RollingWindow` statistics to handle circuit breaking within the `RollingWindow` time frame.
-#
-# + circuitHealth - Circuit Breaker health status
-# + circuitBreakerInferredConfig - Configurations derived from `CircuitBreakerConfig`
-function prepareRollingWindow(CircuitHealth circuitHealth, CircuitBreakerInferredConfig circuitBreakerInferredConfig) {
-
-    int currentTime = time:currentTime().time;
-    time:Time? lastRequestTime = circuitHealth?.lastRequestTime;
-    //TODO:Get this logic verified
-    int idleTime = 0;
-    if (lastRequestTime is time:Time) {
-        idleTime = currentTime - lastRequestTime.time;
-    }
-    RollingWindow rollingWindow = circuitBreakerInferredConfig.rollingWindow;
-    // If the time duration between two requests greater than timeWindowInMillis values, reset the buckets to default.
-    if (idleTime > rollingWindow.timeWindowInMillis) {
-        reInitializeBuckets(circuitHealth);
-    } else {
-        int currentBucketId = getCurrentBucketId(circuitHealth, circuitBreakerInferredConfig);
-        int lastUsedBucketId = circuitHealth.lastUsedBucketId;
-        // Check whether subsequent requests received within same bucket(sub time window). If the idle time is greater
-        // than bucketSizeInMillis means subsequent calls are received time exceeding the rolling window. if we need to
-        // reset the buckets to default.
-        if (currentBucketId == circuitHealth.lastUsedBucketId && idleTime > rollingWindow.bucketSizeInMillis) {
-            reInitializeBuckets(circuitHealth);
-        // If the current bucket (sub time window) is less than last updated bucket. Stats of the current bucket to
-        // zeroth bucket and Last bucket to last used bucket needs to be reset to default.
-        } else if (currentBucketId < lastUsedBucketId) {
-            int index = currentBucketId;
-            while (index >= 0) {
-                resetBucketStats(circuitHealth, index);
-                index -= 1;
-            }
-            int lastIndex = (circuitHealth.totalBuckets.length()) - 1;
-            while (lastIndex > currentBucketId) {
-                resetBucketStats(circuitHealth, lastIndex);
-                lastIndex -= 1;
-            }
-        } else {
-            // If the current bucket (sub time window) is greater than last updated bucket. Stats of current bucket to
-            // last used bucket needs to be reset without resetting last used bucket stat.
-            while (currentBucketId > lastUsedBucketId && idleTime > rollingWindow.bucketSizeInMillis) {
-                resetBucketStats(circuitHealth, currentBucketId);
-                currentBucketId -= 1;
-            }
-        }
-    }
-}
-
-# Reinitializes the Buckets to the default state.
-#
-# + circuitHealth - Circuit Breaker health status
-function reInitializeBuckets(CircuitHealth circuitHealth) {
-    Bucket?[] bucketArray = [];
-    int bucketIndex = 0;
-    while (bucketIndex < circuitHealth.totalBuckets.length()) {
-        bucketArray[bucketIndex] = {};
-        bucketIndex += 1;
-    }
-    circuitHealth.totalBuckets = bucketArray;
-}
-
-# Updates the `lastUsedBucketId` in `CircuitHealth`.
-#
-# + bucketId - Possition of the currrently used bucket
-# + circuitHealth - Circuit Breaker health status
-function updateLastUsedBucketId(int bucketId, CircuitHealth circuitHealth) {
-    if (bucketId != circuitHealth.lastUsedBucketId) {
-        resetBucketStats(circuitHealth, bucketId);
-        circuitHealth.lastUsedBucketId = bucketId;
-    }
-}
-
 # Switches circuit state from open to half open state when reset time exceeded.
 #
 # + circuitBreakerInferredConfig -  Configurations derived from `CircuitBreakerConfig`
@@ -733,3 +560,36 @@ function switchCircuitStateOpenToHalfOpenOnResetTime(CircuitBreakerInferredConfi
     }
     return currentCircuitState;
 }
+
+// The request counts of the rolling window are kept in a lock-free ring of buckets, hence concurrent requests
+// through a circuit breaker do not serialize on them.
+function externInitCircuitHealthWindow(CircuitBreakerClient circuitBreakerClient, string url, int startTime,
+                                       int bucketSizeInMillis, int noOfBuckets) = @java:Method {
+    'class: "org.ballerinalang.net.http.nativeimpl.ExternCircuitBreaker",
+    name: "initCircuitHealthWindow"
+} external;
+
+function externRecordRequest(CircuitBreakerClient circuitBreakerClient) = @java:Method {
+    'class: "org.ballerinalang.net.http.nativeimpl.ExternCircuitBreaker",
+    name: "recordRequest"
+} external;
+
+function externRecordFailure(CircuitBreakerClient circuitBreakerClient) = @java:Method {
+    'class: "org.ballerinalang.net.http.nativeimpl.ExternCircuitBreaker",
+    name: "recordFailure"
+} external;
+
+function externRecordRejection(CircuitBreakerClient circuitBreakerClient) = @java:Method {
+    'class: "org.ballerinalang.net.http.nativeimpl.ExternCircuitBreaker",
+    name: "recordRejection"
+} external;
+
+function externGetTotalRequestCount(CircuitBreakerClient circuitBreakerClient) returns int = @java:Method {
+    'class: "org.ballerinalang.net.http.nativeimpl.ExternCircuitBreaker",
+    name: "getTotalRequestCount"
+} external;
+
+function externGetFailureRatio(CircuitBreakerClient circuitBreakerClient) returns float = @java:Method {
+    'class: "org.ballerinalang.net.http.nativeimpl.ExternCircuitBreaker",
+    name: "getFailureRatio"
+} external;
@@ -14,6 +14,8 @@
 // specific language governing permissions and limitations
 // under the License.
 
+import ballerina/jballerina.java;
+
 # Implementation of round robin load balancing strategy.
 #
 # + index - Keep tracks the current point of the Client[]
@@ -27,16 +29,13 @@ public class LoadBalancerRoundRobinRule {
     # + return - Chosen `http:Client` from the algorithm or else an `http:ClientError` for a failure in
     #            the algorithm implementation
     public function getNextClient(Client?[] loadBalanceCallerActionsArray) returns Client|ClientError {
-        Client httpClient = <Client>loadBalanceCallerActionsArray[self.index];
-        lock {
-            if (self.index == ((loadBalanceCallerActionsArray.length()) - 1)) {
-                httpClient = <Client>loadBalanceCallerActionsArray[self.index];
-                self.index = 0;
-            } else {
-                httpClient = <Client>loadBalanceCallerActionsArray[self.index];
-                self.index += 1;
-            }
-        }
-        return httpClient;
+        // The index is read and moved to the next client natively, hence concurrent callers do not need to lock.
+        int currentIndex = externGetNextIndex(self, loadBalanceCallerActionsArray.length());
+        return <Client>loadBalanceCallerActionsArray[currentIndex];
     }
 }
+
+function externGetNextIndex(LoadBalancerRoundRobinRule roundRobinRule, int noOfClients) returns int = @java:Method {
+    'class: "org.ballerinalang.net.http.nativeimpl.ExternRoundRobinRule",
+    name: "getNextIndex"
+} external;
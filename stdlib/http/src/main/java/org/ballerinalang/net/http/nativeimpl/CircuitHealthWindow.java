@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http.nativeimpl;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Request counts of a circuit breaker within its rolling window.
+ * <p>
+ * The window is a ring of buckets, each of which counts the requests of a bucket sized slice of time. When a request
+ * falls in a slice newer than the one of its bucket, a new bucket for that slice replaces the old one with a CAS,
+ * hence concurrent requests update the counts without locking and none of the counts of the current slice are lost.
+ * Buckets which hold a slice older than the window are left out when the counts are summed.
+ *
+ * @since 2.0.0
+ */
+class CircuitHealthWindow {
+
+    static final int TOTAL_COUNT = 0;
+    static final int FAILURE_COUNT = 1;
+    static final int REJECTED_COUNT = 2;
+    private static final int COUNTS_PER_BUCKET = 3;
+
+    private final long startTime;
+    private final long bucketSizeInMillis;
+    private final int noOfBuckets;
+    private final LongSupplier clock;
+    private final AtomicReferenceArray<Bucket> buckets;
+
+    CircuitHealthWindow(long startTime, long bucketSizeInMillis, int noOfBuckets) {
+        this(startTime, bucketSizeInMillis, noOfBuckets, System::currentTimeMillis);
+    }
+
+    CircuitHealthWindow(long startTime, long bucketSizeInMillis, int noOfBuckets, LongSupplier clock) {
+        this.startTime = startTime;
+        this.bucketSizeInMillis = bucketSizeInMillis;
+        this.noOfBuckets = noOfBuckets;
+        this.clock = clock;
+        this.buckets = new AtomicReferenceArray<>(noOfBuckets);
+    }
+
+    void increment(int count) {
+        long slice = currentSlice();
+        int index = (int) (slice % noOfBuckets);
+        Bucket bucket = buckets.get(index);
+        while (bucket == null || bucket.slice < slice) {
+            Bucket newBucket = new Bucket(slice);
+            if (buckets.compareAndSet(index, bucket, newBucket)) {
+                bucket = newBucket;
+            } else {
+                bucket = buckets.get(index);
+            }
+        }
+        // If a later request has already moved the bucket past this slice, this request is counted in that slice.
+        bucket.counts.incrementAndGet(count);
+    }
+
+    long getCount(int count) {
+        long slice = currentSlice();
+        long total = 0;
+        for (int index = 0; index < noOfBuckets; index++) {
+            Bucket bucket = buckets.get(index);
+            if (isInWindow(bucket, slice)) {
+                total += bucket.counts.get(count);
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Returns the ratio of the failed requests to the requests which were sent to the upstream service.
+     *
+     * @return failure ratio within the window
+     */
+    double getFailureRatio() {
+        long slice = currentSlice();
+        long sentCount = 0;
+        long failureCount = 0;
+        for (int index = 0; index < noOfBuckets; index++) {
+            Bucket bucket = buckets.get(index);
+            if (isInWindow(bucket, slice)) {
+                sentCount += bucket.counts.get(TOTAL_COUNT) - bucket.counts.get(REJECTED_COUNT);
+                failureCount += bucket.counts.get(FAILURE_COUNT);
+            }
+        }
+        return sentCount > 0 ? (double) failureCount / sentCount : 0.0;
+    }
+
+    private boolean isInWindow(Bucket bucket, long slice) {
+        return bucket != null && slice - bucket.slice < noOfBuckets;
+    }
+
+    private long currentSlice() {
+        return (clock.getAsLong() - startTime) / bucketSizeInMillis;
+    }
+
+    /**
+     * Counts of the requests within a single slice of time.
+     */
+    private static class Bucket {
+
+        private final long slice;
+        private final AtomicLongArray counts = new AtomicLongArray(COUNTS_PER_BUCKET);
+
+        private Bucket(long slice) {
+            this.slice = slice;
+        }
+    }
+}
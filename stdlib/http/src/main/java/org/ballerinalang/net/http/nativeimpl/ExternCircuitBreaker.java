@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http.nativeimpl;
+
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.observability.ObservabilityConstants;
+import io.ballerina.runtime.observability.ObserveUtils;
+import io.ballerina.runtime.observability.metrics.DefaultMetricRegistry;
+import io.ballerina.runtime.observability.metrics.MetricId;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.Tag;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.ballerinalang.net.http.nativeimpl.CircuitHealthWindow.FAILURE_COUNT;
+import static org.ballerinalang.net.http.nativeimpl.CircuitHealthWindow.REJECTED_COUNT;
+import static org.ballerinalang.net.http.nativeimpl.CircuitHealthWindow.TOTAL_COUNT;
+
+/**
+ * Utilities related to the request counts of the circuit breaker.
+ *
+ * @since 2.0.0
+ */
+public class ExternCircuitBreaker {
+
+    private static final String CIRCUIT_HEALTH_WINDOW = "CIRCUIT_HEALTH_WINDOW";
+    private static final String METRIC_PREFIX = ObservabilityConstants.SERVER_CONNECTOR_HTTP +
+            "_client_circuit_breaker_";
+    private static final String TAG_KEY_CIRCUIT_BREAKER_ID = "circuit_breaker.id";
+    private static final AtomicLong circuitBreakerIdGenerator = new AtomicLong();
+
+    public static void initCircuitHealthWindow(BObject circuitBreakerClient, BString url, long startTime,
+                                               long bucketSizeInMillis, long noOfBuckets) {
+        CircuitHealthWindow window = new CircuitHealthWindow(startTime, bucketSizeInMillis, (int) noOfBuckets);
+        circuitBreakerClient.addNativeData(CIRCUIT_HEALTH_WINDOW, window);
+        if (ObserveUtils.isMetricsEnabled()) {
+            // Each circuit breaker has a window of its own, hence the metrics are tagged with an id of the client
+            // in addition to the URL, which may be shared by many clients.
+            Set<Tag> tags = new HashSet<>(2);
+            tags.add(Tag.of(ObservabilityConstants.TAG_KEY_HTTP_URL, url.getValue()));
+            tags.add(Tag.of(TAG_KEY_CIRCUIT_BREAKER_ID,
+                            Long.toString(circuitBreakerIdGenerator.incrementAndGet())));
+            MetricRegistry metricRegistry = DefaultMetricRegistry.getInstance();
+            metricRegistry.polledGauge(new MetricId(METRIC_PREFIX + "requests", "Requests within the rolling window",
+                                                    tags), window, w -> w.getCount(TOTAL_COUNT));
+            metricRegistry.polledGauge(new MetricId(METRIC_PREFIX + "failures",
+                                                    "Failed requests within the rolling window", tags),
+                                       window, w -> w.getCount(FAILURE_COUNT));
+            metricRegistry.polledGauge(new MetricId(METRIC_PREFIX + "rejections",
+                                                    "Rejected requests within the rolling window", tags),
+                                       window, w -> w.getCount(REJECTED_COUNT));
+            metricRegistry.polledGauge(new MetricId(METRIC_PREFIX + "failure_ratio",
+                                                    "Failure ratio within the rolling window", tags),
+                                       window, CircuitHealthWindow::getFailureRatio);
+        }
+    }
+
+    public static void recordRequest(BObject circuitBreakerClient) {
+        getWindow(circuitBreakerClient).increment(TOTAL_COUNT);
+    }
+
+    public static void recordFailure(BObject circuitBreakerClient) {
+        getWindow(circuitBreakerClient).increment(FAILURE_COUNT);
+    }
+
+    public static void recordRejection(BObject circuitBreakerClient) {
+        getWindow(circuitBreakerClient).increment(REJECTED_COUNT);
+    }
+
+    public static long getTotalRequestCount(BObject circuitBreakerClient) {
+        return getWindow(circuitBreakerClient).getCount(TOTAL_COUNT);
+    }
+
+    public static double getFailureRatio(BObject circuitBreakerClient) {
+        return getWindow(circuitBreakerClient).getFailureRatio();
+    }
+
+    private static CircuitHealthWindow getWindow(BObject circuitBreakerClient) {
+        return (CircuitHealthWindow) circuitBreakerClient.getNativeData(CIRCUIT_HEALTH_WINDOW);
+    }
+
+    private ExternCircuitBreaker() {
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http.nativeimpl;
+
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.observability.ObservabilityConstants;
+import io.ballerina.runtime.observability.ObserveUtils;
+import io.ballerina.runtime.observability.metrics.DefaultMetricRegistry;
+import io.ballerina.runtime.observability.metrics.MetricId;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Utilities related to the storage of the HTTP caching client.
+ *
+ * @since 2.0.0
+ */
+public class ExternHttpCache {
+
+    private static final String RESPONSE_CACHE_STORE = "RESPONSE_CACHE_STORE";
+    private static final String METRIC_PREFIX = ObservabilityConstants.SERVER_CONNECTOR_HTTP + "_client_cache_";
+    private static final MetricRegistry metricRegistry = DefaultMetricRegistry.getInstance();
+
+    public static void initStore(BObject httpCache, long capacity, double evictionFactor) {
+        httpCache.addNativeData(RESPONSE_CACHE_STORE, new ResponseCacheStore(capacity, evictionFactor));
+    }
+
+    public static void put(BObject httpCache, BString key, Object varyHeader, BString varyKey, Object etag,
+                           BObject response, long size) {
+        ResponseCacheStore store = getStore(httpCache);
+        String varyHeaderValue = getValue(varyHeader);
+        if (!store.accepts(varyHeaderValue, size)) {
+            return;
+        }
+        long removedSize = store.put(key.getValue(), varyHeaderValue, varyKey.getValue(), getValue(etag), response,
+                                     size);
+        if (ObserveUtils.isMetricsEnabled()) {
+            reportSize(size - removedSize);
+            if (removedSize > 0) {
+                metricRegistry.counter(new MetricId(METRIC_PREFIX + "evicted_bytes",
+                                                    "Size of the responses evicted from the HTTP cache",
+                                                    Collections.emptySet())).increment(removedSize);
+            }
+        }
+    }
+
+    public static boolean hasKey(BObject httpCache, BString key) {
+        return getStore(httpCache).hasKey(key.getValue());
+    }
+
+    public static Object getVaryHeader(BObject httpCache, BString key) {
+        String varyHeader = getStore(httpCache).getVaryHeader(key.getValue());
+        return varyHeader == null ? null : StringUtils.fromString(varyHeader);
+    }
+
+    public static Object get(BObject httpCache, BString key, BString varyKey) {
+        BObject response = getStore(httpCache).get(key.getValue(), varyKey.getValue());
+        if (ObserveUtils.isMetricsEnabled()) {
+            String outcome = response == null ? "misses" : "hits";
+            metricRegistry.counter(new MetricId(METRIC_PREFIX + outcome, "Lookups of the HTTP cache",
+                                                Collections.emptySet())).increment();
+        }
+        return response;
+    }
+
+    public static Object getAllByETag(BObject httpCache, BString key, BString etag) {
+        return toArray(getStore(httpCache).getAllByETag(key.getValue(), etag.getValue()));
+    }
+
+    public static Object getAllByWeakETag(BObject httpCache, BString key, BString etag) {
+        return toArray(getStore(httpCache).getAllByWeakETag(key.getValue(), etag.getValue()));
+    }
+
+    public static void remove(BObject httpCache, BString key) {
+        long removedSize = getStore(httpCache).remove(key.getValue());
+        if (removedSize > 0 && ObserveUtils.isMetricsEnabled()) {
+            reportSize(-removedSize);
+        }
+    }
+
+    private static ResponseCacheStore getStore(BObject httpCache) {
+        return (ResponseCacheStore) httpCache.getNativeData(RESPONSE_CACHE_STORE);
+    }
+
+    // Matching responses are returned as an array of their own type, since the response type is not known here.
+    private static BArray toArray(List<BObject> responses) {
+        if (responses.isEmpty()) {
+            return null;
+        }
+        return ValueCreator.createArrayValue(responses.toArray(),
+                                             TypeCreator.createArrayType(responses.get(0).getType()));
+    }
+
+    private static String getValue(Object value) {
+        return value == null ? null : ((BString) value).getValue();
+    }
+
+    private static void reportSize(long sizeChange) {
+        metricRegistry.gauge(new MetricId(METRIC_PREFIX + "bytes", "Size of the responses in the HTTP cache",
+                                          Collections.emptySet())).increment(sizeChange);
+    }
+
+    private ExternHttpCache() {
+    }
+}
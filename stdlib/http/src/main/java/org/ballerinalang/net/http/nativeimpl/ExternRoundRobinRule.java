@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http.nativeimpl;
+
+import io.ballerina.runtime.api.BStringUtils;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+
+/**
+ * Utilities related to the round robin load balancer rule.
+ *
+ * @since 2.0.0
+ */
+public class ExternRoundRobinRule {
+
+    private static final BString INDEX_FIELD = BStringUtils.fromString("index");
+
+    /**
+     * Returns the index of the next client and moves the `index` field of the rule to the client after it.
+     * <p>
+     * The field is read and written while holding the monitor of the rule object, hence concurrent callers get
+     * consecutive clients without a Ballerina lock block.
+     *
+     * @param roundRobinRule round robin rule object
+     * @param noOfClients    number of clients which are load balanced
+     * @return index of the next client
+     */
+    public static long getNextIndex(BObject roundRobinRule, long noOfClients) {
+        synchronized (roundRobinRule) {
+            long index = Math.floorMod(roundRobinRule.getIntValue(INDEX_FIELD), noOfClients);
+            roundRobinRule.set(INDEX_FIELD, (index + 1) % noOfClients);
+            return index;
+        }
+    }
+
+    private ExternRoundRobinRule() {
+    }
+}
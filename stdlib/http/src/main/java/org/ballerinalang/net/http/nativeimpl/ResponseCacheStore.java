@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http.nativeimpl;
+
+import io.ballerina.runtime.api.values.BObject;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Storage of the HTTP caching client, which is bounded by the size of the cached responses in bytes.
+ * <p>
+ * Responses are stored by the cache key of the request, and then by the values of the request headers named in the
+ * {@code Vary} header of the response. Responses with a {@code Vary} header of {@code *} are not stored, and a new
+ * {@code Vary} header for a key replaces the responses stored under the previous one. The responses of a key are
+ * indexed by their ETags as well, so validation responses are matched without going through all of them. When the
+ * cache is full, the least recently used keys are evicted until the given fraction of the capacity is free.
+ *
+ * @since 2.0.0
+ */
+class ResponseCacheStore {
+
+    private static final String WEAK_VALIDATOR_TAG = "W/";
+    private static final String VARY_ALL = "*";
+
+    private final long capacity;
+    private final long evictionThreshold;
+    private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long size = 0;
+
+    ResponseCacheStore(long capacity, double evictionFactor) {
+        this.capacity = capacity;
+        this.evictionThreshold = (long) (capacity * (1 - evictionFactor));
+    }
+
+    /**
+     * Checks whether a response can be added to the cache.
+     *
+     * @param varyHeader {@code Vary} header of the response, or null if it is not present
+     * @param size       size of the response in bytes
+     * @return true if the response fits in the cache and can match a request
+     */
+    boolean accepts(String varyHeader, long size) {
+        return size <= capacity && !isVaryingOnAll(varyHeader);
+    }
+
+    /**
+     * Adds a response to the cache, if it {@link #accepts(String, long) accepts} the response.
+     *
+     * @param key        cache key of the request
+     * @param varyHeader {@code Vary} header of the response, or null if it is not present
+     * @param varyKey    values of the request headers named in the {@code Vary} header
+     * @param etag       ETag of the response, or null if it is not present
+     * @param response   response to be cached
+     * @param size       size of the response in bytes
+     * @return number of bytes removed to make room for the response, or replaced by it
+     */
+    synchronized long put(String key, String varyHeader, String varyKey, String etag, BObject response, long size) {
+        if (!accepts(varyHeader, size)) {
+            return 0;
+        }
+        Entry entry = entries.computeIfAbsent(key, k -> new Entry());
+        long replacedSize = 0;
+        if (!Objects.equals(entry.varyHeader, varyHeader)) {
+            // The responses of the previous Vary header cannot be looked up anymore, since lookups use the new one.
+            replacedSize = entry.size;
+            this.size -= replacedSize;
+            entry.clear();
+            entry.varyHeader = varyHeader;
+        }
+        CachedResponse cachedResponse = new CachedResponse(response, etag);
+        entry.responsesByVaryKey.computeIfAbsent(varyKey, k -> new ArrayList<>()).add(cachedResponse);
+        if (etag != null) {
+            entry.responsesByETag.computeIfAbsent(getValidator(etag), k -> new ArrayList<>()).add(cachedResponse);
+        }
+        entry.size += size;
+        this.size += size;
+        return replacedSize + (this.size > capacity ? evict(key) : 0);
+    }
+
+    synchronized boolean hasKey(String key) {
+        return entries.containsKey(key);
+    }
+
+    synchronized String getVaryHeader(String key) {
+        Entry entry = entries.get(key);
+        return entry == null ? null : entry.varyHeader;
+    }
+
+    /**
+     * Returns the most recently cached response of the given key which varies by the given request header values.
+     *
+     * @param key     cache key of the request
+     * @param varyKey values of the request headers named in the {@code Vary} header
+     * @return cached response, or null if there is none
+     */
+    synchronized BObject get(String key, String varyKey) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        List<CachedResponse> responses = entry.responsesByVaryKey.get(varyKey);
+        return responses == null ? null : responses.get(responses.size() - 1).response;
+    }
+
+    synchronized List<BObject> getAllByETag(String key, String etag) {
+        if (etag.startsWith(WEAK_VALIDATOR_TAG)) {
+            return Collections.emptyList();
+        }
+        List<BObject> matchingResponses = new ArrayList<>();
+        for (CachedResponse cachedResponse : getResponsesByValidator(key, etag)) {
+            if (etag.equals(cachedResponse.etag)) {
+                matchingResponses.add(cachedResponse.response);
+            }
+        }
+        return matchingResponses;
+    }
+
+    synchronized List<BObject> getAllByWeakETag(String key, String etag) {
+        List<BObject> matchingResponses = new ArrayList<>();
+        for (CachedResponse cachedResponse : getResponsesByValidator(key, getValidator(etag))) {
+            matchingResponses.add(cachedResponse.response);
+        }
+        return matchingResponses;
+    }
+
+    /**
+     * Removes the responses of the given key.
+     *
+     * @param key cache key of the request
+     * @return number of bytes removed
+     */
+    synchronized long remove(String key) {
+        Entry entry = entries.remove(key);
+        if (entry == null) {
+            return 0;
+        }
+        size -= entry.size;
+        return entry.size;
+    }
+
+    private List<CachedResponse> getResponsesByValidator(String key, String validator) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return Collections.emptyList();
+        }
+        return entry.responsesByETag.getOrDefault(validator, Collections.emptyList());
+    }
+
+    private long evict(String retainedKey) {
+        long evictedSize = 0;
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while (size > evictionThreshold && iterator.hasNext()) {
+            Map.Entry<String, Entry> eldest = iterator.next();
+            // The key which was just added is the most recently used one, hence it is reached only if it is the last
+            if (eldest.getKey().equals(retainedKey)) {
+                continue;
+            }
+            iterator.remove();
+            size -= eldest.getValue().size;
+            evictedSize += eldest.getValue().size;
+        }
+        return evictedSize;
+    }
+
+    // Based on https://tools.ietf.org/html/rfc7234#section-4.1, a Vary header of "*" never matches a request.
+    private static boolean isVaryingOnAll(String varyHeader) {
+        if (varyHeader == null) {
+            return false;
+        }
+        for (String headerName : varyHeader.split(",")) {
+            if (headerName.trim().equals(VARY_ALL)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String getValidator(String etag) {
+        return etag.startsWith(WEAK_VALIDATOR_TAG) ? etag.substring(WEAK_VALIDATOR_TAG.length()) : etag;
+    }
+
+    /**
+     * Responses cached for a key.
+     */
+    private static class Entry {
+
+        private final Map<String, List<CachedResponse>> responsesByVaryKey = new HashMap<>();
+        private final Map<String, List<CachedResponse>> responsesByETag = new HashMap<>();
+        private String varyHeader;
+        private long size = 0;
+
+        private void clear() {
+            responsesByVaryKey.clear();
+            responsesByETag.clear();
+            size = 0;
+        }
+    }
+
+    /**
+     * Cached response along with its ETag.
+     */
+    private static class CachedResponse {
+
+        private final BObject response;
+        private final String etag;
+
+        CachedResponse(BObject response, String etag) {
+            this.response = response;
+            this.etag = etag;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.net.http.nativeimpl;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.ballerinalang.net.http.nativeimpl.CircuitHealthWindow.FAILURE_COUNT;
+import static org.ballerinalang.net.http.nativeimpl.CircuitHealthWindow.REJECTED_COUNT;
+import static org.ballerinalang.net.http.nativeimpl.CircuitHealthWindow.TOTAL_COUNT;
+
+/**
+ * Test cases for the request counts of the circuit breaker in {@link CircuitHealthWindow}.
+ */
+public class CircuitHealthWindowTest {
+
+    private static final long BUCKET_SIZE_IN_MILLIS = 10;
+    private static final int NO_OF_BUCKETS = 2;
+    private static final int NO_OF_THREADS = 8;
+    private static final int INCREMENTS_PER_THREAD = 10000;
+    private static final int NO_OF_ROUNDS = 2000;
+    private static final int INCREMENTS_PER_ROUND = 20;
+
+    @Test
+    public void testBucketRollover() {
+        AtomicLong clock = new AtomicLong(1000);
+        CircuitHealthWindow window = new CircuitHealthWindow(1000, BUCKET_SIZE_IN_MILLIS, NO_OF_BUCKETS, clock::get);
+
+        // Slice 0
+        window.increment(TOTAL_COUNT);
+        window.increment(TOTAL_COUNT);
+        window.increment(FAILURE_COUNT);
+        // Slice 1
+        clock.set(1015);
+        window.increment(TOTAL_COUNT);
+        window.increment(TOTAL_COUNT);
+        window.increment(REJECTED_COUNT);
+        Assert.assertEquals(window.getCount(TOTAL_COUNT), 4);
+        Assert.assertEquals(window.getCount(FAILURE_COUNT), 1);
+        Assert.assertEquals(window.getCount(REJECTED_COUNT), 1);
+        Assert.assertEquals(window.getFailureRatio(), 1.0 / 3);
+
+        // Slice 2 reuses the bucket of slice 0, which has left the window.
+        clock.set(1020);
+        Assert.assertEquals(window.getCount(TOTAL_COUNT), 2);
+        Assert.assertEquals(window.getCount(FAILURE_COUNT), 0);
+        window.increment(TOTAL_COUNT);
+        window.increment(FAILURE_COUNT);
+        Assert.assertEquals(window.getCount(TOTAL_COUNT), 3);
+        Assert.assertEquals(window.getCount(FAILURE_COUNT), 1);
+        Assert.assertEquals(window.getFailureRatio(), 1.0 / 2);
+
+        // Slice 5 is past the whole window.
+        clock.set(1050);
+        Assert.assertEquals(window.getCount(TOTAL_COUNT), 0);
+        Assert.assertEquals(window.getFailureRatio(), 0.0);
+    }
+
+    @Test
+    public void testConcurrentIncrements() throws InterruptedException {
+        AtomicLong clock = new AtomicLong(0);
+        CircuitHealthWindow window = new CircuitHealthWindow(0, BUCKET_SIZE_IN_MILLIS, NO_OF_BUCKETS, clock::get);
+        runConcurrently(window);
+        Assert.assertEquals(window.getCount(TOTAL_COUNT), NO_OF_THREADS * INCREMENTS_PER_THREAD);
+        Assert.assertEquals(window.getCount(FAILURE_COUNT), NO_OF_THREADS * INCREMENTS_PER_THREAD / 2);
+    }
+
+    @Test
+    public void testConcurrentIncrementsWhileRollingOver() throws InterruptedException {
+        AtomicLong clock = new AtomicLong(0);
+        CircuitHealthWindow window = new CircuitHealthWindow(0, BUCKET_SIZE_IN_MILLIS, NO_OF_BUCKETS, clock::get);
+        List<Long> totalCounts = new ArrayList<>(NO_OF_ROUNDS);
+        List<Long> failureCounts = new ArrayList<>(NO_OF_ROUNDS);
+        // After each round the clock moves by a whole window, hence in the next round all the threads find a stale
+        // bucket and race to move it to the new slice, which must not drop the counts of the threads which lose.
+        CyclicBarrier barrier = new CyclicBarrier(NO_OF_THREADS, () -> {
+            totalCounts.add(window.getCount(TOTAL_COUNT));
+            failureCounts.add(window.getCount(FAILURE_COUNT));
+            clock.addAndGet(NO_OF_BUCKETS * BUCKET_SIZE_IN_MILLIS);
+        });
+        List<Thread> threads = new ArrayList<>(NO_OF_THREADS);
+        for (int i = 0; i < NO_OF_THREADS; i++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    for (int round = 0; round < NO_OF_ROUNDS; round++) {
+                        for (int j = 0; j < INCREMENTS_PER_ROUND; j++) {
+                            window.increment(TOTAL_COUNT);
+                            window.increment(FAILURE_COUNT);
+                        }
+                        barrier.await();
+                    }
+                } catch (InterruptedException | BrokenBarrierException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Assert.assertEquals(totalCounts.size(), NO_OF_ROUNDS);
+        for (int round = 0; round < NO_OF_ROUNDS; round++) {
+            Assert.assertEquals((long) totalCounts.get(round), NO_OF_THREADS * INCREMENTS_PER_ROUND,
+                                "total count of round " + round);
+            Assert.assertEquals((long) failureCounts.get(round), NO_OF_THREADS * INCREMENTS_PER_ROUND,
+                                "failure count of round " + round);
+        }
+    }
+
+    private void runConcurrently(CircuitHealthWindow window) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>(NO_OF_THREADS);
+        for (int i = 0; i < NO_OF_THREADS; i++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int j = 0; j < INCREMENTS_PER_THREAD; j++) {
+                    window.increment(TOTAL_COUNT);
+                    if (j % 2 == 0) {
+                        window.increment(FAILURE_COUNT);
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+    }
+}
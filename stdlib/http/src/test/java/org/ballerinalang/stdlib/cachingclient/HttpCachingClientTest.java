@@ -29,6 +29,7 @@ import org.ballerinalang.net.http.HttpConstants;
 import org.ballerinalang.net.http.HttpUtil;
 import org.ballerinalang.net.http.caching.RequestCacheControlObj;
 import org.ballerinalang.net.http.caching.ResponseCacheControlObj;
+import org.ballerinalang.net.http.nativeimpl.ExternHttpCache;
 import org.ballerinalang.test.util.BCompileUtil;
 import org.ballerinalang.test.util.BRunUtil;
 import org.ballerinalang.test.util.CompileResult;
@@ -46,6 +47,7 @@ import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 
+import static io.ballerina.runtime.api.utils.StringUtils.fromString;
 import static org.ballerinalang.mime.util.MimeConstants.REQUEST_ENTITY_FIELD;
 import static org.ballerinalang.net.http.HttpConstants.REQUEST_CACHE_CONTROL_FIELD;
 import static org.ballerinalang.net.http.ValueCreatorUtils.createEntityObject;
@@ -438,6 +440,74 @@ public class HttpCachingClientTest {
         Assert.assertFalse(((BBoolean) returns[0]).booleanValue());
     }
 
+    @Test(description = "Tests whether cached responses are matched by the request headers named in their Vary header")
+    public void testVaryMatching() {
+        BObject httpCache = createResponseObject();
+        ExternHttpCache.initStore(httpCache, 1000, 0.2);
+        BObject plainTextResponse = createResponseObject();
+        BObject jsonResponse = createResponseObject();
+        putResponse(httpCache, "GET /greeting", "Accept", "accept:text/plain\n", plainTextResponse, 10);
+        putResponse(httpCache, "GET /greeting", "Accept", "accept:application/json\n", jsonResponse, 10);
+
+        Assert.assertEquals(ExternHttpCache.getVaryHeader(httpCache, fromString("GET /greeting")).toString(),
+                            "Accept");
+        Assert.assertSame(getResponse(httpCache, "GET /greeting", "accept:text/plain\n"), plainTextResponse);
+        Assert.assertSame(getResponse(httpCache, "GET /greeting", "accept:application/json\n"), jsonResponse);
+        Assert.assertNull(getResponse(httpCache, "GET /greeting", "accept:\n"));
+
+        // A response which varies by another header replaces the responses which cannot be matched anymore
+        BObject frenchResponse = createResponseObject();
+        putResponse(httpCache, "GET /greeting", "Accept-Language", "accept-language:fr\n", frenchResponse, 10);
+        Assert.assertNull(getResponse(httpCache, "GET /greeting", "accept:text/plain\n"));
+        Assert.assertSame(getResponse(httpCache, "GET /greeting", "accept-language:fr\n"), frenchResponse);
+    }
+
+    @Test(description = "Tests whether responses with a Vary header of * are not cached")
+    public void testVaryAllIsNotCached() {
+        BObject httpCache = createResponseObject();
+        ExternHttpCache.initStore(httpCache, 1000, 0.2);
+        putResponse(httpCache, "GET /greeting", "*", "*:\n", createResponseObject(), 10);
+        putResponse(httpCache, "GET /farewell", "Accept, *", "accept:\n*:\n", createResponseObject(), 10);
+
+        Assert.assertFalse(ExternHttpCache.hasKey(httpCache, fromString("GET /greeting")));
+        Assert.assertFalse(ExternHttpCache.hasKey(httpCache, fromString("GET /farewell")));
+    }
+
+    @Test(description = "Tests whether the least recently used responses are evicted by their size in bytes")
+    public void testByteBoundedEviction() {
+        BObject httpCache = createResponseObject();
+        // Evicts down to 80 bytes once the responses exceed 100 bytes
+        ExternHttpCache.initStore(httpCache, 100, 0.2);
+        putResponse(httpCache, "GET /a", null, "", createResponseObject(), 30);
+        putResponse(httpCache, "GET /b", null, "", createResponseObject(), 30);
+        putResponse(httpCache, "GET /c", null, "", createResponseObject(), 150);
+        Assert.assertFalse(ExternHttpCache.hasKey(httpCache, fromString("GET /c")));
+
+        // Looking up /a makes /b the least recently used key
+        Assert.assertNotNull(getResponse(httpCache, "GET /a", ""));
+        putResponse(httpCache, "GET /d", null, "", createResponseObject(), 50);
+        Assert.assertTrue(ExternHttpCache.hasKey(httpCache, fromString("GET /a")));
+        Assert.assertFalse(ExternHttpCache.hasKey(httpCache, fromString("GET /b")));
+        Assert.assertTrue(ExternHttpCache.hasKey(httpCache, fromString("GET /d")));
+
+        // The responses replaced due to a new Vary header no longer take up space
+        putResponse(httpCache, "GET /a", "Accept", "accept:\n", createResponseObject(), 10);
+        putResponse(httpCache, "GET /e", null, "", createResponseObject(), 20);
+        Assert.assertTrue(ExternHttpCache.hasKey(httpCache, fromString("GET /a")));
+        Assert.assertTrue(ExternHttpCache.hasKey(httpCache, fromString("GET /d")));
+        Assert.assertTrue(ExternHttpCache.hasKey(httpCache, fromString("GET /e")));
+    }
+
+    private void putResponse(BObject httpCache, String key, String varyHeader, String varyKey, BObject response,
+                             long size) {
+        ExternHttpCache.put(httpCache, fromString(key), varyHeader == null ? null : fromString(varyHeader),
+                            fromString(varyKey), null, response, size);
+    }
+
+    private Object getResponse(BObject httpCache, String key, String varyKey) {
+        return ExternHttpCache.get(httpCache, fromString(key), fromString(varyKey));
+    }
+
     private void initInboundResponse(BObject inResponse, HttpCarbonMessage inResponseMsg) {
         HttpUtil.addCarbonMsg(inResponse, inResponseMsg);
         BObject entity = createEntityObject();
@@ -19,16 +19,24 @@
 package org.ballerinalang.stdlib.task.objects;
 
 import org.ballerinalang.stdlib.task.exceptions.SchedulingException;
+import org.ballerinalang.stdlib.task.wheel.HashedWheelTimer;
 import org.quartz.Scheduler;
 import org.quartz.SchedulerException;
 import org.quartz.impl.StdSchedulerFactory;
 
 import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 
 import static org.ballerinalang.stdlib.task.utils.TaskConstants.QUARTZ_MISFIRE_THRESHOLD;
 import static org.ballerinalang.stdlib.task.utils.TaskConstants.QUARTZ_MISFIRE_THRESHOLD_VALUE;
 import static org.ballerinalang.stdlib.task.utils.TaskConstants.QUARTZ_THREAD_COUNT;
 import static org.ballerinalang.stdlib.task.utils.TaskConstants.QUARTZ_THREAD_COUNT_VALUE;
+import static org.ballerinalang.stdlib.task.utils.TaskConstants.TIMER_DISPATCHER_THREAD_NAME;
+import static org.ballerinalang.stdlib.task.utils.TaskConstants.TIMER_WHEEL_THREAD_NAME;
+import static org.ballerinalang.stdlib.task.utils.TaskConstants.TIMER_WHEEL_TICK_MILLIS;
 
 
 /**
@@ -36,6 +44,7 @@ import static org.ballerinalang.stdlib.task.utils.TaskConstants.QUARTZ_THREAD_CO
  */
 public class TaskManager {
     private Scheduler scheduler;
+    private HashedWheelTimer timerWheel;
 
     private static class TaskManagerHelper {
         private static final TaskManager INSTANCE = new TaskManager();
@@ -61,6 +70,31 @@ public class TaskManager {
         return this.scheduler;
     }
 
+    /**
+     * Returns the hashed-wheel timer which runs the timers, when the wheel backend is selected.
+     *
+     * @return the shared hashed-wheel timer
+     */
+    public synchronized HashedWheelTimer getTimerWheel() {
+        if (this.timerWheel == null) {
+            // Expired timers only schedule their services on the Ballerina scheduler, hence a single dispatcher
+            // thread keeps up with the wheel while keeping the tick thread free of any task work.
+            ExecutorService dispatcher = Executors.newSingleThreadExecutor(daemonThreadFactory(
+                    TIMER_DISPATCHER_THREAD_NAME));
+            this.timerWheel = new HashedWheelTimer(daemonThreadFactory(TIMER_WHEEL_THREAD_NAME),
+                                                   TIMER_WHEEL_TICK_MILLIS, TimeUnit.MILLISECONDS, dispatcher);
+        }
+        return this.timerWheel;
+    }
+
+    private static ThreadFactory daemonThreadFactory(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
     private Properties createSchedulerProperties() {
         Properties properties = new Properties();
         properties.setProperty(QUARTZ_MISFIRE_THRESHOLD, QUARTZ_MISFIRE_THRESHOLD_VALUE);
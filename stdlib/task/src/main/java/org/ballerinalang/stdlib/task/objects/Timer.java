@@ -18,7 +18,9 @@
 package org.ballerinalang.stdlib.task.objects;
 
 import org.ballerinalang.stdlib.task.exceptions.SchedulingException;
+import org.ballerinalang.stdlib.task.utils.TaskExecutor;
 import org.ballerinalang.stdlib.task.utils.TaskJob;
+import org.ballerinalang.stdlib.task.wheel.WheelTimeout;
 import org.quartz.JobDataMap;
 import org.quartz.JobDetail;
 import org.quartz.SchedulerException;
@@ -26,7 +28,10 @@ import org.quartz.SimpleScheduleBuilder;
 import org.quartz.Trigger;
 
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
+import static org.ballerinalang.stdlib.task.utils.TaskConstants.TIMER_BACKEND_PROPERTY;
+import static org.ballerinalang.stdlib.task.utils.TaskConstants.TIMER_BACKEND_WHEEL;
 import static org.quartz.JobBuilder.newJob;
 import static org.quartz.SimpleScheduleBuilder.simpleSchedule;
 import static org.quartz.TriggerBuilder.newTrigger;
@@ -39,6 +44,14 @@ import static org.quartz.TriggerBuilder.newTrigger;
 public class Timer extends AbstractTask {
 
     private long interval, delay;
+    private final boolean useTimerWheel = TIMER_BACKEND_WHEEL.equals(System.getProperty(TIMER_BACKEND_PROPERTY));
+
+    // State used by the hashed-wheel backend.
+    private volatile WheelTimeout timeout;
+    private volatile boolean stopped;
+    private volatile boolean paused;
+    private long nextFireTime;
+    private long noOfRuns;
 
     /**
      * Creates a Timer object.
@@ -74,6 +87,12 @@ public class Timer extends AbstractTask {
      */
     @Override
     public void start() throws SchedulingException {
+        if (useTimerWheel) {
+            this.stopped = false;
+            this.nextFireTime = System.currentTimeMillis() + this.getDelay();
+            scheduleOnTimerWheel(this.getDelay());
+            return;
+        }
         JobDataMap jobDataMap = getJobDataMapFromTask();
         try {
             scheduleTimer(jobDataMap);
@@ -82,6 +101,46 @@ public class Timer extends AbstractTask {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void stop() throws SchedulingException {
+        if (!useTimerWheel) {
+            super.stop();
+            return;
+        }
+        this.stopped = true;
+        WheelTimeout currentTimeout = this.timeout;
+        if (currentTimeout != null) {
+            currentTimeout.cancel();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void pause() throws SchedulingException {
+        if (!useTimerWheel) {
+            super.pause();
+            return;
+        }
+        this.paused = true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void resume() throws SchedulingException {
+        if (!useTimerWheel) {
+            super.resume();
+            return;
+        }
+        this.paused = false;
+    }
+
     /**
      * Gets the interval of this Timer.
      *
@@ -151,6 +210,40 @@ public class Timer extends AbstractTask {
         quartzJobs.put(triggerId, job.getKey());
     }
 
+    private void scheduleOnTimerWheel(long delay) {
+        this.timeout = TaskManager.getInstance().getTimerWheel().newTimeout(this::onTimerWheelExpiry, delay,
+                                                                            TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Runs the attached services and schedules the next run. The next run is computed from the previous scheduled
+     * time rather than the current time, so that the timer does not drift. Runs which fall in to a pause are skipped
+     * and not counted, similar to the Quartz misfire instruction used for timers.
+     */
+    private void onTimerWheelExpiry() {
+        if (this.stopped) {
+            return;
+        }
+        if (!this.paused) {
+            for (ServiceInformation serviceInformation : this.getServicesMap().values()) {
+                TaskExecutor.executeFunction(serviceInformation);
+            }
+            this.noOfRuns++;
+            if (this.getMaxRuns() > 0 && this.noOfRuns >= this.getMaxRuns()) {
+                this.stopped = true;
+                return;
+            }
+        }
+        long now = System.currentTimeMillis();
+        this.nextFireTime += this.getInterval();
+        if (this.nextFireTime < now) {
+            // Skip the runs which were missed, e.g. while the process was suspended.
+            long missedRuns = (now - this.nextFireTime) / this.getInterval() + 1;
+            this.nextFireTime += missedRuns * this.getInterval();
+        }
+        scheduleOnTimerWheel(this.nextFireTime - now);
+    }
+
     private static SimpleScheduleBuilder createSchedulerBuilder(long interval, long maxRuns) {
         SimpleScheduleBuilder simpleScheduleBuilder = simpleSchedule()
                 .withMisfireHandlingInstructionNextWithRemainingCount()
@@ -81,4 +81,12 @@ public class TaskConstants {
     public static final String QUARTZ_THREAD_COUNT_VALUE = "10";
     // Defines how late the trigger should be to be considered misfired
     public static final String QUARTZ_MISFIRE_THRESHOLD_VALUE = "5000";
+
+    // System property used to select the backend which runs timers. Appointments always run on Quartz.
+    public static final String TIMER_BACKEND_PROPERTY = "ballerina.task.timer.backend";
+    public static final String TIMER_BACKEND_WHEEL = "wheel";
+    // Resolution of the hashed-wheel timer in milliseconds
+    public static final long TIMER_WHEEL_TICK_MILLIS = 10;
+    public static final String TIMER_WHEEL_THREAD_NAME = "ballerina-task-timer-wheel";
+    public static final String TIMER_DISPATCHER_THREAD_NAME = "ballerina-task-timer-dispatcher";
 }
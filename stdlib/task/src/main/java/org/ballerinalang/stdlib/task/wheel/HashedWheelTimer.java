@@ -0,0 +1,308 @@
+/*
+ *  Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.stdlib.task.wheel;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A hierarchical hashed-wheel timer.
+ * <p>
+ * Timeouts are kept in {@value #LEVELS} wheels of {@value #WHEEL_SIZE} buckets each. A timeout is placed in the
+ * lowest wheel whose span covers its remaining ticks, and is moved down one wheel at a time (cascaded) as the lower
+ * wheel wraps around. Scheduling and cancelling only enqueue the timeout for the worker thread, hence both are O(1)
+ * and lock free. The timeouts which expire in the same tick are handed to the dispatcher as a single batch.
+ *
+ * @since 2.0.0
+ */
+public class HashedWheelTimer {
+
+    private static final int LEVEL_BITS = 6;
+    private static final int WHEEL_SIZE = 1 << LEVEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int LEVELS = 4;
+
+    private static final int WORKER_INIT = 0;
+    private static final int WORKER_STARTED = 1;
+    private static final int WORKER_SHUTDOWN = 2;
+
+    private static final PrintStream ERR_STREAM = System.err;
+
+    private final long tickNanos;
+    private final Executor dispatcher;
+    private final Thread workerThread;
+    private final Bucket[][] wheels;
+    private final Queue<WheelTimeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+    private final Queue<WheelTimeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger workerState = new AtomicInteger(WORKER_INIT);
+    private final CountDownLatch startTimeInitialized = new CountDownLatch(1);
+    private volatile long startTime;
+
+    // Tick which is being processed by the worker thread.
+    private long currentTick;
+
+    /**
+     * Creates a hashed-wheel timer.
+     *
+     * @param threadFactory Factory used to create the worker thread which advances the wheels.
+     * @param tickDuration  Duration between two ticks, which is the resolution of the timer.
+     * @param unit          Time unit of the tick duration.
+     * @param dispatcher    Executor to which each batch of expired timeouts is submitted.
+     */
+    public HashedWheelTimer(ThreadFactory threadFactory, long tickDuration, TimeUnit unit, Executor dispatcher) {
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("Tick duration should be a positive value: " + tickDuration);
+        }
+        this.tickNanos = unit.toNanos(tickDuration);
+        this.dispatcher = dispatcher;
+        this.wheels = new Bucket[LEVELS][WHEEL_SIZE];
+        for (Bucket[] wheel : wheels) {
+            for (int i = 0; i < WHEEL_SIZE; i++) {
+                wheel[i] = new Bucket();
+            }
+        }
+        this.workerThread = threadFactory.newThread(this::runWorker);
+    }
+
+    /**
+     * Schedules a task to run once after the given delay.
+     *
+     * @param task  The task to run.
+     * @param delay Delay after which the task should run.
+     * @param unit  Time unit of the delay.
+     * @return The handle which can be used to cancel the timeout.
+     */
+    public WheelTimeout newTimeout(Runnable task, long delay, TimeUnit unit) {
+        start();
+        long deadline = System.nanoTime() - startTime + unit.toNanos(Math.max(delay, 0));
+        // A timeout fires on the first tick which is at or after its deadline.
+        long deadlineTick = (deadline + tickNanos - 1) / tickNanos;
+        WheelTimeout timeout = new WheelTimeout(this, task, deadlineTick);
+        pendingTimeouts.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * Stops the worker thread. Timeouts which have not expired yet are discarded.
+     */
+    public void stop() {
+        if (workerState.getAndSet(WORKER_SHUTDOWN) == WORKER_STARTED) {
+            workerThread.interrupt();
+        }
+    }
+
+    void cancelled(WheelTimeout timeout) {
+        cancelledTimeouts.add(timeout);
+    }
+
+    private void start() {
+        if (workerState.get() == WORKER_INIT && workerState.compareAndSet(WORKER_INIT, WORKER_STARTED)) {
+            workerThread.start();
+        }
+        if (workerState.get() == WORKER_SHUTDOWN) {
+            throw new IllegalStateException("Cannot schedule a timeout after the timer is stopped.");
+        }
+        try {
+            startTimeInitialized.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void runWorker() {
+        startTime = System.nanoTime();
+        startTimeInitialized.countDown();
+        while (workerState.get() == WORKER_STARTED) {
+            if (!waitForTick(currentTick + 1)) {
+                continue;
+            }
+            currentTick++;
+            removeCancelledTimeouts();
+            cascade();
+            transferPendingTimeouts();
+            dispatch(expireCurrentBucket());
+        }
+    }
+
+    private boolean waitForTick(long tick) {
+        long deadline = tick * tickNanos;
+        long sleepNanos = deadline - (System.nanoTime() - startTime);
+        if (sleepNanos <= 0) {
+            return true;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(sleepNanos);
+        } catch (InterruptedException e) {
+            // Interrupted only when stopping, the loop condition handles it.
+            return false;
+        }
+        return System.nanoTime() - startTime >= deadline;
+    }
+
+    private void removeCancelledTimeouts() {
+        WheelTimeout timeout;
+        while ((timeout = cancelledTimeouts.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    private void transferPendingTimeouts() {
+        WheelTimeout timeout;
+        while ((timeout = pendingTimeouts.poll()) != null) {
+            if (!timeout.isCancelled()) {
+                place(timeout);
+            }
+        }
+    }
+
+    /**
+     * Moves the timeouts of the upper wheels down when the wheel below them completes a rotation.
+     */
+    private void cascade() {
+        for (int level = 1; level < LEVELS; level++) {
+            int shift = LEVEL_BITS * level;
+            if ((currentTick & ((1L << shift) - 1)) != 0) {
+                return;
+            }
+            int index = (int) ((currentTick >>> shift) & WHEEL_MASK);
+            WheelTimeout timeout = wheels[level][index].clear();
+            while (timeout != null) {
+                WheelTimeout next = timeout.next;
+                timeout.next = null;
+                if (!timeout.isCancelled()) {
+                    place(timeout);
+                }
+                timeout = next;
+            }
+        }
+    }
+
+    private void place(WheelTimeout timeout) {
+        long remainingTicks = timeout.deadlineTick - currentTick;
+        if (remainingTicks <= 0) {
+            wheels[0][(int) (currentTick & WHEEL_MASK)].add(timeout);
+            return;
+        }
+        for (int level = 0; level < LEVELS; level++) {
+            int shift = LEVEL_BITS * level;
+            if (remainingTicks < (1L << (shift + LEVEL_BITS))) {
+                wheels[level][(int) ((timeout.deadlineTick >>> shift) & WHEEL_MASK)].add(timeout);
+                return;
+            }
+        }
+        // Beyond the span of the top wheel. Park it in the bucket of the top wheel which cascades last, and it will
+        // be placed again when that bucket cascades.
+        int topShift = LEVEL_BITS * (LEVELS - 1);
+        wheels[LEVELS - 1][(int) (((currentTick >>> topShift) - 1) & WHEEL_MASK)].add(timeout);
+    }
+
+    private List<WheelTimeout> expireCurrentBucket() {
+        List<WheelTimeout> expired = new ArrayList<>();
+        WheelTimeout timeout = wheels[0][(int) (currentTick & WHEEL_MASK)].clear();
+        while (timeout != null) {
+            WheelTimeout next = timeout.next;
+            timeout.next = null;
+            if (timeout.deadlineTick > currentTick) {
+                place(timeout);
+            } else if (timeout.expire()) {
+                expired.add(timeout);
+            }
+            timeout = next;
+        }
+        return expired;
+    }
+
+    private void dispatch(List<WheelTimeout> expired) {
+        if (expired.isEmpty()) {
+            return;
+        }
+        dispatcher.execute(() -> {
+            for (WheelTimeout timeout : expired) {
+                try {
+                    timeout.getTask().run();
+                } catch (Throwable t) {
+                    // A failing task should not prevent the rest of the batch from running.
+                    ERR_STREAM.println("error: timer task failed: " + t.getMessage());
+                }
+            }
+        });
+    }
+
+    /**
+     * Doubly linked list of the timeouts in a single wheel slot. Accessed only by the worker thread.
+     */
+    static class Bucket {
+
+        private WheelTimeout head;
+        private WheelTimeout tail;
+
+        void add(WheelTimeout timeout) {
+            timeout.bucket = this;
+            timeout.prev = tail;
+            timeout.next = null;
+            if (tail == null) {
+                head = timeout;
+            } else {
+                tail.next = timeout;
+            }
+            tail = timeout;
+        }
+
+        void remove(WheelTimeout timeout) {
+            if (timeout.prev == null) {
+                head = timeout.next;
+            } else {
+                timeout.prev.next = timeout.next;
+            }
+            if (timeout.next == null) {
+                tail = timeout.prev;
+            } else {
+                timeout.next.prev = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+
+        /**
+         * Detaches all the timeouts of this bucket.
+         *
+         * @return the first timeout of the detached list, linked through {@code next}
+         */
+        WheelTimeout clear() {
+            WheelTimeout first = head;
+            for (WheelTimeout timeout = head; timeout != null; timeout = timeout.next) {
+                timeout.prev = null;
+                timeout.bucket = null;
+            }
+            head = null;
+            tail = null;
+            return first;
+        }
+    }
+}
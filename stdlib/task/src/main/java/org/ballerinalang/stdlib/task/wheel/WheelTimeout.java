@@ -0,0 +1,83 @@
+/*
+ *  Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.stdlib.task.wheel;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * Handle of a single timeout scheduled in a {@link HashedWheelTimer}.
+ * <p>
+ * The bucket links are only touched by the timer worker thread. The state is the only field shared with other
+ * threads, and it decides whether a timeout is expired or cancelled when both race.
+ *
+ * @since 2.0.0
+ */
+public class WheelTimeout {
+
+    private static final int ST_INIT = 0;
+    private static final int ST_CANCELLED = 1;
+    private static final int ST_EXPIRED = 2;
+
+    private static final AtomicIntegerFieldUpdater<WheelTimeout> STATE_UPDATER =
+            AtomicIntegerFieldUpdater.newUpdater(WheelTimeout.class, "state");
+
+    private final HashedWheelTimer timer;
+    private final Runnable task;
+    final long deadlineTick;
+    private volatile int state = ST_INIT;
+
+    // Bucket links, owned by the worker thread.
+    WheelTimeout next;
+    WheelTimeout prev;
+    HashedWheelTimer.Bucket bucket;
+
+    WheelTimeout(HashedWheelTimer timer, Runnable task, long deadlineTick) {
+        this.timer = timer;
+        this.task = task;
+        this.deadlineTick = deadlineTick;
+    }
+
+    /**
+     * Cancels this timeout. The task will not run if this returns {@code true}.
+     *
+     * @return {@code true} if the timeout was cancelled, {@code false} if it has already expired or been cancelled
+     */
+    public boolean cancel() {
+        if (!STATE_UPDATER.compareAndSet(this, ST_INIT, ST_CANCELLED)) {
+            return false;
+        }
+        timer.cancelled(this);
+        return true;
+    }
+
+    public boolean isCancelled() {
+        return state == ST_CANCELLED;
+    }
+
+    public boolean isExpired() {
+        return state == ST_EXPIRED;
+    }
+
+    boolean expire() {
+        return STATE_UPDATER.compareAndSet(this, ST_INIT, ST_EXPIRED);
+    }
+
+    Runnable getTask() {
+        return task;
+    }
+}
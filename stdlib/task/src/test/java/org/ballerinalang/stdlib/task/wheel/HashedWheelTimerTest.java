@@ -0,0 +1,125 @@
+/*
+ *  Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.stdlib.task.wheel;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests for the hashed-wheel timer used as the timer backend of the task module.
+ */
+@Test
+public class HashedWheelTimerTest {
+
+    private static final long TICK_MILLIS = 1;
+    // Allowed lateness, which is well above the tick duration to keep the test stable on loaded machines.
+    private static final long MAX_LATENESS_MILLIS = 250;
+
+    private ExecutorService dispatcher;
+    private HashedWheelTimer timer;
+
+    @BeforeClass
+    public void setup() {
+        dispatcher = Executors.newSingleThreadExecutor();
+        timer = new HashedWheelTimer(Thread::new, TICK_MILLIS, TimeUnit.MILLISECONDS, dispatcher);
+    }
+
+    @Test(description = "Tests a timeout is not run before its delay")
+    public void testTimeoutRunsAfterDelay() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        long start = System.nanoTime();
+        long[] elapsed = new long[1];
+        timer.newTimeout(() -> {
+            elapsed[0] = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            latch.countDown();
+        }, 100, TimeUnit.MILLISECONDS);
+        Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        Assert.assertTrue(elapsed[0] >= 100, "Timeout ran early: " + elapsed[0] + "ms");
+    }
+
+    @Test(description = "Tests a cancelled timeout does not run")
+    public void testCancelledTimeout() throws InterruptedException {
+        AtomicInteger count = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(1);
+        WheelTimeout cancelled = timer.newTimeout(count::incrementAndGet, 50, TimeUnit.MILLISECONDS);
+        timer.newTimeout(latch::countDown, 200, TimeUnit.MILLISECONDS);
+        Assert.assertTrue(cancelled.cancel());
+        Assert.assertFalse(cancelled.cancel());
+        Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals(count.get(), 0);
+        Assert.assertTrue(cancelled.isCancelled());
+    }
+
+    @Test(description = "Tests timeouts which are cascaded down from the upper wheels")
+    public void testCascadedTimeouts() throws InterruptedException {
+        // With a 1ms tick, these delays land on the second and the third wheel respectively.
+        long[] delays = {300, 4200};
+        CountDownLatch latch = new CountDownLatch(delays.length);
+        long[] lateness = new long[delays.length];
+        long start = System.nanoTime();
+        for (int i = 0; i < delays.length; i++) {
+            int index = i;
+            timer.newTimeout(() -> {
+                lateness[index] = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) - delays[index];
+                latch.countDown();
+            }, delays[i], TimeUnit.MILLISECONDS);
+        }
+        Assert.assertTrue(latch.await(10, TimeUnit.SECONDS));
+        for (long late : lateness) {
+            Assert.assertTrue(late >= 0 && late < MAX_LATENESS_MILLIS, "Unexpected lateness: " + late + "ms");
+        }
+    }
+
+    @Test(description = "Measures the accuracy of a large number of short timers")
+    public void testAccuracyOfManyTimeouts() throws InterruptedException {
+        int count = 20000;
+        Random random = new Random(42);
+        long[] lateness = new long[count];
+        CountDownLatch latch = new CountDownLatch(count);
+        for (int i = 0; i < count; i++) {
+            int index = i;
+            long delay = random.nextInt(1000);
+            long scheduledAt = System.nanoTime();
+            timer.newTimeout(() -> {
+                lateness[index] = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - scheduledAt) - delay;
+                latch.countDown();
+            }, delay, TimeUnit.MILLISECONDS);
+        }
+        Assert.assertTrue(latch.await(30, TimeUnit.SECONDS));
+        Arrays.sort(lateness);
+        Assert.assertTrue(lateness[0] >= 0, "Timeout ran early: " + lateness[0] + "ms");
+        long p99 = lateness[(int) (count * 0.99)];
+        Assert.assertTrue(p99 < MAX_LATENESS_MILLIS, "99th percentile lateness is " + p99 + "ms");
+    }
+
+    @AfterClass
+    public void tearDown() {
+        timer.stop();
+        dispatcher.shutdownNow();
+    }
+}
@@ -42,6 +42,16 @@ class TwoPhaseCommitTransaction {
                 self.transactionBlockId));
         string|error ret = "";
 
+        if (self.participants.length() == 0) {
+            // Without other participants there is nothing to agree on, hence the local resource managers commit
+            // without a separate prepare phase.
+            string outcome = commitResourceManagersOnePhase(self.transactionId, self.transactionBlockId);
+            if (outcome == OUTCOME_COMMITTED || outcome == OUTCOME_ABORTED) {
+                return outcome;
+            }
+            return TransactionError(OUTCOME_HAZARD);
+        }
+
         // Prepare local resource managers
         boolean localPrepareSuccessful = prepareResourceManagers(self.transactionId, self.transactionBlockId);
         if (!localPrepareSuccessful) {
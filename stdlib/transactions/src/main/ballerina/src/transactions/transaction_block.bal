@@ -361,6 +361,20 @@ function commitResourceManagers(string transactionId, string transactionBlockId)
     name: "commitResourceManagers"
 } external;
 
+# Commit local resource managers without a separate prepare phase, when the initiator has no other participants.
+#
+# + transactionId - Globally unique transaction ID.
+# + transactionBlockId - ID of the transaction block. Each transaction block in a process has a unique ID.
+# + return - `committed` if the commit is successful, `aborted` if the resource managers failed to prepare and were
+#            rolled back, or `hazard` if the commit failed.
+# # Deprecated
+@deprecated
+function commitResourceManagersOnePhase(string transactionId, string transactionBlockId) returns string =
+        @java:Method {
+    'class: "io.ballerina.transactions.Utils",
+    name: "commitResourceManagersOnePhase"
+} external;
+
 # Abort local resource managers.
 #
 # + transactionId - Globally unique transaction ID.
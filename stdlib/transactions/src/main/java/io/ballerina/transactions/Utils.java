@@ -207,6 +207,18 @@ public class Utils {
                 .getInstance().notifyCommit(strand, transactionId.getValue(), transactionBlockId.getValue());
     }
 
+    public static BString commitResourceManagersOnePhase(BString transactionId, BString transactionBlockId) {
+        switch (TransactionResourceManager.getInstance().notifyOnePhaseCommit(transactionId.getValue(),
+                                                                              transactionBlockId.getValue())) {
+            case COMMITTED:
+                return BStringUtils.fromString("committed");
+            case PREPARE_FAILED:
+                return BStringUtils.fromString("aborted");
+            default:
+                return BStringUtils.fromString("hazard");
+        }
+    }
+
     public static boolean prepareResourceManagers(BString transactionId, BString transactionBlockId) {
         return TransactionResourceManager.getInstance().prepare(transactionId.getValue(),
                                                                 transactionBlockId.getValue());
@@ -34,9 +34,11 @@ import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.semantics.model.Scope;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.SymTag;
 import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+import org.wso2.ballerinalang.compiler.util.Name;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -55,6 +57,7 @@ import static io.ballerina.semantic.api.test.util.SemanticAPITestUtils.getDocume
 import static io.ballerina.semantic.api.test.util.SemanticAPITestUtils.getSymbolNames;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 
 /**
@@ -113,6 +116,36 @@ public class SymbolBIRTest {
         SemanticAPITestUtils.assertList(fooModule.allSymbols(), allSymbols);
     }
 
+    @Test
+    public void testLookupOfFunctionsInBIR() {
+        // Functions of a module read from BIR are defined when they are looked up or when its scope is iterated
+        Project project = BCompileUtil.loadProject("test-src/symbol_lookup_lazy_functions_test.bal");
+        Package currentPackage = project.currentPackage();
+        ModuleId defaultModuleId = currentPackage.getDefaultModule().moduleId();
+        Document srcFile = getDocumentForSingleSource(project);
+
+        PackageCompilation packageCompilation = currentPackage.getCompilation();
+        SemanticModel model = packageCompilation.getSemanticModel(defaultModuleId);
+        BPackageSymbol fooPkgSymbol = packageCompilation.defaultModuleBLangPackage().imports.get(0).symbol;
+
+        Scope.ScopeEntry concatBeforeIteration = fooPkgSymbol.scope.lookup(new Name("concat"));
+        assertEquals(concatBeforeIteration.symbol.tag, SymTag.FUNCTION);
+
+        BallerinaModule fooModule = (BallerinaModule) model.visibleSymbols(srcFile, LinePosition.from(18, 0))
+                .stream()
+                .filter(sym -> sym.getName().get().equals("testproject")).findAny().get();
+        SemanticAPITestUtils.assertList(fooModule.functions(), List.of("add"));
+        assertEquals(getSymbolNames(fooPkgSymbol, SymTag.FUNCTION), List.of("add"));
+
+        // Each function is defined once, regardless of whether it was looked up before or after the iteration
+        Scope.ScopeEntry addAfterIteration = fooPkgSymbol.scope.lookup(new Name("add"));
+        assertEquals(addAfterIteration.symbol.tag, SymTag.FUNCTION);
+        assertSame(addAfterIteration.next, Scope.NOT_FOUND_ENTRY);
+        Scope.ScopeEntry concatAfterIteration = fooPkgSymbol.scope.lookup(new Name("concat"));
+        assertSame(concatAfterIteration, concatBeforeIteration);
+        assertSame(concatAfterIteration.next, Scope.NOT_FOUND_ENTRY);
+    }
+
     @Test(dataProvider = "ImportSymbolPosProvider")
     public void testImportSymbols(int line, int column, String expSymbolName) {
         Project project = BCompileUtil.loadProject("test-src/symbol_at_cursor_import_test.bal");
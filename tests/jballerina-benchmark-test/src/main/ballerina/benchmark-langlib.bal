@@ -0,0 +1,45 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+// Maps, filters and reduces an array of 1k integers using the lang.array functions.
+function mapFilterReduce(int[] values) returns int {
+    return values.map(v => v * 2).filter(v => v % 3 == 0).reduce(function (int total, int v) returns int {
+        return total + v;
+    }, 0);
+}
+
+public function benchmarkArrayMapFilterReduce(int warmupCount, int benchmarkCount) returns int {
+    int[] values = [];
+    int i = 0;
+    while (i < 1000) {
+        values.push(i);
+        i += 1;
+    }
+
+    i = 0;
+    while (i < warmupCount) {
+        _ = mapFilterReduce(values);
+        i += 1;
+    }
+
+    i = 0;
+    int startTime = nanoTime();
+    while (i < benchmarkCount) {
+        _ = mapFilterReduce(values);
+        i += 1;
+    }
+    return (nanoTime() - startTime);
+}
@@ -250,6 +250,42 @@ public function benchmarkLoopWithForeach(int warmupCount, int benchmarkCount) re
     return (nanoTime() - startTime);
 }
 
+public function benchmarkFilterSelectWithQuery(int warmupCount, int benchmarkCount) returns int {
+    Person[] pl = getPersonArray(warmupCount);
+    string[] outputList =
+        from var person in pl
+        where person.id % 2 == 0
+        select person.fname;
+
+    pl = getPersonArray(benchmarkCount);
+    int startTime = nanoTime();
+    outputList =
+        from var person in pl
+        where person.id % 2 == 0
+        select person.fname;
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkFilterSelectWithForeach(int warmupCount, int benchmarkCount) returns int {
+    Person[] pl = getPersonArray(warmupCount);
+    string[] outputList = [];
+    foreach var person in pl {
+        if (person.id % 2 == 0) {
+            outputList.push(person.fname);
+        }
+    }
+
+    pl = getPersonArray(benchmarkCount);
+    outputList = [];
+    int startTime = nanoTime();
+    foreach var person in pl {
+        if (person.id % 2 == 0) {
+            outputList.push(person.fname);
+        }
+    }
+    return (nanoTime() - startTime);
+}
+
 type _Frame record {|
     (any|error|())...;
 |};
@@ -463,6 +499,62 @@ public function benchmarkJoinWithQuery(int warmupCount, int benchmarkCount) retu
     return (nanoTime() - startTime);
 }
 
+public function benchmarkJoinWithSmallerLhsWithQuery(int warmupCount, int benchmarkCount) returns int {
+    Person[] pl = getPersonArray(warmupCount / 10);
+    Department[] dl = getDepartmentArray(warmupCount);
+    DeptPerson[] outputList =
+        from var person in pl
+        join var dept in dl
+        on person.id equals dept.id
+        select {
+            fname: person.fname,
+            lname: person.lname,
+            dept: dept.name
+        };
+
+    pl = getPersonArray(benchmarkCount / 10);
+    dl = getDepartmentArray(benchmarkCount);
+    int startTime = nanoTime();
+    outputList =
+        from var person in pl
+        join var dept in dl
+        on person.id equals dept.id
+        select {
+            fname: person.fname,
+            lname: person.lname,
+            dept: dept.name
+        };
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkOuterJoinWithQuery(int warmupCount, int benchmarkCount) returns int {
+    Person[] pl = getPersonArray(warmupCount);
+    Department[] dl = getDepartmentArray(warmupCount / 2);
+    DeptPerson[] outputList =
+        from var person in pl
+        outer join Department dept in dl
+        on person.id equals dept.id
+        select {
+            fname: person.fname,
+            lname: person.lname,
+            dept: dept.name
+        };
+
+    pl = getPersonArray(benchmarkCount);
+    dl = getDepartmentArray(benchmarkCount / 2);
+    int startTime = nanoTime();
+    outputList =
+        from var person in pl
+        outer join Department dept in dl
+        on person.id equals dept.id
+        select {
+            fname: person.fname,
+            lname: person.lname,
+            dept: dept.name
+        };
+    return (nanoTime() - startTime);
+}
+
 public function benchmarkJoinWithWhile(int warmupCount, int benchmarkCount) returns int {
     Person[] pl = getPersonArray(warmupCount);
     Department[] dl = getDepartmentArray(warmupCount);
@@ -0,0 +1,55 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+public function benchmarkDecimalAddition() {
+    decimal b = 9.99;
+    decimal a = 10.1;
+    decimal c = a + b;
+}
+
+public function benchmarkDecimalMultiplication() {
+    decimal a = 2.5;
+    decimal b = 5.55;
+    decimal c = a * b;
+}
+
+public function benchmarkDecimalSubtraction() {
+    decimal a = 25.5;
+    decimal b = 15.55;
+    decimal c = a - b;
+}
+
+public function benchmarkDecimalDivision() {
+    decimal a = 25.5;
+    decimal b = 5.1;
+    decimal c = a / b;
+}
+
+public function benchmarkDecimalComparison() {
+    decimal a = 25.5;
+    decimal b = 25.50;
+    boolean c = a < b;
+}
+
+public function benchmarkDecimalToString() {
+    decimal a = 1234.56;
+    string s = a.toString();
+}
+
+public function benchmarkDecimalJsonRoundTrip() {
+    json amount = {price: 1234.56d, tax: 0.075d};
+    json|error parsed = amount.toJsonString().fromJsonDecimalString();
+}
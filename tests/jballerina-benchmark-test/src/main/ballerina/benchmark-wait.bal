@@ -0,0 +1,109 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+function square(int i) returns int {
+    return i * i;
+}
+
+// Starts the given number of strands and waits on each of them, the way a scatter-gather handler does.
+function waitOnFutures(int futureCount) returns int {
+    future<int>[] futures = [];
+    int i = 0;
+    while (i < futureCount) {
+        futures.push(start square(i));
+        i += 1;
+    }
+    int sum = 0;
+    foreach future<int> f in futures {
+        sum += wait f;
+    }
+    return sum;
+}
+
+// Runs enough rounds of waiting on `futureCount` futures to cover the given number of waits.
+function benchmarkWaitOnFutures(int futureCount, int warmupCount, int benchmarkCount) returns int {
+    int warmupRounds = warmupCount / futureCount + 1;
+    int benchmarkRounds = benchmarkCount / futureCount + 1;
+    int i = 0;
+    while (i < warmupRounds) {
+        _ = waitOnFutures(futureCount);
+        i += 1;
+    }
+
+    i = 0;
+    int startTime = nanoTime();
+    while (i < benchmarkRounds) {
+        _ = waitOnFutures(futureCount);
+        i += 1;
+    }
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkWaitOn1Future(int warmupCount, int benchmarkCount) returns int {
+    return benchmarkWaitOnFutures(1, warmupCount, benchmarkCount);
+}
+
+public function benchmarkWaitOn1kFutures(int warmupCount, int benchmarkCount) returns int {
+    return benchmarkWaitOnFutures(1000, warmupCount, benchmarkCount);
+}
+
+public function benchmarkWaitOn10kFutures(int warmupCount, int benchmarkCount) returns int {
+    return benchmarkWaitOnFutures(10000, warmupCount, benchmarkCount);
+}
+
+public function benchmarkWaitAny(int warmupCount, int benchmarkCount) returns int {
+    int i = 0;
+    while (i < warmupCount) {
+        future<int> f1 = start square(1);
+        future<int> f2 = start square(2);
+        future<int> f3 = start square(3);
+        int result = wait f1 | f2 | f3;
+        i += 1;
+    }
+
+    i = 0;
+    int startTime = nanoTime();
+    while (i < benchmarkCount) {
+        future<int> f1 = start square(1);
+        future<int> f2 = start square(2);
+        future<int> f3 = start square(3);
+        int result = wait f1 | f2 | f3;
+        i += 1;
+    }
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkWaitAll(int warmupCount, int benchmarkCount) returns int {
+    int i = 0;
+    while (i < warmupCount) {
+        future<int> f1 = start square(1);
+        future<int> f2 = start square(2);
+        future<int> f3 = start square(3);
+        record {| int f1; int f2; int f3; |} result = wait {f1, f2, f3};
+        i += 1;
+    }
+
+    i = 0;
+    int startTime = nanoTime();
+    while (i < benchmarkCount) {
+        future<int> f1 = start square(1);
+        future<int> f2 = start square(2);
+        future<int> f3 = start square(3);
+        record {| int f1; int f2; int f3; |} result = wait {f1, f2, f3};
+        i += 1;
+    }
+    return (nanoTime() - startTime);
+}
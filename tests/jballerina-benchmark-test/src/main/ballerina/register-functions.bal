@@ -22,6 +22,8 @@ public function registerSingleExecFunctions() {
     addSingleExecFunction("benchmarkWhileWithMapAssignment", benchmarkWhileWithMapAssignment);
     addSingleExecFunction("benchmarkLoopWithQuery", benchmarkLoopWithQuery);
     addSingleExecFunction("benchmarkLoopWithForeach", benchmarkLoopWithForeach);
+    addSingleExecFunction("benchmarkFilterSelectWithQuery", benchmarkFilterSelectWithQuery);
+    addSingleExecFunction("benchmarkFilterSelectWithForeach", benchmarkFilterSelectWithForeach);
     addSingleExecFunction("benchmarkLoopWithFramesForeach", benchmarkLoopWithFramesForeach);
     addSingleExecFunction("benchmarkLoopWithFramesWOEntries", benchmarkLoopWithFramesWOEntries);
     addSingleExecFunction("benchmarkLoopWithWhile", benchmarkLoopWithWhile);
@@ -34,8 +36,16 @@ public function registerSingleExecFunctions() {
     addSingleExecFunction("benchmarkNestedLoopWithForeach", benchmarkNestedLoopWithForeach);
     addSingleExecFunction("benchmarkNestedLoopWithWhile", benchmarkNestedLoopWithWhile);
     addSingleExecFunction("benchmarkJoinWithQuery", benchmarkJoinWithQuery);
+    addSingleExecFunction("benchmarkJoinWithSmallerLhsWithQuery", benchmarkJoinWithSmallerLhsWithQuery);
+    addSingleExecFunction("benchmarkOuterJoinWithQuery", benchmarkOuterJoinWithQuery);
     addSingleExecFunction("benchmarkJoinWithForeach", benchmarkJoinWithForeach);
     addSingleExecFunction("benchmarkJoinWithWhile", benchmarkJoinWithWhile);
+    addSingleExecFunction("benchmarkWaitOn1Future", benchmarkWaitOn1Future);
+    addSingleExecFunction("benchmarkWaitOn1kFutures", benchmarkWaitOn1kFutures);
+    addSingleExecFunction("benchmarkWaitOn10kFutures", benchmarkWaitOn10kFutures);
+    addSingleExecFunction("benchmarkWaitAny", benchmarkWaitAny);
+    addSingleExecFunction("benchmarkWaitAll", benchmarkWaitAll);
+    addSingleExecFunction("benchmarkArrayMapFilterReduce", benchmarkArrayMapFilterReduce);
 }
 
 public function registerMultiExecFunctions() {
@@ -63,4 +73,11 @@ public function registerMultiExecFunctions() {
     addMultiExecFunction("benchmarkFloatSubtractionWithReturn", benchmarkFloatSubtractionWithReturn);
     addMultiExecFunction("benchmarkFloatDivision", benchmarkFloatDivision);
     addMultiExecFunction("benchmarkFloatDivisionWithReturn", benchmarkFloatDivisionWithReturn);
+    addMultiExecFunction("benchmarkDecimalAddition", benchmarkDecimalAddition);
+    addMultiExecFunction("benchmarkDecimalMultiplication", benchmarkDecimalMultiplication);
+    addMultiExecFunction("benchmarkDecimalSubtraction", benchmarkDecimalSubtraction);
+    addMultiExecFunction("benchmarkDecimalDivision", benchmarkDecimalDivision);
+    addMultiExecFunction("benchmarkDecimalComparison", benchmarkDecimalComparison);
+    addMultiExecFunction("benchmarkDecimalToString", benchmarkDecimalToString);
+    addMultiExecFunction("benchmarkDecimalJsonRoundTrip", benchmarkDecimalJsonRoundTrip);
 }
@@ -0,0 +1,84 @@
+/*
+ *   Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.test.bala.functions;
+
+import org.ballerinalang.test.BCompileUtil;
+import org.ballerinalang.test.BRunUtil;
+import org.ballerinalang.test.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import static org.ballerinalang.test.BAssertUtil.validateError;
+
+/**
+ * Test resolving the functions of a module read from BIR, which are defined only when they are looked up.
+ *
+ * @since 2.0.0
+ */
+public class LazyFunctionDefinitionBalaTest {
+
+    private CompileResult result;
+    private CompileResult resultNegative;
+
+    @BeforeClass
+    public void setup() {
+        BCompileUtil.compileAndCacheBala("test-src/bala/test_projects/test_project_lazy_functions");
+        result = BCompileUtil.compile("test-src/bala/test_bala/functions/test_lazy_function_definition.bal");
+        resultNegative = BCompileUtil.compile(
+                "test-src/bala/test_bala/functions/test_lazy_function_definition_negative.bal");
+    }
+
+    @Test
+    public void testCompilation() {
+        Assert.assertEquals(result.getErrorCount(), 0);
+    }
+
+    @Test(dataProvider = "FunctionNames")
+    public void testFunctionResolution(String funcName) {
+        BRunUtil.invoke(result, funcName);
+    }
+
+    @DataProvider(name = "FunctionNames")
+    public Object[][] getFuncNames() {
+        return new Object[][]{
+                {"testFunctionsLookedUpWithOtherSymbols"},
+                {"testFunctionReferencedAsValue"},
+                {"testFunctionReferencedInFieldDefault"},
+                {"testFunctionReferencedInObjectFieldDefault"},
+                {"testFunctionReferencedInAnnotation"}
+        };
+    }
+
+    @Test
+    public void testNegativeFunctionResolution() {
+        int index = 0;
+        validateError(resultNegative, index++, "attempt to refer to non-accessible symbol 'multiply'", 20, 19);
+        validateError(resultNegative, index++, "undefined function 'multiply'", 20, 19);
+        validateError(resultNegative, index++, "undefined function 'getCount'", 24, 17);
+        Assert.assertEquals(resultNegative.getErrorCount(), index);
+    }
+
+    @AfterClass
+    public void tearDown() {
+        result = null;
+        resultNegative = null;
+    }
+}
@@ -115,6 +115,42 @@ public class JoinClauseTest {
         Assert.assertTrue(((BBoolean) values[0]).booleanValue());
     }
 
+    @Test(description = "Test join clause with a smaller left side and duplicate keys on the right side")
+    public void testJoinClauseWithSmallerLhsAndDuplicateKeys() {
+        BValue[] values = BRunUtil.invoke(result, "testJoinClauseWithSmallerLhsAndDuplicateKeys");
+        Assert.assertTrue(((BBoolean) values[0]).booleanValue());
+    }
+
+    @Test(description = "Test outer join clause with duplicate keys")
+    public void testOuterJoinClauseWithDuplicateKeys() {
+        BValue[] values = BRunUtil.invoke(result, "testOuterJoinClauseWithDuplicateKeys");
+        Assert.assertTrue(((BBoolean) values[0]).booleanValue());
+    }
+
+    @Test(description = "Test join clause with an error in the smaller left side")
+    public void testJoinClauseWithErrorInSmallerLhs() {
+        BValue[] values = BRunUtil.invoke(result, "testJoinClauseWithErrorInSmallerLhs");
+        Assert.assertTrue(((BBoolean) values[0]).booleanValue());
+    }
+
+    @Test(description = "Test join clause with a smaller left side and a limit clause")
+    public void testJoinClauseWithSmallerLhsAndLimit() {
+        BValue[] values = BRunUtil.invoke(result, "testJoinClauseWithSmallerLhsAndLimit");
+        Assert.assertTrue(((BBoolean) values[0]).booleanValue());
+    }
+
+    @Test(description = "Test join clause with list and mapping keys")
+    public void testJoinClauseWithListAndMappingKeys() {
+        BValue[] values = BRunUtil.invoke(result, "testJoinClauseWithListAndMappingKeys");
+        Assert.assertTrue(((BBoolean) values[0]).booleanValue());
+    }
+
+    @Test(description = "Test join clause with int and decimal keys")
+    public void testJoinClauseWithIntAndDecimalKeys() {
+        BValue[] values = BRunUtil.invoke(result, "testJoinClauseWithIntAndDecimalKeys");
+        Assert.assertTrue(((BBoolean) values[0]).booleanValue());
+    }
+
     @Test(groups = {"disableOnOldParser"}, description = "Test negative scenarios for query expr with join clause")
     public void testNegativeScenarios() {
         Assert.assertEquals(negativeResult.getErrorCount(), 32);
@@ -154,6 +154,42 @@ public class LimitClauseTest {
         Assert.assertTrue(((BBoolean) values[0]).booleanValue());
     }
 
+    @Test(description = "Test limit clause after a where clause, on a collection which is not a list")
+    public void testLimitClauseAfterWhereClauseOverMap() {
+        BValue[] values = BRunUtil.invoke(result, "testLimitClauseAfterWhereClauseOverMap");
+        Assert.assertTrue(((BBoolean) values[0]).booleanValue());
+    }
+
+    @Test(description = "Test where and limit clauses on a list")
+    public void testLimitClauseOverList() {
+        BValue[] values = BRunUtil.invoke(result, "testLimitClauseOverList");
+        Assert.assertTrue(((BBoolean) values[0]).booleanValue());
+    }
+
+    @Test(description = "Test query on a list which is modified while iterating it")
+    public void testQueryOverListModifiedWhileIterating() {
+        BValue[] values = BRunUtil.invoke(result, "testQueryOverListModifiedWhileIterating");
+        Assert.assertTrue(((BBoolean) values[0]).booleanValue());
+    }
+
+    @Test(description = "Test query on a list which is evaluated again for each member of another query")
+    public void testQueryOverListEvaluatedRepeatedly() {
+        BValue[] values = BRunUtil.invoke(result, "testQueryOverListEvaluatedRepeatedly");
+        Assert.assertTrue(((BBoolean) values[0]).booleanValue());
+    }
+
+    @Test(description = "Test error returned by a let or select clause, which ends the query")
+    public void testErrorInLetOrSelectClauseEndsQuery() {
+        BValue[] values = BRunUtil.invoke(result, "testErrorInLetOrSelectClauseEndsQuery");
+        Assert.assertTrue(((BBoolean) values[0]).booleanValue());
+    }
+
+    @Test(description = "Test do and select clauses which call functions that yield")
+    public void testQueryWithYieldingFunctions() {
+        BValue[] values = BRunUtil.invoke(result, "testQueryWithYieldingFunctions");
+        Assert.assertTrue(((BBoolean) values[0]).booleanValue());
+    }
+
     @Test(description = "Test limit clause with incompatible types", groups = {"disableOnOldParser"})
     public void testNegativeScenarios() {
         negativeResult = BCompileUtil.compile("test-src/query/limit-clause-negative.bal");
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.test.record;
+
+import org.ballerinalang.core.model.values.BBoolean;
+import org.ballerinalang.core.model.values.BValue;
+import org.ballerinalang.test.BCompileUtil;
+import org.ballerinalang.test.BRunUtil;
+import org.ballerinalang.test.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import static org.ballerinalang.test.BAssertUtil.validateError;
+
+/**
+ * Test cases for checking the assignability of the same record types repeatedly, which reuses the earlier results.
+ *
+ * @since 2.0.0
+ */
+public class RecordRepeatedAssignabilityTest {
+
+    private CompileResult compileResult;
+
+    @BeforeClass
+    public void setup() {
+        compileResult = BCompileUtil.compile("test-src/record/record_repeated_assignability.bal");
+    }
+
+    @Test
+    public void testRepeatedAssignabilityOfRecursiveRecords() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "testRepeatedAssignabilityOfRecursiveRecords");
+        Assert.assertTrue(((BBoolean) returns[0]).booleanValue());
+    }
+
+    @Test
+    public void testRepeatedAssignabilityOfRecordTypesInTypeTests() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "testRepeatedAssignabilityOfRecordTypesInTypeTests");
+        Assert.assertTrue(((BBoolean) returns[0]).booleanValue());
+    }
+
+    @Test
+    public void testRepeatedIncompatibleAssignments() {
+        CompileResult negativeResult =
+                BCompileUtil.compile("test-src/record/record_repeated_assignability_negative.bal");
+        int index = 0;
+        Assert.assertEquals(negativeResult.getErrorCount(), 3);
+        validateError(negativeResult, index++, "incompatible types: expected 'Person', found 'Student'", 31, 17);
+        validateError(negativeResult, index++, "incompatible types: expected 'Person', found 'Student'", 32, 17);
+        validateError(negativeResult, index, "incompatible types: expected 'Person', found 'Student'", 34, 17);
+    }
+}
@@ -268,6 +268,17 @@ public class BDecimalValueTest {
         Assert.assertEquals(returns[0], new BDecimal("2.0", DecimalValueKind.OTHER));
     }
 
+    @Test(description = "Test decimal arithmetic whose results do not fit in a long")
+    public void testDecimalArithmeticBeyondLongRange() {
+        BValue[] returns = BRunUtil.invoke(result, "decimalArithmeticBeyondLongRange");
+        Assert.assertEquals(returns[0].stringValue(), "12345678901234567800");
+        Assert.assertEquals(returns[1].stringValue(), "12222222112222222122");
+        Assert.assertEquals(returns[2].stringValue(), "0.30");
+        Assert.assertEquals(returns[3].stringValue(), "-5E-7");
+        Assert.assertTrue(((BBoolean) returns[4]).booleanValue());
+        Assert.assertTrue(((BBoolean) returns[5]).booleanValue());
+    }
+
     @AfterClass
     public void tearDown() {
         result = null;
@@ -103,6 +103,13 @@ public class WaitForOneActionsTest {
         Assert.assertNull(vals[0]);
     }
 
+    @Test
+    public void waitTestManyWaiters() {
+        BValue[] vals = BRunUtil.invoke(result, "waitTestManyWaiters", new BValue[0]);
+        Assert.assertEquals(vals.length, 1);
+        Assert.assertEquals(vals[0].stringValue(), "8400 200");
+    }
+
     @Test
     public void asyncObjectCreationTest() {
         BRunUtil.invoke(result, "asyncObjectCreationTest", new BValue[0]);
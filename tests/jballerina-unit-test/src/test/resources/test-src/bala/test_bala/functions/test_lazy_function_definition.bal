@@ -0,0 +1,80 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import testorg/lazy_functions as lazy;
+
+// Functions of the module are defined when they are first looked up, hence they are looked up before and after
+// the other symbols of the module.
+function testFunctionsLookedUpWithOtherSymbols() {
+    int sum = lazy:add(1, 2);
+    lazy:Counter counter = {count: lazy:BASE};
+    counter = lazy:increment(counter);
+    assert(11, counter.count);
+    assert(18, lazy:add(sum, counter.count) + lazy:square(2));
+    assert(3, lazy:add(1, 2));
+}
+
+function testFunctionReferencedAsValue() {
+    lazy:Callback callback = lazy:getBase;
+    assert(10, callback());
+}
+
+// The function is referred to only in the default value of a field
+type Defaults record {|
+    int count = lazy:getDefaultCount();
+|};
+
+function testFunctionReferencedInFieldDefault() {
+    Defaults defaults = {};
+    assert(5, defaults.count);
+}
+
+class Holder {
+    lazy:Callback callback = lazy:getCallbackValue;
+}
+
+function testFunctionReferencedInObjectFieldDefault() {
+    Holder holder = new;
+    lazy:Callback callback = holder.callback;
+    assert(42, callback());
+}
+
+// The function is referred to only in an annotation
+@lazy:OnInvoke {
+    callback: lazy:getAnnotatedValue
+}
+type Annotated record {|
+|};
+
+function testFunctionReferencedInAnnotation() {
+    typedesc<any> annotated = Annotated;
+    lazy:Handler? handler = annotated.@lazy:OnInvoke;
+    if handler is () {
+        panic error("AssertionError", message = "expected the annotation to be attached");
+    }
+    lazy:Callback callback = handler.callback;
+    assert(100, callback());
+}
+
+function assert(anydata expected, anydata actual) {
+    if (expected != actual) {
+        typedesc<anydata> expT = typeof expected;
+        typedesc<anydata> actT = typeof actual;
+        string detail = "expected [" + expected.toString() + "] of type [" + expT.toString()
+                            + "], but found [" + actual.toString() + "] of type [" + actT.toString() + "]";
+        panic error("{AssertionError}", message = detail);
+    }
+}
@@ -0,0 +1,45 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+public const int BASE = 10;
+
+public type Counter record {|
+    int count;
+|};
+
+public type Callback function () returns int;
+
+public type Handler record {|
+    Callback callback;
+|};
+
+public annotation Handler OnInvoke on type;
+
+public function add(int a, int b) returns int => a + b;
+
+public function getBase() returns int => BASE;
+
+public function increment(Counter counter) returns Counter => {count: counter.count + 1};
+
+public function getDefaultCount() returns int => 5;
+
+public function getCallbackValue() returns int => 42;
+
+public function getAnnotatedValue() returns int => 100;
+
+public function square(int a) returns int => multiply(a, a);
+
+function multiply(int a, int b) returns int => a * b;
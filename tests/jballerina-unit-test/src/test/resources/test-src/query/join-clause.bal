@@ -448,6 +448,194 @@ function testSimpleJoinClauseWithFunctionInAnEquals() returns boolean {
     return testPassed;
 }
 
+function testJoinClauseWithSmallerLhsAndDuplicateKeys() returns boolean {
+    Person p1 = {id: 1, fname: "Alex", lname: "George"};
+    Person p2 = {id: 2, fname: "Ranjan", lname: "Fonseka"};
+
+    Department d1 = {id: 1, name:"HR"};
+    Department d2 = {id: 2, name:"Operations"};
+    Department d3 = {id: 1, name:"Finance"};
+    Department d4 = {id: 3, name:"Marketing"};
+
+    Person[] personList = [p1, p2];
+    Department[] deptList = [d1, d2, d3, d4];
+
+    DeptPerson[] deptPersonList =
+       from var person in personList
+       join var dept in deptList
+       on person.id equals dept.id
+       select {
+           fname : person.fname,
+           lname : person.lname,
+           dept : dept.name
+       };
+
+    boolean testPassed = true;
+    DeptPerson dp;
+    testPassed = testPassed && deptPersonList.length() == 3;
+    dp = deptPersonList[0];
+    testPassed = testPassed && dp.fname == "Alex" && dp.dept == "HR";
+    dp = deptPersonList[1];
+    testPassed = testPassed && dp.fname == "Alex" && dp.dept == "Finance";
+    dp = deptPersonList[2];
+    testPassed = testPassed && dp.fname == "Ranjan" && dp.dept == "Operations";
+    return testPassed;
+}
+
+function testOuterJoinClauseWithDuplicateKeys() returns boolean {
+    Person p1 = {id: 1, fname: "Alex", lname: "George"};
+    Person p2 = {id: 2, fname: "Ranjan", lname: "Fonseka"};
+    Person p3 = {id: 3, fname: "Grainier", lname: "Perera"};
+
+    Department d1 = {id: 1, name:"HR"};
+    Department d2 = {id: 2, name:"Operations"};
+    Department d3 = {id: 1, name:"Finance"};
+
+    Person[] personList = [p1, p3, p2];
+    Department[] deptList = [d1, d2, d3];
+
+    DeptPerson[] deptPersonList =
+       from var person in personList
+       outer join Department dept in deptList
+       on person.id equals dept.id
+       select {
+           fname : person.fname,
+           lname : person.lname,
+           dept : dept.name
+       };
+
+    boolean testPassed = true;
+    DeptPerson dp;
+    testPassed = testPassed && deptPersonList.length() == 4;
+    dp = deptPersonList[0];
+    testPassed = testPassed && dp.fname == "Alex" && dp.dept == "HR";
+    dp = deptPersonList[1];
+    testPassed = testPassed && dp.fname == "Alex" && dp.dept == "Finance";
+    dp = deptPersonList[2];
+    testPassed = testPassed && dp.fname == "Grainier" && dp.dept is ();
+    dp = deptPersonList[3];
+    testPassed = testPassed && dp.fname == "Ranjan" && dp.dept == "Operations";
+    return testPassed;
+}
+
+function testJoinClauseWithErrorInSmallerLhs() returns boolean {
+    string[] ids = ["1", "2", "x", "1"];
+    Department d1 = {id: 1, name:"HR"};
+    Department d2 = {id: 2, name:"Operations"};
+    Department d3 = {id: 3, name:"Finance"};
+    Department d4 = {id: 4, name:"Marketing"};
+    Department d5 = {id: 5, name:"Sales"};
+    Department[] deptList = [d1, d2, d3, d4, d5];
+    string[] joinedDepts = [];
+
+    // The left side may fail, hence it is not consumed before the joined frames, even though it is smaller.
+    error? result =
+       from var v in ids
+       let int id = check int:fromString(v)
+       join var dept in deptList
+       on id equals dept.id
+       do {
+           joinedDepts.push(dept.name);
+       };
+
+    return result is error && joinedDepts == ["HR", "Operations"];
+}
+
+function testJoinClauseWithSmallerLhsAndLimit() returns boolean {
+    Person p1 = {id: 1, fname: "Alex", lname: "George"};
+    Person p2 = {id: 2, fname: "Ranjan", lname: "Fonseka"};
+
+    Department d1 = {id: 1, name:"HR"};
+    Department d2 = {id: 2, name:"Operations"};
+    Department d3 = {id: 3, name:"Finance"};
+
+    Person[] personList = [p1, p2];
+    Department[] deptList = [d1, d2, d3];
+    string[] lhsKeys = [];
+    string[] rhsKeys = [];
+
+    // The smaller left side is consumed before the first joined frame, along with its join keys.
+    DeptPerson[] deptPersonList =
+       from var person in personList
+       join var dept in deptList
+       on getPersonId(person, lhsKeys) equals getDeptId(dept, rhsKeys)
+       limit 1
+       select {
+           fname : person.fname,
+           lname : person.lname,
+           dept : dept.name
+       };
+
+    return deptPersonList.length() == 1 && deptPersonList[0].fname == "Alex" && deptPersonList[0].dept == "HR" &&
+        lhsKeys == ["Alex", "Ranjan"] && rhsKeys == ["HR", "Operations", "Finance"];
+}
+
+function testJoinClauseWithListAndMappingKeys() returns boolean {
+    Person p1 = {id: 1, fname: "Alex", lname: "George"};
+    Person p2 = {id: 2, fname: "Ranjan", lname: "Fonseka"};
+    Person p3 = {id: 3, fname: "Alex", lname: "Perera"};
+
+    Person e1 = {id: 10, fname: "Ranjan", lname: "Fonseka"};
+    Person e2 = {id: 20, fname: "Alex", lname: "George"};
+    Person e3 = {id: 30, fname: "Alex", lname: "Fonseka"};
+
+    Person[] personList = [p1, p2, p3];
+    Person[] employeeList = [e1, e2, e3];
+
+    int[] byList =
+       from var person in personList
+       join var emp in employeeList
+       on [person.fname, person.lname] equals [emp.fname, emp.lname]
+       select emp.id;
+
+    int[] byMapping =
+       from var person in personList
+       join var emp in employeeList
+       on getNameKey(person) equals getNameKey(emp)
+       select emp.id;
+
+    return byList == [20, 10] && byMapping == [20, 10];
+}
+
+type Amount record {|
+    int|decimal value;
+    string label;
+|};
+
+function testJoinClauseWithIntAndDecimalKeys() returns boolean {
+    Amount[] intAmounts = [{value: 1, label: "a"}, {value: 2d, label: "b"}];
+    Amount[] decimalAmounts = [{value: 1d, label: "c"}, {value: 2d, label: "d"}, {value: 1, label: "e"}];
+
+    // An int key does not match a decimal key of the same value, whichever side it is on.
+    string[] lhsInts =
+       from var a in intAmounts
+       join var b in decimalAmounts
+       on a.value equals b.value
+       select a.label + b.label;
+
+    string[] rhsInts =
+       from var a in decimalAmounts
+       join var b in intAmounts
+       on a.value equals b.value
+       select a.label + b.label;
+
+    return lhsInts == ["ae", "bd"] && rhsInts == ["db", "ea"];
+}
+
+function getPersonId(Person person, string[] keys) returns int {
+    keys.push(person.fname);
+    return person.id;
+}
+
+function getDeptId(Department dept, string[] keys) returns int {
+    keys.push(dept.name);
+    return dept.id;
+}
+
+function getNameKey(Person person) returns map<string> {
+    return {fname: person.fname, lname: person.lname};
+}
+
 function getDeptName(int id) returns string {
     if (id == 1) {
         return "HR";
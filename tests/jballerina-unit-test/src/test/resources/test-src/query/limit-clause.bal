@@ -259,3 +259,150 @@ function testLetExpressionWithLimitClause() returns boolean {
     testPassed = testPassed && p.firstName == "John" && p.lastName == "David" && p.age == 34;
     return testPassed;
 }
+
+function testLimitClauseAfterWhereClauseOverMap() returns boolean {
+    map<int> numbers = {a: 1, b: 2, c: 3, d: 4, e: 5, f: 6};
+
+    int[] squares =
+            from var n in numbers
+            let int square = n * n
+            where n % 2 == 0
+            limit 2
+            select square;
+
+    return squares.length() == 2 && squares[0] == 4 && squares[1] == 16;
+}
+
+function testLimitClauseOverList() returns boolean {
+    int[] numbers = [1, 2, 3, 4, 5, 6, 7, 8];
+
+    int[] evenSquares =
+            from var n in numbers
+            where n % 2 == 0
+            limit 3
+            select n * n;
+
+    int[] allNumbers =
+            from var n in numbers
+            limit 20
+            select n;
+
+    int[] noNumbers =
+            from var n in numbers
+            where n > 10
+            limit 2
+            select n;
+
+    return evenSquares == [4, 16, 36] && allNumbers == numbers && noNumbers.length() == 0;
+}
+
+function testQueryOverListModifiedWhileIterating() returns boolean {
+    int[] numbers = [1, 2, 3];
+    int visited = 0;
+
+    // Members added while iterating are not visited, similar to the iterator of a list.
+    error? result =
+            from var n in numbers
+            do {
+                numbers.push(n * 10);
+                visited += 1;
+            };
+
+    int[] selected =
+            from var n in numbers
+            where appendTo(numbers, n)
+            limit 10
+            select n;
+
+    return result is () && visited == 3 && selected == [1, 2, 3, 10, 20, 30] &&
+            numbers == [1, 2, 3, 10, 20, 30, 1, 2, 3, 10, 20, 30];
+}
+
+function testQueryOverListEvaluatedRepeatedly() returns boolean {
+    int[] numbers = [1, 2, 3, 4];
+
+    // The inner query iterates the list again for each member, with a limit count of its own.
+    int[][] prefixes =
+            from var n in numbers
+            select (from var m in numbers
+                    limit n
+                    select m);
+
+    int[][] firstTwo = [];
+    int i = 0;
+    while (i < 3) {
+        int[] result =
+                from var n in numbers
+                limit 2
+                select n;
+        firstTwo.push(result);
+        i += 1;
+    }
+
+    return prefixes == [[1], [1, 2], [1, 2, 3], [1, 2, 3, 4]] && firstTwo == [[1, 2], [1, 2], [1, 2]];
+}
+
+function testErrorInLetOrSelectClauseEndsQuery() returns boolean {
+    string[] values = ["1", "2", "x", "4"];
+    string[] filteredAfterLet = [];
+    string[] filteredBeforeSelect = [];
+
+    int[]|error numbers =
+            from var v in values
+            let int n = check int:fromString(v)
+            where markSeen(filteredAfterLet, v)
+            select n;
+
+    int[]|error doubled =
+            from var v in values
+            where markSeen(filteredBeforeSelect, v)
+            select check parseAndDouble(v);
+
+    return numbers is error && filteredAfterLet == ["1", "2"] &&
+            doubled is error && filteredBeforeSelect == ["1", "2", "x"];
+}
+
+function testQueryWithYieldingFunctions() returns boolean {
+    int[] numbers = [1, 2, 3, 4, 5];
+    int[] oddSquares = [];
+
+    error? result =
+            from var n in numbers
+            where n % 2 == 1
+            do {
+                oddSquares.push(squareInNewStrand(n));
+            };
+
+    int[] squares =
+            from var n in numbers
+            where n > 1
+            limit 3
+            select squareInNewStrand(n);
+
+    return result is () && oddSquares == [1, 9, 25] && squares == [4, 9, 16];
+}
+
+function appendTo(int[] list, int n) returns boolean {
+    list.push(n);
+    return true;
+}
+
+function markSeen(string[] seen, string value) returns boolean {
+    seen.push(value);
+    return true;
+}
+
+function parseAndDouble(string value) returns int|error {
+    int n = check int:fromString(value);
+    return n * 2;
+}
+
+// The strand of the caller yields while it waits for the square.
+function squareInNewStrand(int n) returns int {
+    future<int> f = start square(n);
+    return wait f;
+}
+
+function square(int n) returns int {
+    return n * n;
+}
@@ -0,0 +1,59 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+type Person record {|
+    string name;
+    int age;
+    Person? parent = ();
+|};
+
+type Employee record {|
+    string name;
+    int age;
+    Employee? parent = ();
+    string company = "WSO2";
+|};
+
+type Student record {
+    string name;
+    int age;
+    Student? parent = ();
+};
+
+type PersonOrStudent Person|Student;
+
+function testRepeatedAssignabilityOfRecursiveRecords() returns boolean {
+    Person p1 = {name: "Anne", age: 50};
+    Person p2 = {name: "Bob", age: 20, parent: p1};
+    Student s1 = p1;
+    Student s2 = p2;
+    Student s3 = {name: "Charles", age: 10, parent: s2};
+    PersonOrStudent ps1 = s1;
+    PersonOrStudent ps2 = p2;
+    anydata a1 = s3;
+    return s3.parent === s2 && ps1 is Person && ps2 is Person && a1 is Student && !(a1 is Person);
+}
+
+function testRepeatedAssignabilityOfRecordTypesInTypeTests() returns boolean {
+    Person person = {name: "Anne", age: 50};
+    (Person|Employee|Student)[] values = [person];
+    boolean matches = true;
+    foreach int i in 0 ..< 3 {
+        Person|Employee|Student value = values[i % values.length()];
+        matches = matches && value is Student && !(value is Employee) && value is PersonOrStudent;
+    }
+    return matches;
+}
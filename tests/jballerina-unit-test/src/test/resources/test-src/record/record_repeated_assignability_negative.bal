@@ -0,0 +1,35 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+type Person record {|
+    string name;
+    int age;
+    Person? parent = ();
+|};
+
+type Student record {
+    string name;
+    int age;
+    Student? parent = ();
+};
+
+function testRepeatedIncompatibleAssignments() {
+    Student s1 = {name: "Anne", age: 50};
+    Person p1 = s1;
+    Person p2 = s1;
+    Student s2 = p1;
+    Person p3 = s2;
+}
@@ -155,3 +155,15 @@ public function decimalArrayLoad() returns decimal {
     decimal[] a = [1.0, 2.0];
     return a[1];
 }
+
+// Test decimal arithmetic whose results do not fit in a long
+function decimalArithmeticBeyondLongRange() returns [decimal, decimal, decimal, decimal, boolean, boolean] {
+    decimal a = 123456789012345678;
+    decimal b = a * 100;
+    decimal c = b - a;
+    decimal d = 0.1 + 0.20;
+    decimal e = -0.000001 * 0.5;
+    boolean f = 1.10 == 1.1;
+    boolean g = 12.5 > 12.4999999999999999999;
+    return [b, c, d, e, f, g];
+}
@@ -79,6 +79,37 @@ function waitTest9() returns () {
     return result;
 }
 
+int wokenWaiters = 0;
+
+// Many strands wait on the same future, and each of them should be woken up exactly once
+function waitTestManyWaiters() returns string {
+    future<int> shared = @strand{thread:"any"} start slowAdd(20, 22);
+    future<int>[] waiters = [];
+    foreach int i in 0 ..< 200 {
+        future<int> waiter = @strand{thread:"any"} start waitAndCount(shared);
+        waiters.push(waiter);
+    }
+    int sum = 0;
+    foreach future<int> waiter in waiters {
+        int result = wait waiter;
+        sum += result;
+    }
+    return sum.toString() + " " + wokenWaiters.toString();
+}
+
+function waitAndCount(future<int> f) returns int {
+    int result = wait f;
+    lock {
+        wokenWaiters += 1;
+    }
+    return result;
+}
+
+function slowAdd(int i, int j) returns int {
+    sleep(100);
+    return i + j;
+}
+
 //function waitTest10() returns int { // Needs to be tested out
 //    int result = 0;
 //    worker w1 {
@@ -0,0 +1,85 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.testerina.test;
+
+import org.ballerinalang.test.context.BMainInstance;
+import org.ballerinalang.test.context.BallerinaTestException;
+import org.ballerinalang.testerina.test.utils.AssertionUtils;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+
+/**
+ * Test class containing tests related to executing tests in parallel.
+ */
+public class ParallelExecutionTest extends BaseTestCase {
+
+    private BMainInstance balClient;
+    private String projectPath;
+
+    @BeforeClass
+    public void setup() throws BallerinaTestException {
+        balClient = new BMainInstance(balServer);
+        projectPath = singleFileTestsPath.resolve("parallel-execution").toString();
+    }
+
+    @Test
+    public void testDependsOnWithParallelism() throws BallerinaTestException {
+        String msg1 = "4 passing";
+        String msg2 = "1 failing";
+        String msg3 = "2 skipped";
+        String[] args = mergeCoverageArgs(new String[]{"--parallelism", "4", "dependson-test.bal"});
+        String output = balClient.runMainAndReadStdOut("test", args,
+                new HashMap<>(), projectPath, false);
+        if (!output.contains(msg1) || !output.contains(msg2) || !output.contains(msg3)) {
+            AssertionUtils.assertForTestFailures(output, "error while executing dependant tests in parallel");
+        }
+    }
+
+    @Test
+    public void testBeforeGroupsAfterGroupsWithParallelism() throws BallerinaTestException {
+        String[] args = mergeCoverageArgs(new String[]{"--parallelism", "4", "before-groups-after-groups-test.bal"});
+        String output = balClient.runMainAndReadStdOut("test", args,
+                new HashMap<>(), projectPath, true);
+        if (output.contains("[fail] afterSuiteFunc")) {
+            throw new BallerinaTestException("Test failed due to assertion failure in after suite function");
+        }
+    }
+
+    @Test
+    public void testAfterGroupsWithSkippedTestWithParallelism() throws BallerinaTestException {
+        String[] args = mergeCoverageArgs(new String[]{"--parallelism", "4", "after-groups-with-skipped-test.bal"});
+        String output = balClient.runMainAndReadStdOut("test", args,
+                new HashMap<>(), projectPath, true);
+        if (output.contains("[fail] afterSuiteFunc")) {
+            throw new BallerinaTestException("Test failed due to assertion failure in after suite function");
+        }
+    }
+
+    @Test
+    public void testInvalidParallelism() throws BallerinaTestException {
+        String msg = "invalid value for --parallelism: 0. It should be a positive integer.";
+        String[] args = mergeCoverageArgs(new String[]{"--parallelism", "0", "dependson-test.bal"});
+        String output = balClient.runMainAndReadStdOut("test", args,
+                new HashMap<>(), projectPath, true);
+        if (!output.contains(msg)) {
+            throw new BallerinaTestException("Test failed since the invalid parallelism was not rejected: " + output);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.runtime;
+import ballerina/test;
+
+// Similar to the sequential execution, the @AfterGroups functions of a group should be executed only if the last
+// test of the group in the execution order (testFunc2, testFunc1, testFunc3, testFunc4, testFunc5) is not skipped,
+// regardless of the test which completes last.
+
+int afterGroupsCount1 = 0;
+int afterGroupsCount2 = 0;
+
+@test:AfterGroups { value : ["g1"] }
+function afterGroupsFunc1() {
+    afterGroupsCount1 += 1;
+}
+
+@test:AfterGroups { value : ["g2"] }
+function afterGroupsFunc2() {
+    afterGroupsCount2 += 1;
+}
+
+@test:Config { groups : ["g1"] }
+function testFunc1() {
+    runtime:sleep(0.5);
+    test:assertFail(msg = "testFunc1 failed");
+}
+
+// This test completes after the last test of the group is skipped
+@test:Config { groups : ["g1"] }
+function testFunc2() {
+    runtime:sleep(1);
+}
+
+// This test is skipped after the last test of the group completes
+@test:Config {
+    groups : ["g2"],
+    dependsOn: [testFunc1]
+}
+function testFunc3() {
+}
+
+@test:Config {
+    groups : ["g1"],
+    dependsOn: [testFunc1]
+}
+function testFunc4() {
+}
+
+@test:Config { groups : ["g2"] }
+function testFunc5() {
+}
+
+@test:AfterSuite {}
+function afterSuiteFunc() {
+    test:assertEquals(afterGroupsCount1, 0);
+    test:assertEquals(afterGroupsCount2, 1);
+}
@@ -0,0 +1,85 @@
+
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.runtime;
+import ballerina/test;
+
+// The tests of a group are executed at the same time, but the @BeforeGroups function should be executed once
+// before any of them, and the @AfterGroups function once after all of them.
+
+int beforeGroupsCount = 0;
+int afterGroupsCount = 0;
+boolean[] executedWithinGroup = [false, false, false, false, false, false];
+
+@test:BeforeGroups { value : ["g1"] }
+function beforeGroupsFunc() {
+    runtime:sleep(0.2);
+    beforeGroupsCount += 1;
+}
+
+@test:AfterGroups { value : ["g1"] }
+function afterGroupsFunc() {
+    afterGroupsCount += 1;
+}
+
+function executeWithinGroup(int index) {
+    runtime:sleep(0.2);
+    executedWithinGroup[index] = beforeGroupsCount == 1 && afterGroupsCount == 0;
+}
+
+@test:Config { groups : ["g1"] }
+function testFunc1() {
+    executeWithinGroup(0);
+}
+
+@test:Config { groups : ["g1"] }
+function testFunc2() {
+    executeWithinGroup(1);
+}
+
+@test:Config { groups : ["g1"] }
+function testFunc3() {
+    executeWithinGroup(2);
+}
+
+@test:Config { groups : ["g1"] }
+function testFunc4() {
+    executeWithinGroup(3);
+}
+
+@test:Config {
+    groups : ["g1"],
+    dependsOn: [testFunc1]
+}
+function testFunc5() {
+    executeWithinGroup(4);
+}
+
+@test:Config {
+    groups : ["g1"],
+    dependsOn: [testFunc5]
+}
+function testFunc6() {
+    executeWithinGroup(5);
+}
+
+@test:AfterSuite {}
+function afterSuiteFunc() {
+    test:assertEquals(beforeGroupsCount, 1);
+    test:assertEquals(afterGroupsCount, 1);
+    test:assertEquals(executedWithinGroup, [true, true, true, true, true, true]);
+}
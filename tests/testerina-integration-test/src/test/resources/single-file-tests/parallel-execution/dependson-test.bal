@@ -0,0 +1,75 @@
+
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.runtime;
+import ballerina/test;
+
+// Tests executed in parallel should start after the tests they depend on, and the dependants of a failed test
+// should be skipped. Each test writes a variable of its own, since the tests may be executed at the same time.
+
+boolean test1Executed = false;
+boolean test2Executed = false;
+boolean test6Executed = false;
+
+@test:Config {}
+function test1() {
+    runtime:sleep(0.2);
+    test1Executed = true;
+}
+
+@test:Config {
+    dependsOn: [test1]
+}
+function test2() {
+    test:assertTrue(test1Executed, msg = "test2 started before test1 completed");
+    test2Executed = true;
+}
+
+// This test should fail and the consecutive depends on tests will be skipped
+@test:Config {
+    dependsOn: [test2]
+}
+function test3() {
+    test:assertTrue(test2Executed, msg = "test3 started before test2 completed");
+    test:assertFail(msg = "test3 failed");
+}
+
+@test:Config {
+    dependsOn: [test3]
+}
+function test4() {
+}
+
+@test:Config {
+    dependsOn: [test4]
+}
+function test5() {
+}
+
+@test:Config {}
+function test6() {
+    runtime:sleep(0.5);
+    test6Executed = true;
+}
+
+@test:Config {
+    dependsOn: [test1, test6]
+}
+function test7() {
+    test:assertTrue(test1Executed, msg = "test7 started before test1 completed");
+    test:assertTrue(test6Executed, msg = "test7 started before test6 completed");
+}